@@ -22,9 +22,19 @@ package org.apache.fesod.excel;
 import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Function;
+import org.apache.fesod.excel.analysis.v03.XlsWorkbookInspector;
+import org.apache.fesod.excel.analysis.v07.XlsxWorkbookInspector;
 import org.apache.fesod.excel.read.builder.ExcelReaderBuilder;
 import org.apache.fesod.excel.read.builder.ExcelReaderSheetBuilder;
+import org.apache.fesod.excel.read.builder.ExcelWorkbooksReaderBuilder;
 import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.metadata.ReadWorkbook;
+import org.apache.fesod.excel.read.metadata.SheetInfo;
+import org.apache.fesod.excel.read.metadata.WorkbookInfo;
+import org.apache.fesod.excel.support.ExcelTypeEnum;
 import org.apache.fesod.excel.write.builder.ExcelWriterBuilder;
 import org.apache.fesod.excel.write.builder.ExcelWriterSheetBuilder;
 import org.apache.fesod.excel.write.builder.ExcelWriterTableBuilder;
@@ -276,6 +286,60 @@ public class FastExcelFactory {
                 .registerReadListenerIfNotNull(readListener);
     }
 
+    /**
+     * Build a read of many workbooks at the same time.
+     *
+     * @param files the workbooks to read
+     * @param head  Annotate the class for configuration information.
+     * @return Workbooks reader builder.
+     */
+    public static ExcelWorkbooksReaderBuilder<File> readAll(Collection<File> files, Class head) {
+        return readAll(files, file -> read(file).head(head));
+    }
+
+    /**
+     * Build a read of many workbooks at the same time.
+     *
+     * @param sources       the sources of the workbooks to read
+     * @param readerFactory Creates the reader of a source, with its head and listeners.
+     * @return Workbooks reader builder.
+     */
+    public static <S> ExcelWorkbooksReaderBuilder<S> readAll(
+            Collection<? extends S> sources, Function<? super S, ExcelReaderBuilder> readerFactory) {
+        return new ExcelWorkbooksReaderBuilder<>(sources, readerFactory);
+    }
+
+    /**
+     * Read the sheet names, visibility and approximate sizes of a workbook, without reading the rows, the shared
+     * strings or the styles.
+     *
+     * @param file the workbook, a csv file has one sheet of unknown size
+     * @return Workbook information.
+     */
+    public static WorkbookInfo inspect(File file) {
+        ReadWorkbook readWorkbook = new ReadWorkbook();
+        readWorkbook.setFile(file);
+        switch (ExcelTypeEnum.valueOf(readWorkbook)) {
+            case XLSX:
+                return XlsxWorkbookInspector.inspect(file);
+            case XLS:
+                return XlsWorkbookInspector.inspect(file);
+            default:
+                return new WorkbookInfo(ExcelTypeEnum.CSV, Collections.singletonList(new SheetInfo(0, null)));
+        }
+    }
+
+    /**
+     * Read the sheet names, visibility and approximate sizes of a workbook, without reading the rows, the shared
+     * strings or the styles.
+     *
+     * @param pathName File path to read.
+     * @return Workbook information.
+     */
+    public static WorkbookInfo inspect(String pathName) {
+        return inspect(new File(pathName));
+    }
+
     /**
      * Build excel the 'readSheet'
      *
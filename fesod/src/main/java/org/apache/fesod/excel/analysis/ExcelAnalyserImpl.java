@@ -19,13 +19,17 @@
 
 package org.apache.fesod.excel.analysis;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.fesod.excel.analysis.csv.CsvExcelReadExecutor;
 import org.apache.fesod.excel.analysis.v03.XlsSaxAnalyser;
 import org.apache.fesod.excel.analysis.v07.XlsxSaxAnalyser;
+import org.apache.fesod.excel.analysis.v07.XlsxStreamingAnalyser;
 import org.apache.fesod.excel.context.AnalysisContext;
 import org.apache.fesod.excel.context.csv.CsvReadContext;
 import org.apache.fesod.excel.context.csv.DefaultCsvReadContext;
@@ -42,6 +46,7 @@ import org.apache.fesod.excel.read.metadata.holder.csv.CsvReadWorkbookHolder;
 import org.apache.fesod.excel.read.metadata.holder.xls.XlsReadWorkbookHolder;
 import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxReadWorkbookHolder;
 import org.apache.fesod.excel.support.ExcelTypeEnum;
+import org.apache.fesod.excel.util.BooleanUtils;
 import org.apache.fesod.excel.util.ClassUtils;
 import org.apache.fesod.excel.util.DateUtils;
 import org.apache.fesod.excel.util.FileUtils;
@@ -110,14 +115,25 @@ public class ExcelAnalyserImpl implements ExcelAnalyser {
         switch (excelType) {
             case XLS:
                 POIFSFileSystem poifsFileSystem;
+                File readTempFile = null;
                 // Initialize POIFSFileSystem based on whether a file or input stream is provided
                 try {
                     if (readWorkbook.getFile() != null) {
                         poifsFileSystem = new POIFSFileSystem(readWorkbook.getFile());
+                    } else if (BooleanUtils.isTrue(readWorkbook.getXlsStreaming())) {
+                        // A read only file is memory mapped, a stream would be buffered on the heap
+                        readTempFile = FileUtils.createCacheTmpFile();
+                        File tempFile = new File(readTempFile.getPath(), UUID.randomUUID() + ".xls");
+                        FileUtils.writeToFile(
+                                tempFile,
+                                readWorkbook.getInputStream(),
+                                !Boolean.FALSE.equals(readWorkbook.getAutoCloseStream()));
+                        poifsFileSystem = new POIFSFileSystem(tempFile, true);
                     } else {
                         poifsFileSystem = new POIFSFileSystem(readWorkbook.getInputStream());
                     }
                 } catch (OldExcelFormatException oefe) {
+                    deleteQuietly(readTempFile);
                     // Very old BIFF (e.g., BIFF2) – HSSF doesn't support it. Treat as benign and no-op.
                     log.warn(
                             "Detected old Excel BIFF format not supported by HSSF: {}. Using no-op executor.",
@@ -126,6 +142,9 @@ public class ExcelAnalyserImpl implements ExcelAnalyser {
                     analysisContext = xlsReadContextFallback;
                     excelReadExecutor = new NoopExcelReadExecutor();
                     return;
+                } catch (IOException | RuntimeException e) {
+                    deleteQuietly(readTempFile);
+                    throw e;
                 }
                 // So in encrypted excel, it looks like XLS but it's actually XLSX
                 if (poifsFileSystem.getRoot().hasEntry(Decryptor.DEFAULT_POIFS_ENTRY)) {
@@ -142,6 +161,7 @@ public class ExcelAnalyserImpl implements ExcelAnalyser {
                         // Close the decrypted stream and POIFSFileSystem to prevent resource leaks
                         IOUtils.closeQuietly(decryptedStream);
                         poifsFileSystem.close();
+                        deleteQuietly(readTempFile);
                     }
                 }
                 // Set the user password for processing encrypted Excel files
@@ -150,6 +170,7 @@ public class ExcelAnalyserImpl implements ExcelAnalyser {
                 }
                 XlsReadContext xlsReadContext = new DefaultXlsReadContext(readWorkbook, ExcelTypeEnum.XLS);
                 xlsReadContext.xlsReadWorkbookHolder().setPoifsFileSystem(poifsFileSystem);
+                xlsReadContext.xlsReadWorkbookHolder().setTempFile(readTempFile);
                 analysisContext = xlsReadContext;
                 excelReadExecutor = new XlsSaxAnalyser(xlsReadContext);
                 break;
@@ -157,7 +178,12 @@ public class ExcelAnalyserImpl implements ExcelAnalyser {
                 // Directly create a context and executor for processing XLSX files
                 XlsxReadContext xlsxReadContext = new DefaultXlsxReadContext(readWorkbook, ExcelTypeEnum.XLSX);
                 analysisContext = xlsxReadContext;
-                excelReadExecutor = new XlsxSaxAnalyser(xlsxReadContext, null);
+                // A file can be opened directly, only streams are read as a zip stream
+                if (xlsxReadContext.xlsxReadWorkbookHolder().getStreaming() && readWorkbook.getFile() == null) {
+                    excelReadExecutor = new XlsxStreamingAnalyser(xlsxReadContext);
+                } else {
+                    excelReadExecutor = new XlsxSaxAnalyser(xlsxReadContext, null);
+                }
                 break;
             case CSV:
                 // Create a context and executor for processing CSV files
@@ -171,6 +197,12 @@ public class ExcelAnalyserImpl implements ExcelAnalyser {
         }
     }
 
+    private static void deleteQuietly(File file) {
+        if (file != null) {
+            FileUtils.delete(file);
+        }
+    }
+
     /**
      * Performs the analysis of the Excel file based on the specified sheets or all sheets.
      * Ensures proper handling of exceptions and resource cleanup in case of errors.
@@ -259,6 +291,15 @@ public class ExcelAnalyserImpl implements ExcelAnalyser {
         } catch (Throwable t) {
             throwable = t;
         }
+        try {
+            if ((readWorkbookHolder instanceof CsvReadWorkbookHolder)
+                    && ((CsvReadWorkbookHolder) readWorkbookHolder).getCsvTokenizer() != null
+                    && analysisContext.readWorkbookHolder().getAutoCloseStream()) {
+                ((CsvReadWorkbookHolder) readWorkbookHolder).getCsvTokenizer().close();
+            }
+        } catch (Throwable t) {
+            throwable = t;
+        }
 
         try {
             if (analysisContext.readWorkbookHolder().getAutoCloseStream()
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.csv;
+
+import org.apache.commons.csv.CSVRecord;
+import org.apache.fesod.excel.util.StringUtils;
+
+/**
+ * A {@link CsvRow} read by commons-csv.
+ */
+class CommonsCsvRow implements CsvRow {
+
+    private CSVRecord record;
+
+    void setRecord(CSVRecord record) {
+        this.record = record;
+    }
+
+    @Override
+    public int size() {
+        return record.size();
+    }
+
+    @Override
+    public String value(int columnIndex, boolean autoTrim, boolean autoStrip) {
+        String cellString = record.get(columnIndex);
+        // csv is an empty string of whether <code>,,</code> is read or <code>,"",</code>
+        if (StringUtils.isBlank(cellString)) {
+            return null;
+        }
+        if (autoStrip) {
+            return StringUtils.strip(cellString);
+        }
+        if (autoTrim) {
+            return cellString.trim();
+        }
+        return cellString;
+    }
+}
@@ -22,15 +22,14 @@ package org.apache.fesod.excel.analysis.csv;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
@@ -44,11 +43,12 @@ import org.apache.fesod.excel.exception.ExcelAnalysisException;
 import org.apache.fesod.excel.exception.ExcelAnalysisStopSheetException;
 import org.apache.fesod.excel.metadata.Cell;
 import org.apache.fesod.excel.metadata.data.ReadCellData;
+import org.apache.fesod.excel.metadata.data.ReadRowBuffer;
 import org.apache.fesod.excel.read.metadata.ReadSheet;
 import org.apache.fesod.excel.read.metadata.holder.ReadRowHolder;
+import org.apache.fesod.excel.read.metadata.holder.ReadSheetHolder;
 import org.apache.fesod.excel.read.metadata.holder.csv.CsvReadWorkbookHolder;
 import org.apache.fesod.excel.util.SheetUtils;
-import org.apache.fesod.excel.util.StringUtils;
 
 /**
  * CSV Excel Read Executor, responsible for reading and processing CSV files.
@@ -81,12 +81,28 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
      */
     @Override
     public void execute() {
-        CSVParser csvParser;
+        CsvReadWorkbookHolder csvReadWorkbookHolder = csvReadContext.csvReadWorkbookHolder();
+        CSVFormat csvFormat = csvReadWorkbookHolder.getCsvFormat();
+        CSVParser csvParser = null;
+        CsvTokenizer csvTokenizer = null;
+        // Parse a large file on several threads, the file is opened once the sheet is known
+        boolean parallel = CsvParallelReader.supports(csvReadWorkbookHolder);
         try {
-            // Create a CSV parser instance
-            csvParser = csvParser();
-            // Store the CSV parser instance in the context for subsequent processing
-            csvReadContext.csvReadWorkbookHolder().setCsvParser(csvParser);
+            if (parallel) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Parse the csv file on {} threads.", csvReadWorkbookHolder.getParallelism());
+                }
+            } else if (csvReadWorkbookHolder.getBuiltinParser() && CsvTokenizer.supports(csvFormat)) {
+                // Use the built-in tokenizer when it reads the format, commons-csv otherwise
+                Reader reader = reader();
+                csvTokenizer = new CsvTokenizer(reader, csvFormat);
+                csvReadWorkbookHolder.setCsvTokenizer(csvTokenizer);
+            } else {
+                // Create a CSV parser instance
+                csvParser = csvFormat.parse(reader());
+                // Store the CSV parser instance in the context for subsequent processing
+                csvReadWorkbookHolder.setCsvParser(csvParser);
+            }
         } catch (IOException e) {
             throw new ExcelAnalysisException(e);
         }
@@ -104,10 +120,31 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
 
                 // Initialize the row index
                 int rowIndex = 0;
-
-                for (CSVRecord record : csvParser) {
-                    // Process the current record, incrementing the row index after each processing
-                    dealRecord(record, rowIndex++);
+                if (parallel) {
+                    try (CsvParallelReader csvParallelReader = new CsvParallelReader(
+                            csvReadWorkbookHolder,
+                            csvReadContext.readSheetHolder().getHeadRowNumber())) {
+                        CsvRow row;
+                        while ((row = csvParallelReader.next()) != null) {
+                            if (!readRow(row, rowIndex++)) {
+                                break;
+                            }
+                        }
+                    }
+                } else if (csvTokenizer != null) {
+                    while (csvTokenizer.nextRecord()) {
+                        if (!readRow(csvTokenizer, rowIndex++)) {
+                            break;
+                        }
+                    }
+                } else {
+                    CommonsCsvRow row = new CommonsCsvRow();
+                    for (CSVRecord record : csvParser) {
+                        row.setRecord(record);
+                        if (!readRow(row, rowIndex++)) {
+                            break;
+                        }
+                    }
                 }
             } catch (ExcelAnalysisStopSheetException e) {
                 if (log.isDebugEnabled()) {
@@ -134,72 +171,83 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
     }
 
     /**
-     * Initializes and returns a CSVParser instance based on the configuration provided in the CsvReadContext.
-     * This method determines the appropriate input stream and character set to create the CSV parser.
+     * Process one record.
      *
-     * @return A CSVParser instance for parsing CSV files.
+     * @param row      The record to be processed.
+     * @param rowIndex The index of the current row being processed.
+     * @return false if the end row is passed and the reading should stop.
+     */
+    private boolean readRow(CsvRow row, int rowIndex) {
+        ReadSheetHolder readSheetHolder = csvReadContext.readSheetHolder();
+        // Stop after the end row, and skip the rows before the start row without building their cells
+        if (readSheetHolder.afterEndRow(rowIndex)) {
+            return false;
+        }
+        if (!readSheetHolder.beforeStartRow(rowIndex)) {
+            dealRecord(row, rowIndex);
+        }
+        return true;
+    }
+
+    /**
+     * Initializes and returns a Reader based on the configuration provided in the CsvReadContext.
+     * This method determines the appropriate input stream and character set to read the CSV file.
+     *
+     * @return A Reader of the CSV file.
      * @throws IOException If an I/O error occurs while accessing the input stream or file.
      */
-    private CSVParser csvParser() throws IOException {
+    private Reader reader() throws IOException {
         // Retrieve the CsvReadWorkbookHolder instance from the CsvReadContext.
         CsvReadWorkbookHolder csvReadWorkbookHolder = csvReadContext.csvReadWorkbookHolder();
-        // Get the CSV format configuration from the CsvReadWorkbookHolder.
-        CSVFormat csvFormat = csvReadWorkbookHolder.getCsvFormat();
         // Determine the ByteOrderMarkEnum based on the character set name.
         ByteOrderMarkEnum byteOrderMark = ByteOrderMarkEnum.valueOfByCharsetName(
                 csvReadContext.csvReadWorkbookHolder().getCharset().name());
 
-        // If the configuration mandates the use of an input stream, build the CSV parser using the input stream.
+        // If the configuration mandates the use of an input stream, read the input stream.
         if (csvReadWorkbookHolder.getMandatoryUseInputStream()) {
-            return buildCsvParser(csvFormat, csvReadWorkbookHolder.getInputStream(), byteOrderMark);
+            return buildReader(csvReadWorkbookHolder.getInputStream(), byteOrderMark);
         }
 
-        // If a file is provided in the configuration, build the CSV parser using the file's input stream.
+        // If a file is provided in the configuration, read the file's input stream.
         if (csvReadWorkbookHolder.getFile() != null) {
-            return buildCsvParser(
-                    csvFormat,
-                    Files.newInputStream(csvReadWorkbookHolder.getFile().toPath()),
-                    byteOrderMark);
+            return buildReader(Files.newInputStream(csvReadWorkbookHolder.getFile().toPath()), byteOrderMark);
         }
 
-        // As a fallback, build the CSV parser using the input stream.
-        return buildCsvParser(csvFormat, csvReadWorkbookHolder.getInputStream(), byteOrderMark);
+        // As a fallback, read the input stream.
+        return buildReader(csvReadWorkbookHolder.getInputStream(), byteOrderMark);
     }
 
     /**
-     * Builds and returns a CSVParser instance based on the provided CSVFormat, InputStream, and ByteOrderMarkEnum.
+     * Builds and returns a Reader based on the provided InputStream and ByteOrderMarkEnum.
      *
      * <p>
-     * This method checks if the byteOrderMark is null. If it is null, it creates a CSVParser using the provided
+     * This method checks if the byteOrderMark is null. If it is null, it creates a Reader using the provided
      * input stream and charset. Otherwise, it wraps the input stream with a BOMInputStream to handle files with a
      * Byte Order Mark, ensuring proper decoding of the file content.
      * </p>
      *
-     * @param csvFormat     The format configuration for parsing the CSV file.
      * @param inputStream   The input stream from which the CSV data will be read.
      * @param byteOrderMark The enumeration representing the Byte Order Mark (BOM) of the file's character set.
-     * @return A CSVParser instance configured to parse the CSV data.
-     * @throws IOException If an I/O error occurs while creating the parser or reading from the input stream.
+     * @return A Reader of the CSV data.
+     * @throws IOException If an I/O error occurs while reading from the input stream.
      */
-    private CSVParser buildCsvParser(CSVFormat csvFormat, InputStream inputStream, ByteOrderMarkEnum byteOrderMark)
-            throws IOException {
+    private Reader buildReader(InputStream inputStream, ByteOrderMarkEnum byteOrderMark) throws IOException {
         if (byteOrderMark == null) {
-            return csvFormat.parse(new InputStreamReader(
-                    inputStream, csvReadContext.csvReadWorkbookHolder().getCharset()));
+            return new InputStreamReader(inputStream, csvReadContext.csvReadWorkbookHolder().getCharset());
         }
-        return csvFormat.parse(new InputStreamReader(
+        return new InputStreamReader(
                 new BOMInputStream(inputStream, byteOrderMark.getByteOrderMark()),
-                csvReadContext.csvReadWorkbookHolder().getCharset()));
+                csvReadContext.csvReadWorkbookHolder().getCharset());
     }
 
     /**
      * Processes a single CSV record and maps its content to a structured format for further analysis.
      *
-     * @param record   The CSV record to be processed.
+     * @param row      The CSV record to be processed.
      * @param rowIndex The index of the current row being processed.
      *                 This method performs the following steps:
      *                 1. Initializes a `LinkedHashMap` to store cell data, ensuring the order of columns is preserved.
-     *                 2. Iterates through each cell in the CSV record using an iterator.
+     *                 2. Iterates through each cell in the CSV record.
      *                 3. For each cell, creates a `ReadCellData` object and sets its metadata (row index, column index, type, and value).
      *                 - If the cell is not blank, it is treated as a string and optionally trimmed based on the `autoTrim` configuration.
      *                 - If the cell is blank, it is marked as empty.
@@ -209,37 +257,40 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
      *                 7. Updates the context's sheet holder with the cell map and row index.
      *                 8. Notifies the analysis event processor that the row processing has ended.
      */
-    private void dealRecord(CSVRecord record, int rowIndex) {
+    private void dealRecord(CsvRow row, int rowIndex) {
+        if (csvReadContext.readSheetHolder().isRowBufferMode()
+                && rowIndex >= csvReadContext.readSheetHolder().getHeadRowNumber()) {
+            dealBufferedRecord(row, rowIndex);
+            return;
+        }
         Map<Integer, Cell> cellMap = new LinkedHashMap<>();
-        Iterator<String> cellIterator = record.iterator();
-        int columnIndex = 0;
-        Boolean autoTrim =
+        boolean autoTrim =
                 csvReadContext.csvReadWorkbookHolder().globalConfiguration().getAutoTrim();
-        Boolean autoStrip =
+        boolean autoStrip =
                 csvReadContext.csvReadWorkbookHolder().globalConfiguration().getAutoStrip();
-        while (cellIterator.hasNext()) {
-            String cellString = cellIterator.next();
+        ReadSheetHolder readSheetHolder = csvReadContext.readSheetHolder();
+        int size = row.size();
+        for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+            if (!readSheetHolder.includeColumn(columnIndex)) {
+                continue;
+            }
             ReadCellData<String> readCellData = new ReadCellData<>();
             readCellData.setRowIndex(rowIndex);
             readCellData.setColumnIndex(columnIndex);
 
             // csv is an empty string of whether <code>,,</code> is read or <code>,"",</code>
-            if (StringUtils.isNotBlank(cellString)) {
+            String cellString = row.value(columnIndex, autoTrim, autoStrip);
+            if (cellString != null) {
                 readCellData.setType(CellDataTypeEnum.STRING);
-                if (autoStrip) {
-                    readCellData.setStringValue(StringUtils.strip(cellString));
-                } else if (autoTrim) {
-                    readCellData.setStringValue(cellString.trim());
-                } else {
-                    readCellData.setStringValue(cellString);
-                }
+                readCellData.setStringValue(cellString);
             } else {
                 readCellData.setType(CellDataTypeEnum.EMPTY);
             }
-            cellMap.put(columnIndex++, readCellData);
+            cellMap.put(columnIndex, readCellData);
         }
 
-        RowTypeEnum rowType = MapUtils.isEmpty(cellMap) ? RowTypeEnum.EMPTY : RowTypeEnum.DATA;
+        // The columns that are not read still count
+        RowTypeEnum rowType = size == 0 ? RowTypeEnum.EMPTY : RowTypeEnum.DATA;
         ReadRowHolder readRowHolder = new ReadRowHolder(
                 rowIndex, rowType, csvReadContext.readWorkbookHolder().getGlobalConfiguration(), cellMap);
         csvReadContext.readRowHolder(readRowHolder);
@@ -249,6 +300,44 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
         csvReadContext.analysisEventProcessor().endRow(csvReadContext);
     }
 
+    /**
+     * Processes a single CSV data record when all the listeners read the row buffer: the values are written straight
+     * into the buffer, no cell data, map or row holder is created.
+     *
+     * @param row      The CSV record to be processed.
+     * @param rowIndex The index of the current row being processed.
+     */
+    private void dealBufferedRecord(CsvRow row, int rowIndex) {
+        boolean autoTrim =
+                csvReadContext.csvReadWorkbookHolder().globalConfiguration().getAutoTrim();
+        boolean autoStrip =
+                csvReadContext.csvReadWorkbookHolder().globalConfiguration().getAutoStrip();
+        ReadSheetHolder readSheetHolder = csvReadContext.readSheetHolder();
+        ReadRowBuffer readRowBuffer = readSheetHolder.getReadRowBuffer();
+        readRowBuffer.clear(rowIndex);
+        int size = row.size();
+        for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+            if (!readSheetHolder.includeColumn(columnIndex)) {
+                continue;
+            }
+            String cellString = row.value(columnIndex, autoTrim, autoStrip);
+            if (cellString == null) {
+                readRowBuffer.setEmpty(columnIndex);
+            } else {
+                readRowBuffer.setString(columnIndex, cellString);
+            }
+        }
+
+        // The columns that are not read still count
+        RowTypeEnum rowType = size == 0 ? RowTypeEnum.EMPTY : RowTypeEnum.DATA;
+        ReadRowHolder readRowHolder = readSheetHolder.bufferedReadRowHolder(rowIndex, rowType);
+        csvReadContext.readRowHolder(readRowHolder);
+
+        readSheetHolder.setCellMap(readRowHolder.getCellMap());
+        readSheetHolder.setRowIndex(rowIndex);
+        csvReadContext.analysisEventProcessor().endRow(csvReadContext);
+    }
+
     /**
      * Determine whether an UncheckedIOException from Commons CSV is benign, i.e., caused by
      * truncated quoted fields or early EOF while parsing an encapsulated token. In such cases
@@ -0,0 +1,440 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.csv;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.fesod.excel.enums.ByteOrderMarkEnum;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.read.metadata.holder.csv.CsvReadWorkbookHolder;
+import org.apache.fesod.excel.util.ThreadUtils;
+
+/**
+ * Parse a CSV file on several threads.
+ * <p>
+ * The file is memory mapped and split into chunks that end after a line break. Every chunk is parsed by the built-in
+ * tokenizer on a pool, and the rows are handed to the reading thread chunk by chunk. A line break may be inside a
+ * quoted value, so a chunk is only known to start at a record when the chunk before it is parsed and ends with its
+ * last record. When it does not, the two chunks are parsed again as one.
+ */
+public class CsvParallelReader implements Closeable {
+
+    /**
+     * The size of a chunk of a large file
+     */
+    private static final int CHUNK_SIZE = 4 * 1024 * 1024;
+    /**
+     * The smallest chunk
+     */
+    private static final int MIN_CHUNK_SIZE = 64 * 1024;
+    private static final int SCAN_SIZE = 8 * 1024;
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final FileChannel fileChannel;
+    private final long fileSize;
+    private final Charset charset;
+    private final CSVFormat csvFormat;
+    private final boolean autoTrim;
+    private final boolean autoStrip;
+    private final boolean ordered;
+    private final boolean noEmbeddedNewlines;
+    private final int orderedRows;
+    private final long chunkSize;
+    private final int maxChunks;
+    private final ExecutorService executorService;
+    /**
+     * A permit is released whenever a chunk is parsed
+     */
+    private final Semaphore parsed;
+
+    /**
+     * The chunks submitted and not delivered, in the order of the file
+     */
+    private final List<Chunk> chunkList;
+    private long nextStart;
+    private final ArrayCsvRow row;
+    private List<String[]> rows;
+    private int rowPosition;
+    private UncheckedIOException rowsError;
+    private int deliveredRows;
+
+    /**
+     * @param csvReadWorkbookHolder
+     * @param orderedRows           the number of rows delivered in the order of the file, even if not ordered.
+     */
+    public CsvParallelReader(CsvReadWorkbookHolder csvReadWorkbookHolder, int orderedRows) {
+        File file = csvReadWorkbookHolder.getFile();
+        this.charset = csvReadWorkbookHolder.getCharset();
+        this.csvFormat = csvReadWorkbookHolder.getCsvFormat();
+        this.autoTrim = csvReadWorkbookHolder.globalConfiguration().getAutoTrim();
+        this.autoStrip = csvReadWorkbookHolder.globalConfiguration().getAutoStrip();
+        this.ordered = csvReadWorkbookHolder.getParallelOrdered();
+        this.noEmbeddedNewlines = csvReadWorkbookHolder.getNoEmbeddedNewlines();
+        this.orderedRows = orderedRows;
+        int parallelism = csvReadWorkbookHolder.getParallelism();
+        try {
+            this.fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            this.fileSize = fileChannel.size();
+            this.nextStart = byteOrderMarkLength();
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+        this.maxChunks = parallelism * 2;
+        // At least twice as many chunks as submitted at the same time, so that a slow chunk does not stop the others
+        this.chunkSize = Math.min(CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, fileSize / (maxChunks * 2L)));
+        this.executorService =
+                Executors.newFixedThreadPool(parallelism, ThreadUtils.daemonThreadFactory("fesod-csv-reader-"));
+        this.parsed = new Semaphore(0);
+        this.chunkList = new ArrayList<>();
+        this.row = new ArrayCsvRow();
+    }
+
+    /**
+     * Whether the file of the holder is parsed by several threads.
+     *
+     * @param csvReadWorkbookHolder
+     * @return
+     */
+    public static boolean supports(CsvReadWorkbookHolder csvReadWorkbookHolder) {
+        return csvReadWorkbookHolder.getParallelism() > 1
+                && csvReadWorkbookHolder.getBuiltinParser()
+                && CsvTokenizer.supports(csvReadWorkbookHolder.getCsvFormat())
+                && !csvReadWorkbookHolder.getMandatoryUseInputStream()
+                && csvReadWorkbookHolder.getFile() != null
+                && supports(csvReadWorkbookHolder.getCharset());
+    }
+
+    /**
+     * Whether a line break can be found in the bytes of the charset without decoding them: it is a single byte that
+     * is never part of another character.
+     */
+    private static boolean supports(Charset charset) {
+        if (!StandardCharsets.UTF_8.equals(charset) && charset.newEncoder().maxBytesPerChar() != 1.0F) {
+            return false;
+        }
+        return Arrays.equals("\r\n".getBytes(charset), new byte[] {CR, LF});
+    }
+
+    /**
+     * Get the next row.
+     *
+     * @return null if there are no more rows.
+     */
+    public CsvRow next() {
+        while (rows == null || rowPosition >= rows.size()) {
+            if (rowsError != null) {
+                // The rows before the error are delivered first, the same as one thread
+                throw rowsError;
+            }
+            Chunk chunk = nextChunk();
+            if (chunk == null) {
+                return null;
+            }
+            rows = chunk.rows;
+            rowPosition = 0;
+            rowsError = chunk.error;
+        }
+        row.values = rows.get(rowPosition);
+        rows.set(rowPosition++, null);
+        deliveredRows++;
+        return row;
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+    }
+
+    /**
+     * Take the next chunk to deliver, and remove it from {@link #chunkList}.
+     */
+    private Chunk nextChunk() {
+        try {
+            while (true) {
+                submitChunks();
+                if (chunkList.isEmpty()) {
+                    return null;
+                }
+                int index = ordered || deliveredRows < orderedRows ? 0 : parsedChunkIndex();
+                Chunk chunk = chunkList.get(index);
+                chunk.future.get();
+                if (chunk.end < fileSize && chunk.crossesEnd()) {
+                    if (noEmbeddedNewlines) {
+                        throw new ExcelAnalysisException("A value with a line break is found after byte " + chunk.start
+                                + ", which is not allowed by 'csvNoEmbeddedNewlines'.");
+                    }
+                    merge(index);
+                    continue;
+                }
+                chunkList.remove(index);
+                return chunk;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelAnalysisException("Interrupted while waiting for the csv file to be parsed", e);
+        } catch (ExecutionException e) {
+            throw new ExcelAnalysisException(e.getCause());
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+    }
+
+    /**
+     * Wait for a parsed chunk that is known to start at a record. The first chunk always is.
+     */
+    private int parsedChunkIndex() throws InterruptedException {
+        while (true) {
+            boolean startsWithRecord = true;
+            for (int i = 0; i < chunkList.size(); i++) {
+                Chunk chunk = chunkList.get(i);
+                boolean done = chunk.future.isDone();
+                if (done && (startsWithRecord || noEmbeddedNewlines)) {
+                    return i;
+                }
+                startsWithRecord = startsWithRecord && done && chunk.endsWithRecord();
+            }
+            parsed.acquire();
+        }
+    }
+
+    /**
+     * Parse a chunk again together with the chunk after it.
+     */
+    private void merge(int index) throws IOException {
+        Chunk chunk = chunkList.get(index);
+        long end;
+        if (index + 1 < chunkList.size()) {
+            Chunk next = chunkList.remove(index + 1);
+            next.future.cancel(true);
+            end = next.end;
+        } else {
+            end = lineStart(nextStart + chunkSize);
+            nextStart = end;
+        }
+        chunkList.set(index, submit(chunk.start, end));
+    }
+
+    private void submitChunks() throws IOException {
+        while (chunkList.size() < maxChunks && nextStart < fileSize) {
+            long end = lineStart(nextStart + chunkSize);
+            chunkList.add(submit(nextStart, end));
+            nextStart = end;
+        }
+    }
+
+    private Chunk submit(long start, long end) {
+        Chunk chunk = new Chunk(start, end);
+        FutureTask<Void> futureTask = new FutureTask<Void>(() -> {
+            parse(chunk);
+            return null;
+        }) {
+            @Override
+            protected void done() {
+                parsed.release();
+            }
+        };
+        chunk.future = futureTask;
+        executorService.execute(futureTask);
+        return chunk;
+    }
+
+    private void parse(Chunk chunk) throws IOException {
+        ByteBuffer byteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, chunk.start, chunk.end - chunk.start);
+        CsvTokenizer csvTokenizer =
+                new CsvTokenizer(new InputStreamReader(new ByteBufferInputStream(byteBuffer), charset), csvFormat);
+        List<String[]> rows = new ArrayList<>();
+        boolean endOfLine = true;
+        try {
+            while (csvTokenizer.nextRecord()) {
+                int size = csvTokenizer.size();
+                String[] values = new String[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = csvTokenizer.value(i, autoTrim, autoStrip);
+                }
+                rows.add(values);
+                endOfLine = csvTokenizer.isEndOfLine();
+            }
+        } catch (UncheckedIOException e) {
+            chunk.error = e;
+        }
+        chunk.rows = rows;
+        chunk.endOfLine = endOfLine;
+    }
+
+    /**
+     * The position after the first line break at or after the position.
+     */
+    private long lineStart(long position) throws IOException {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(SCAN_SIZE);
+        while (position < fileSize) {
+            // Cast for Java 8, where ByteBuffer does not override clear()
+            ((Buffer) byteBuffer).clear();
+            int count = fileChannel.read(byteBuffer, position);
+            if (count <= 0) {
+                break;
+            }
+            for (int i = 0; i < count; i++) {
+                byte b = byteBuffer.get(i);
+                if (b == LF) {
+                    return position + i + 1;
+                }
+                if (b == CR) {
+                    if (i + 1 < count) {
+                        return byteBuffer.get(i + 1) == LF ? position + i + 2 : position + i + 1;
+                    }
+                    // The next byte is in the next read
+                    ByteBuffer next = ByteBuffer.allocate(1);
+                    if (fileChannel.read(next, position + i + 1) == 1 && next.get(0) == LF) {
+                        return position + i + 2;
+                    }
+                    return position + i + 1;
+                }
+            }
+            position += count;
+        }
+        return fileSize;
+    }
+
+    private long byteOrderMarkLength() throws IOException {
+        ByteOrderMarkEnum byteOrderMark = ByteOrderMarkEnum.valueOfByCharsetName(charset.name());
+        if (byteOrderMark == null) {
+            return 0;
+        }
+        byte[] bytes = byteOrderMark.getByteOrderMark().getBytes();
+        if (fileSize < bytes.length) {
+            return 0;
+        }
+        ByteBuffer byteBuffer = ByteBuffer.allocate(bytes.length);
+        fileChannel.read(byteBuffer, 0);
+        return Arrays.equals(byteBuffer.array(), bytes) ? bytes.length : 0;
+    }
+
+    /**
+     * A part of the file
+     */
+    private static class Chunk {
+        private final long start;
+        private final long end;
+        private Future<?> future;
+        private List<String[]> rows;
+        private UncheckedIOException error;
+        /**
+         * The last record is ended by a line break
+         */
+        private boolean endOfLine;
+
+        private Chunk(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Whether the chunk ends with its last record, so the chunk after it starts at a record.
+         */
+        private boolean endsWithRecord() {
+            return error == null && endOfLine;
+        }
+
+        /**
+         * Whether the last record goes on in the chunk after it. Other errors are errors of the file.
+         */
+        private boolean crossesEnd() {
+            if (error == null) {
+                return !endOfLine;
+            }
+            String message = error.getCause().getMessage();
+            return message != null && message.contains("EOF reached before encapsulated token finished");
+        }
+    }
+
+    /**
+     * A row whose values are already read.
+     */
+    private static class ArrayCsvRow implements CsvRow {
+        private String[] values;
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public String value(int columnIndex, boolean autoTrim, boolean autoStrip) {
+            return values[columnIndex];
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer byteBuffer;
+
+        private ByteBufferInputStream(ByteBuffer byteBuffer) {
+            this.byteBuffer = byteBuffer;
+        }
+
+        @Override
+        public int read() {
+            return byteBuffer.hasRemaining() ? byteBuffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!byteBuffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, byteBuffer.remaining());
+            byteBuffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return byteBuffer.remaining();
+        }
+    }
+}
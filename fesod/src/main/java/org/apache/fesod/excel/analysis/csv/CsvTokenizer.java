@@ -0,0 +1,543 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.QuoteMode;
+import org.apache.fesod.excel.util.StringUtils;
+
+/**
+ * Built-in CSV tokenizer.
+ * <p>
+ * Reads the same records as commons-csv for the formats accepted by {@link #supports(CSVFormat)}, but without a
+ * token, a string builder and a string per value: the characters are read through a large buffer, the values of a
+ * record are copied unescaped into one reusable array and a string is only created for the values that are read.
+ * Runs of plain characters are copied straight from the buffer.
+ * <p>
+ * Errors of the input are thrown as {@link UncheckedIOException} with the messages of commons-csv.
+ */
+public class CsvTokenizer implements CsvRow, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_RECORD_SIZE = 1024;
+    private static final int DEFAULT_FIELD_SIZE = 32;
+
+    private static final int EOF = -1;
+    private static final int UNDEFINED = -2;
+    private static final int DISABLED = -3;
+
+    private static final int CR = '\r';
+    private static final int LF = '\n';
+    private static final int TAB = '\t';
+    private static final int BACKSPACE = '\b';
+    private static final int FF = '\f';
+
+    /**
+     * A value followed by a delimiter
+     */
+    private static final int TOKEN = 0;
+    /**
+     * The last value of a record
+     */
+    private static final int END_OF_RECORD = 1;
+    /**
+     * End of the input, no value
+     */
+    private static final int END_OF_FILE = 2;
+    /**
+     * The last value of the input
+     */
+    private static final int END_OF_FILE_READY = 3;
+
+    private final Reader reader;
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private boolean readerFinished;
+    private int lastChar = UNDEFINED;
+    private long eolCounter;
+    private long characterPosition;
+
+    private final char delimiter;
+    private final int quote;
+    private final int escape;
+    private final boolean ignoreEmptyLines;
+    private final boolean trim;
+    private final boolean trailingDelimiter;
+    private final boolean trailingData;
+    private final boolean lenientEof;
+    private final String nullString;
+    private final boolean strictQuoteMode;
+
+    /**
+     * The unescaped characters of the current record
+     */
+    private char[] chars;
+    private int length;
+    /**
+     * The end of every value in {@link #chars}
+     */
+    private int[] ends;
+    private boolean[] quoted;
+    private int size;
+    private boolean quotedField;
+    private boolean lastTokenDelimiter;
+    private boolean endOfLine;
+
+    private int sliceStart;
+    private int sliceEnd;
+
+    public CsvTokenizer(Reader reader, CSVFormat csvFormat) {
+        if (!supports(csvFormat)) {
+            throw new IllegalArgumentException("The csv format is not supported by the built-in tokenizer.");
+        }
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+        this.delimiter = csvFormat.getDelimiterString().charAt(0);
+        this.quote = csvFormat.getQuoteCharacter() == null ? DISABLED : csvFormat.getQuoteCharacter();
+        this.escape = csvFormat.getEscapeCharacter() == null ? DISABLED : csvFormat.getEscapeCharacter();
+        this.ignoreEmptyLines = csvFormat.getIgnoreEmptyLines();
+        this.trim = csvFormat.getTrim();
+        this.trailingDelimiter = csvFormat.getTrailingDelimiter();
+        this.trailingData = csvFormat.getTrailingData();
+        this.lenientEof = csvFormat.getLenientEof();
+        this.nullString = csvFormat.getNullString();
+        this.strictQuoteMode = csvFormat.getQuoteMode() == QuoteMode.ALL_NON_NULL
+                || csvFormat.getQuoteMode() == QuoteMode.NON_NUMERIC;
+        this.chars = new char[DEFAULT_RECORD_SIZE];
+        this.ends = new int[DEFAULT_FIELD_SIZE];
+        this.quoted = new boolean[DEFAULT_FIELD_SIZE];
+    }
+
+    /**
+     * Whether the format can be read by the built-in tokenizer. Formats with a multiple character delimiter,
+     * comments, surrounding spaces to ignore or a header are read by commons-csv.
+     *
+     * @param csvFormat
+     * @return
+     */
+    public static boolean supports(CSVFormat csvFormat) {
+        return csvFormat != null
+                && csvFormat.getDelimiterString().length() == 1
+                && csvFormat.getCommentMarker() == null
+                && !csvFormat.getIgnoreSurroundingSpaces()
+                && csvFormat.getHeader() == null
+                && !csvFormat.getSkipHeaderRecord();
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @return false if there are no more records.
+     */
+    public boolean nextRecord() {
+        size = 0;
+        length = 0;
+        int type;
+        try {
+            do {
+                quotedField = false;
+                type = nextToken();
+                lastTokenDelimiter = type == TOKEN;
+                if (type != END_OF_FILE) {
+                    addField(type != TOKEN);
+                }
+            } while (type == TOKEN);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        endOfLine = type == END_OF_RECORD;
+        return size > 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Whether the current record is ended by a line break.
+     *
+     * @return false if the record is ended by the end of the input.
+     */
+    public boolean isEndOfLine() {
+        return endOfLine;
+    }
+
+    /**
+     * Get a value of the current record, the same as commons-csv reads it.
+     *
+     * @param columnIndex
+     * @return
+     */
+    public String get(int columnIndex) {
+        if (slice(columnIndex)) {
+            return null;
+        }
+        return new String(chars, sliceStart, sliceEnd - sliceStart);
+    }
+
+    @Override
+    public String value(int columnIndex, boolean autoTrim, boolean autoStrip) {
+        if (slice(columnIndex)) {
+            return null;
+        }
+        int start = sliceStart;
+        int end = sliceEnd;
+        boolean blank = true;
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(chars[i])) {
+                blank = false;
+                break;
+            }
+        }
+        if (blank) {
+            return null;
+        }
+        if (autoStrip) {
+            return StringUtils.strip(new String(chars, start, end - start));
+        }
+        if (autoTrim) {
+            while (start < end && chars[start] <= ' ') {
+                start++;
+            }
+            while (end > start && chars[end - 1] <= ' ') {
+                end--;
+            }
+        }
+        return new String(chars, start, end - start);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Locate a value in {@link #chars}.
+     *
+     * @param columnIndex
+     * @return true if the value is null.
+     */
+    private boolean slice(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= size) {
+            throw new ArrayIndexOutOfBoundsException(columnIndex);
+        }
+        int start = columnIndex == 0 ? 0 : ends[columnIndex - 1];
+        int end = ends[columnIndex];
+        if (trim) {
+            while (start < end && chars[start] <= ' ') {
+                start++;
+            }
+            while (end > start && chars[end - 1] <= ' ') {
+                end--;
+            }
+        }
+        sliceStart = start;
+        sliceEnd = end;
+        if (nullString != null) {
+            return !(strictQuoteMode && quoted[columnIndex]) && isNullString(start, end);
+        }
+        return strictQuoteMode && start == end && !quoted[columnIndex];
+    }
+
+    private boolean isNullString(int start, int end) {
+        if (end - start != nullString.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (chars[i] != nullString.charAt(i - start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addField(boolean lastValue) {
+        if (lastValue && trailingDelimiter) {
+            int start = size == 0 ? 0 : ends[size - 1];
+            int end = length;
+            if (trim) {
+                while (start < end && chars[start] <= ' ') {
+                    start++;
+                }
+            }
+            if (start == end) {
+                return;
+            }
+        }
+        if (size == ends.length) {
+            int[] newEnds = new int[size << 1];
+            System.arraycopy(ends, 0, newEnds, 0, size);
+            ends = newEnds;
+            boolean[] newQuoted = new boolean[size << 1];
+            System.arraycopy(quoted, 0, newQuoted, 0, size);
+            quoted = newQuoted;
+        }
+        ends[size] = length;
+        quoted[size] = quotedField;
+        size++;
+    }
+
+    private int nextToken() throws IOException {
+        int last = lastChar;
+        int c = read();
+        boolean eol = readEndOfLine(c);
+        if (ignoreEmptyLines) {
+            while (eol && isStartOfLine(last)) {
+                last = c;
+                c = read();
+                eol = readEndOfLine(c);
+                if (c == EOF) {
+                    return END_OF_FILE;
+                }
+            }
+        }
+        if (last == EOF || !lastTokenDelimiter && c == EOF) {
+            return END_OF_FILE;
+        }
+        if (c == delimiter) {
+            return TOKEN;
+        }
+        if (eol) {
+            return END_OF_RECORD;
+        }
+        if (c == quote) {
+            return parseEncapsulatedToken();
+        }
+        if (c == EOF) {
+            return END_OF_FILE_READY;
+        }
+        return parseSimpleToken(c);
+    }
+
+    private int parseSimpleToken(int c) throws IOException {
+        while (true) {
+            if (readEndOfLine(c)) {
+                return END_OF_RECORD;
+            }
+            if (c == EOF) {
+                return END_OF_FILE_READY;
+            }
+            if (c == delimiter) {
+                return TOKEN;
+            }
+            if (c == escape) {
+                appendEscape(c);
+            } else {
+                append((char) c);
+                copyPlainChars(false);
+            }
+            c = read();
+        }
+    }
+
+    private int parseEncapsulatedToken() throws IOException {
+        quotedField = true;
+        long startLineNumber = getCurrentLineNumber();
+        while (true) {
+            int c = read();
+            if (c == quote) {
+                if (peek() == quote) {
+                    append((char) read());
+                    continue;
+                }
+                while (true) {
+                    c = read();
+                    if (c == delimiter) {
+                        return TOKEN;
+                    }
+                    if (c == EOF) {
+                        return END_OF_FILE_READY;
+                    }
+                    if (readEndOfLine(c)) {
+                        return END_OF_RECORD;
+                    }
+                    if (trailingData) {
+                        append((char) c);
+                    } else if (!Character.isWhitespace((char) c)) {
+                        throw new IOException(String.format(
+                                "Invalid char between encapsulated token and delimiter at line: %,d, position: %,d",
+                                getCurrentLineNumber(), characterPosition));
+                    }
+                }
+            } else if (c == escape) {
+                appendEscape(c);
+            } else if (c == EOF) {
+                if (lenientEof) {
+                    return END_OF_FILE_READY;
+                }
+                throw new IOException(
+                        "(startline " + startLineNumber + ") EOF reached before encapsulated token finished");
+            } else {
+                append((char) c);
+                copyPlainChars(true);
+            }
+        }
+    }
+
+    private void appendEscape(int c) throws IOException {
+        if (peek() == delimiter) {
+            append((char) read());
+            return;
+        }
+        int next = read();
+        switch (next) {
+            case 'r':
+                append((char) CR);
+                break;
+            case 'n':
+                append((char) LF);
+                break;
+            case 't':
+                append((char) TAB);
+                break;
+            case 'b':
+                append((char) BACKSPACE);
+                break;
+            case 'f':
+                append((char) FF);
+                break;
+            case CR:
+            case LF:
+            case FF:
+            case TAB:
+            case BACKSPACE:
+                append((char) next);
+                break;
+            case EOF:
+                throw new IOException("EOF whilst processing escape sequence");
+            default:
+                if (next == quote || next == escape) {
+                    append((char) next);
+                } else {
+                    append((char) c);
+                    append((char) next);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Copy the characters of the buffer up to the next one that needs a decision.
+     *
+     * @param encapsulated
+     */
+    private void copyPlainChars(boolean encapsulated) {
+        int start = position;
+        int end = start;
+        if (encapsulated) {
+            while (end < limit) {
+                char c = buffer[end];
+                if (c == quote || c == escape || c == CR || c == LF) {
+                    break;
+                }
+                end++;
+            }
+        } else {
+            while (end < limit) {
+                char c = buffer[end];
+                if (c == delimiter || c == escape || c == CR || c == LF) {
+                    break;
+                }
+                end++;
+            }
+        }
+        int count = end - start;
+        if (count == 0) {
+            return;
+        }
+        ensureCapacity(count);
+        System.arraycopy(buffer, start, chars, length, count);
+        length += count;
+        position = end;
+        characterPosition += count;
+        lastChar = buffer[end - 1];
+    }
+
+    private void append(char c) {
+        ensureCapacity(1);
+        chars[length++] = c;
+    }
+
+    private void ensureCapacity(int count) {
+        if (length + count <= chars.length) {
+            return;
+        }
+        char[] newChars = new char[Math.max(chars.length << 1, length + count)];
+        System.arraycopy(chars, 0, newChars, 0, length);
+        chars = newChars;
+    }
+
+    private boolean readEndOfLine(int c) throws IOException {
+        if (c == CR && peek() == LF) {
+            c = read();
+        }
+        return c == LF || c == CR;
+    }
+
+    private static boolean isStartOfLine(int c) {
+        return c == LF || c == CR || c == UNDEFINED;
+    }
+
+    private int read() throws IOException {
+        int current = position < limit || fill() ? buffer[position++] : EOF;
+        if (current == CR
+                || current == LF && lastChar != CR
+                || current == EOF && lastChar != CR && lastChar != LF && lastChar != EOF) {
+            eolCounter++;
+        }
+        lastChar = current;
+        characterPosition++;
+        return current;
+    }
+
+    private int peek() throws IOException {
+        return position < limit || fill() ? buffer[position] : EOF;
+    }
+
+    private boolean fill() throws IOException {
+        if (readerFinished) {
+            return false;
+        }
+        int count;
+        do {
+            count = reader.read(buffer, 0, buffer.length);
+        } while (count == 0);
+        if (count < 0) {
+            readerFinished = true;
+            return false;
+        }
+        position = 0;
+        limit = count;
+        return true;
+    }
+
+    private long getCurrentLineNumber() {
+        if (lastChar == CR || lastChar == LF || lastChar == UNDEFINED || lastChar == EOF) {
+            return eolCounter;
+        }
+        return eolCounter + 1;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.v03;
+
+import java.io.InputStream;
+import java.util.BitSet;
+import java.util.Collection;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.ExtendedFormatRecord;
+import org.apache.poi.hssf.record.FormatRecord;
+import org.apache.poi.hssf.record.MulBlankRecord;
+import org.apache.poi.hssf.record.MulRKRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.RKRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactory;
+import org.apache.poi.hssf.record.RecordInputStream;
+import org.apache.poi.hssf.record.RowRecord;
+import org.apache.poi.hssf.record.SharedFormulaRecord;
+
+/**
+ * Read the records of an unencrypted BIFF8 stream, in place of {@link
+ * org.apache.poi.hssf.eventusermodel.HSSFEventFactory}.
+ * <p>
+ * Only the records with a handler, and the records used by the format tracking and missing record listeners in front
+ * of the handlers, are created. The data of the other records is skipped through a reused buffer without being
+ * decoded. Same as {@code HSSFEventFactory}, {@code RK} and {@code MulRK} records are given as {@code Number} records,
+ * and the stream ends after the last {@code EOF} of the workbook.
+ *
+ *
+ */
+public class XlsRecordReader {
+    /**
+     * Records used by the listeners in front of the handlers.
+     */
+    private static final short[] LISTENER_RECORD_SIDS = {
+        BOFRecord.sid,
+        EOFRecord.sid,
+        RowRecord.sid,
+        RKRecord.sid,
+        MulRKRecord.sid,
+        MulBlankRecord.sid,
+        SharedFormulaRecord.sid,
+        FormatRecord.sid,
+        ExtendedFormatRecord.sid
+    };
+
+    private final BitSet sidSet;
+    private final byte[] skipBuffer;
+
+    /**
+     * @param sids the records with a handler
+     */
+    public XlsRecordReader(Collection<Short> sids) {
+        this.sidSet = new BitSet(1 << 16);
+        for (Short sid : sids) {
+            sidSet.set(sid & 0xFFFF);
+        }
+        for (short sid : LISTENER_RECORD_SIDS) {
+            sidSet.set(sid & 0xFFFF);
+        }
+        this.skipBuffer = new byte[RecordInputStream.MAX_RECORD_DATA_SIZE];
+    }
+
+    /**
+     * Read the records of the stream.
+     *
+     * @param inputStream workbook stream, or a substream of it that starts with a {@code BOF}
+     * @param listener
+     */
+    public void process(InputStream inputStream, HSSFListener listener) {
+        RecordInputStream recordInputStream = new RecordInputStream(inputStream);
+        int bofDepth = 0;
+        boolean lastRecordWasEofLevelZero = false;
+        while (recordInputStream.hasNextRecord()) {
+            // Only padding, or sometimes garbage, follows the last EOF
+            if (lastRecordWasEofLevelZero && recordInputStream.getNextSid() != BOFRecord.sid) {
+                return;
+            }
+            recordInputStream.nextRecord();
+            lastRecordWasEofLevelZero = false;
+            if (!sidSet.get(recordInputStream.getSid() & 0xFFFF)) {
+                skip(recordInputStream);
+                continue;
+            }
+            Record record = RecordFactory.createSingleRecord(recordInputStream);
+            if (record instanceof BOFRecord) {
+                bofDepth++;
+            } else if (record instanceof EOFRecord) {
+                bofDepth--;
+                lastRecordWasEofLevelZero = bofDepth < 1;
+            } else if (record instanceof RKRecord) {
+                record = RecordFactory.convertToNumberRecord((RKRecord) record);
+            } else if (record instanceof MulRKRecord) {
+                for (NumberRecord numberRecord : RecordFactory.convertRKRecords((MulRKRecord) record)) {
+                    listener.processRecord(numberRecord);
+                }
+                continue;
+            }
+            listener.processRecord(record);
+        }
+    }
+
+    private void skip(RecordInputStream recordInputStream) {
+        int remaining = recordInputStream.remaining();
+        while (remaining > 0) {
+            int length = Math.min(remaining, skipBuffer.length);
+            recordInputStream.readFully(skipBuffer, 0, length);
+            remaining -= length;
+        }
+    }
+}
@@ -20,6 +20,7 @@
 package org.apache.fesod.excel.analysis.v03;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,11 +48,14 @@ import org.apache.fesod.excel.analysis.v03.handlers.SstRecordHandler;
 import org.apache.fesod.excel.analysis.v03.handlers.StringRecordHandler;
 import org.apache.fesod.excel.analysis.v03.handlers.TextObjectRecordHandler;
 import org.apache.fesod.excel.context.xls.XlsReadContext;
+import org.apache.fesod.excel.enums.RowTypeEnum;
 import org.apache.fesod.excel.exception.ExcelAnalysisException;
 import org.apache.fesod.excel.exception.ExcelAnalysisStopException;
 import org.apache.fesod.excel.exception.ExcelAnalysisStopSheetException;
 import org.apache.fesod.excel.read.metadata.ReadSheet;
+import org.apache.fesod.excel.read.metadata.holder.xls.XlsReadSheetHolder;
 import org.apache.fesod.excel.read.metadata.holder.xls.XlsReadWorkbookHolder;
+import org.apache.fesod.excel.util.SheetUtils;
 import org.apache.poi.hssf.OldExcelFormatException;
 import org.apache.poi.hssf.eventusermodel.EventWorkbookBuilder;
 import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
@@ -59,10 +63,13 @@ import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
 import org.apache.poi.hssf.eventusermodel.HSSFListener;
 import org.apache.poi.hssf.eventusermodel.HSSFRequest;
 import org.apache.poi.hssf.eventusermodel.MissingRecordAwareHSSFListener;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.LastCellOfRowDummyRecord;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.MissingCellDummyRecord;
 import org.apache.poi.hssf.record.BOFRecord;
 import org.apache.poi.hssf.record.BlankRecord;
 import org.apache.poi.hssf.record.BoolErrRecord;
 import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
 import org.apache.poi.hssf.record.DateWindow1904Record;
 import org.apache.poi.hssf.record.EOFRecord;
 import org.apache.poi.hssf.record.FormulaRecord;
@@ -98,6 +105,8 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
 
     private static final short DUMMY_RECORD_SID = -1;
     private final XlsReadContext xlsReadContext;
+    private XlsSubstreamReader xlsSubstreamReader;
+    private XlsRecordReader xlsRecordReader;
     private static final Map<Short, XlsRecordHandler> XLS_RECORD_HANDLER_MAP = new HashMap<Short, XlsRecordHandler>(32);
 
     static {
@@ -131,12 +140,16 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
      */
     public XlsSaxAnalyser(XlsReadContext xlsReadContext) {
         this.xlsReadContext = xlsReadContext;
+        if (xlsReadContext.xlsReadWorkbookHolder().getStreaming()) {
+            this.xlsRecordReader = new XlsRecordReader(XLS_RECORD_HANDLER_MAP.keySet());
+        }
     }
 
     /**
      * Retrieves the list of sheets in the workbook.
      * <p>
-     * If the sheet data list is not already loaded, it triggers the execution of a listener to load the data.
+     * If the sheet data list is not already loaded, it is built from the workbook globals only. An encrypted workbook
+     * is read by a listener instead.
      *
      * @return A list of ReadSheet objects representing the sheets in the workbook.
      */
@@ -144,12 +157,14 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
     public List<ReadSheet> sheetList() {
         try {
             if (xlsReadContext.readWorkbookHolder().getActualSheetDataList() == null) {
-                new XlsListSheetListener(xlsReadContext).execute();
+                initSheetList();
             }
         } catch (ExcelAnalysisStopException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Custom stop!");
             }
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
         }
         List<ReadSheet> actualSheetDataList =
                 xlsReadContext.readWorkbookHolder().getActualSheetDataList();
@@ -161,10 +176,32 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
         return actualSheetDataList;
     }
 
+    private void initSheetList() throws IOException {
+        XlsSubstreamReader reader = xlsSubstreamReader();
+        if (reader.isEncrypted()) {
+            new XlsListSheetListener(xlsReadContext).execute();
+            return;
+        }
+        XlsReadWorkbookHolder xlsReadWorkbookHolder = xlsReadContext.xlsReadWorkbookHolder();
+        xlsReadWorkbookHolder.getBoundSheetRecordList().addAll(reader.getBoundSheetRecordList());
+        xlsReadWorkbookHolder.setActualSheetDataList(
+                XlsSubstreamReader.readSheetList(reader.getBoundSheetRecordList()));
+    }
+
+    private XlsSubstreamReader xlsSubstreamReader() throws IOException {
+        if (xlsSubstreamReader == null) {
+            xlsSubstreamReader = new XlsSubstreamReader(
+                    xlsReadContext.xlsReadWorkbookHolder().getPoifsFileSystem().getRoot());
+        }
+        return xlsSubstreamReader;
+    }
+
     /**
      * Executes the parsing process for the Excel file.
      * <p>
-     * This method sets up the necessary listeners and processes the workbook events using HSSFEventFactory.
+     * This method sets up the necessary listeners and processes the workbook events using HSSFEventFactory. When the
+     * position of each sheet is known, only the workbook globals and the sheets to read are processed, the records of
+     * the other sheets are never decoded.
      */
     @Override
     public void execute() {
@@ -179,7 +216,19 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
         HSSFRequest request = new HSSFRequest();
         request.addListenerForAllRecords(xlsReadWorkbookHolder.getFormatTrackingHSSFListener());
         try {
-            factory.processWorkbookEvents(request, xlsReadWorkbookHolder.getPoifsFileSystem());
+            XlsSubstreamReader reader = xlsSubstreamReader();
+            if (reader.isSeekable()) {
+                if (xlsReadWorkbookHolder.getActualSheetDataList() == null) {
+                    initSheetList();
+                }
+                processSelectedSheets(factory, request, reader);
+            } else if (xlsRecordReader != null && !reader.isEncrypted()) {
+                try (InputStream inputStream = reader.workbookInputStream()) {
+                    processEvents(factory, request, inputStream);
+                }
+            } else {
+                factory.processWorkbookEvents(request, xlsReadWorkbookHolder.getPoifsFileSystem());
+            }
         } catch (OldExcelFormatException e) {
             // POI reports very old BIFF (e.g., BIFF2) formats via OldExcelFormatException. Treat as benign:
             // stop current sheet gracefully and return without error so fuzz doesn't flag it.
@@ -204,6 +253,33 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
         xlsReadContext.analysisEventProcessor().endSheet(xlsReadContext);
     }
 
+    private void processSelectedSheets(HSSFEventFactory factory, HSSFRequest request, XlsSubstreamReader reader)
+            throws IOException {
+        try (InputStream inputStream = reader.globalsInputStream()) {
+            processEvents(factory, request, inputStream);
+        }
+        XlsReadWorkbookHolder xlsReadWorkbookHolder = xlsReadContext.xlsReadWorkbookHolder();
+        List<ReadSheet> actualSheetDataList = xlsReadWorkbookHolder.getActualSheetDataList();
+        for (int i = 0; i < actualSheetDataList.size(); i++) {
+            if (SheetUtils.match(actualSheetDataList.get(i), xlsReadContext) == null) {
+                continue;
+            }
+            // The sheets are not read in one stream, so the index can not be counted from the BOF records
+            xlsReadWorkbookHolder.setReadSheetIndex(i);
+            try (InputStream inputStream = reader.sheetInputStream(i)) {
+                processEvents(factory, request, inputStream);
+            }
+        }
+    }
+
+    private void processEvents(HSSFEventFactory factory, HSSFRequest request, InputStream inputStream) {
+        if (xlsRecordReader == null) {
+            factory.processEvents(request, inputStream);
+            return;
+        }
+        xlsRecordReader.process(inputStream, xlsReadContext.xlsReadWorkbookHolder().getFormatTrackingHSSFListener());
+    }
+
     protected boolean isOldExcelFormat(Throwable t) {
         for (int i = 0; i < 6 && t != null; i++, t = t.getCause()) {
             if (t instanceof OldExcelFormatException) {
@@ -220,6 +296,61 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
         return false;
     }
 
+    /**
+     * Skip the cells of the rows before the start row and of the columns that are not read, before their value is
+     * decoded. For the skipped columns, only whether the row has data is kept.
+     *
+     * @param record
+     * @return true if the record is not handled
+     */
+    private boolean skipRecord(Record record) {
+        XlsReadSheetHolder xlsReadSheetHolder = xlsReadContext.xlsReadSheetHolder();
+        int rowIndex;
+        int columnIndex;
+        if (record instanceof CellValueRecordInterface) {
+            rowIndex = ((CellValueRecordInterface) record).getRow();
+            columnIndex = ((CellValueRecordInterface) record).getColumn();
+        } else if (record instanceof MissingCellDummyRecord) {
+            rowIndex = ((MissingCellDummyRecord) record).getRow();
+            columnIndex = ((MissingCellDummyRecord) record).getColumn();
+        } else if (record instanceof LastCellOfRowDummyRecord) {
+            rowIndex = ((LastCellOfRowDummyRecord) record).getRow();
+            if (xlsReadSheetHolder.afterEndRow(rowIndex)) {
+                throw new ExcelAnalysisStopSheetException();
+            }
+            return xlsReadSheetHolder.beforeStartRow(rowIndex);
+        } else if (record instanceof StringRecord) {
+            // The string value of a formula that has been skipped
+            return (xlsReadSheetHolder.getProjectedColumnIndexes() != null
+                            || xlsReadSheetHolder.getReadSheet().getStartRow() != null)
+                    && xlsReadSheetHolder.getTempCellData() == null;
+        } else {
+            return false;
+        }
+        if (xlsReadSheetHolder.afterEndRow(rowIndex)) {
+            throw new ExcelAnalysisStopSheetException();
+        }
+        if (xlsReadSheetHolder.beforeStartRow(rowIndex)) {
+            return true;
+        }
+        if (xlsReadSheetHolder.includeColumn(columnIndex)) {
+            return false;
+        }
+        // Same as the handlers, blank cells do not make the row a data row
+        boolean hasData;
+        if (record instanceof LabelSSTRecord) {
+            hasData = xlsReadContext.readWorkbookHolder().getReadCache() != null;
+        } else {
+            hasData = !(record instanceof BlankRecord
+                    || record instanceof RKRecord
+                    || record instanceof MissingCellDummyRecord);
+        }
+        if (hasData) {
+            xlsReadSheetHolder.setTempRowType(RowTypeEnum.DATA);
+        }
+        return true;
+    }
+
     /**
      * Processes a single Excel record.
      * <p>
@@ -245,6 +376,9 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
         }
 
         try {
+            if (skipRecord(record)) {
+                return;
+            }
             handler.processRecord(xlsReadContext, record);
         } catch (ExcelAnalysisStopSheetException e) {
             if (log.isDebugEnabled()) {
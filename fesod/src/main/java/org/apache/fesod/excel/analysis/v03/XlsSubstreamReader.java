@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.v03;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+import org.apache.fesod.excel.read.metadata.ReadSheet;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FilePassRecord;
+import org.apache.poi.hssf.record.RecordInputStream;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.DirectoryNode;
+import org.apache.poi.poifs.filesystem.DocumentEntry;
+import org.apache.poi.poifs.filesystem.DocumentInputStream;
+
+/**
+ * Read the substreams of the workbook stream of a xls file separately.
+ * <p>
+ * Only the records of the workbook globals up to the last {@code BoundSheet} are read when it is created. The
+ * {@code BoundSheet} records give the position of the {@code BOF} of each sheet, so the globals and each sheet can then
+ * be read on their own, without decoding the records of the other sheets.
+ * <p>
+ * An encrypted workbook can only be decrypted from the beginning of the stream, so it can not be read this way.
+ *
+ *
+ */
+public class XlsSubstreamReader {
+
+    private final DirectoryNode root;
+    private final String workbookName;
+    private final int workbookSize;
+    /**
+     * The {@code BoundSheet} records, ordered by the position of their {@code BOF}.
+     */
+    @Getter
+    private final List<BoundSheetRecord> boundSheetRecordList;
+    /**
+     * Whether the workbook stream has a {@code FilePass} record.
+     */
+    @Getter
+    private boolean encrypted;
+
+    public XlsSubstreamReader(DirectoryNode root) throws IOException {
+        this.root = root;
+        this.workbookName = HSSFWorkbook.getWorkbookDirEntryName(root);
+        this.workbookSize = ((DocumentEntry) root.getEntryCaseInsensitive(workbookName)).getSize();
+        this.boundSheetRecordList = Arrays.asList(BoundSheetRecord.orderByBofPosition(readBoundSheets()));
+    }
+
+    /**
+     * The {@code BoundSheet} records follow each other in the workbook globals, before the shared strings.
+     */
+    private List<BoundSheetRecord> readBoundSheets() throws IOException {
+        List<BoundSheetRecord> list = new ArrayList<>();
+        try (DocumentInputStream documentInputStream = root.createDocumentInputStream(workbookName)) {
+            RecordInputStream recordInputStream = new RecordInputStream(documentInputStream);
+            while (recordInputStream.hasNextRecord()) {
+                recordInputStream.nextRecord();
+                short sid = recordInputStream.getSid();
+                if (sid == BoundSheetRecord.sid) {
+                    list.add(new BoundSheetRecord(recordInputStream));
+                    continue;
+                }
+                if (sid == FilePassRecord.sid) {
+                    encrypted = true;
+                    break;
+                }
+                if (sid == EOFRecord.sid || !list.isEmpty()) {
+                    break;
+                }
+                recordInputStream.readRemainder();
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Whether the globals and the sheets can be read separately: the workbook is not encrypted and the position of
+     * each sheet is inside the workbook stream.
+     *
+     * @return
+     */
+    public boolean isSeekable() {
+        if (encrypted || boundSheetRecordList.isEmpty()) {
+            return false;
+        }
+        int previousPosition = 0;
+        for (BoundSheetRecord boundSheetRecord : boundSheetRecordList) {
+            int position = boundSheetRecord.getPositionOfBof();
+            if (position <= previousPosition || position >= workbookSize) {
+                return false;
+            }
+            previousPosition = position;
+        }
+        return true;
+    }
+
+    /**
+     * The whole workbook stream.
+     *
+     * @return
+     * @throws IOException
+     */
+    public InputStream workbookInputStream() throws IOException {
+        return root.createDocumentInputStream(workbookName);
+    }
+
+    /**
+     * The workbook globals, from the beginning of the stream to the {@code BOF} of the first sheet.
+     *
+     * @return
+     * @throws IOException
+     */
+    public InputStream globalsInputStream() throws IOException {
+        return rangeInputStream(0, boundSheetRecordList.get(0).getPositionOfBof());
+    }
+
+    /**
+     * The sheet substream, from its {@code BOF} to the {@code BOF} of the next sheet.
+     *
+     * @param sheetIndex index in {@link #getBoundSheetRecordList()}
+     * @return
+     * @throws IOException
+     */
+    public InputStream sheetInputStream(int sheetIndex) throws IOException {
+        int end = sheetIndex + 1 < boundSheetRecordList.size()
+                ? boundSheetRecordList.get(sheetIndex + 1).getPositionOfBof()
+                : workbookSize;
+        return rangeInputStream(boundSheetRecordList.get(sheetIndex).getPositionOfBof(), end);
+    }
+
+    private InputStream rangeInputStream(int start, int end) throws IOException {
+        DocumentInputStream documentInputStream = root.createDocumentInputStream(workbookName);
+        if (start > 0 && documentInputStream.skip(start) != start) {
+            documentInputStream.close();
+            throw new IOException("Can not seek to the position " + start + " of the workbook stream.");
+        }
+        return new RangeInputStream(documentInputStream, end - start);
+    }
+
+    /**
+     * Build the sheets from the {@code BoundSheet} records, in the order of their position.
+     *
+     * @param boundSheetRecordList
+     * @return
+     */
+    public static List<ReadSheet> readSheetList(List<BoundSheetRecord> boundSheetRecordList) {
+        BoundSheetRecord[] boundSheetRecords = BoundSheetRecord.orderByBofPosition(boundSheetRecordList);
+        List<ReadSheet> readSheetList = new ArrayList<>(boundSheetRecords.length);
+        for (int i = 0; i < boundSheetRecords.length; i++) {
+            BoundSheetRecord boundSheetRecord = boundSheetRecords[i];
+            ReadSheet readSheet = new ReadSheet(i, boundSheetRecord.getSheetname());
+            readSheet.setHidden(boundSheetRecord.isHidden());
+            readSheet.setVeryHidden(boundSheetRecord.isVeryHidden());
+            readSheetList.add(readSheet);
+        }
+        return readSheetList;
+    }
+
+    /**
+     * Stop at the end of the substream.
+     */
+    private static class RangeInputStream extends FilterInputStream {
+        private int remaining;
+
+        private RangeInputStream(InputStream in, int length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = super.read(b, off, Math.min(len, remaining));
+            if (count > 0) {
+                remaining -= count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long count = super.skip(Math.min(n, remaining));
+            remaining -= (int) count;
+            return count;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.v03;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.exception.ExcelCommonException;
+import org.apache.fesod.excel.read.metadata.SheetInfo;
+import org.apache.fesod.excel.read.metadata.WorkbookInfo;
+import org.apache.fesod.excel.support.ExcelTypeEnum;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.DimensionsRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.RecordInputStream;
+import org.apache.poi.hssf.record.RowRecord;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+
+/**
+ * Read the sheets of a xls file without reading the whole workbook stream.
+ * <p>
+ * Only the records of the workbook globals up to the last {@code BoundSheet} are read, then the beginning of each
+ * sheet up to its {@code DIMENSIONS} record, found from the offset recorded in the {@code BoundSheet}. The shared
+ * strings and the rows are not read.
+ *
+ *
+ */
+public class XlsWorkbookInspector {
+
+    private XlsWorkbookInspector() {}
+
+    public static WorkbookInfo inspect(File file) {
+        try (POIFSFileSystem poifsFileSystem = new POIFSFileSystem(file, true)) {
+            XlsSubstreamReader xlsSubstreamReader = new XlsSubstreamReader(poifsFileSystem.getRoot());
+            if (xlsSubstreamReader.isEncrypted()) {
+                throw new ExcelCommonException("Can not inspect an encrypted xls file.");
+            }
+            List<BoundSheetRecord> boundSheetRecordList = xlsSubstreamReader.getBoundSheetRecordList();
+            boolean seekable = xlsSubstreamReader.isSeekable();
+            List<SheetInfo> sheetList = new ArrayList<>(boundSheetRecordList.size());
+            for (BoundSheetRecord boundSheetRecord : boundSheetRecordList) {
+                SheetInfo sheetInfo = new SheetInfo(sheetList.size(), boundSheetRecord.getSheetname());
+                sheetInfo.setSheetHidden(boundSheetRecord.isHidden());
+                sheetInfo.setSheetVeryHidden(boundSheetRecord.isVeryHidden());
+                if (seekable) {
+                    try (InputStream inputStream = xlsSubstreamReader.sheetInputStream(sheetList.size())) {
+                        readDimensions(inputStream, sheetInfo);
+                    }
+                }
+                sheetList.add(sheetInfo);
+            }
+            return new WorkbookInfo(ExcelTypeEnum.XLS, sheetList);
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+    }
+
+    /**
+     * The {@code DIMENSIONS} record comes before the rows of the sheet.
+     */
+    private static void readDimensions(InputStream inputStream, SheetInfo sheetInfo) {
+        RecordInputStream recordInputStream = new RecordInputStream(inputStream);
+        while (recordInputStream.hasNextRecord()) {
+            recordInputStream.nextRecord();
+            short sid = recordInputStream.getSid();
+            if (sid == DimensionsRecord.sid) {
+                DimensionsRecord dimensionsRecord = new DimensionsRecord(recordInputStream);
+                sheetInfo.setApproximateRowNumber(dimensionsRecord.getLastRow());
+                sheetInfo.setApproximateColumnNumber((int) dimensionsRecord.getLastCol());
+                return;
+            }
+            if (sid == RowRecord.sid || sid == EOFRecord.sid) {
+                return;
+            }
+            recordInputStream.readRemainder();
+        }
+    }
+}
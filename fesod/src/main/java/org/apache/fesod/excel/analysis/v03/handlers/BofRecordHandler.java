@@ -19,15 +19,14 @@
 
 package org.apache.fesod.excel.analysis.v03.handlers;
 
-import java.util.ArrayList;
 import java.util.List;
+import org.apache.fesod.excel.analysis.v03.XlsSubstreamReader;
 import org.apache.fesod.excel.context.xls.XlsReadContext;
 import org.apache.fesod.excel.exception.ExcelAnalysisStopException;
 import org.apache.fesod.excel.read.metadata.ReadSheet;
 import org.apache.fesod.excel.read.metadata.holder.xls.XlsReadWorkbookHolder;
 import org.apache.fesod.excel.util.SheetUtils;
 import org.apache.poi.hssf.record.BOFRecord;
-import org.apache.poi.hssf.record.BoundSheetRecord;
 import org.apache.poi.hssf.record.Record;
 
 /**
@@ -74,16 +73,8 @@ public class BofRecordHandler extends AbstractXlsRecordHandler {
         if (xlsReadWorkbookHolder.getActualSheetDataList() != null) {
             return;
         }
-        BoundSheetRecord[] boundSheetRecords =
-                BoundSheetRecord.orderByBofPosition(xlsReadWorkbookHolder.getBoundSheetRecordList());
-        List<ReadSheet> readSheetDataList = new ArrayList<>();
-        for (int i = 0; i < boundSheetRecords.length; i++) {
-            BoundSheetRecord boundSheetRecord = boundSheetRecords[i];
-            ReadSheet readSheet = new ReadSheet(i, boundSheetRecord.getSheetname());
-            readSheet.setHidden(boundSheetRecord.isHidden());
-            readSheet.setVeryHidden(boundSheetRecord.isVeryHidden());
-            readSheetDataList.add(readSheet);
-        }
+        List<ReadSheet> readSheetDataList =
+                XlsSubstreamReader.readSheetList(xlsReadWorkbookHolder.getBoundSheetRecordList());
         xlsReadWorkbookHolder.setActualSheetDataList(readSheetDataList);
         // Just need to get the list of sheets
         if (!xlsReadWorkbookHolder.getNeedReadSheet()) {
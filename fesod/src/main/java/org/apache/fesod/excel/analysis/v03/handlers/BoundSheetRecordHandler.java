@@ -29,6 +29,12 @@ import org.apache.poi.hssf.record.Record;
  */
 public class BoundSheetRecordHandler extends AbstractXlsRecordHandler implements IgnorableXlsRecordHandler {
 
+    @Override
+    public boolean support(XlsReadContext xlsReadContext, Record record) {
+        // Once the sheet list is known the records are already collected, e.g. when the globals are replayed
+        return xlsReadContext.xlsReadWorkbookHolder().getActualSheetDataList() == null;
+    }
+
     @Override
     public void processRecord(XlsReadContext xlsReadContext, Record record) {
         BoundSheetRecord bsr = (BoundSheetRecord) record;
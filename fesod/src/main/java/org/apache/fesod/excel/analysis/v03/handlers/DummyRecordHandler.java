@@ -23,6 +23,7 @@ import java.util.LinkedHashMap;
 import org.apache.fesod.excel.analysis.v03.IgnorableXlsRecordHandler;
 import org.apache.fesod.excel.context.xls.XlsReadContext;
 import org.apache.fesod.excel.enums.RowTypeEnum;
+import org.apache.fesod.excel.exception.ExcelAnalysisStopSheetException;
 import org.apache.fesod.excel.metadata.Cell;
 import org.apache.fesod.excel.metadata.data.ReadCellData;
 import org.apache.fesod.excel.read.metadata.holder.ReadRowHolder;
@@ -50,6 +51,10 @@ public class DummyRecordHandler extends AbstractXlsRecordHandler implements Igno
             xlsReadContext.analysisEventProcessor().endRow(xlsReadContext);
             xlsReadSheetHolder.setCellMap(new LinkedHashMap<Integer, Cell>());
             xlsReadSheetHolder.setTempRowType(RowTypeEnum.EMPTY);
+            // No need to wait for the next row
+            if (xlsReadSheetHolder.afterEndRow(lcrdr.getRow() + 1)) {
+                throw new ExcelAnalysisStopSheetException();
+            }
         } else if (record instanceof MissingCellDummyRecord) {
             MissingCellDummyRecord mcdr = (MissingCellDummyRecord) record;
             // Some abnormal XLS, in the case of data already exist, or there will be a "MissingCellDummyRecord"
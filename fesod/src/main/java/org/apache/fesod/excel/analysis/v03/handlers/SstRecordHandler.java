@@ -20,8 +20,10 @@
 package org.apache.fesod.excel.analysis.v03.handlers;
 
 import org.apache.fesod.excel.analysis.v03.IgnorableXlsRecordHandler;
+import org.apache.fesod.excel.cache.ReadCache;
 import org.apache.fesod.excel.cache.XlsCache;
 import org.apache.fesod.excel.context.xls.XlsReadContext;
+import org.apache.fesod.excel.read.metadata.holder.ReadWorkbookHolder;
 import org.apache.poi.hssf.record.Record;
 import org.apache.poi.hssf.record.SSTRecord;
 
@@ -31,6 +33,18 @@ import org.apache.poi.hssf.record.SSTRecord;
 public class SstRecordHandler extends AbstractXlsRecordHandler implements IgnorableXlsRecordHandler {
     @Override
     public void processRecord(XlsReadContext xlsReadContext, Record record) {
-        xlsReadContext.readWorkbookHolder().setReadCache(new XlsCache((SSTRecord) record));
+        ReadWorkbookHolder readWorkbookHolder = xlsReadContext.readWorkbookHolder();
+        // The workbook globals are read again for each read of the sheets
+        if (readWorkbookHolder.getReadCache() != null) {
+            return;
+        }
+        SSTRecord sstRecord = (SSTRecord) record;
+        ReadCache readCache = readWorkbookHolder.getReadCacheSelector().xlsReadCache(XlsCache.size(sstRecord));
+        readCache.init(xlsReadContext);
+        for (int i = 0; i < sstRecord.getNumUniqueStrings(); i++) {
+            readCache.put(sstRecord.getString(i).getString());
+        }
+        readCache.putFinished();
+        readWorkbookHolder.setReadCache(readCache);
     }
 }
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.v07;
+
+import java.io.IOException;
+import java.io.InputStream;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fesod.excel.analysis.v07.handlers.sax.XlsxRowHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.tokenizer.XlsxSheetTokenizer;
+import org.apache.fesod.excel.context.xlsx.XlsxReadContext;
+import org.apache.fesod.excel.enums.XlsxSheetParserEnum;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxReadWorkbookHolder;
+import org.apache.fesod.excel.util.StringUtils;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Parses the xml parts of a xlsx file, shared by the readers of a package and of a zip stream.
+ *
+ */
+@Slf4j
+public class XlsxPartParser {
+    /**
+     * Class name of the {@link SAXParserFactory}, the default one is used when empty
+     */
+    private final String saxParserFactoryName;
+    /**
+     * Created on first use
+     */
+    private SAXParserFactory saxParserFactory;
+
+    public XlsxPartParser(String saxParserFactoryName) {
+        this.saxParserFactoryName = saxParserFactoryName;
+    }
+
+    /**
+     * The factory is created on first use, sheets parsed at the same time share it.
+     */
+    synchronized SAXParser newSaxParser() throws ParserConfigurationException, SAXException {
+        if (saxParserFactory == null) {
+            if (StringUtils.isEmpty(saxParserFactoryName)) {
+                saxParserFactory = SAXParserFactory.newInstance();
+            } else {
+                saxParserFactory = SAXParserFactory.newInstance(saxParserFactoryName, null);
+            }
+            try {
+                saxParserFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            } catch (Throwable ignore) {
+            }
+            try {
+                saxParserFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            } catch (Throwable ignore) {
+            }
+            try {
+                saxParserFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+            } catch (Throwable ignore) {
+            }
+        }
+        return saxParserFactory.newSAXParser();
+    }
+
+    /**
+     * Parse a sheet with the parser chosen by {@link XlsxReadWorkbookHolder#getXlsxSheetParser()}.
+     */
+    public void parseSheet(XlsxReadContext sheetContext, InputStream inputStream) {
+        XlsxSheetParserEnum xlsxSheetParser = sheetContext.xlsxReadWorkbookHolder().getXlsxSheetParser();
+        if (xlsxSheetParser == XlsxSheetParserEnum.SAX) {
+            parseXmlSource(inputStream, new XlsxRowHandler(sheetContext));
+            return;
+        }
+        XlsxSheetTokenizer xlsxSheetTokenizer = new XlsxSheetTokenizer(sheetContext, inputStream);
+        boolean fallback = false;
+        try {
+            if (xlsxSheetTokenizer.supported()) {
+                xlsxSheetTokenizer.parse();
+                return;
+            }
+            if (xlsxSheetParser == XlsxSheetParserEnum.TOKENIZER) {
+                throw new ExcelAnalysisException("The sheet is not UTF-8 or has a DOCTYPE, it cannot be read by the "
+                        + "tokenizer. Please use 'AUTO' or 'SAX'.");
+            }
+            fallback = true;
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        } finally {
+            if (!fallback) {
+                try {
+                    inputStream.close();
+                } catch (IOException e) {
+                    throw new ExcelAnalysisException("Can not close 'inputStream'!");
+                }
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("The sheet cannot be read by the tokenizer, fall back to SAX.");
+        }
+        parseXmlSource(xlsxSheetTokenizer.remainingInputStream(), new XlsxRowHandler(sheetContext));
+    }
+
+    /**
+     * Parse a xml part, the stream is closed at the end.
+     */
+    public void parseXmlSource(InputStream inputStream, ContentHandler handler) {
+        InputSource inputSource = new InputSource(inputStream);
+        try {
+            SAXParser saxParser = newSaxParser();
+            XMLReader xmlReader = saxParser.getXMLReader();
+            xmlReader.setContentHandler(handler);
+            xmlReader.parse(inputSource);
+            inputStream.close();
+        } catch (IOException | ParserConfigurationException | SAXException e) {
+            throw new ExcelAnalysisException(e);
+        } finally {
+            if (inputStream != null) {
+                try {
+                    inputStream.close();
+                } catch (IOException e) {
+                    throw new ExcelAnalysisException("Can not close 'inputStream'!");
+                }
+            }
+        }
+    }
+}
@@ -19,58 +19,70 @@
 
 package org.apache.fesod.excel.analysis.v07;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fesod.excel.analysis.ExcelReadExecutor;
 import org.apache.fesod.excel.analysis.v07.handlers.sax.SharedStringsTableHandler;
-import org.apache.fesod.excel.analysis.v07.handlers.sax.XlsxRowHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.sax.StylesTableHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.sax.WorkbookHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.tokenizer.XlsxSheetTokenizer;
 import org.apache.fesod.excel.cache.ReadCache;
+import org.apache.fesod.excel.cache.SparseReadCache;
+import org.apache.fesod.excel.cache.selector.EternalReadCacheSelector;
+import org.apache.fesod.excel.context.xlsx.DefaultXlsxReadContext;
 import org.apache.fesod.excel.context.xlsx.XlsxReadContext;
 import org.apache.fesod.excel.enums.CellExtraTypeEnum;
 import org.apache.fesod.excel.exception.ExcelAnalysisException;
 import org.apache.fesod.excel.exception.ExcelAnalysisStopSheetException;
 import org.apache.fesod.excel.exception.ExcelCommonException;
 import org.apache.fesod.excel.metadata.CellExtra;
+import org.apache.fesod.excel.read.index.SheetRowIndex;
 import org.apache.fesod.excel.read.metadata.ReadSheet;
+import org.apache.fesod.excel.read.metadata.SheetInfo;
 import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxReadWorkbookHolder;
+import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxStyles;
 import org.apache.fesod.excel.util.FileUtils;
+import org.apache.fesod.excel.util.IoUtils;
 import org.apache.fesod.excel.util.MapUtils;
 import org.apache.fesod.excel.util.SheetUtils;
-import org.apache.fesod.excel.util.StringUtils;
+import org.apache.fesod.excel.util.ThreadUtils;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.exceptions.NotOfficeXmlFileException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.openxml4j.opc.PackagePart;
 import org.apache.poi.openxml4j.opc.PackagePartName;
+import org.apache.poi.openxml4j.opc.PackageRelationship;
 import org.apache.poi.openxml4j.opc.PackageRelationshipCollection;
 import org.apache.poi.openxml4j.opc.PackagingURIHelper;
 import org.apache.poi.ss.util.CellAddress;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
-import org.apache.poi.xssf.model.Comments;
 import org.apache.poi.xssf.model.CommentsTable;
 import org.apache.poi.xssf.usermodel.XSSFComment;
-import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTSheet;
-import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbook;
-import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbookPr;
-import org.openxmlformats.schemas.spreadsheetml.x2006.main.STSheetState;
-import org.openxmlformats.schemas.spreadsheetml.x2006.main.WorkbookDocument;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
 import org.xml.sax.ContentHandler;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
-import org.xml.sax.XMLReader;
 
 /**
  *
@@ -82,6 +94,11 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
      * Storage sheet SharedStrings
      */
     public static final PackagePartName SHARED_STRINGS_PART_NAME;
+    /**
+     * Relationship types of the sheets read, the same as POI's sheet iterator
+     */
+    private static final Set<String> SHEET_RELATIONSHIP_TYPES = new HashSet<>(
+            Arrays.asList(XSSFRelation.WORKSHEET.getRelation(), XSSFRelation.CHARTSHEET.getRelation()));
 
     static {
         try {
@@ -95,7 +112,27 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
     private final XlsxReadContext xlsxReadContext;
     private final List<ReadSheet> sheetList;
     private final Map<Integer, InputStream> sheetMap;
-    private final Map<String, CTSheet> ctSheetMap;
+    /**
+     * Sheet parts, only kept when {@code onlyReferencedSharedStrings} is set. key: sheetNo value: PackagePart
+     */
+    private final Map<Integer, PackagePart> sheetPartMap;
+    /**
+     * Names of the zip entries of the sheets, checked against the row index of a sheet. key: sheetNo value: part name
+     */
+    private final Map<Integer, String> sheetPartNameMap;
+    /**
+     * The shared strings part whose strings are loaded when the sheets to read are known, null when the whole table
+     * is loaded
+     */
+    private PackagePart sharedStringsTablePackagePart;
+    /**
+     * The shared string indexes in the cache, null when none are loaded yet
+     */
+    private BitSet loadedSharedStringIndexes;
+    /**
+     * Parses the xml parts and the sheets
+     */
+    private final XlsxPartParser xlsxPartParser;
     /**
      * excel comments key: sheetNo value: CommentsTable
      */
@@ -105,13 +142,17 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
         this.xlsxReadContext = xlsxReadContext;
         // Initialize cache
         XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        xlsxPartParser = new XlsxPartParser(xlsxReadWorkbookHolder.getSaxParserFactoryName());
 
         OPCPackage pkg = readOpcPackage(xlsxReadWorkbookHolder, decryptedStream);
         xlsxReadWorkbookHolder.setOpcPackage(pkg);
 
         // Read the Shared information Strings
         PackagePart sharedStringsTablePackagePart = pkg.getPart(SHARED_STRINGS_PART_NAME);
-        if (sharedStringsTablePackagePart != null) {
+        if (sharedStringsTablePackagePart != null && onlyReferencedSharedStrings(xlsxReadWorkbookHolder)) {
+            // Loaded before the sheets are read, see `loadReferencedSharedStrings`
+            this.sharedStringsTablePackagePart = sharedStringsTablePackagePart;
+        } else if (sharedStringsTablePackagePart != null) {
             // Specify default cache
             defaultReadCache(xlsxReadWorkbookHolder, sharedStringsTablePackagePart);
 
@@ -119,45 +160,54 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
             analysisSharedStringsTable(sharedStringsTablePackagePart.getInputStream(), xlsxReadWorkbookHolder);
         }
 
-        XSSFReader xssfReader = new XSSFReader(pkg);
-        analysisUse1904WindowDate(xssfReader, xlsxReadWorkbookHolder);
+        WorkbookReader xssfReader = new WorkbookReader(pkg);
         // set style table
         setStylesTable(xlsxReadWorkbookHolder, xssfReader);
 
         sheetList = new ArrayList<>();
         sheetMap = new HashMap<>();
+        sheetPartMap = new HashMap<>();
+        sheetPartNameMap = new HashMap<>();
         commentsTableMap = new HashMap<>();
-        ctSheetMap = new HashMap<>();
         Map<Integer, PackageRelationshipCollection> packageRelationshipCollectionMap = MapUtils.newHashMap();
         xlsxReadWorkbookHolder.setPackageRelationshipCollectionMap(packageRelationshipCollectionMap);
-        // analysis CTSheet
-        analysisCtSheetMap(xssfReader, xlsxReadWorkbookHolder);
+        // analysis the sheets and the date system
+        WorkbookHandler workbookHandler = analysisWorkbook(xssfReader, xlsxReadWorkbookHolder);
 
-        XSSFReader.SheetIterator ite = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+        // The sheet parts are resolved from the relationships of the workbook, POI's sheet iterator would parse
+        // `workbook.xml` again
+        PackagePart workbookPart = xssfReader.getWorkbookPart();
         int index = 0;
-        if (!ite.hasNext()) {
-            throw new ExcelAnalysisException("Can not find any sheet!");
-        }
-        while (ite.hasNext()) {
-            InputStream inputStream = ite.next();
-            String sheetName = ite.getSheetName();
-            CTSheet ctSheet = ctSheetMap.get(sheetName);
-            if (ctSheet == null) {
+        boolean hasSheet = false;
+        for (int i = 0; i < workbookHandler.getSheetList().size(); i++) {
+            PackagePart sheetPart = sheetPart(workbookPart, workbookHandler.getRelationshipIdList().get(i));
+            if (sheetPart == null) {
+                continue;
+            }
+            hasSheet = true;
+            SheetInfo sheetInfo = workbookHandler.getSheetList().get(i);
+            boolean isHidden = sheetInfo.isSheetHidden() || sheetInfo.isSheetVeryHidden();
+            if (!Boolean.FALSE.equals(xlsxReadWorkbookHolder.getIgnoreHiddenSheet()) && isHidden) {
                 continue;
             }
-            ReadSheet readSheet = new ReadSheet(index, sheetName);
-            readSheet.setHidden(ctSheet.getState() == STSheetState.HIDDEN);
-            readSheet.setVeryHidden(ctSheet.getState() == STSheetState.VERY_HIDDEN);
+            ReadSheet readSheet = new ReadSheet(index, sheetInfo.getSheetName());
+            readSheet.setHidden(sheetInfo.isSheetHidden());
+            readSheet.setVeryHidden(sheetInfo.isSheetVeryHidden());
             sheetList.add(readSheet);
-            sheetMap.put(index, inputStream);
+            sheetMap.put(index, sheetPart.getInputStream());
+            // The zip entry name has no leading slash
+            sheetPartNameMap.put(index, sheetPart.getPartName().getName().substring(1));
+            if (this.sharedStringsTablePackagePart != null) {
+                sheetPartMap.put(index, sheetPart);
+            }
             if (xlsxReadContext.readWorkbookHolder().getExtraReadSet().contains(CellExtraTypeEnum.COMMENT)) {
-                Comments comments = ite.getSheetComments();
-                if (comments instanceof CommentsTable) {
-                    commentsTableMap.put(index, (CommentsTable) comments);
+                CommentsTable commentsTable = commentsTable(sheetPart);
+                if (commentsTable != null) {
+                    commentsTableMap.put(index, commentsTable);
                 }
             }
             if (xlsxReadContext.readWorkbookHolder().getExtraReadSet().contains(CellExtraTypeEnum.HYPERLINK)) {
-                PackageRelationshipCollection packageRelationshipCollection = Optional.ofNullable(ite.getSheetPart())
+                PackageRelationshipCollection packageRelationshipCollection = Optional.of(sheetPart)
                         .map(packagePart -> {
                             try {
                                 return packagePart.getRelationships();
@@ -173,11 +223,64 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
             }
             index++;
         }
+        if (!hasSheet) {
+            throw new ExcelAnalysisException("Can not find any sheet!");
+        }
+    }
+
+    /**
+     * The part of a worksheet or a chartsheet, like POI's sheet iterator.
+     *
+     * @param workbookPart
+     * @param relationshipId id of the relationship of the sheet in `workbook.xml`
+     * @return null when the relationship is not a sheet
+     */
+    private static PackagePart sheetPart(PackagePart workbookPart, String relationshipId)
+            throws InvalidFormatException {
+        if (relationshipId == null) {
+            return null;
+        }
+        PackageRelationship relationship = workbookPart.getRelationship(relationshipId);
+        if (relationship == null || !SHEET_RELATIONSHIP_TYPES.contains(relationship.getRelationshipType())) {
+            return null;
+        }
+        return workbookPart.getRelatedPart(relationship);
     }
 
+    /**
+     * The comments of a sheet, like {@link XSSFReader.SheetIterator#getSheetComments()}.
+     */
+    private static CommentsTable commentsTable(PackagePart sheetPart) {
+        try {
+            PackageRelationshipCollection commentsList =
+                    sheetPart.getRelationshipsByType(XSSFRelation.SHEET_COMMENTS.getRelation());
+            if (commentsList.isEmpty()) {
+                return null;
+            }
+            PackagePartName commentsName = PackagingURIHelper.createPartName(
+                    commentsList.getRelationship(0).getTargetURI());
+            PackagePart commentsPart = sheetPart.getPackage().getPart(commentsName);
+            return commentsPart == null ? null : new CommentsTable(commentsPart);
+        } catch (InvalidFormatException | IOException e) {
+            log.warn("Reading the comments failed", e);
+            return null;
+        }
+    }
+
+    /**
+     * Only the number formats are read with sax, the whole POI `StylesTable` takes seconds to load for the workbooks
+     * with tens of thousands of styles.
+     */
     private void setStylesTable(XlsxReadWorkbookHolder xlsxReadWorkbookHolder, XSSFReader xssfReader) {
         try {
-            xlsxReadWorkbookHolder.setStylesTable(xssfReader.getStylesTable());
+            InputStream stylesInputStream = xssfReader.getStylesData();
+            if (stylesInputStream == null) {
+                return;
+            }
+            XlsxStyles xlsxStyles = new XlsxStyles();
+            xlsxPartParser.parseXmlSource(stylesInputStream, new StylesTableHandler(xlsxStyles));
+            xlsxStyles.finish(xlsxReadWorkbookHolder.globalConfiguration().getLocale());
+            xlsxReadWorkbookHolder.setXlsxStyles(xlsxStyles);
         } catch (Exception e) {
             log.warn(
                     "Currently excel cannot get style information, but it doesn't affect the data analysis.You can try to"
@@ -193,40 +296,95 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
         readCache.init(xlsxReadContext);
     }
 
-    private void analysisUse1904WindowDate(XSSFReader xssfReader, XlsxReadWorkbookHolder xlsxReadWorkbookHolder)
-            throws Exception {
-        if (xlsxReadWorkbookHolder.getReadWorkbook().getUse1904windowing() != null) {
-            return;
+    /**
+     * A cache given by the user cannot be created again, so the strings are only loaded lazily with a selector.
+     */
+    private boolean onlyReferencedSharedStrings(XlsxReadWorkbookHolder xlsxReadWorkbookHolder) {
+        return Boolean.TRUE.equals(xlsxReadWorkbookHolder.getOnlyReferencedSharedStrings())
+                && !(xlsxReadWorkbookHolder.getReadCacheSelector() instanceof EternalReadCacheSelector);
+    }
+
+    /**
+     * Scan the sheets to read for the shared strings they use, and load those into a new cache when the current one
+     * misses some of them. A sheet that cannot be scanned loads the whole table.
+     *
+     * @param readSheetList sheets to read
+     */
+    private void loadReferencedSharedStrings(List<ReadSheet> readSheetList) {
+        BitSet sharedStringIndexes = new BitSet();
+        for (ReadSheet readSheet : readSheetList) {
+            if (!collectSharedStringIndexes(sheetPartMap.get(readSheet.getSheetNo()), sharedStringIndexes)) {
+                sharedStringIndexes = null;
+                break;
+            }
+        }
+        XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        if (loadedSharedStringIndexes != null) {
+            if (sharedStringIndexes != null) {
+                BitSet missingIndexes = (BitSet) sharedStringIndexes.clone();
+                missingIndexes.andNot(loadedSharedStringIndexes);
+                if (missingIndexes.isEmpty()) {
+                    return;
+                }
+                sharedStringIndexes.or(loadedSharedStringIndexes);
+            }
+            xlsxReadWorkbookHolder.getReadCache().destroy();
+        }
+        ReadCache readCache = xlsxReadWorkbookHolder.getReadCacheSelector().readCache(sharedStringsTablePackagePart);
+        if (sharedStringIndexes != null) {
+            readCache = new SparseReadCache(readCache, sharedStringIndexes);
         }
-        InputStream workbookXml = xssfReader.getWorkbookData();
-        WorkbookDocument ctWorkbook = WorkbookDocument.Factory.parse(workbookXml);
-        CTWorkbook wb = ctWorkbook.getWorkbook();
-        CTWorkbookPr prefix = wb.getWorkbookPr();
-        if (prefix != null && prefix.getDate1904()) {
-            xlsxReadWorkbookHolder.getGlobalConfiguration().setUse1904windowing(Boolean.TRUE);
-        } else {
-            xlsxReadWorkbookHolder.getGlobalConfiguration().setUse1904windowing(Boolean.FALSE);
+        xlsxReadWorkbookHolder.setReadCache(readCache);
+        readCache.init(xlsxReadContext);
+        try {
+            analysisSharedStringsTable(sharedStringsTablePackagePart.getInputStream(), xlsxReadWorkbookHolder);
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+        if (sharedStringIndexes == null) {
+            // Everything is loaded, nothing left to do for the next reads
+            sharedStringsTablePackagePart = null;
+        }
+        loadedSharedStringIndexes = sharedStringIndexes;
+    }
+
+    /**
+     * @return false if the sheet cannot be scanned
+     */
+    private boolean collectSharedStringIndexes(PackagePart sheetPart, BitSet sharedStringIndexes) {
+        if (sheetPart == null) {
+            return false;
+        }
+        try (InputStream inputStream = sheetPart.getInputStream()) {
+            XlsxSheetTokenizer xlsxSheetTokenizer = new XlsxSheetTokenizer(inputStream);
+            if (!xlsxSheetTokenizer.supported()) {
+                return false;
+            }
+            xlsxSheetTokenizer.collectSharedStringIndexes(sharedStringIndexes);
+            return true;
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
         }
     }
 
     private void analysisSharedStringsTable(
             InputStream sharedStringsTableInputStream, XlsxReadWorkbookHolder xlsxReadWorkbookHolder) {
         ContentHandler handler = new SharedStringsTableHandler(xlsxReadWorkbookHolder.getReadCache());
-        parseXmlSource(sharedStringsTableInputStream, handler);
+        xlsxPartParser.parseXmlSource(sharedStringsTableInputStream, handler);
         xlsxReadWorkbookHolder.getReadCache().putFinished();
     }
 
-    private void analysisCtSheetMap(XSSFReader xssfReader, XlsxReadWorkbookHolder xlsxReadWorkbookHolder)
+    /**
+     * `workbook.xml` is read once with sax, instead of twice with XMLBeans.
+     */
+    private WorkbookHandler analysisWorkbook(XSSFReader xssfReader, XlsxReadWorkbookHolder xlsxReadWorkbookHolder)
             throws Exception {
-        CTWorkbook wb =
-                WorkbookDocument.Factory.parse(xssfReader.getWorkbookData()).getWorkbook();
-        for (CTSheet ctSheet : wb.getSheets().getSheetList()) {
-            boolean isHidden =
-                    (ctSheet.getState() == STSheetState.HIDDEN) || (ctSheet.getState() == STSheetState.VERY_HIDDEN);
-            if (Boolean.FALSE.equals(xlsxReadWorkbookHolder.getIgnoreHiddenSheet()) || !isHidden) {
-                ctSheetMap.put(ctSheet.getName(), ctSheet);
-            }
+        WorkbookHandler workbookHandler = new WorkbookHandler();
+        xlsxPartParser.parseXmlSource(xssfReader.getWorkbookData(), workbookHandler);
+        if (xlsxReadWorkbookHolder.getReadWorkbook().getUse1904windowing() == null) {
+            xlsxReadWorkbookHolder.getGlobalConfiguration().setUse1904windowing(workbookHandler.isDate1904());
         }
+        return workbookHandler;
     }
 
     private OPCPackage readOpcPackage(XlsxReadWorkbookHolder xlsxReadWorkbookHolder, InputStream decryptedStream)
@@ -242,15 +400,31 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
                     return OPCPackage.open(xlsxReadWorkbookHolder.getInputStream());
                 }
             }
-            File readTempFile = FileUtils.createCacheTmpFile();
-            xlsxReadWorkbookHolder.setTempFile(readTempFile);
-            File tempFile = new File(readTempFile.getPath(), UUID.randomUUID() + ".xlsx");
+            InputStream inputStream;
+            boolean closeInputStream;
             if (decryptedStream != null) {
-                FileUtils.writeToFile(tempFile, decryptedStream, false);
+                inputStream = decryptedStream;
+                closeInputStream = false;
             } else {
-                FileUtils.writeToFile(
-                        tempFile, xlsxReadWorkbookHolder.getInputStream(), xlsxReadWorkbookHolder.getAutoCloseStream());
+                inputStream = xlsxReadWorkbookHolder.getInputStream();
+                closeInputStream = xlsxReadWorkbookHolder.getAutoCloseStream();
             }
+            // Small files are opened in memory, the temp file costs more than the whole read
+            int inMemorySize = Math.min(xlsxReadWorkbookHolder.getInMemorySize(), Integer.MAX_VALUE - 16);
+            if (inMemorySize > 0) {
+                byte[] head = readHead(inputStream, inMemorySize + 1);
+                if (head.length <= inMemorySize) {
+                    if (closeInputStream) {
+                        inputStream.close();
+                    }
+                    return OPCPackage.open(new ByteArrayInputStream(head));
+                }
+                inputStream = new SequenceInputStream(new ByteArrayInputStream(head), inputStream);
+            }
+            File readTempFile = FileUtils.createCacheTmpFile();
+            xlsxReadWorkbookHolder.setTempFile(readTempFile);
+            File tempFile = new File(readTempFile.getPath(), UUID.randomUUID() + ".xlsx");
+            FileUtils.writeToFile(tempFile, inputStream, closeInputStream);
             return OPCPackage.open(tempFile, PackageAccess.READ);
         } catch (NotOfficeXmlFileException | InvalidFormatException e) {
             // Wrap as a common, expected format error for callers/tests to handle gracefully
@@ -258,75 +432,147 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
         }
     }
 
+    /**
+     * Read at most {@code maxSize} bytes, fewer when the stream ends before.
+     */
+    private static byte[] readHead(InputStream inputStream, int maxSize) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.min(maxSize, 64 * 1024));
+        byte[] buffer = new byte[8192];
+        int read;
+        while (outputStream.size() < maxSize
+                && (read = inputStream.read(buffer, 0, Math.min(buffer.length, maxSize - outputStream.size())))
+                        != IoUtils.EOF) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
     @Override
     public List<ReadSheet> sheetList() {
         return sheetList;
     }
 
-    private void parseXmlSource(InputStream inputStream, ContentHandler handler) {
-        InputSource inputSource = new InputSource(inputStream);
-        try {
-            SAXParserFactory saxFactory;
-            String xlsxSAXParserFactoryName =
-                    xlsxReadContext.xlsxReadWorkbookHolder().getSaxParserFactoryName();
-            if (StringUtils.isEmpty(xlsxSAXParserFactoryName)) {
-                saxFactory = SAXParserFactory.newInstance();
-            } else {
-                saxFactory = SAXParserFactory.newInstance(xlsxSAXParserFactoryName, null);
+    @Override
+    public void execute() {
+        List<ReadSheet> readSheetList = new ArrayList<>();
+        for (ReadSheet readSheet : sheetList) {
+            readSheet = SheetUtils.match(readSheet, xlsxReadContext);
+            if (readSheet != null) {
+                readSheetList.add(readSheet);
             }
-            try {
-                saxFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-            } catch (Throwable ignore) {
+        }
+        if (sharedStringsTablePackagePart != null) {
+            loadReferencedSharedStrings(readSheetList);
+        }
+        if (xlsxReadContext.xlsxReadWorkbookHolder().getParallelSheets() > 1) {
+            executeParallel(xlsxReadContext.xlsxReadWorkbookHolder().getParallelSheets(), readSheetList);
+            return;
+        }
+        for (ReadSheet readSheet : readSheetList) {
+            xlsxReadContext.currentSheet(readSheet);
+            readSheet(xlsxReadContext, readSheet);
+        }
+    }
+
+    /**
+     * Parse the selected sheets concurrently. Each sheet gets its own context sharing the workbook holder, so the
+     * sheet and row state never leaks between threads.
+     *
+     * @param parallelSheets maximum number of sheets parsed at the same time
+     * @param readSheetList sheets to read
+     */
+    private void executeParallel(int parallelSheets, List<ReadSheet> readSheetList) {
+        List<XlsxReadContext> sheetContextList = new ArrayList<>();
+        for (ReadSheet readSheet : readSheetList) {
+            XlsxReadContext sheetContext = new DefaultXlsxReadContext(xlsxReadContext.xlsxReadWorkbookHolder());
+            sheetContext.currentSheet(readSheet);
+            sheetContextList.add(sheetContext);
+        }
+        if (sheetContextList.size() <= 1) {
+            for (int i = 0; i < sheetContextList.size(); i++) {
+                readSheet(sheetContextList.get(i), readSheetList.get(i));
             }
-            try {
-                saxFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-            } catch (Throwable ignore) {
+            return;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(
+                Math.min(parallelSheets, sheetContextList.size()),
+                ThreadUtils.daemonThreadFactory("fesod-sheet-reader-"));
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        List<Future<?>> futureList = new ArrayList<>();
+        try {
+            for (int i = 0; i < sheetContextList.size(); i++) {
+                XlsxReadContext sheetContext = sheetContextList.get(i);
+                ReadSheet readSheet = readSheetList.get(i);
+                futureList.add(executorService.submit(() -> {
+                    // Once a sheet has failed or asked to stop, sheets that have not started yet are skipped
+                    if (failure.get() != null) {
+                        return;
+                    }
+                    try {
+                        readSheet(sheetContext, readSheet);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        ThreadUtils.removeThreadLocalCache();
+                    }
+                }));
             }
-            try {
-                saxFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-            } catch (Throwable ignore) {
+            for (Future<?> future : futureList) {
+                future.get();
             }
-            SAXParser saxParser = saxFactory.newSAXParser();
-            XMLReader xmlReader = saxParser.getXMLReader();
-            xmlReader.setContentHandler(handler);
-            xmlReader.parse(inputSource);
-            inputStream.close();
-        } catch (IOException | ParserConfigurationException | SAXException e) {
-            throw new ExcelAnalysisException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelAnalysisException("Interrupted while waiting for the sheets to be read", e);
+        } catch (ExecutionException e) {
+            throw new ExcelAnalysisException(e.getCause());
         } finally {
-            if (inputStream != null) {
-                try {
-                    inputStream.close();
-                } catch (IOException e) {
-                    throw new ExcelAnalysisException("Can not close 'inputStream'!");
-                }
-            }
+            executorService.shutdownNow();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
         }
     }
 
-    @Override
-    public void execute() {
-        for (ReadSheet readSheet : sheetList) {
-            readSheet = SheetUtils.match(readSheet, xlsxReadContext);
-            if (readSheet != null) {
-                try {
-                    xlsxReadContext.currentSheet(readSheet);
-                    parseXmlSource(sheetMap.get(readSheet.getSheetNo()), new XlsxRowHandler(xlsxReadContext));
-                    // Read comments
-                    readComments(readSheet);
-                } catch (ExcelAnalysisStopSheetException e) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Custom stop!", e);
-                    }
-                }
-                // The last sheet is read
-                xlsxReadContext.analysisEventProcessor().endSheet(xlsxReadContext);
+    private void readSheet(XlsxReadContext sheetContext, ReadSheet readSheet) {
+        try {
+            xlsxPartParser.parseSheet(sheetContext, sheetInputStream(sheetContext, readSheet));
+            // Read comments
+            readComments(sheetContext, readSheet);
+        } catch (ExcelAnalysisStopSheetException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Custom stop!", e);
             }
         }
+        // The last sheet is read
+        sheetContext.analysisEventProcessor().endSheet(sheetContext);
     }
 
-    private void readComments(ReadSheet readSheet) {
-        if (!xlsxReadContext.readWorkbookHolder().getExtraReadSet().contains(CellExtraTypeEnum.COMMENT)) {
+    /**
+     * The sheet part, or the copy of the index of the sheet when there is one.
+     */
+    private InputStream sheetInputStream(XlsxReadContext sheetContext, ReadSheet readSheet) {
+        InputStream inputStream = sheetMap.get(readSheet.getSheetNo());
+        SheetRowIndex sheetRowIndex = readSheet.getSheetRowIndex();
+        if (sheetRowIndex == null) {
+            return inputStream;
+        }
+        // The sheetNo of the index counts the hidden sheets, the one of the sheet read may not
+        String sheetPartName = sheetPartNameMap.get(readSheet.getSheetNo());
+        if (!sheetPartName.equals(sheetRowIndex.getPartName())) {
+            throw new ExcelAnalysisException("The row index is of " + sheetRowIndex.getPartName() + ", not of "
+                    + sheetPartName + " of sheet " + readSheet.getSheetNo());
+        }
+        try {
+            inputStream.close();
+            return sheetRowIndex.openSheet(sheetContext.readSheetHolder().getHeadRowNumber(), readSheet.getStartRow());
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+    }
+
+    private void readComments(XlsxReadContext sheetContext, ReadSheet readSheet) {
+        if (!sheetContext.readWorkbookHolder().getExtraReadSet().contains(CellExtraTypeEnum.COMMENT)) {
             return;
         }
         CommentsTable commentsTable = commentsTableMap.get(readSheet.getSheetNo());
@@ -342,8 +588,21 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
                     cellComment.getString().toString(),
                     cellAddress.getRow(),
                     cellAddress.getColumn());
-            xlsxReadContext.readSheetHolder().setCellExtra(cellExtra);
-            xlsxReadContext.analysisEventProcessor().extra(xlsxReadContext);
+            sheetContext.readSheetHolder().setCellExtra(cellExtra);
+            sheetContext.analysisEventProcessor().extra(sheetContext);
+        }
+    }
+
+    /**
+     * Gives access to the workbook part found by POI.
+     */
+    private static class WorkbookReader extends XSSFReader {
+        private WorkbookReader(OPCPackage pkg) throws IOException, OpenXML4JException {
+            super(pkg);
+        }
+
+        private PackagePart getWorkbookPart() {
+            return workbookPart;
         }
     }
 }
@@ -0,0 +1,575 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.v07;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.fesod.excel.analysis.ExcelReadExecutor;
+import org.apache.fesod.excel.analysis.v07.handlers.sax.RelationshipHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.sax.SharedStringsTableHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.sax.StylesTableHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.sax.WorkbookHandler;
+import org.apache.fesod.excel.cache.ReadCache;
+import org.apache.fesod.excel.context.xlsx.XlsxReadContext;
+import org.apache.fesod.excel.enums.CellExtraTypeEnum;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.exception.ExcelAnalysisStopSheetException;
+import org.apache.fesod.excel.exception.ExcelCommonException;
+import org.apache.fesod.excel.read.metadata.ReadSheet;
+import org.apache.fesod.excel.read.metadata.SheetInfo;
+import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxReadWorkbookHolder;
+import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxStyles;
+import org.apache.fesod.excel.util.FileUtils;
+import org.apache.fesod.excel.util.MapUtils;
+import org.apache.fesod.excel.util.SheetUtils;
+import org.apache.poi.openxml4j.util.ZipSecureFile;
+
+/**
+ * Read a xlsx file as a zip stream, the entries are read once in the order they arrive.
+ * <p>
+ * The shared strings and the styles are loaded when they arrive. A sheet is read directly from the stream when they
+ * are already loaded, otherwise it is copied to a temp file and read as soon as they are. The entries that arrive
+ * before it is known what they are, because the relationships have not been read yet, are copied as well.
+ *
+ */
+@Slf4j
+public class XlsxStreamingAnalyser implements ExcelReadExecutor {
+    private static final String ROOT_RELATIONSHIPS = "_rels/.rels";
+    private static final String DEFAULT_WORKBOOK = "xl/workbook.xml";
+    private static final String SHARED_STRINGS_TYPE_SUFFIX = "/sharedStrings";
+    private static final String STYLES_TYPE_SUFFIX = "/styles";
+
+    private final XlsxReadContext xlsxReadContext;
+    private final XlsxPartParser xlsxPartParser;
+    private final ZipArchiveInputStream zipInputStream;
+    /**
+     * The compressed bytes read from the input, to check the inflate ratio of the entries
+     */
+    private final CountingInputStream countingInputStream;
+    /**
+     * Entries copied before it was known what they are, in the order of the stream. key: entry name
+     */
+    private final Map<String, File> spooledEntryMap = new LinkedHashMap<>();
+    /**
+     * Sheets copied until the shared strings and the styles are loaded, in the order of the stream. key: entry name
+     */
+    private final Map<String, File> spooledSheetMap = new LinkedHashMap<>();
+    /**
+     * Sheets that have been skipped in the stream, they cannot be read anymore
+     */
+    private final Set<String> passedSheetSet = new HashSet<>();
+
+    private String workbookPath;
+    private WorkbookHandler workbookHandler;
+    private RelationshipHandler workbookRelationshipHandler;
+    private String sharedStringsPath;
+    private String stylesPath;
+    private boolean sharedStringsLoaded;
+    private boolean stylesLoaded;
+    private boolean streamEnded;
+    private boolean hasEntry;
+    /**
+     * Created when the first entry is copied
+     */
+    private File spoolDirectory;
+
+    private List<ReadSheet> sheetList;
+    /**
+     * key: entry name of the sheet
+     */
+    private Map<String, ReadSheet> sheetPathMap;
+    /**
+     * Sheets to read in the current call of {@link #execute()}. key: entry name of the sheet
+     */
+    private Map<String, ReadSheet> readSheetMap;
+
+    public XlsxStreamingAnalyser(XlsxReadContext xlsxReadContext) throws IOException {
+        this.xlsxReadContext = xlsxReadContext;
+        XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        xlsxPartParser = new XlsxPartParser(xlsxReadWorkbookHolder.getSaxParserFactoryName());
+        xlsxReadWorkbookHolder.setPackageRelationshipCollectionMap(MapUtils.newHashMap());
+        if (xlsxReadWorkbookHolder.getExtraReadSet().contains(CellExtraTypeEnum.COMMENT)) {
+            log.warn("The comments are not read when the xlsx file is read as a zip stream.");
+        }
+        // Stored entries with a data descriptor are allowed, like the package reader of POI
+        countingInputStream = new CountingInputStream(xlsxReadWorkbookHolder.getInputStream());
+        zipInputStream =
+                new ZipArchiveInputStream(countingInputStream, StandardCharsets.UTF_8.name(), true, true);
+        // The sheets are known once the workbook and its relationships have arrived
+        while (sheetList == null && nextEntry()) {}
+        if (sheetList == null) {
+            if (!hasEntry) {
+                throw new ExcelCommonException("Invalid OOXML/zip format: no entry found");
+            }
+            throw new ExcelAnalysisException("Can not find any sheet!");
+        }
+    }
+
+    @Override
+    public List<ReadSheet> sheetList() {
+        return sheetList;
+    }
+
+    @Override
+    public void execute() {
+        readSheetMap = new LinkedHashMap<>();
+        for (Map.Entry<String, ReadSheet> entry : sheetPathMap.entrySet()) {
+            ReadSheet readSheet = SheetUtils.match(entry.getValue(), xlsxReadContext);
+            if (readSheet == null) {
+                continue;
+            }
+            if (passedSheetSet.contains(entry.getKey())) {
+                throw new ExcelAnalysisException("The sheet " + readSheet.getSheetNo() + " has already been passed in "
+                        + "the stream, read all the sheets in a single call when 'xlsxStreaming' is set.");
+            }
+            readSheetMap.put(entry.getKey(), readSheet);
+        }
+        readSpooledSheets();
+        try {
+            while (!readSheetMap.isEmpty() && nextEntry()) {}
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+        // Whatever is still missing will not come anymore
+        readSpooledSheets();
+    }
+
+    /**
+     * Handle the next entry of the stream.
+     *
+     * @return false at the end of the stream
+     */
+    private boolean nextEntry() throws IOException {
+        if (streamEnded) {
+            return false;
+        }
+        ZipArchiveEntry zipEntry = zipInputStream.getNextEntry();
+        if (zipEntry == null) {
+            streamEnded = true;
+            if (workbookPath == null && !spooledEntryMap.isEmpty()) {
+                // No root relationships, the workbook can only be at the default place
+                workbookPath = DEFAULT_WORKBOOK;
+                handleSpooledEntries();
+            }
+            for (File file : spooledEntryMap.values()) {
+                FileUtils.delete(file);
+            }
+            spooledEntryMap.clear();
+            return false;
+        }
+        hasEntry = true;
+        if (zipEntry.isDirectory()) {
+            return true;
+        }
+        String name = zipEntry.getName();
+        if (name.startsWith("/")) {
+            name = name.substring(1);
+        }
+        handleEntry(
+                name, new EntryInputStream(zipInputStream, countingInputStream, name), zipEntry.getSize());
+        return true;
+    }
+
+    private void handleEntry(String name, InputStream inputStream, long size) throws IOException {
+        if (ROOT_RELATIONSHIPS.equals(name)) {
+            RelationshipHandler relationshipHandler = new RelationshipHandler("");
+            xlsxPartParser.parseXmlSource(inputStream, relationshipHandler);
+            workbookPath = relationshipHandler.getOfficeDocumentPath() == null
+                    ? DEFAULT_WORKBOOK
+                    : relationshipHandler.getOfficeDocumentPath();
+            handleSpooledEntries();
+            return;
+        }
+        switch (entryType(name)) {
+            case WORKBOOK:
+                workbookHandler = new WorkbookHandler();
+                xlsxPartParser.parseXmlSource(inputStream, workbookHandler);
+                initSheetList();
+                handleSpooledEntries();
+                break;
+            case WORKBOOK_RELATIONSHIPS:
+                workbookRelationshipHandler = new RelationshipHandler(RelationshipHandler.directory(workbookPath));
+                xlsxPartParser.parseXmlSource(inputStream, workbookRelationshipHandler);
+                for (Map.Entry<String, String> entry :
+                        workbookRelationshipHandler.getTypeMap().entrySet()) {
+                    if (entry.getValue().endsWith(SHARED_STRINGS_TYPE_SUFFIX)) {
+                        sharedStringsPath = entry.getKey();
+                    } else if (entry.getValue().endsWith(STYLES_TYPE_SUFFIX)) {
+                        stylesPath = entry.getKey();
+                    }
+                }
+                initSheetList();
+                handleSpooledEntries();
+                break;
+            case SHARED_STRINGS:
+                loadSharedStrings(inputStream, size);
+                readSpooledSheets();
+                break;
+            case STYLES:
+                loadStyles(inputStream);
+                readSpooledSheets();
+                break;
+            case SHEET:
+                handleSheet(name, inputStream);
+                break;
+            case UNKNOWN:
+                spooledEntryMap.put(name, spool(inputStream));
+                break;
+            default:
+                // Not needed to read the data
+        }
+    }
+
+    private EntryType entryType(String name) {
+        if (workbookPath == null) {
+            return EntryType.UNKNOWN;
+        }
+        if (workbookPath.equals(name)) {
+            return EntryType.WORKBOOK;
+        }
+        if (RelationshipHandler.relationshipsPath(workbookPath).equals(name)) {
+            return EntryType.WORKBOOK_RELATIONSHIPS;
+        }
+        if (workbookRelationshipHandler == null || workbookHandler == null) {
+            return EntryType.UNKNOWN;
+        }
+        if (name.equals(sharedStringsPath)) {
+            return EntryType.SHARED_STRINGS;
+        }
+        if (name.equals(stylesPath)) {
+            return EntryType.STYLES;
+        }
+        if (sheetPathMap.containsKey(name)) {
+            return EntryType.SHEET;
+        }
+        return EntryType.IGNORED;
+    }
+
+    /**
+     * Handle the copied entries whose type is known now.
+     */
+    private void handleSpooledEntries() throws IOException {
+        Iterator<Map.Entry<String, File>> iterator = spooledEntryMap.entrySet().iterator();
+        List<Map.Entry<String, File>> knownEntryList = new ArrayList<>();
+        while (iterator.hasNext()) {
+            Map.Entry<String, File> entry = iterator.next();
+            if (entryType(entry.getKey()) != EntryType.UNKNOWN) {
+                knownEntryList.add(entry);
+                iterator.remove();
+            }
+        }
+        for (Map.Entry<String, File> entry : knownEntryList) {
+            File file = entry.getValue();
+            if (entryType(entry.getKey()) == EntryType.SHEET) {
+                // Already copied, it waits with the other sheets
+                spooledSheetMap.put(entry.getKey(), file);
+                continue;
+            }
+            try (InputStream inputStream = new FileInputStream(file)) {
+                handleEntry(entry.getKey(), inputStream, file.length());
+            } finally {
+                FileUtils.delete(file);
+            }
+        }
+    }
+
+    private void initSheetList() {
+        if (workbookHandler == null || workbookRelationshipHandler == null) {
+            return;
+        }
+        XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        if (xlsxReadWorkbookHolder.getReadWorkbook().getUse1904windowing() == null) {
+            xlsxReadWorkbookHolder.getGlobalConfiguration().setUse1904windowing(workbookHandler.isDate1904());
+        }
+        sheetList = new ArrayList<>();
+        sheetPathMap = new LinkedHashMap<>();
+        Map<String, String> targetMap = workbookRelationshipHandler.getTargetMap();
+        int index = 0;
+        for (int i = 0; i < workbookHandler.getSheetList().size(); i++) {
+            SheetInfo sheetInfo = workbookHandler.getSheetList().get(i);
+            String sheetPath = targetMap.get(workbookHandler.getRelationshipIdList().get(i));
+            boolean isHidden = sheetInfo.isSheetHidden() || sheetInfo.isSheetVeryHidden();
+            if (sheetPath == null
+                    || (!Boolean.FALSE.equals(xlsxReadWorkbookHolder.getIgnoreHiddenSheet()) && isHidden)) {
+                continue;
+            }
+            ReadSheet readSheet = new ReadSheet(index++, sheetInfo.getSheetName());
+            readSheet.setHidden(sheetInfo.isSheetHidden());
+            readSheet.setVeryHidden(sheetInfo.isSheetVeryHidden());
+            sheetList.add(readSheet);
+            sheetPathMap.put(sheetPath, readSheet);
+        }
+        if (sheetList.isEmpty()) {
+            throw new ExcelAnalysisException("Can not find any sheet!");
+        }
+    }
+
+    private void loadSharedStrings(InputStream inputStream, long size) {
+        XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        ReadCache readCache = xlsxReadWorkbookHolder.getReadCacheSelector().readCache(size);
+        xlsxReadWorkbookHolder.setReadCache(readCache);
+        readCache.init(xlsxReadContext);
+        xlsxPartParser.parseXmlSource(inputStream, new SharedStringsTableHandler(readCache));
+        readCache.putFinished();
+        sharedStringsLoaded = true;
+    }
+
+    private void loadStyles(InputStream inputStream) {
+        XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        try {
+            XlsxStyles xlsxStyles = new XlsxStyles();
+            xlsxPartParser.parseXmlSource(inputStream, new StylesTableHandler(xlsxStyles));
+            xlsxStyles.finish(xlsxReadWorkbookHolder.globalConfiguration().getLocale());
+            xlsxReadWorkbookHolder.setXlsxStyles(xlsxStyles);
+        } catch (Exception e) {
+            log.warn(
+                    "Currently excel cannot get style information, but it doesn't affect the data analysis.You can try"
+                            + " to save the file with office again or ignore the current error.",
+                    e);
+        }
+        stylesLoaded = true;
+    }
+
+    private void handleSheet(String name, InputStream inputStream) throws IOException {
+        if (readSheetMap == null) {
+            // The sheets to read are not known yet
+            spooledSheetMap.put(name, spool(inputStream));
+            return;
+        }
+        ReadSheet readSheet = readSheetMap.get(name);
+        if (readSheet == null) {
+            passedSheetSet.add(name);
+            return;
+        }
+        if (!spooledSheetMap.isEmpty() || !ready()) {
+            // Sheets are read in the order of the stream
+            spooledSheetMap.put(name, spool(inputStream));
+            return;
+        }
+        readSheet(name, readSheet, inputStream);
+    }
+
+    /**
+     * Read the copied sheets, once the shared strings and the styles are loaded or will not come anymore.
+     */
+    private void readSpooledSheets() {
+        if (readSheetMap == null || !ready()) {
+            return;
+        }
+        Iterator<Map.Entry<String, File>> iterator = spooledSheetMap.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, File> entry = iterator.next();
+            iterator.remove();
+            File file = entry.getValue();
+            try {
+                ReadSheet readSheet = readSheetMap.get(entry.getKey());
+                if (readSheet == null) {
+                    passedSheetSet.add(entry.getKey());
+                    continue;
+                }
+                readSheet(entry.getKey(), readSheet, new FileInputStream(file));
+            } catch (IOException e) {
+                throw new ExcelAnalysisException(e);
+            } finally {
+                FileUtils.delete(file);
+            }
+        }
+    }
+
+    private boolean ready() {
+        if (streamEnded) {
+            return true;
+        }
+        return sheetList != null
+                && (sharedStringsPath == null || sharedStringsLoaded)
+                && (stylesPath == null || stylesLoaded);
+    }
+
+    private void readSheet(String name, ReadSheet readSheet, InputStream inputStream) {
+        readSheetMap.remove(name);
+        passedSheetSet.add(name);
+        xlsxReadContext.currentSheet(readSheet);
+        try {
+            xlsxPartParser.parseSheet(xlsxReadContext, inputStream);
+        } catch (ExcelAnalysisStopSheetException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Custom stop!", e);
+            }
+        }
+        // The last sheet is read
+        xlsxReadContext.analysisEventProcessor().endSheet(xlsxReadContext);
+    }
+
+    private File spool(InputStream inputStream) {
+        if (spoolDirectory == null) {
+            spoolDirectory = FileUtils.createCacheTmpFile();
+            xlsxReadContext.xlsxReadWorkbookHolder().setTempFile(spoolDirectory);
+        }
+        File file = new File(spoolDirectory, UUID.randomUUID() + ".xml");
+        FileUtils.writeToFile(file, inputStream, false);
+        return file;
+    }
+
+    private enum EntryType {
+        /**
+         * Cannot be known before the relationships are read
+         */
+        UNKNOWN,
+        WORKBOOK,
+        WORKBOOK_RELATIONSHIPS,
+        SHARED_STRINGS,
+        STYLES,
+        SHEET,
+        IGNORED
+    }
+
+    /**
+     * The current entry of the zip stream. Closing it does not close the stream.
+     * <p>
+     * Like the package reader of POI, an entry fails when it inflates more than {@link ZipSecureFile#getMaxEntrySize()}
+     * or more than allowed by {@link ZipSecureFile#getMinInflateRatio()}.
+     */
+    private static class EntryInputStream extends FilterInputStream {
+        /**
+         * Small entries are not checked against the ratio
+         */
+        private static final long GRACE_ENTRY_SIZE = 100 * 1024;
+
+        private final CountingInputStream countingInputStream;
+        /**
+         * The compressed bytes read before the entry. The zip stream reads ahead, so this is a little more than the
+         * start of the entry data.
+         */
+        private final long start;
+        private final String name;
+        private long uncompressedCount;
+
+        private EntryInputStream(
+                ZipArchiveInputStream zipInputStream, CountingInputStream countingInputStream, String name) {
+            super(zipInputStream);
+            this.countingInputStream = countingInputStream;
+            this.start = countingInputStream.count;
+            this.name = name;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                checkThreshold(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                checkThreshold(count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long count = super.skip(n);
+            if (count > 0) {
+                checkThreshold(count);
+            }
+            return count;
+        }
+
+        @Override
+        public void close() {}
+
+        private void checkThreshold(long count) throws IOException {
+            uncompressedCount += count;
+            if (uncompressedCount > ZipSecureFile.getMaxEntrySize()) {
+                throw new IOException("Zip bomb detected! The entry '" + name + "' exceeds the max entry size of "
+                        + ZipSecureFile.getMaxEntrySize()
+                        + " bytes. You can adjust this limit via ZipSecureFile.setMaxEntrySize().");
+            }
+            if (uncompressedCount <= GRACE_ENTRY_SIZE) {
+                return;
+            }
+            // The counts of the zip stream are wrong after an entry that has not been read
+            long compressedCount = countingInputStream.count - start;
+            double ratio = (double) compressedCount / uncompressedCount;
+            if (ratio < ZipSecureFile.getMinInflateRatio()) {
+                throw new IOException("Zip bomb detected! The entry '" + name + "' exceeds the max ratio of "
+                        + "compressed to expanded size. Uncompressed size: " + uncompressedCount
+                        + ", compressed size: " + compressedCount + ", ratio: " + ratio + ", limit: "
+                        + ZipSecureFile.getMinInflateRatio()
+                        + ". You can adjust this limit via ZipSecureFile.setMinInflateRatio().");
+            }
+        }
+    }
+
+    /**
+     * Count the bytes read from the input.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                this.count += count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long count = super.skip(n);
+            this.count += count;
+            return count;
+        }
+    }
+}
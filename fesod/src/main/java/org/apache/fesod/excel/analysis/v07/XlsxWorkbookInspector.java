@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.v07;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipException;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.fesod.excel.analysis.v07.handlers.sax.RelationshipHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.sax.WorkbookHandler;
+import org.apache.fesod.excel.constant.ExcelXmlConstants;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.exception.ExcelCommonException;
+import org.apache.fesod.excel.read.metadata.SheetInfo;
+import org.apache.fesod.excel.read.metadata.WorkbookInfo;
+import org.apache.fesod.excel.support.ExcelTypeEnum;
+import org.apache.fesod.excel.util.PositionUtils;
+import org.apache.poi.openxml4j.util.ZipSecureFile;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Read the sheets of a xlsx file without opening the package.
+ * <p>
+ * Only the zip directory, the relationships, {@code workbook.xml} and the beginning of each sheet up to its
+ * {@code <dimension>} are read. The shared strings, the styles and the rows are not read, so the time does not depend
+ * on the size of the file.
+ *
+ *
+ */
+public class XlsxWorkbookInspector {
+    private static final String ROOT_RELATIONSHIPS = "_rels/.rels";
+    private static final String DEFAULT_WORKBOOK = "xl/workbook.xml";
+    private static final String SHEET_DATA_TAG = "sheetData";
+
+    private XlsxWorkbookInspector() {}
+
+    public static WorkbookInfo inspect(File file) {
+        return inspect(file, null);
+    }
+
+    /**
+     * @param file
+     * @param saxParserFactoryName class name of the {@link javax.xml.parsers.SAXParserFactory}, the default one is
+     *                             used when empty
+     * @return
+     */
+    public static WorkbookInfo inspect(File file, String saxParserFactoryName) {
+        XlsxPartParser xlsxPartParser = new XlsxPartParser(saxParserFactoryName);
+        try (ZipSecureFile zipFile = new ZipSecureFile(file)) {
+            String workbookPath = workbookPath(zipFile, xlsxPartParser);
+            Map<String, String> sheetPathMap = relationships(zipFile, workbookPath, xlsxPartParser);
+            WorkbookHandler workbookHandler = new WorkbookHandler();
+            parse(zipFile, workbookPath, workbookHandler, xlsxPartParser);
+            List<SheetInfo> sheetList = workbookHandler.getSheetList();
+            for (int i = 0; i < sheetList.size(); i++) {
+                String sheetPath = sheetPathMap.get(workbookHandler.getRelationshipIdList().get(i));
+                if (sheetPath != null) {
+                    DimensionHandler dimensionHandler = new DimensionHandler(sheetList.get(i));
+                    parse(zipFile, sheetPath, dimensionHandler, xlsxPartParser);
+                }
+            }
+            return new WorkbookInfo(ExcelTypeEnum.XLSX, sheetList);
+        } catch (ZipException e) {
+            throw new ExcelCommonException("Invalid OOXML/zip format: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+    }
+
+    /**
+     * The names of the zip entries of the sheets, in the order of the workbook, hidden sheets included. Null when a
+     * sheet has no part.
+     *
+     * @param zipFile
+     * @param xlsxPartParser
+     * @return
+     * @throws IOException
+     */
+    public static List<String> sheetEntryNames(ZipSecureFile zipFile, XlsxPartParser xlsxPartParser)
+            throws IOException {
+        String workbookPath = workbookPath(zipFile, xlsxPartParser);
+        Map<String, String> sheetPathMap = relationships(zipFile, workbookPath, xlsxPartParser);
+        WorkbookHandler workbookHandler = new WorkbookHandler();
+        parse(zipFile, workbookPath, workbookHandler, xlsxPartParser);
+        List<String> sheetEntryNameList = new ArrayList<>(workbookHandler.getRelationshipIdList().size());
+        for (String relationshipId : workbookHandler.getRelationshipIdList()) {
+            sheetEntryNameList.add(sheetPathMap.get(relationshipId));
+        }
+        return sheetEntryNameList;
+    }
+
+    private static String workbookPath(ZipSecureFile zipFile, XlsxPartParser xlsxPartParser) throws IOException {
+        RelationshipHandler relationshipHandler = new RelationshipHandler("");
+        parse(zipFile, ROOT_RELATIONSHIPS, relationshipHandler, xlsxPartParser);
+        if (relationshipHandler.getOfficeDocumentPath() != null) {
+            return relationshipHandler.getOfficeDocumentPath();
+        }
+        return DEFAULT_WORKBOOK;
+    }
+
+    /**
+     * The parts the relationships of the workbook point to, by relationship id.
+     */
+    private static Map<String, String> relationships(
+            ZipSecureFile zipFile, String workbookPath, XlsxPartParser xlsxPartParser) throws IOException {
+        RelationshipHandler relationshipHandler =
+                new RelationshipHandler(RelationshipHandler.directory(workbookPath));
+        parse(zipFile, RelationshipHandler.relationshipsPath(workbookPath), relationshipHandler, xlsxPartParser);
+        return relationshipHandler.getTargetMap();
+    }
+
+    private static void parse(
+            ZipSecureFile zipFile, String path, DefaultHandler handler, XlsxPartParser xlsxPartParser)
+            throws IOException {
+        ZipArchiveEntry zipEntry = zipFile.getEntry(path);
+        if (zipEntry == null) {
+            return;
+        }
+        try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+            XMLReader xmlReader = xlsxPartParser.newSaxParser().getXMLReader();
+            xmlReader.setContentHandler(handler);
+            xmlReader.parse(new InputSource(inputStream));
+        } catch (StopParsingException e) {
+            // Everything needed has been read
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new ExcelAnalysisException(e);
+        }
+    }
+
+    /**
+     * Name of an element or attribute without its prefix.
+     */
+    private static String localName(String qName) {
+        return qName.substring(qName.indexOf(':') + 1);
+    }
+
+    private static class DimensionHandler extends DefaultHandler {
+        private final SheetInfo sheetInfo;
+
+        private DimensionHandler(SheetInfo sheetInfo) {
+            this.sheetInfo = sheetInfo;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes)
+                throws SAXException {
+            String name = localName(qName);
+            if (ExcelXmlConstants.DIMENSION_TAG.equals(name)) {
+                String ref = attributes.getValue(ExcelXmlConstants.ATTRIBUTE_REF);
+                if (ref != null) {
+                    String last = ref.substring(ref.indexOf(':') + 1);
+                    sheetInfo.setApproximateRowNumber(PositionUtils.getRow(last) + 1);
+                    sheetInfo.setApproximateColumnNumber(PositionUtils.getCol(last, null) + 1);
+                }
+                throw new StopParsingException();
+            }
+            if (SHEET_DATA_TAG.equals(name)) {
+                // The dimension comes before the rows, the sheet has none
+                throw new StopParsingException();
+            }
+        }
+    }
+
+    private static class StopParsingException extends SAXException {
+        private StopParsingException() {
+            super("Everything needed has been read");
+        }
+    }
+}
@@ -27,6 +27,11 @@ import org.apache.fesod.excel.context.xlsx.XlsxReadContext;
  */
 public abstract class AbstractCellValueTagHandler extends AbstractXlsxTagHandler {
 
+    @Override
+    public boolean support(XlsxReadContext xlsxReadContext) {
+        return !xlsxReadContext.xlsxReadSheetHolder().isSkippedRow();
+    }
+
     @Override
     public void characters(XlsxReadContext xlsxReadContext, char[] ch, int start, int length) {
         xlsxReadContext.xlsxReadSheetHolder().getTempData().append(ch, start, length);
@@ -30,6 +30,11 @@ import org.xml.sax.Attributes;
  */
 public class CellFormulaTagHandler extends AbstractXlsxTagHandler {
 
+    @Override
+    public boolean support(XlsxReadContext xlsxReadContext) {
+        return !xlsxReadContext.xlsxReadSheetHolder().isSkippedRow();
+    }
+
     @Override
     public void startElement(XlsxReadContext xlsxReadContext, String name, Attributes attributes) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
@@ -39,6 +44,9 @@ public class CellFormulaTagHandler extends AbstractXlsxTagHandler {
     @Override
     public void endElement(XlsxReadContext xlsxReadContext, String name) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
+        if (xlsxReadSheetHolder.getTempCellData() == null) {
+            return;
+        }
         FormulaData formulaData = new FormulaData();
         formulaData.setFormulaValue(xlsxReadSheetHolder.getTempFormula().toString());
         xlsxReadSheetHolder.getTempCellData().setFormulaData(formulaData);
@@ -19,15 +19,15 @@
 
 package org.apache.fesod.excel.analysis.v07.handlers;
 
-import java.math.BigDecimal;
 import org.apache.fesod.excel.constant.ExcelXmlConstants;
-import org.apache.fesod.excel.constant.FastExcelConstants;
 import org.apache.fesod.excel.context.xlsx.XlsxReadContext;
 import org.apache.fesod.excel.enums.CellDataTypeEnum;
 import org.apache.fesod.excel.metadata.GlobalConfiguration;
 import org.apache.fesod.excel.metadata.data.ReadCellData;
+import org.apache.fesod.excel.metadata.data.ReadRowBuffer;
 import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxReadSheetHolder;
 import org.apache.fesod.excel.util.BooleanUtils;
+import org.apache.fesod.excel.util.NumberUtils;
 import org.apache.fesod.excel.util.PositionUtils;
 import org.apache.fesod.excel.util.StringUtils;
 import org.xml.sax.Attributes;
@@ -38,14 +38,18 @@ import org.xml.sax.Attributes;
  */
 public class CellTagHandler extends AbstractXlsxTagHandler {
 
-    private static final int DEFAULT_FORMAT_INDEX = 0;
+    public static final int DEFAULT_FORMAT_INDEX = 0;
+
+    @Override
+    public boolean support(XlsxReadContext xlsxReadContext) {
+        return !xlsxReadContext.xlsxReadSheetHolder().isSkippedRow();
+    }
 
     @Override
     public void startElement(XlsxReadContext xlsxReadContext, String name, Attributes attributes) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
-        xlsxReadSheetHolder.setColumnIndex(PositionUtils.getCol(
-                attributes.getValue(ExcelXmlConstants.ATTRIBUTE_R), xlsxReadSheetHolder.getColumnIndex()));
-
+        int columnIndex = PositionUtils.getCol(
+                attributes.getValue(ExcelXmlConstants.ATTRIBUTE_R), xlsxReadSheetHolder.getColumnIndex());
         // t="s" ,it means String
         // t="str" ,it means String,but does not need to be read in the 'sharedStrings.xml'
         // t="inlineStr" ,it means String,but does not need to be read in the 'sharedStrings.xml'
@@ -54,9 +58,6 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
         // t="n" ,it means Number
         // t is null ,it means Empty or Number
         CellDataTypeEnum type = CellDataTypeEnum.buildFromCellType(attributes.getValue(ExcelXmlConstants.ATTRIBUTE_T));
-        xlsxReadSheetHolder.setTempCellData(new ReadCellData<>(type));
-        xlsxReadSheetHolder.setTempData(new StringBuilder());
-
         // Put in data transformation information
         String dateFormatIndex = attributes.getValue(ExcelXmlConstants.ATTRIBUTE_S);
         int dateFormatIndexInteger;
@@ -65,10 +66,44 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
         } else {
             dateFormatIndexInteger = Integer.parseInt(dateFormatIndex);
         }
+        startCell(xlsxReadContext, columnIndex, type, dateFormatIndexInteger);
+    }
 
+    /**
+     * Start a cell
+     *
+     * @param xlsxReadContext
+     * @param columnIndex     index of the column, starting from 0
+     * @param type            type from the 't' attribute
+     * @param dateFormatIndex style index from the 's' attribute
+     */
+    public void startCell(
+            XlsxReadContext xlsxReadContext, int columnIndex, CellDataTypeEnum type, int dateFormatIndex) {
+        XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
+        xlsxReadSheetHolder.setColumnIndex(columnIndex);
+        // The value is only kept until the end of the cell, so the buffer can be reused
+        StringBuilder tempData = xlsxReadSheetHolder.getTempData();
+        if (tempData == null) {
+            xlsxReadSheetHolder.setTempData(new StringBuilder());
+        } else {
+            tempData.setLength(0);
+        }
+        if (xlsxReadSheetHolder.isBufferedRow()) {
+            // The value goes straight into the row buffer at the end of the cell
+            xlsxReadSheetHolder.setTempCellData(null);
+            xlsxReadSheetHolder.setTempCellType(xlsxReadSheetHolder.includeColumn(columnIndex) ? type : null);
+            xlsxReadSheetHolder.setTempDataFormatIndex(dateFormatIndex);
+            return;
+        }
+        if (!xlsxReadSheetHolder.includeColumn(columnIndex)) {
+            // Not read, the value is only collected to know whether the row is empty
+            xlsxReadSheetHolder.setTempCellData(null);
+            return;
+        }
+        xlsxReadSheetHolder.setTempCellData(new ReadCellData<>(type));
         xlsxReadSheetHolder
                 .getTempCellData()
-                .setDataFormatData(xlsxReadContext.xlsxReadWorkbookHolder().dataFormatData(dateFormatIndexInteger));
+                .setDataFormatData(xlsxReadContext.xlsxReadWorkbookHolder().dataFormatData(dateFormatIndex));
     }
 
     @Override
@@ -76,25 +111,34 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
         ReadCellData<?> tempCellData = xlsxReadSheetHolder.getTempCellData();
         StringBuilder tempData = xlsxReadSheetHolder.getTempData();
-        String tempDataString = tempData.toString();
+        if (tempCellData == null) {
+            if (xlsxReadSheetHolder.isBufferedRow() && xlsxReadSheetHolder.getTempCellType() != null) {
+                endBufferedCell(xlsxReadContext, tempData);
+                return;
+            }
+            if (tempData.length() > 0) {
+                xlsxReadSheetHolder.setSkippedData(true);
+            }
+            return;
+        }
         CellDataTypeEnum oldType = tempCellData.getType();
         switch (oldType) {
             case STRING:
                 // In some cases, although cell type is a string, it may be an empty tag
-                if (StringUtils.isEmpty(tempDataString)) {
+                if (tempData.length() == 0) {
                     break;
                 }
                 String stringValue =
-                        xlsxReadContext.readWorkbookHolder().getReadCache().get(Integer.valueOf(tempDataString));
+                        xlsxReadContext.readWorkbookHolder().getReadCache().get(parseIndex(tempData));
                 tempCellData.setStringValue(stringValue);
                 break;
             case DIRECT_STRING:
             case ERROR:
-                tempCellData.setStringValue(tempDataString);
+                tempCellData.setStringValue(tempData.toString());
                 tempCellData.setType(CellDataTypeEnum.STRING);
                 break;
             case BOOLEAN:
-                if (StringUtils.isEmpty(tempDataString)) {
+                if (tempData.length() == 0) {
                     tempCellData.setType(CellDataTypeEnum.EMPTY);
                     break;
                 }
@@ -102,14 +146,13 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
                 break;
             case NUMBER:
             case EMPTY:
-                if (StringUtils.isEmpty(tempDataString)) {
+                if (tempData.length() == 0) {
                     tempCellData.setType(CellDataTypeEnum.EMPTY);
                     break;
                 }
+                // The BigDecimals are only built when a converter needs them
                 tempCellData.setType(CellDataTypeEnum.NUMBER);
-                tempCellData.setOriginalNumberValue(new BigDecimal(tempDataString));
-                tempCellData.setNumberValue(
-                        tempCellData.getOriginalNumberValue().round(FastExcelConstants.EXCEL_MATH_CONTEXT));
+                tempCellData.setOriginalNumberText(tempData.toString());
                 break;
             default:
                 throw new IllegalStateException("Cannot set values now");
@@ -130,4 +173,76 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
         tempCellData.setColumnIndex(xlsxReadSheetHolder.getColumnIndex());
         xlsxReadSheetHolder.getCellMap().put(xlsxReadSheetHolder.getColumnIndex(), tempCellData);
     }
+
+    /**
+     * Decode the value of the cell into the row buffer, the same way as a {@link ReadCellData}.
+     */
+    private void endBufferedCell(XlsxReadContext xlsxReadContext, StringBuilder tempData) {
+        XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
+        ReadRowBuffer readRowBuffer = xlsxReadSheetHolder.getReadRowBuffer();
+        int columnIndex = xlsxReadSheetHolder.getColumnIndex();
+        if (tempData.length() == 0) {
+            readRowBuffer.setEmpty(columnIndex);
+            return;
+        }
+        switch (xlsxReadSheetHolder.getTempCellType()) {
+            case STRING:
+                readRowBuffer.setString(
+                        columnIndex,
+                        strip(
+                                xlsxReadContext,
+                                xlsxReadContext.readWorkbookHolder().getReadCache().get(parseIndex(tempData))));
+                break;
+            case DIRECT_STRING:
+            case ERROR:
+                readRowBuffer.setString(columnIndex, strip(xlsxReadContext, tempData.toString()));
+                break;
+            case BOOLEAN:
+                readRowBuffer.setBoolean(columnIndex, tempData.length() == 1 && tempData.charAt(0) == '1');
+                break;
+            case NUMBER:
+            case EMPTY:
+                readRowBuffer.setNumber(
+                        columnIndex,
+                        NumberUtils.toDouble(tempData),
+                        xlsxReadContext
+                                .xlsxReadWorkbookHolder()
+                                .dataFormatData(xlsxReadSheetHolder.getTempDataFormatIndex()));
+                break;
+            default:
+                throw new IllegalStateException("Cannot set values now");
+        }
+    }
+
+    private static String strip(XlsxReadContext xlsxReadContext, String stringValue) {
+        if (stringValue == null) {
+            return null;
+        }
+        GlobalConfiguration globalConfiguration = xlsxReadContext.currentReadHolder().globalConfiguration();
+        if (globalConfiguration.getAutoStrip()) {
+            return StringUtils.strip(stringValue);
+        } else if (globalConfiguration.getAutoTrim()) {
+            return stringValue.trim();
+        }
+        return stringValue;
+    }
+
+    /**
+     * Parse the index of a shared string without building a String.
+     */
+    private static Integer parseIndex(StringBuilder tempData) {
+        int length = tempData.length();
+        if (length > 9) {
+            return Integer.valueOf(tempData.toString());
+        }
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = tempData.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.valueOf(tempData.toString());
+            }
+            index = index * 10 + digit;
+        }
+        return index;
+    }
 }
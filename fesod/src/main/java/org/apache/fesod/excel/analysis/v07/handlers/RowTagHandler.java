@@ -25,6 +25,7 @@ import org.apache.fesod.excel.constant.ExcelXmlConstants;
 import org.apache.fesod.excel.context.xlsx.XlsxReadContext;
 import org.apache.fesod.excel.enums.CellDataTypeEnum;
 import org.apache.fesod.excel.enums.RowTypeEnum;
+import org.apache.fesod.excel.exception.ExcelAnalysisStopSheetException;
 import org.apache.fesod.excel.metadata.Cell;
 import org.apache.fesod.excel.metadata.data.ReadCellData;
 import org.apache.fesod.excel.read.metadata.holder.ReadRowHolder;
@@ -41,10 +42,38 @@ public class RowTagHandler extends AbstractXlsxTagHandler {
     @Override
     public void startElement(XlsxReadContext xlsxReadContext, String name, Attributes attributes) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
-        int rowIndex = PositionUtils.getRowByRowTagt(
-                attributes.getValue(ExcelXmlConstants.ATTRIBUTE_R), xlsxReadSheetHolder.getRowIndex());
+        startRow(
+                xlsxReadContext,
+                PositionUtils.getRowByRowTagt(
+                        attributes.getValue(ExcelXmlConstants.ATTRIBUTE_R), xlsxReadSheetHolder.getRowIndex()));
+    }
+
+    /**
+     * Start a row, the rows skipped since the previous one are passed on as empty rows.
+     *
+     * @param xlsxReadContext
+     * @param rowIndex        index of the row, starting from 0
+     */
+    public void startRow(XlsxReadContext xlsxReadContext, int rowIndex) {
+        XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
         Integer lastRowIndex = xlsxReadContext.readSheetHolder().getRowIndex();
         while (lastRowIndex + 1 < rowIndex) {
+            if (xlsxReadSheetHolder.afterEndRow(lastRowIndex + 1)) {
+                throw new ExcelAnalysisStopSheetException();
+            }
+            if (xlsxReadSheetHolder.beforeStartRow(lastRowIndex + 1)) {
+                lastRowIndex++;
+                continue;
+            }
+            if (bufferRow(xlsxReadSheetHolder, lastRowIndex + 1)) {
+                xlsxReadSheetHolder.getReadRowBuffer().clear(lastRowIndex + 1);
+                xlsxReadContext.readRowHolder(
+                        xlsxReadSheetHolder.bufferedReadRowHolder(lastRowIndex + 1, RowTypeEnum.EMPTY));
+                xlsxReadContext.analysisEventProcessor().endRow(xlsxReadContext);
+                xlsxReadSheetHolder.setColumnIndex(null);
+                lastRowIndex++;
+                continue;
+            }
             xlsxReadContext.readRowHolder(new ReadRowHolder(
                     lastRowIndex + 1,
                     RowTypeEnum.EMPTY,
@@ -55,12 +84,39 @@ public class RowTagHandler extends AbstractXlsxTagHandler {
             xlsxReadSheetHolder.setCellMap(new LinkedHashMap<Integer, Cell>());
             lastRowIndex++;
         }
+        if (xlsxReadSheetHolder.afterEndRow(rowIndex)) {
+            throw new ExcelAnalysisStopSheetException();
+        }
         xlsxReadSheetHolder.setRowIndex(rowIndex);
+        // The cells of a skipped row are not handled at all, see `support`
+        xlsxReadSheetHolder.setSkippedRow(xlsxReadSheetHolder.beforeStartRow(rowIndex));
+        xlsxReadSheetHolder.setBufferedRow(
+                !xlsxReadSheetHolder.isSkippedRow() && bufferRow(xlsxReadSheetHolder, rowIndex));
+        if (xlsxReadSheetHolder.isBufferedRow()) {
+            xlsxReadSheetHolder.getReadRowBuffer().clear(rowIndex);
+        }
+    }
+
+    /**
+     * Whether the cells of the row are written into the row buffer, only data rows are. Head rows are always read
+     * into cells.
+     */
+    private static boolean bufferRow(XlsxReadSheetHolder xlsxReadSheetHolder, int rowIndex) {
+        return xlsxReadSheetHolder.isRowBufferMode() && rowIndex >= xlsxReadSheetHolder.getHeadRowNumber();
     }
 
     @Override
     public void endElement(XlsxReadContext xlsxReadContext, String name) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
+        if (xlsxReadSheetHolder.isSkippedRow()) {
+            xlsxReadSheetHolder.setSkippedRow(false);
+            xlsxReadSheetHolder.setColumnIndex(null);
+            return;
+        }
+        if (xlsxReadSheetHolder.isBufferedRow()) {
+            endBufferedRow(xlsxReadContext);
+            return;
+        }
         RowTypeEnum rowType = MapUtils.isEmpty(xlsxReadSheetHolder.getCellMap()) ? RowTypeEnum.EMPTY : RowTypeEnum.DATA;
         // It's possible that all of the cells in the row are empty
         if (rowType == RowTypeEnum.DATA) {
@@ -80,6 +136,11 @@ public class RowTagHandler extends AbstractXlsxTagHandler {
                 rowType = RowTypeEnum.EMPTY;
             }
         }
+        // The cells of columns that are not read still count
+        if (xlsxReadSheetHolder.isSkippedData()) {
+            rowType = RowTypeEnum.DATA;
+            xlsxReadSheetHolder.setSkippedData(false);
+        }
         xlsxReadContext.readRowHolder(new ReadRowHolder(
                 xlsxReadSheetHolder.getRowIndex(),
                 rowType,
@@ -88,5 +149,26 @@ public class RowTagHandler extends AbstractXlsxTagHandler {
         xlsxReadContext.analysisEventProcessor().endRow(xlsxReadContext);
         xlsxReadSheetHolder.setColumnIndex(null);
         xlsxReadSheetHolder.setCellMap(new LinkedHashMap<>());
+        // No need to wait for the next row
+        if (xlsxReadSheetHolder.afterEndRow(xlsxReadSheetHolder.getRowIndex() + 1)) {
+            throw new ExcelAnalysisStopSheetException();
+        }
+    }
+
+    private void endBufferedRow(XlsxReadContext xlsxReadContext) {
+        XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
+        xlsxReadSheetHolder.setBufferedRow(false);
+        RowTypeEnum rowType = xlsxReadSheetHolder.getReadRowBuffer().hasData() || xlsxReadSheetHolder.isSkippedData()
+                ? RowTypeEnum.DATA
+                : RowTypeEnum.EMPTY;
+        xlsxReadSheetHolder.setSkippedData(false);
+        // No cell map, the cells are already in the row buffer
+        xlsxReadContext.readRowHolder(
+                xlsxReadSheetHolder.bufferedReadRowHolder(xlsxReadSheetHolder.getRowIndex(), rowType));
+        xlsxReadContext.analysisEventProcessor().endRow(xlsxReadContext);
+        xlsxReadSheetHolder.setColumnIndex(null);
+        if (xlsxReadSheetHolder.afterEndRow(xlsxReadSheetHolder.getRowIndex() + 1)) {
+            throw new ExcelAnalysisStopSheetException();
+        }
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.v07.handlers.sax;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Sax read a relationships part, like _rels/.rels or xl/_rels/workbook.xml.rels
+ * <p>
+ * The targets are resolved to zip entry names, external targets are skipped.
+ *
+ */
+@Getter
+public class RelationshipHandler extends DefaultHandler {
+    private static final String RELATIONSHIP_TAG = "Relationship";
+    private static final String OFFICE_DOCUMENT_TYPE_SUFFIX = "/officeDocument";
+
+    /**
+     * Directory of the source of the relationships, like 'xl/'
+     */
+    private final String directory;
+    /**
+     * key: relationship id value: target
+     */
+    private final Map<String, String> targetMap = new HashMap<>();
+    /**
+     * key: target value: relationship type
+     */
+    private final Map<String, String> typeMap = new HashMap<>();
+    /**
+     * Target of the first office document relationship
+     */
+    private String officeDocumentPath;
+
+    public RelationshipHandler(String directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String name, Attributes attributes) {
+        if (name == null || !RELATIONSHIP_TAG.equals(name.substring(name.indexOf(':') + 1))) {
+            return;
+        }
+        String target = attributes.getValue("Target");
+        if (target == null || "External".equals(attributes.getValue("TargetMode"))) {
+            return;
+        }
+        String path = resolve(directory, target);
+        targetMap.put(attributes.getValue("Id"), path);
+        String type = attributes.getValue("Type");
+        if (type != null) {
+            typeMap.put(path, type);
+        }
+        if (type != null && type.endsWith(OFFICE_DOCUMENT_TYPE_SUFFIX) && officeDocumentPath == null) {
+            officeDocumentPath = path;
+        }
+    }
+
+    /**
+     * The relationships part of a part, like 'xl/_rels/workbook.xml.rels' for 'xl/workbook.xml'.
+     *
+     * @param path
+     * @return
+     */
+    public static String relationshipsPath(String path) {
+        int lastSlash = path.lastIndexOf('/');
+        return directory(path) + "_rels/" + path.substring(lastSlash + 1) + ".rels";
+    }
+
+    /**
+     * The directory of a part, with the trailing slash.
+     *
+     * @param path
+     * @return
+     */
+    public static String directory(String path) {
+        return path.substring(0, path.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Resolve the target of a relationship, relative to the directory of its source unless it is absolute.
+     */
+    private static String resolve(String directory, String target) {
+        if (target.startsWith("/")) {
+            return target.substring(1);
+        }
+        String path = directory + target;
+        while (path.contains("/../")) {
+            int parentEnd = path.indexOf("/../");
+            int parentStart = path.lastIndexOf('/', parentEnd - 1);
+            path = path.substring(0, parentStart + 1) + path.substring(parentEnd + 4);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.v07.handlers.sax;
+
+import org.apache.fesod.excel.constant.ExcelXmlConstants;
+import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxStyles;
+import org.apache.fesod.excel.util.StringUtils;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Sax read styles.xml
+ * <p>
+ * Only the custom number formats and the number format of every cell format are read, fonts, fills and borders are
+ * skipped.
+ *
+ */
+public class StylesTableHandler extends DefaultHandler {
+
+    private final XlsxStyles xlsxStyles;
+    /**
+     * The 'xf' tags are also used by 'cellStyleXfs', only the ones in 'cellXfs' are referenced by the cells
+     */
+    private boolean isTagCellXfs = false;
+
+    public StylesTableHandler(XlsxStyles xlsxStyles) {
+        this.xlsxStyles = xlsxStyles;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String name, Attributes attributes) {
+        if (name == null) {
+            return;
+        }
+        switch (localName(name)) {
+            case ExcelXmlConstants.STYLES_NUM_FMT_TAG:
+                String numberFormatId = attributes.getValue(ExcelXmlConstants.ATTRIBUTE_NUM_FMT_ID);
+                if (!StringUtils.isEmpty(numberFormatId)) {
+                    xlsxStyles.addNumberFormat(
+                            parseNumberFormatId(numberFormatId),
+                            attributes.getValue(ExcelXmlConstants.ATTRIBUTE_FORMAT_CODE));
+                }
+                break;
+            case ExcelXmlConstants.STYLES_CELL_XFS_TAG:
+                isTagCellXfs = true;
+                break;
+            case ExcelXmlConstants.STYLES_XF_TAG:
+                if (isTagCellXfs) {
+                    xlsxStyles.addCellFormat(
+                            parseNumberFormatId(attributes.getValue(ExcelXmlConstants.ATTRIBUTE_NUM_FMT_ID)));
+                }
+                break;
+            default:
+                // ignore
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String name) {
+        if (name != null && ExcelXmlConstants.STYLES_CELL_XFS_TAG.equals(localName(name))) {
+            isTagCellXfs = false;
+        }
+    }
+
+    /**
+     * Some tools write the tags with a prefix, like 'x:numFmt'
+     */
+    private static String localName(String name) {
+        int index = name.indexOf(':');
+        return index < 0 ? name : name.substring(index + 1);
+    }
+
+    private static int parseNumberFormatId(String numberFormatId) {
+        if (StringUtils.isEmpty(numberFormatId)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(numberFormatId.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.v07.handlers.sax;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.apache.fesod.excel.read.metadata.SheetInfo;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Sax read workbook.xml
+ * <p>
+ * Reads the sheets and the date system in a single pass, without loading the XMLBeans of the whole workbook.
+ *
+ */
+@Getter
+public class WorkbookHandler extends DefaultHandler {
+    private static final String SHEET_TAG = "sheet";
+    private static final String WORKBOOK_PR_TAG = "workbookPr";
+    private static final String STATE_HIDDEN = "hidden";
+    private static final String STATE_VERY_HIDDEN = "veryHidden";
+
+    /**
+     * Sheets in the order of the workbook
+     */
+    private final List<SheetInfo> sheetList = new ArrayList<>();
+    /**
+     * Relationship id of each sheet, in the same order as {@link #sheetList}
+     */
+    private final List<String> relationshipIdList = new ArrayList<>();
+    /**
+     * Whether the workbook uses the 1904 date system
+     */
+    private boolean date1904;
+
+    @Override
+    public void startElement(String uri, String localName, String name, Attributes attributes) {
+        if (name == null) {
+            return;
+        }
+        switch (localName(name)) {
+            case SHEET_TAG:
+                SheetInfo sheetInfo = new SheetInfo(sheetList.size(), attributes.getValue("name"));
+                String state = attributes.getValue("state");
+                sheetInfo.setSheetHidden(STATE_HIDDEN.equals(state));
+                sheetInfo.setSheetVeryHidden(STATE_VERY_HIDDEN.equals(state));
+                sheetList.add(sheetInfo);
+                relationshipIdList.add(attribute(attributes, "id"));
+                break;
+            case WORKBOOK_PR_TAG:
+                String date1904Value = attributes.getValue("date1904");
+                date1904 = "1".equals(date1904Value) || "true".equalsIgnoreCase(date1904Value);
+                break;
+            default:
+                // ignore
+        }
+    }
+
+    /**
+     * Name of an element or attribute without its prefix.
+     */
+    private static String localName(String name) {
+        return name.substring(name.indexOf(':') + 1);
+    }
+
+    /**
+     * Value of an attribute whatever its prefix.
+     */
+    private static String attribute(Attributes attributes, String localName) {
+        for (int i = 0; i < attributes.getLength(); i++) {
+            if (localName.equals(localName(attributes.getQName(i)))) {
+                return attributes.getValue(i);
+            }
+        }
+        return null;
+    }
+}
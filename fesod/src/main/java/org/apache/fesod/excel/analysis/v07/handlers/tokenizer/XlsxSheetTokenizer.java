@@ -0,0 +1,876 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis.v07.handlers.tokenizer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import org.apache.fesod.excel.analysis.v07.handlers.CellFormulaTagHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.CellTagHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.CountTagHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.HyperlinkTagHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.MergeCellTagHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.RowTagHandler;
+import org.apache.fesod.excel.analysis.v07.handlers.XlsxTagHandler;
+import org.apache.fesod.excel.context.xlsx.XlsxReadContext;
+import org.apache.fesod.excel.enums.CellDataTypeEnum;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxReadSheetHolder;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * Reads a sheet part by scanning its UTF-8 bytes, instead of going through a SAX parser.
+ * <p>
+ * Only the tags the sax {@code XlsxRowHandler} handles are recognised: {@code row}, {@code c}, {@code v}, {@code f},
+ * {@code t}, {@code dimension}, {@code hyperlink} and {@code mergeCell}, without prefix or with the {@code x:} and
+ * {@code ns2:} prefixes. Everything else is skipped. Row numbers, cell references, types and style indexes are decoded
+ * straight from the bytes, and text is decoded into the buffers of the sheet holder. The rows are handed to the same
+ * tag handlers as the sax path, so both produce the same data.
+ * <p>
+ * Parts with a non UTF-8 encoding or a DOCTYPE are not supported, call {@link #supported()} before
+ * {@link #parse()} and read the part from {@link #remainingInputStream()} with SAX when it returns false.
+ *
+ *
+ */
+public class XlsxSheetTokenizer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /**
+     * How much of the part must be available to check the prolog
+     */
+    private static final int PROLOG_SIZE = 1024;
+
+    private static final RowTagHandler ROW_TAG_HANDLER = new RowTagHandler();
+    private static final CellTagHandler CELL_TAG_HANDLER = new CellTagHandler();
+    private static final CellFormulaTagHandler CELL_FORMULA_TAG_HANDLER = new CellFormulaTagHandler();
+    private static final CountTagHandler COUNT_TAG_HANDLER = new CountTagHandler();
+    private static final HyperlinkTagHandler HYPERLINK_TAG_HANDLER = new HyperlinkTagHandler();
+    private static final MergeCellTagHandler MERGE_CELL_TAG_HANDLER = new MergeCellTagHandler();
+
+    private static final byte[] ROW = bytes("row");
+    private static final byte[] CELL = bytes("c");
+    private static final byte[] VALUE = bytes("v");
+    private static final byte[] FORMULA = bytes("f");
+    private static final byte[] INLINE_STRING_VALUE = bytes("t");
+    private static final byte[] DIMENSION = bytes("dimension");
+    private static final byte[] HYPERLINK = bytes("hyperlink");
+    private static final byte[] MERGE_CELL = bytes("mergeCell");
+    private static final byte[] PREFIX_X = bytes("x");
+    private static final byte[] PREFIX_NS2 = bytes("ns2");
+    private static final byte[] ATTRIBUTE_R = bytes("r");
+    private static final byte[] ATTRIBUTE_T = bytes("t");
+    private static final byte[] ATTRIBUTE_S = bytes("s");
+    private static final byte[] TYPE_STRING = bytes("s");
+    private static final byte[] TYPE_DIRECT_STRING = bytes("str");
+    private static final byte[] TYPE_INLINE_STRING = bytes("inlineStr");
+    private static final byte[] TYPE_ERROR = bytes("e");
+    private static final byte[] TYPE_BOOLEAN = bytes("b");
+    private static final byte[] TYPE_NUMBER = bytes("n");
+
+    private static final int TAG_OTHER = 0;
+    private static final int TAG_ROW = 1;
+    private static final int TAG_CELL = 2;
+    private static final int TAG_VALUE = 3;
+    private static final int TAG_FORMULA = 4;
+    private static final int TAG_DIMENSION = 5;
+    private static final int TAG_HYPERLINK = 6;
+    private static final int TAG_MERGE_CELL = 7;
+
+    private final XlsxReadContext xlsxReadContext;
+    private final XlsxReadSheetHolder xlsxReadSheetHolder;
+    private final InputStream inputStream;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    /**
+     * Bytes of the current tag, between '<' and '>'
+     */
+    private byte[] tag = new byte[256];
+
+    private int tagLength;
+    private int nameEnd;
+    private int localNameStart;
+    private int attributeCount;
+    private int[] attributeNameStart = new int[8];
+    private int[] attributeNameEnd = new int[8];
+    private int[] attributeValueStart = new int[8];
+    private int[] attributeValueEnd = new int[8];
+    /**
+     * Where the characters go, null when the current tag has no text to keep
+     */
+    private StringBuilder text;
+
+    private final StringBuilder attributeValue = new StringBuilder();
+
+    /**
+     * Shared string indexes found by {@link #collectSharedStringIndexes(BitSet)}, null when reading rows
+     */
+    private BitSet sharedStringIndexes;
+    /**
+     * Whether the current cell refers to a shared string, when collecting
+     */
+    private boolean sharedStringCell;
+
+    private StringBuilder sharedStringIndex;
+
+    public XlsxSheetTokenizer(XlsxReadContext xlsxReadContext, InputStream inputStream) {
+        this.xlsxReadContext = xlsxReadContext;
+        this.xlsxReadSheetHolder = xlsxReadContext == null ? null : xlsxReadContext.xlsxReadSheetHolder();
+        this.inputStream = inputStream;
+    }
+
+    /**
+     * Only scan the part for the shared strings its cells refer to, no row is passed on.
+     *
+     * @param inputStream part
+     */
+    public XlsxSheetTokenizer(InputStream inputStream) {
+        this(null, inputStream);
+    }
+
+    /**
+     * Check that the part is UTF-8 without DOCTYPE.
+     *
+     * @return false if the part should be read with SAX
+     * @throws IOException
+     */
+    public boolean supported() throws IOException {
+        while (limit < PROLOG_SIZE) {
+            int read = inputStream.read(buffer, limit, PROLOG_SIZE - limit);
+            if (read < 0) {
+                break;
+            }
+            limit += read;
+        }
+        int index = 0;
+        if (limit >= 3 && (buffer[0] & 0xFF) == 0xEF && (buffer[1] & 0xFF) == 0xBB && (buffer[2] & 0xFF) == 0xBF) {
+            index = 3;
+        }
+        // Anything else than a tag or whitespace at the beginning is UTF-16 or UTF-32
+        while (index < limit) {
+            byte b = buffer[index];
+            if (isWhitespace(b)) {
+                index++;
+                continue;
+            }
+            if (b != '<' || index + 1 >= limit) {
+                return false;
+            }
+            byte next = buffer[index + 1];
+            if (next == '?') {
+                int end = indexOf(buffer, index, limit, '?', '>');
+                if (end < 0 || !utf8Declaration(index, end)) {
+                    return false;
+                }
+                index = end + 2;
+            } else if (next == '!') {
+                if (startsWith(buffer, index + 2, limit, bytes("--"))) {
+                    int end = indexOf(buffer, index, limit, '-', '-');
+                    end = end < 0 ? -1 : indexOf(buffer, end + 2, limit, '-', '-');
+                    if (end < 0) {
+                        return false;
+                    }
+                    index = end + 3;
+                } else {
+                    // DOCTYPE
+                    return false;
+                }
+            } else {
+                // '<' followed by 0 is UTF-16
+                return next != 0;
+            }
+        }
+        return limit < PROLOG_SIZE;
+    }
+
+    /**
+     * The part from the beginning, when {@link #supported()} returned false.
+     *
+     * @return
+     */
+    public InputStream remainingInputStream() {
+        return new SequenceInputStream(new ByteArrayInputStream(buffer, position, limit - position), inputStream);
+    }
+
+    /**
+     * Read the part and pass the rows on.
+     *
+     * @throws IOException
+     */
+    public void parse() throws IOException {
+        if (limit >= 3 && (buffer[0] & 0xFF) == 0xEF && (buffer[1] & 0xFF) == 0xBB && (buffer[2] & 0xFF) == 0xBF) {
+            position = 3;
+        }
+        int b;
+        while ((b = next()) >= 0) {
+            if (b == '<') {
+                markup();
+            } else if (text != null) {
+                character(b, text);
+            }
+        }
+    }
+
+    /**
+     * Scan the part and set the index of every shared string referred to by a cell ({@code t="s"}).
+     *
+     * @param sharedStringIndexes
+     * @throws IOException
+     */
+    public void collectSharedStringIndexes(BitSet sharedStringIndexes) throws IOException {
+        this.sharedStringIndexes = sharedStringIndexes;
+        this.sharedStringIndex = new StringBuilder();
+        parse();
+    }
+
+    private void markup() throws IOException {
+        int b = next();
+        switch (b) {
+            case '/':
+                readTag();
+                endTag(tagKind());
+                return;
+            case '?':
+                skipUntil('?', '>');
+                return;
+            case '!':
+                if (next() == '-') {
+                    next();
+                    skipUntil('-', '-');
+                    next();
+                    return;
+                }
+                // <![CDATA[
+                for (int i = 0; i < 6; i++) {
+                    next();
+                }
+                cdata();
+                return;
+            case -1:
+                throw new ExcelAnalysisException("Unexpected end of the sheet.");
+            default:
+                position--;
+                readTag();
+                startTag(tagKind());
+        }
+    }
+
+    private void startTag(int tagKind) throws IOException {
+        boolean empty = tag[tagLength - 1] == '/';
+        if (sharedStringIndexes != null) {
+            collectStartTag(tagKind, empty);
+            return;
+        }
+        switch (tagKind) {
+            case TAG_ROW:
+                text = null;
+                parseAttributes();
+                int r = findAttribute(ATTRIBUTE_R);
+                int rowIndex;
+                if (r < 0) {
+                    Integer before = xlsxReadSheetHolder.getRowIndex();
+                    rowIndex = before == null ? 0 : before + 1;
+                } else {
+                    rowIndex = parseInt(r) - 1;
+                }
+                ROW_TAG_HANDLER.startRow(xlsxReadContext, rowIndex);
+                if (empty) {
+                    ROW_TAG_HANDLER.endElement(xlsxReadContext, null);
+                }
+                return;
+            default:
+        }
+        // The cells of a row before the start row are not even parsed
+        if (xlsxReadSheetHolder.isSkippedRow()) {
+            text = null;
+            return;
+        }
+        switch (tagKind) {
+            case TAG_CELL:
+                text = null;
+                parseAttributes();
+                CELL_TAG_HANDLER.startCell(xlsxReadContext, columnIndex(), cellType(), dataFormatIndex());
+                if (empty) {
+                    CELL_TAG_HANDLER.endElement(xlsxReadContext, null);
+                }
+                return;
+            case TAG_VALUE:
+                text = empty ? null : xlsxReadSheetHolder.getTempData();
+                return;
+            case TAG_FORMULA:
+                CELL_FORMULA_TAG_HANDLER.startElement(xlsxReadContext, null, null);
+                text = xlsxReadSheetHolder.getTempFormula();
+                if (empty) {
+                    endTag(TAG_FORMULA);
+                }
+                return;
+            case TAG_DIMENSION:
+                startTag(COUNT_TAG_HANDLER);
+                return;
+            case TAG_HYPERLINK:
+                startTag(HYPERLINK_TAG_HANDLER);
+                return;
+            case TAG_MERGE_CELL:
+                startTag(MERGE_CELL_TAG_HANDLER);
+                return;
+            default:
+        }
+    }
+
+    private void startTag(XlsxTagHandler handler) {
+        if (!handler.support(xlsxReadContext)) {
+            return;
+        }
+        text = null;
+        parseAttributes();
+        AttributesImpl attributes = new AttributesImpl();
+        for (int i = 0; i < attributeCount; i++) {
+            String qName = new String(
+                    tag,
+                    attributeNameStart[i],
+                    attributeNameEnd[i] - attributeNameStart[i],
+                    StandardCharsets.UTF_8);
+            attributes.addAttribute("", qName, qName, "CDATA", attributeValue(i));
+        }
+        handler.startElement(xlsxReadContext, new String(tag, 0, nameEnd, StandardCharsets.UTF_8), attributes);
+    }
+
+    private void collectStartTag(int tagKind, boolean empty) {
+        switch (tagKind) {
+            case TAG_CELL:
+                parseAttributes();
+                sharedStringCell = !empty && cellType() == CellDataTypeEnum.STRING;
+                sharedStringIndex.setLength(0);
+                text = null;
+                return;
+            case TAG_VALUE:
+                text = sharedStringCell && !empty ? sharedStringIndex : null;
+                return;
+            case TAG_ROW:
+            case TAG_FORMULA:
+                text = null;
+                return;
+            default:
+        }
+    }
+
+    private void collectEndTag(int tagKind) {
+        switch (tagKind) {
+            case TAG_CELL:
+                if (sharedStringCell && sharedStringIndex.length() > 0) {
+                    sharedStringIndexes.set(Integer.parseInt(sharedStringIndex.toString().trim()));
+                }
+                sharedStringCell = false;
+                text = null;
+                return;
+            case TAG_VALUE:
+            case TAG_ROW:
+            case TAG_FORMULA:
+                text = null;
+                return;
+            default:
+        }
+    }
+
+    private void endTag(int tagKind) {
+        if (sharedStringIndexes != null) {
+            collectEndTag(tagKind);
+            return;
+        }
+        if (tagKind != TAG_ROW && xlsxReadSheetHolder.isSkippedRow()) {
+            text = null;
+            return;
+        }
+        switch (tagKind) {
+            case TAG_ROW:
+                text = null;
+                ROW_TAG_HANDLER.endElement(xlsxReadContext, null);
+                return;
+            case TAG_CELL:
+                text = null;
+                CELL_TAG_HANDLER.endElement(xlsxReadContext, null);
+                return;
+            case TAG_FORMULA:
+                text = null;
+                CELL_FORMULA_TAG_HANDLER.endElement(xlsxReadContext, null);
+                return;
+            case TAG_VALUE:
+                text = null;
+                return;
+            case TAG_HYPERLINK:
+                if (HYPERLINK_TAG_HANDLER.support(xlsxReadContext)) {
+                    text = null;
+                }
+                return;
+            case TAG_MERGE_CELL:
+                if (MERGE_CELL_TAG_HANDLER.support(xlsxReadContext)) {
+                    text = null;
+                }
+                return;
+            case TAG_DIMENSION:
+                text = null;
+                return;
+            default:
+        }
+    }
+
+    /**
+     * Copy the tag up to the closing '>' into {@link #tag}
+     */
+    private void readTag() throws IOException {
+        tagLength = 0;
+        int quote = 0;
+        while (true) {
+            int b = next();
+            if (b < 0) {
+                throw new ExcelAnalysisException("Unexpected end of the sheet.");
+            }
+            if (quote != 0) {
+                if (b == quote) {
+                    quote = 0;
+                }
+            } else if (b == '"' || b == '\'') {
+                quote = b;
+            } else if (b == '>') {
+                break;
+            }
+            if (tagLength == tag.length) {
+                byte[] newTag = new byte[tag.length * 2];
+                System.arraycopy(tag, 0, newTag, 0, tagLength);
+                tag = newTag;
+            }
+            tag[tagLength++] = (byte) b;
+        }
+        if (tagLength == 0) {
+            throw new ExcelAnalysisException("Empty tag in the sheet.");
+        }
+        nameEnd = 0;
+        localNameStart = 0;
+        while (nameEnd < tagLength && !isWhitespace(tag[nameEnd]) && tag[nameEnd] != '/') {
+            if (tag[nameEnd] == ':') {
+                localNameStart = nameEnd + 1;
+            }
+            nameEnd++;
+        }
+    }
+
+    private int tagKind() {
+        if (localNameStart > 0
+                && !equals(tag, 0, localNameStart - 1, PREFIX_X)
+                && !equals(tag, 0, localNameStart - 1, PREFIX_NS2)) {
+            return TAG_OTHER;
+        }
+        switch (nameEnd - localNameStart) {
+            case 1:
+                byte b = tag[localNameStart];
+                if (b == CELL[0]) {
+                    return TAG_CELL;
+                }
+                if (b == VALUE[0] || b == INLINE_STRING_VALUE[0]) {
+                    return TAG_VALUE;
+                }
+                if (b == FORMULA[0]) {
+                    return TAG_FORMULA;
+                }
+                return TAG_OTHER;
+            case 3:
+                return equals(tag, localNameStart, nameEnd, ROW) ? TAG_ROW : TAG_OTHER;
+            case 9:
+                if (equals(tag, localNameStart, nameEnd, DIMENSION)) {
+                    return TAG_DIMENSION;
+                }
+                if (equals(tag, localNameStart, nameEnd, HYPERLINK)) {
+                    return TAG_HYPERLINK;
+                }
+                if (equals(tag, localNameStart, nameEnd, MERGE_CELL)) {
+                    return TAG_MERGE_CELL;
+                }
+                return TAG_OTHER;
+            default:
+                return TAG_OTHER;
+        }
+    }
+
+    private void parseAttributes() {
+        attributeCount = 0;
+        int index = nameEnd;
+        while (true) {
+            while (index < tagLength && isWhitespace(tag[index])) {
+                index++;
+            }
+            if (index >= tagLength || tag[index] == '/') {
+                return;
+            }
+            int nameStart = index;
+            while (index < tagLength && tag[index] != '=' && !isWhitespace(tag[index])) {
+                index++;
+            }
+            int attributeNameEndIndex = index;
+            while (index < tagLength && tag[index] != '"' && tag[index] != '\'') {
+                index++;
+            }
+            if (index >= tagLength) {
+                throw new ExcelAnalysisException("Illegal attribute in the sheet.");
+            }
+            byte quote = tag[index++];
+            int valueStart = index;
+            while (index < tagLength && tag[index] != quote) {
+                index++;
+            }
+            if (attributeCount == attributeNameStart.length) {
+                int length = attributeCount * 2;
+                attributeNameStart = copyOf(attributeNameStart, length);
+                attributeNameEnd = copyOf(attributeNameEnd, length);
+                attributeValueStart = copyOf(attributeValueStart, length);
+                attributeValueEnd = copyOf(attributeValueEnd, length);
+            }
+            attributeNameStart[attributeCount] = nameStart;
+            attributeNameEnd[attributeCount] = attributeNameEndIndex;
+            attributeValueStart[attributeCount] = valueStart;
+            attributeValueEnd[attributeCount] = index;
+            attributeCount++;
+            index++;
+        }
+    }
+
+    private int findAttribute(byte[] name) {
+        for (int i = 0; i < attributeCount; i++) {
+            if (equals(tag, attributeNameStart[i], attributeNameEnd[i], name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String attributeValue(int attribute) {
+        attributeValue.setLength(0);
+        int index = attributeValueStart[attribute];
+        int end = attributeValueEnd[attribute];
+        while (index < end) {
+            int b = tag[index++] & 0xFF;
+            if (b == '&') {
+                int semicolon = index;
+                while (semicolon < end && tag[semicolon] != ';') {
+                    semicolon++;
+                }
+                appendEntity(new String(tag, index, semicolon - index, StandardCharsets.US_ASCII), attributeValue);
+                index = semicolon + 1;
+            } else if (b < 0x80) {
+                // Whitespace in attribute values is normalized to spaces
+                attributeValue.append(isWhitespace((byte) b) ? ' ' : (char) b);
+            } else {
+                int length = b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : 2;
+                attributeValue.append(new String(tag, index - 1, length, StandardCharsets.UTF_8));
+                index += length - 1;
+            }
+        }
+        return attributeValue.toString();
+    }
+
+    private int parseInt(int attribute) {
+        int start = attributeValueStart[attribute];
+        int end = attributeValueEnd[attribute];
+        if (end - start > 9 || start == end) {
+            return Integer.parseInt(new String(tag, start, end - start, StandardCharsets.UTF_8));
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = tag[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.parseInt(new String(tag, start, end - start, StandardCharsets.UTF_8));
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@code PositionUtils#getCol(String, Integer)}
+     */
+    private int columnIndex() {
+        int r = findAttribute(ATTRIBUTE_R);
+        if (r < 0) {
+            Integer before = xlsxReadSheetHolder.getColumnIndex();
+            return before == null ? 0 : before + 1;
+        }
+        int index = attributeValueStart[r];
+        int end = attributeValueEnd[r];
+        if (index < end && tag[index] == '$') {
+            index++;
+        }
+        int col = 0;
+        for (; index < end; index++) {
+            int c = tag[index];
+            if (c == '$' || (c >= '0' && c <= '9')) {
+                break;
+            }
+            col = col * 26 + Character.toUpperCase((char) c) - 'A' + 1;
+        }
+        return col - 1;
+    }
+
+    private CellDataTypeEnum cellType() {
+        int t = findAttribute(ATTRIBUTE_T);
+        if (t < 0) {
+            return CellDataTypeEnum.EMPTY;
+        }
+        int start = attributeValueStart[t];
+        int end = attributeValueEnd[t];
+        if (start == end) {
+            return CellDataTypeEnum.EMPTY;
+        }
+        if (equals(tag, start, end, TYPE_STRING)) {
+            return CellDataTypeEnum.STRING;
+        }
+        if (equals(tag, start, end, TYPE_NUMBER)) {
+            return CellDataTypeEnum.NUMBER;
+        }
+        if (equals(tag, start, end, TYPE_DIRECT_STRING) || equals(tag, start, end, TYPE_INLINE_STRING)) {
+            return CellDataTypeEnum.DIRECT_STRING;
+        }
+        if (equals(tag, start, end, TYPE_BOOLEAN)) {
+            return CellDataTypeEnum.BOOLEAN;
+        }
+        if (equals(tag, start, end, TYPE_ERROR)) {
+            return CellDataTypeEnum.ERROR;
+        }
+        return CellDataTypeEnum.buildFromCellType(attributeValue(t));
+    }
+
+    private int dataFormatIndex() {
+        int s = findAttribute(ATTRIBUTE_S);
+        if (s < 0 || attributeValueStart[s] == attributeValueEnd[s]) {
+            return CellTagHandler.DEFAULT_FORMAT_INDEX;
+        }
+        return parseInt(s);
+    }
+
+    /**
+     * Decode one character of text, {@code b} is the first byte.
+     */
+    private void character(int b, StringBuilder target) throws IOException {
+        if (b < 0x80) {
+            switch (b) {
+                case '&':
+                    entity(target);
+                    return;
+                case '\r':
+                    // Line ends are normalized to '\n'
+                    target.append('\n');
+                    if (peek() == '\n') {
+                        position++;
+                    }
+                    return;
+                default:
+                    target.append((char) b);
+                    return;
+            }
+        }
+        int codePoint;
+        if (b >= 0xF0) {
+            codePoint = ((b & 0x07) << 18) | ((next() & 0x3F) << 12) | ((next() & 0x3F) << 6) | (next() & 0x3F);
+            target.appendCodePoint(codePoint);
+            return;
+        }
+        if (b >= 0xE0) {
+            codePoint = ((b & 0x0F) << 12) | ((next() & 0x3F) << 6) | (next() & 0x3F);
+        } else {
+            codePoint = ((b & 0x1F) << 6) | (next() & 0x3F);
+        }
+        target.append((char) codePoint);
+    }
+
+    private void entity(StringBuilder target) throws IOException {
+        attributeValue.setLength(0);
+        int b;
+        while ((b = next()) != ';') {
+            if (b < 0 || attributeValue.length() > 10) {
+                throw new ExcelAnalysisException("Illegal entity in the sheet.");
+            }
+            attributeValue.append((char) b);
+        }
+        appendEntity(attributeValue.toString(), target);
+    }
+
+    private static void appendEntity(String entity, StringBuilder target) {
+        switch (entity) {
+            case "amp":
+                target.append('&');
+                return;
+            case "lt":
+                target.append('<');
+                return;
+            case "gt":
+                target.append('>');
+                return;
+            case "quot":
+                target.append('"');
+                return;
+            case "apos":
+                target.append('\'');
+                return;
+            default:
+        }
+        if (entity.length() > 1 && entity.charAt(0) == '#') {
+            int codePoint = entity.charAt(1) == 'x'
+                    ? Integer.parseInt(entity.substring(2), 16)
+                    : Integer.parseInt(entity.substring(1));
+            target.appendCodePoint(codePoint);
+            return;
+        }
+        throw new ExcelAnalysisException("Unsupported entity '&" + entity + ";' in the sheet.");
+    }
+
+    private void cdata() throws IOException {
+        int b;
+        while ((b = next()) >= 0) {
+            if (b == ']' && peek() == ']') {
+                position++;
+                if (peek() == '>') {
+                    position++;
+                    return;
+                }
+                // Not the end, keep the first ']' and look at the second one again
+                position--;
+            }
+            if (text != null) {
+                if (b == '&') {
+                    text.append('&');
+                } else {
+                    character(b, text);
+                }
+            }
+        }
+        throw new ExcelAnalysisException("Unexpected end of the sheet.");
+    }
+
+    private void skipUntil(int first, int second) throws IOException {
+        int b = next();
+        while (b >= 0) {
+            if (b == first) {
+                b = next();
+                if (b == second) {
+                    return;
+                }
+                continue;
+            }
+            b = next();
+        }
+        throw new ExcelAnalysisException("Unexpected end of the sheet.");
+    }
+
+    private int next() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position] & 0xFF;
+    }
+
+    /**
+     * Keep the last byte, so that one byte can always be pushed back
+     */
+    private boolean fill() throws IOException {
+        int keep = 0;
+        if (limit > 0) {
+            buffer[0] = buffer[limit - 1];
+            keep = 1;
+        }
+        int read = inputStream.read(buffer, keep, buffer.length - keep);
+        if (read <= 0) {
+            return false;
+        }
+        position = keep;
+        limit = keep + read;
+        return true;
+    }
+
+    private boolean utf8Declaration(int start, int end) {
+        String declaration = new String(buffer, start, end - start, StandardCharsets.US_ASCII);
+        int encoding = declaration.indexOf("encoding");
+        if (encoding < 0) {
+            return true;
+        }
+        int quote = encoding + 8;
+        while (quote < declaration.length()
+                && declaration.charAt(quote) != '"'
+                && declaration.charAt(quote) != '\'') {
+            quote++;
+        }
+        if (quote >= declaration.length()) {
+            return false;
+        }
+        int quoteEnd = declaration.indexOf(declaration.charAt(quote), quote + 1);
+        if (quoteEnd < 0) {
+            return false;
+        }
+        String charset = declaration.substring(quote + 1, quoteEnd);
+        return "UTF-8".equalsIgnoreCase(charset) || "UTF8".equalsIgnoreCase(charset);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean equals(byte[] bytes, int start, int end, byte[] expected) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (bytes[start + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(byte[] bytes, int start, int end, byte[] expected) {
+        return end - start >= expected.length && equals(bytes, start, start + expected.length, expected);
+    }
+
+    private static int indexOf(byte[] bytes, int start, int end, char first, char second) {
+        for (int i = start; i + 1 < end; i++) {
+            if (bytes[i] == first && bytes[i + 1] == second) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] copyOf(int[] array, int length) {
+        int[] newArray = new int[length];
+        System.arraycopy(array, 0, newArray, 0, array.length);
+        return newArray;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
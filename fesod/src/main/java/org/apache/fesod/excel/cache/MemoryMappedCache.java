@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.util.FileUtils;
+
+/**
+ * Writes the values as length-prefixed UTF-8 into a temporary file that is memory mapped once all values are put.
+ * <p>
+ * A lookup is a single random read of the mapped file, without java serialization, and the values stay out of the
+ * heap. The offsets of small tables are kept in a {@code long[]}, the offsets of very large tables are mapped too.
+ *
+ *
+ */
+@Slf4j
+public class MemoryMappedCache implements ReadCache {
+    /**
+     * Size of one mapped segment. Values never cross a segment.
+     */
+    private static final int SEGMENT_SHIFT = 30;
+
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+    /**
+     * Longs in one mapped segment of the index
+     */
+    private static final int INDEX_SEGMENT_SHIFT = SEGMENT_SHIFT - 3;
+
+    private static final int INDEX_SEGMENT_MASK = (1 << INDEX_SEGMENT_SHIFT) - 1;
+    /**
+     * Tables with more values than this keep their index off heap.
+     */
+    private static final int MAX_HEAP_INDEX_COUNT = 1 << 20;
+
+    private static final int NULL_LENGTH = -1;
+    private static final byte[] EMPTY_BYTES = new byte[0];
+
+    private File cacheDirectory;
+    private File dataFile;
+    private File indexFile;
+    private DataOutputStream dataOutputStream;
+    private DataOutputStream indexOutputStream;
+    /**
+     * Size of the data file
+     */
+    private long dataSize;
+    /**
+     * Number of values
+     */
+    private int count;
+
+    private MappedByteBuffer[] dataSegments;
+    private long[] heapIndex;
+    private MappedByteBuffer[] indexSegments;
+
+    @Override
+    public void init(AnalysisContext analysisContext) {
+        cacheDirectory = FileUtils.createCacheTmpFile();
+        dataFile = new File(cacheDirectory, "data");
+        indexFile = new File(cacheDirectory, "index");
+        try {
+            dataOutputStream =
+                    new DataOutputStream(new BufferedOutputStream(new FileOutputStream(dataFile), 64 * 1024));
+            indexOutputStream =
+                    new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile), 64 * 1024));
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not create the cache file.", e);
+        }
+    }
+
+    @Override
+    public void put(String value) {
+        byte[] bytes = value == null ? EMPTY_BYTES : value.getBytes(StandardCharsets.UTF_8);
+        int length = Integer.BYTES + bytes.length;
+        try {
+            // Pad to the next segment, so that a value can be read from a single mapped buffer
+            long remaining = SEGMENT_SIZE - (dataSize & SEGMENT_MASK);
+            if (remaining < length) {
+                for (long i = 0; i < remaining; i++) {
+                    dataOutputStream.write(0);
+                }
+                dataSize += remaining;
+            }
+            indexOutputStream.writeLong(dataSize);
+            dataOutputStream.writeInt(value == null ? NULL_LENGTH : bytes.length);
+            dataOutputStream.write(bytes);
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not write the cache file.", e);
+        }
+        dataSize += length;
+        count++;
+    }
+
+    @Override
+    public String get(Integer key) {
+        if (key == null || key < 0) {
+            return null;
+        }
+        long offset;
+        if (heapIndex != null) {
+            offset = heapIndex[key];
+        } else {
+            offset = indexSegments[key >>> INDEX_SEGMENT_SHIFT].getLong((key & INDEX_SEGMENT_MASK) << 3);
+        }
+        MappedByteBuffer segment = dataSegments[(int) (offset >>> SEGMENT_SHIFT)];
+        int position = (int) (offset & SEGMENT_MASK);
+        int length = segment.getInt(position);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        position += Integer.BYTES;
+        // A duplicate has its own position, so that several sheets can read at the same time
+        byte[] bytes = new byte[length];
+        ByteBuffer duplicate = segment.duplicate();
+        ((Buffer) duplicate).position(position);
+        duplicate.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void putFinished() {
+        try {
+            dataOutputStream.close();
+            indexOutputStream.close();
+            dataSegments = map(dataFile, dataSize);
+            if (count <= MAX_HEAP_INDEX_COUNT) {
+                MappedByteBuffer[] mappedIndex = map(indexFile, (long) count << 3);
+                heapIndex = new long[count];
+                if (mappedIndex.length > 0) {
+                    mappedIndex[0].asLongBuffer().get(heapIndex);
+                }
+            } else {
+                indexSegments = map(indexFile, (long) count << 3);
+            }
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not map the cache file.", e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Memory mapped cache, count:{}, size:{}", count, dataSize);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            if (dataOutputStream != null) {
+                dataOutputStream.close();
+            }
+            if (indexOutputStream != null) {
+                indexOutputStream.close();
+            }
+        } catch (IOException e) {
+            log.warn("Can not close the cache file.", e);
+        }
+        dataSegments = null;
+        indexSegments = null;
+        heapIndex = null;
+        if (cacheDirectory != null) {
+            FileUtils.delete(cacheDirectory);
+        }
+    }
+
+    private static MappedByteBuffer[] map(File file, long size) throws IOException {
+        int segmentCount = (int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+        // The mapping stays valid after the channel is closed
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+                FileChannel fileChannel = randomAccessFile.getChannel()) {
+            for (int i = 0; i < segmentCount; i++) {
+                long position = (long) i << SEGMENT_SHIFT;
+                segments[i] = fileChannel.map(
+                        FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+            }
+        }
+        return segments;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.cache;
+
+import java.util.BitSet;
+import org.apache.fesod.excel.context.AnalysisContext;
+
+/**
+ * Only keeps the values whose key is in a given set, the others are dropped on {@link #put(String)} and read back as
+ * null.
+ * <p>
+ * The kept values are stored densely in the delegate cache, a key is translated to its rank among the kept keys.
+ *
+ *
+ */
+public class SparseReadCache implements ReadCache {
+    private final ReadCache delegate;
+    private final long[] words;
+    /**
+     * Number of kept keys before each word
+     */
+    private final int[] ranks;
+    /**
+     * The key of the next value put
+     */
+    private int key;
+
+    public SparseReadCache(ReadCache delegate, BitSet keys) {
+        this.delegate = delegate;
+        this.words = keys.toLongArray();
+        this.ranks = new int[words.length];
+        int rank = 0;
+        for (int i = 0; i < words.length; i++) {
+            ranks[i] = rank;
+            rank += Long.bitCount(words[i]);
+        }
+    }
+
+    @Override
+    public void init(AnalysisContext analysisContext) {
+        delegate.init(analysisContext);
+    }
+
+    @Override
+    public void put(String value) {
+        if (contains(key)) {
+            delegate.put(value);
+        }
+        key++;
+    }
+
+    @Override
+    public String get(Integer key) {
+        if (key == null || !contains(key)) {
+            return null;
+        }
+        int word = key >>> 6;
+        return delegate.get(ranks[word] + Long.bitCount(words[word] & ((1L << key) - 1)));
+    }
+
+    @Override
+    public void putFinished() {
+        delegate.putFinished();
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+    }
+
+    private boolean contains(int key) {
+        if (key < 0) {
+            return false;
+        }
+        int word = key >>> 6;
+        return word < words.length && (words[word] & (1L << key)) != 0;
+    }
+}
@@ -19,36 +19,210 @@
 
 package org.apache.fesod.excel.cache;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
 import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
 import org.apache.poi.hssf.record.SSTRecord;
 
 /**
- *
- * Use SSTRecord.
+ * Shared strings of a xls file, decoded once into a single byte array.
+ * <p>
+ * Each value is stored as Latin-1 when all its characters fit, otherwise as UTF-16, and is found through an
+ * {@code int} offset, so the {@link SSTRecord} is not kept. The last values read are kept in a small table, so a value
+ * that is read again and again is not decoded every time.
  *
  *
  */
 public class XlsCache implements ReadCache {
-    private final SSTRecord sstRecord;
+    /**
+     * Default number of values kept in the table of the last values read.
+     */
+    public static final int DEFAULT_INTERN_SIZE = 4096;
+
+    private static final int INITIAL_COUNT = 1024;
+    private static final int INITIAL_SIZE = 16 * 1024;
+
+    private byte[] data;
+    private int dataSize;
+    /**
+     * Offset of each value in {@link #data}, and the end of the last one.
+     */
+    private int[] offsets;
+
+    private int count;
+    /**
+     * Values stored as UTF-16
+     */
+    private final BitSet utf16;
+    /**
+     * Values that are null
+     */
+    private final BitSet nulls;
+    /**
+     * The last values read, by their index. Empty when not used.
+     */
+    private final InternEntry[] internTable;
+
+    private final int internMask;
+
+    public XlsCache() {
+        this(DEFAULT_INTERN_SIZE);
+    }
+
+    /**
+     * @param internSize number of values kept in the table of the last values read, rounded up to a power of 2. 0 is
+     *                   not to keep them.
+     */
+    public XlsCache(int internSize) {
+        this.data = new byte[INITIAL_SIZE];
+        this.offsets = new int[INITIAL_COUNT + 1];
+        this.utf16 = new BitSet();
+        this.nulls = new BitSet();
+        if (internSize > 0) {
+            int size = Integer.highestOneBit(Math.min(internSize, 1 << 30));
+            if (size < internSize) {
+                size <<= 1;
+            }
+            this.internTable = new InternEntry[size];
+            this.internMask = size - 1;
+        } else {
+            this.internTable = null;
+            this.internMask = 0;
+        }
+    }
 
+    /**
+     * Decode all the values of the record.
+     *
+     * @param sstRecord
+     */
     public XlsCache(SSTRecord sstRecord) {
-        this.sstRecord = sstRecord;
+        this();
+        for (int i = 0; i < sstRecord.getNumUniqueStrings(); i++) {
+            put(sstRecord.getString(i).getString());
+        }
+        putFinished();
+    }
+
+    /**
+     * Size of the values of the record once decoded.
+     *
+     * @param sstRecord
+     * @return size in bytes, counted as Latin-1
+     */
+    public static long size(SSTRecord sstRecord) {
+        long size = 0;
+        for (int i = 0; i < sstRecord.getNumUniqueStrings(); i++) {
+            size += sstRecord.getString(i).getCharCount();
+        }
+        return size;
     }
 
     @Override
     public void init(AnalysisContext analysisContext) {}
 
     @Override
-    public void put(String value) {}
+    public void put(String value) {
+        if (count + 1 >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length << 1);
+        }
+        if (value == null) {
+            nulls.set(count);
+        } else if (isLatin1(value)) {
+            ensureCapacity(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                data[dataSize++] = (byte) value.charAt(i);
+            }
+        } else {
+            utf16.set(count);
+            ensureCapacity(value.length() << 1);
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                data[dataSize++] = (byte) c;
+                data[dataSize++] = (byte) (c >>> 8);
+            }
+        }
+        count++;
+        offsets[count] = dataSize;
+    }
 
     @Override
     public String get(Integer key) {
-        return sstRecord.getString(key).toString();
+        if (key == null || key < 0 || key >= count) {
+            return null;
+        }
+        int index = key;
+        if (internTable == null) {
+            return decode(index);
+        }
+        InternEntry internEntry = internTable[index & internMask];
+        if (internEntry != null && internEntry.index == index) {
+            return internEntry.value;
+        }
+        String value = decode(index);
+        internTable[index & internMask] = new InternEntry(index, value);
+        return value;
+    }
+
+    private String decode(int index) {
+        if (nulls.get(index)) {
+            return null;
+        }
+        int offset = offsets[index];
+        int length = offsets[index + 1] - offset;
+        if (utf16.get(index)) {
+            return new String(data, offset, length, StandardCharsets.UTF_16LE);
+        }
+        return new String(data, offset, length, StandardCharsets.ISO_8859_1);
     }
 
     @Override
-    public void putFinished() {}
+    public void putFinished() {
+        data = Arrays.copyOf(data, dataSize);
+        offsets = Arrays.copyOf(offsets, count + 1);
+    }
 
     @Override
     public void destroy() {}
+
+    /**
+     * Number of values
+     *
+     * @return
+     */
+    public int size() {
+        return count;
+    }
+
+    private void ensureCapacity(int length) {
+        long required = (long) dataSize + length;
+        if (required <= data.length) {
+            return;
+        }
+        if (required > Integer.MAX_VALUE - 16) {
+            throw new ExcelAnalysisException("The shared strings are too large to be kept in memory.");
+        }
+        data = Arrays.copyOf(data, (int) Math.min(Math.max(required, (long) data.length << 1), Integer.MAX_VALUE - 16));
+    }
+
+    private static boolean isLatin1(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class InternEntry {
+        private final int index;
+        private final String value;
+
+        private InternEntry(int index, String value) {
+            this.index = index;
+            this.value = value;
+        }
+    }
 }
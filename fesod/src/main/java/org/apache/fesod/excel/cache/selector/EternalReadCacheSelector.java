@@ -38,4 +38,9 @@ public class EternalReadCacheSelector implements ReadCacheSelector {
     public ReadCache readCache(PackagePart sharedStringsTablePackagePart) {
         return readCache;
     }
+
+    @Override
+    public ReadCache readCache(long sharedStringsTableSize) {
+        return readCache;
+    }
 }
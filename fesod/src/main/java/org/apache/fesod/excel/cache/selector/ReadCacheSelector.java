@@ -19,7 +19,9 @@
 
 package org.apache.fesod.excel.cache.selector;
 
+import org.apache.fesod.excel.cache.MapCache;
 import org.apache.fesod.excel.cache.ReadCache;
+import org.apache.fesod.excel.cache.XlsCache;
 import org.apache.poi.openxml4j.opc.PackagePart;
 
 /**
@@ -36,4 +38,24 @@ public interface ReadCacheSelector {
      * @return
      */
     ReadCache readCache(PackagePart sharedStringsTablePackagePart);
+
+    /**
+     * Select a cache when the shared strings are read from a zip stream, where there is no package part.
+     *
+     * @param sharedStringsTableSize uncompressed size of the shared strings, negative when unknown
+     * @return
+     */
+    default ReadCache readCache(long sharedStringsTableSize) {
+        return new MapCache();
+    }
+
+    /**
+     * Select a cache for the shared strings of a xls file.
+     *
+     * @param sharedStringsTableSize size of the shared strings once decoded
+     * @return
+     */
+    default ReadCache xlsReadCache(long sharedStringsTableSize) {
+        return new XlsCache();
+    }
 }
@@ -26,7 +26,9 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fesod.excel.cache.Ehcache;
 import org.apache.fesod.excel.cache.MapCache;
+import org.apache.fesod.excel.cache.MemoryMappedCache;
 import org.apache.fesod.excel.cache.ReadCache;
+import org.apache.fesod.excel.cache.XlsCache;
 import org.apache.poi.openxml4j.opc.PackagePart;
 
 /**
@@ -74,6 +76,12 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
      */
     private Integer maxCacheActivateBatchCount;
 
+    /**
+     * Shared strings of at least this size use {@link MemoryMappedCache} instead of {@link Ehcache}.unit MB.
+     * Default is null, {@link MemoryMappedCache} is not used.
+     */
+    private Long minUseMemoryMappedCacheSize;
+
     public SimpleReadCacheSelector() {}
 
     /**
@@ -99,6 +107,17 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
                 return new MapCache();
             }
         }
+        return readCache(size);
+    }
+
+    @Override
+    public ReadCache readCache(long size) {
+        if (size < 0) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unknown size, use map cache.");
+            }
+            return new MapCache();
+        }
         if (maxUseMapCacheSize == null) {
             maxUseMapCacheSize = DEFAULT_MAX_USE_MAP_CACHE_SIZE;
         }
@@ -108,6 +127,12 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
             }
             return new MapCache();
         }
+        if (minUseMemoryMappedCacheSize != null && size >= minUseMemoryMappedCacheSize * B2M) {
+            if (log.isDebugEnabled()) {
+                log.debug("Use memory mapped cache.size:{}", size);
+            }
+            return new MemoryMappedCache();
+        }
         if (log.isDebugEnabled()) {
             log.debug("Use ehcache.size:{}", size);
         }
@@ -123,4 +148,22 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
             return new Ehcache(maxCacheActivateSize, maxCacheActivateBatchCount);
         }
     }
+
+    /**
+     * The shared strings of a xls file are kept in a {@link XlsCache}, unless they are at least
+     * {@link #minUseMemoryMappedCacheSize}.
+     *
+     * @param sharedStringsTableSize size of the shared strings once decoded
+     * @return
+     */
+    @Override
+    public ReadCache xlsReadCache(long sharedStringsTableSize) {
+        if (minUseMemoryMappedCacheSize != null && sharedStringsTableSize >= minUseMemoryMappedCacheSize * B2M) {
+            if (log.isDebugEnabled()) {
+                log.debug("Use memory mapped cache.size:{}", sharedStringsTableSize);
+            }
+            return new MemoryMappedCache();
+        }
+        return new XlsCache();
+    }
 }
@@ -117,4 +117,31 @@ public class ExcelXmlConstants {
 
     public static final String SHAREDSTRINGS_X_RPH_TAG = "x:rPh";
     public static final String SHAREDSTRINGS_NS2_RPH_TAG = "ns2:rPh";
+
+    // The following is a constant read the `styles.xml`
+
+    /**
+     * custom number format
+     */
+    public static final String STYLES_NUM_FMT_TAG = "numFmt";
+
+    /**
+     * cell formats, the 's' attribute of a cell is an index in it
+     */
+    public static final String STYLES_CELL_XFS_TAG = "cellXfs";
+
+    /**
+     * cell format
+     */
+    public static final String STYLES_XF_TAG = "xf";
+
+    /**
+     * numFmtId attribute
+     */
+    public static final String ATTRIBUTE_NUM_FMT_ID = "numFmtId";
+
+    /**
+     * formatCode attribute
+     */
+    public static final String ATTRIBUTE_FORMAT_CODE = "formatCode";
 }
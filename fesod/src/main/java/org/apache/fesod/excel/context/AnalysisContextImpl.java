@@ -37,6 +37,7 @@ import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxReadSheetHolder;
 import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxReadWorkbookHolder;
 import org.apache.fesod.excel.read.processor.AnalysisEventProcessor;
 import org.apache.fesod.excel.read.processor.DefaultAnalysisEventProcessor;
+import org.apache.fesod.excel.read.processor.PipelinedAnalysisEventProcessor;
 import org.apache.fesod.excel.support.ExcelTypeEnum;
 
 /**
@@ -83,12 +84,36 @@ public class AnalysisContextImpl implements AnalysisContext {
                 break;
         }
         currentReadHolder = readWorkbookHolder;
-        analysisEventProcessor = new DefaultAnalysisEventProcessor();
+        analysisEventProcessor = createAnalysisEventProcessor(readWorkbookHolder);
         if (log.isDebugEnabled()) {
             log.debug("Initialization 'AnalysisContextImpl' complete");
         }
     }
 
+    /**
+     * Create a context that shares an already initialized workbook holder.
+     * <p>
+     * Used when several sheets are analysed at the same time, so that each sheet has its own sheet and row state.
+     *
+     * @param readWorkbookHolder workbook holder to share
+     */
+    public AnalysisContextImpl(ReadWorkbookHolder readWorkbookHolder) {
+        if (readWorkbookHolder == null) {
+            throw new IllegalArgumentException("Workbook holder argument cannot be null");
+        }
+        this.readWorkbookHolder = readWorkbookHolder;
+        currentReadHolder = readWorkbookHolder;
+        analysisEventProcessor = createAnalysisEventProcessor(readWorkbookHolder);
+    }
+
+    private static AnalysisEventProcessor createAnalysisEventProcessor(ReadWorkbookHolder readWorkbookHolder) {
+        if (readWorkbookHolder != null && readWorkbookHolder.getPipelineThreads() > 0) {
+            return new PipelinedAnalysisEventProcessor(
+                    readWorkbookHolder.getPipelineThreads(), readWorkbookHolder.getPipelineBufferSize());
+        }
+        return new DefaultAnalysisEventProcessor();
+    }
+
     @Override
     public void currentSheet(ReadSheet readSheet) {
         switch (readWorkbookHolder.getExcelType()) {
@@ -48,7 +48,7 @@ public class LongNumberConverter implements Converter<Long> {
     @Override
     public Long convertToJavaData(
             ReadCellData<?> cellData, ExcelContentProperty contentProperty, GlobalConfiguration globalConfiguration) {
-        return cellData.getNumberValue().longValue();
+        return cellData.longNumberValue();
     }
 
     @Override
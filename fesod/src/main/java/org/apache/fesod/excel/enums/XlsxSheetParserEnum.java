@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.enums;
+
+/**
+ * How the sheets of a xlsx file are parsed.
+ *
+ *
+ */
+public enum XlsxSheetParserEnum {
+    /**
+     * default. Parse with the {@code javax.xml.parsers.SAXParser}.
+     */
+    SAX,
+
+    /**
+     * Scan the UTF-8 bytes of the sheet directly, which is much faster than SAX. Fails when the sheet is not UTF-8 or
+     * has a DOCTYPE.
+     */
+    TOKENIZER,
+
+    /**
+     * Use {@link #TOKENIZER}, and fall back to {@link #SAX} for the sheets it does not support.
+     */
+    AUTO;
+}
@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.metadata.data;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.fesod.excel.enums.CellDataTypeEnum;
+
+/**
+ * A batch of rows stored column by column, in primitive arrays indexed by the row in the batch.
+ * <p>
+ * There is one batch per listener and sheet, it is cleared and filled again for every batch. The batch and its arrays
+ * are only valid during {@code ColumnarBatchReadListener#invokeBatch}, they must be copied to be kept.
+ * <p>
+ * Each column has a validity bitmap telling which rows have a value, numbers are stored as {@code double}, booleans
+ * as {@code boolean}, strings and errors as ids into a dictionary of the distinct strings of the column. The arrays
+ * of a kind of value are only created once the column has such a value.
+ *
+ *
+ */
+public class ColumnarBatch {
+    private final int capacity;
+    /**
+     * Number of rows in the batch
+     */
+    private int size;
+    /**
+     * Index of each row in the sheet
+     */
+    private final int[] rowIndexes;
+    /**
+     * Index of the last column with a cell, plus one
+     */
+    private int columnCount;
+
+    private Column[] columns = new Column[0];
+
+    public ColumnarBatch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the batch must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.rowIndexes = new int[capacity];
+    }
+
+    /**
+     * Remove all the rows, the arrays are kept for the next batch.
+     */
+    public void clear() {
+        for (int i = 0; i < columnCount; i++) {
+            columns[i].clear(size);
+        }
+        size = 0;
+        columnCount = 0;
+    }
+
+    /**
+     * Add the current row of a row buffer at the end of the batch.
+     *
+     * @param readRowBuffer
+     */
+    public void add(ReadRowBuffer readRowBuffer) {
+        if (isFull()) {
+            throw new IllegalStateException("The batch is full");
+        }
+        int row = size++;
+        rowIndexes[row] = readRowBuffer.getRowIndex();
+        int rowColumnCount = readRowBuffer.getColumnCount();
+        if (rowColumnCount > columnCount) {
+            ensureColumns(rowColumnCount);
+            columnCount = rowColumnCount;
+        }
+        for (int i = 0; i < rowColumnCount; i++) {
+            CellDataTypeEnum type = readRowBuffer.getType(i);
+            if (type == null) {
+                continue;
+            }
+            Column column = columns[i];
+            column.types[row] = type;
+            switch (type) {
+                case NUMBER:
+                    column.setDouble(row, readRowBuffer.getNumber(i));
+                    break;
+                case BOOLEAN:
+                    column.setBoolean(row, readRowBuffer.getBoolean(i));
+                    break;
+                case STRING:
+                case ERROR:
+                    column.setString(row, readRowBuffer.getString(i));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private void ensureColumns(int count) {
+        if (count > columns.length) {
+            columns = Arrays.copyOf(columns, Math.max(columns.length * 2, count));
+        }
+        for (int i = columnCount; i < count; i++) {
+            if (columns[i] == null) {
+                columns[i] = new Column(capacity);
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of rows in the batch
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size >= capacity;
+    }
+
+    /**
+     * @param row index of the row in the batch
+     * @return index of the row in the sheet, start with 0
+     */
+    public int getRowIndex(int row) {
+        return rowIndexes[row];
+    }
+
+    /**
+     * @return index of the last column with a cell in the batch, plus one
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * @param columnIndex
+     * @return the column, null when no row of the batch has a cell in this column
+     */
+    public Column getColumn(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnCount) {
+            return null;
+        }
+        return columns[columnIndex];
+    }
+
+    /**
+     * The values of one column, indexed by the row in the batch.
+     */
+    public static class Column {
+        private final int capacity;
+        /**
+         * Bit set when the row has a value
+         */
+        private final long[] validity;
+        /**
+         * Type of each row, null when the row has no cell
+         */
+        private final CellDataTypeEnum[] types;
+
+        private double[] doubles;
+        /**
+         * Index of the last row with a number, plus one
+         */
+        private int doublesSize;
+        private long[] longs;
+        private boolean longsComputed;
+        private boolean[] booleans;
+        private int[] stringIds;
+        private String[] dictionary;
+        private int dictionarySize;
+        private Map<String, Integer> dictionaryIdMap;
+
+        private Column(int capacity) {
+            this.capacity = capacity;
+            this.validity = new long[(capacity + 63) >>> 6];
+            this.types = new CellDataTypeEnum[capacity];
+        }
+
+        private void clear(int size) {
+            Arrays.fill(validity, 0L);
+            Arrays.fill(types, 0, size, null);
+            doublesSize = 0;
+            longsComputed = false;
+            if (dictionary != null) {
+                Arrays.fill(dictionary, 0, dictionarySize, null);
+                dictionarySize = 0;
+                dictionaryIdMap.clear();
+            }
+        }
+
+        private void setValid(int row) {
+            validity[row >>> 6] |= 1L << row;
+        }
+
+        private void setDouble(int row, double value) {
+            if (doubles == null) {
+                doubles = new double[capacity];
+            }
+            doubles[row] = value;
+            doublesSize = Math.max(doublesSize, row + 1);
+            longsComputed = false;
+            setValid(row);
+        }
+
+        private void setBoolean(int row, boolean value) {
+            if (booleans == null) {
+                booleans = new boolean[capacity];
+            }
+            booleans[row] = value;
+            setValid(row);
+        }
+
+        private void setString(int row, String value) {
+            if (stringIds == null) {
+                stringIds = new int[capacity];
+                dictionary = new String[16];
+                dictionaryIdMap = new HashMap<>();
+            }
+            Integer id = dictionaryIdMap.get(value);
+            if (id == null) {
+                id = dictionarySize++;
+                if (id == dictionary.length) {
+                    dictionary = Arrays.copyOf(dictionary, dictionary.length * 2);
+                }
+                dictionary[id] = value;
+                dictionaryIdMap.put(value, id);
+            }
+            stringIds[row] = id;
+            setValid(row);
+        }
+
+        /**
+         * @param row index of the row in the batch
+         * @return whether the row has no value in this column
+         */
+        public boolean isNull(int row) {
+            return (validity[row >>> 6] & (1L << row)) == 0;
+        }
+
+        /**
+         * @param row index of the row in the batch
+         * @return {@link CellDataTypeEnum#STRING}, {@link CellDataTypeEnum#ERROR}, {@link CellDataTypeEnum#NUMBER},
+         * {@link CellDataTypeEnum#BOOLEAN} or {@link CellDataTypeEnum#EMPTY}. Null when the row has no cell.
+         */
+        public CellDataTypeEnum getType(int row) {
+            return types[row];
+        }
+
+        /**
+         * @return the validity bitmap, bit {@code row % 64} of word {@code row / 64} is set when the row has a value
+         */
+        public long[] getValidity() {
+            return validity;
+        }
+
+        /**
+         * @return the number values, only meaningful for the {@link CellDataTypeEnum#NUMBER} rows. Null when there is
+         * no such row.
+         */
+        public double[] getDoubles() {
+            return doubles;
+        }
+
+        /**
+         * @return the number values cast to {@code long}, only meaningful for the {@link CellDataTypeEnum#NUMBER} rows.
+         * Null when there is no such row.
+         */
+        public long[] getLongs() {
+            if (doubles == null) {
+                return null;
+            }
+            if (!longsComputed) {
+                if (longs == null) {
+                    longs = new long[capacity];
+                }
+                for (int i = 0; i < doublesSize; i++) {
+                    longs[i] = (long) doubles[i];
+                }
+                longsComputed = true;
+            }
+            return longs;
+        }
+
+        /**
+         * @return the boolean values, only meaningful for the {@link CellDataTypeEnum#BOOLEAN} rows. Null when there
+         * is no such row.
+         */
+        public boolean[] getBooleans() {
+            return booleans;
+        }
+
+        /**
+         * @return the ids of the string and error values in the dictionary, only meaningful for the
+         * {@link CellDataTypeEnum#STRING} and {@link CellDataTypeEnum#ERROR} rows. Null when there is no such row.
+         */
+        public int[] getStringIds() {
+            return stringIds;
+        }
+
+        /**
+         * @return the distinct strings of the column, up to {@link #getDictionarySize()}. Null when there is no
+         * string.
+         */
+        public String[] getDictionary() {
+            return dictionary;
+        }
+
+        public int getDictionarySize() {
+            return dictionarySize;
+        }
+
+        /**
+         * @param row index of the row in the batch
+         * @return the value of a number row, or 0
+         */
+        public double getDouble(int row) {
+            return types[row] == CellDataTypeEnum.NUMBER ? doubles[row] : 0;
+        }
+
+        /**
+         * @param row index of the row in the batch
+         * @return the value of a number row cast to {@code long}, or 0
+         */
+        public long getLong(int row) {
+            return (long) getDouble(row);
+        }
+
+        /**
+         * @param row index of the row in the batch
+         * @return the value of a boolean row, or false
+         */
+        public boolean getBoolean(int row) {
+            return types[row] == CellDataTypeEnum.BOOLEAN && booleans[row];
+        }
+
+        /**
+         * @param row index of the row in the batch
+         * @return the value of a string or error row, or null
+         */
+        public String getString(int row) {
+            CellDataTypeEnum type = types[row];
+            if (type != CellDataTypeEnum.STRING && type != CellDataTypeEnum.ERROR) {
+                return null;
+            }
+            return dictionary[stringIds[row]];
+        }
+    }
+}
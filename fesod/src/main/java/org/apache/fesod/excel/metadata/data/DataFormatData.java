@@ -43,6 +43,22 @@ public class DataFormatData {
      */
     private String format;
 
+    /**
+     * Whether it is a date format, null if it has not been checked yet. It is reset when the format changes.
+     */
+    @EqualsAndHashCode.Exclude
+    private Boolean date;
+
+    public void setIndex(Short index) {
+        this.index = index;
+        this.date = null;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+        this.date = null;
+    }
+
     /**
      * The source is not empty merge the data to the target.
      *
@@ -66,6 +82,7 @@ public class DataFormatData {
         DataFormatData dataFormatData = new DataFormatData();
         dataFormatData.setIndex(getIndex());
         dataFormatData.setFormat(getFormat());
+        dataFormatData.setDate(getDate());
         return dataFormatData;
     }
 }
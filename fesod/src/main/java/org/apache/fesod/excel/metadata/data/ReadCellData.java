@@ -26,6 +26,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.apache.fesod.excel.constant.FastExcelConstants;
 import org.apache.fesod.excel.enums.CellDataTypeEnum;
+import org.apache.fesod.excel.util.NumberUtils;
 
 /**
  * read cell data
@@ -38,6 +39,10 @@ import org.apache.fesod.excel.enums.CellDataTypeEnum;
 @EqualsAndHashCode
 @NoArgsConstructor
 public class ReadCellData<T> extends CellData<T> {
+    /**
+     * Below it, the cast of a double to a long gives the same as {@link BigDecimal#longValue()}.
+     */
+    private static final double MAX_EXACT_LONG = 1e15;
 
     /**
      * originalNumberValue vs numberValue
@@ -61,6 +66,13 @@ public class ReadCellData<T> extends CellData<T> {
      */
     private BigDecimal originalNumberValue;
 
+    /**
+     * The number as written in the file, {@link #getOriginalNumberValue()} and {@link #getNumberValue()} are only
+     * built from it when they are asked for.
+     */
+    @EqualsAndHashCode.Exclude
+    private String originalNumberText;
+
     /**
      * data format.
      */
@@ -158,12 +170,95 @@ public class ReadCellData<T> extends CellData<T> {
         return cellData;
     }
 
+    public BigDecimal getOriginalNumberValue() {
+        if (originalNumberValue == null && originalNumberText != null) {
+            originalNumberValue = new BigDecimal(originalNumberText);
+        }
+        return originalNumberValue;
+    }
+
+    @Override
+    public BigDecimal getNumberValue() {
+        BigDecimal numberValue = super.getNumberValue();
+        if (numberValue == null && originalNumberText != null) {
+            numberValue = getOriginalNumberValue().round(FastExcelConstants.EXCEL_MATH_CONTEXT);
+            setNumberValue(numberValue);
+        }
+        return numberValue;
+    }
+
+    /**
+     * The number value as a double, the same as {@code getNumberValue().doubleValue()}.
+     * <p>
+     * Numbers read from the file with no more digits than excel keeps are parsed without any BigDecimal.
+     *
+     * @return
+     */
+    public double doubleNumberValue() {
+        if (readFromText()) {
+            double value = NumberUtils.toDouble(originalNumberText);
+            // BigDecimal has no negative zero
+            return value == 0 ? 0 : value;
+        }
+        return getNumberValue().doubleValue();
+    }
+
+    /**
+     * The number value as a long, the same as {@code getNumberValue().longValue()}.
+     * <p>
+     * Numbers read from the file with no more digits than excel keeps are parsed without any BigDecimal.
+     *
+     * @return
+     */
+    public long longNumberValue() {
+        if (readFromText()) {
+            double value = NumberUtils.toDouble(originalNumberText);
+            // Larger numbers wrap around with BigDecimal#longValue()
+            if (Math.abs(value) < MAX_EXACT_LONG) {
+                return (long) value;
+            }
+        }
+        return getNumberValue().longValue();
+    }
+
+    /**
+     * The number value as an int, the same as {@code getNumberValue().intValue()}.
+     *
+     * @return
+     * @see #longNumberValue()
+     */
+    public int intNumberValue() {
+        return (int) longNumberValue();
+    }
+
+    /**
+     * Whether the number can be taken from the text: it has not been set otherwise, and it is not changed by the
+     * rounding of {@link #getNumberValue()}.
+     */
+    private boolean readFromText() {
+        return originalNumberText != null
+                && originalNumberValue == null
+                && super.getNumberValue() == null
+                && NumberUtils.significantDigits(originalNumberText)
+                        <= FastExcelConstants.EXCEL_MATH_CONTEXT.getPrecision();
+    }
+
+    @Override
+    public void checkEmpty() {
+        // The number is not built yet
+        if (getType() == CellDataTypeEnum.NUMBER && originalNumberText != null) {
+            return;
+        }
+        super.checkEmpty();
+    }
+
     @Override
     public ReadCellData<Object> clone() {
         ReadCellData<Object> readCellData = new ReadCellData<>();
         readCellData.setType(getType());
-        readCellData.setNumberValue(getNumberValue());
-        readCellData.setOriginalNumberValue(getOriginalNumberValue());
+        readCellData.setNumberValue(super.getNumberValue());
+        readCellData.setOriginalNumberValue(originalNumberValue);
+        readCellData.setOriginalNumberText(originalNumberText);
         readCellData.setStringValue(getStringValue());
         readCellData.setBooleanValue(getBooleanValue());
         readCellData.setData(getData());
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.metadata.data;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.fesod.excel.enums.CellDataTypeEnum;
+import org.apache.fesod.excel.util.NumberUtils;
+
+/**
+ * The cells of one row, stored in arrays indexed by column.
+ * <p>
+ * There is one buffer per sheet, it is cleared and filled again for every row, so nothing is allocated per cell. The
+ * buffer and its values are only valid during {@code RowBufferReadListener#invoke}, they must be copied to be kept.
+ * <p>
+ * Numbers and booleans are stored as {@code double}, strings and errors as {@link String}. A column without cell has
+ * no type.
+ *
+ *
+ */
+public class ReadRowBuffer {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Index of the row, start with 0
+     */
+    private int rowIndex = -1;
+    /**
+     * Index of the last column with a cell, plus one
+     */
+    private int columnCount;
+    /**
+     * Whether a cell of the row is not empty
+     */
+    private boolean hasData;
+
+    private CellDataTypeEnum[] types = new CellDataTypeEnum[DEFAULT_CAPACITY];
+    private double[] numberValues = new double[DEFAULT_CAPACITY];
+    private String[] stringValues = new String[DEFAULT_CAPACITY];
+    private DataFormatData[] dataFormatData = new DataFormatData[DEFAULT_CAPACITY];
+
+    /**
+     * Start a new row, the cells of the previous row are removed.
+     *
+     * @param rowIndex
+     */
+    public void clear(int rowIndex) {
+        Arrays.fill(types, 0, columnCount, null);
+        Arrays.fill(stringValues, 0, columnCount, null);
+        Arrays.fill(dataFormatData, 0, columnCount, null);
+        this.rowIndex = rowIndex;
+        this.columnCount = 0;
+        this.hasData = false;
+    }
+
+    /**
+     * Fill the buffer with cells that have already been read.
+     *
+     * @param rowIndex
+     * @param cellDataMap
+     */
+    public void fill(int rowIndex, Map<Integer, ReadCellData<?>> cellDataMap) {
+        clear(rowIndex);
+        for (Map.Entry<Integer, ReadCellData<?>> entry : cellDataMap.entrySet()) {
+            int columnIndex = entry.getKey();
+            ReadCellData<?> readCellData = entry.getValue();
+            if (readCellData == null || readCellData.getType() == null) {
+                continue;
+            }
+            switch (readCellData.getType()) {
+                case STRING:
+                case DIRECT_STRING:
+                case RICH_TEXT_STRING:
+                    setString(columnIndex, readCellData.getStringValue());
+                    break;
+                case ERROR:
+                    setError(columnIndex, readCellData.getStringValue());
+                    break;
+                case NUMBER:
+                    setNumber(columnIndex, originalNumber(readCellData), readCellData.getDataFormatData());
+                    break;
+                case BOOLEAN:
+                    setBoolean(columnIndex, Boolean.TRUE.equals(readCellData.getBooleanValue()));
+                    break;
+                default:
+                    setEmpty(columnIndex);
+                    break;
+            }
+        }
+    }
+
+    private static double originalNumber(ReadCellData<?> readCellData) {
+        if (readCellData.getOriginalNumberText() != null) {
+            return NumberUtils.toDouble(readCellData.getOriginalNumberText());
+        }
+        BigDecimal numberValue = readCellData.getOriginalNumberValue() == null
+                ? readCellData.getNumberValue()
+                : readCellData.getOriginalNumberValue();
+        return numberValue.doubleValue();
+    }
+
+    public void setString(int columnIndex, String value) {
+        if (value == null || value.isEmpty()) {
+            setEmpty(columnIndex);
+            return;
+        }
+        set(columnIndex, CellDataTypeEnum.STRING);
+        stringValues[columnIndex] = value;
+    }
+
+    public void setError(int columnIndex, String value) {
+        set(columnIndex, CellDataTypeEnum.ERROR);
+        stringValues[columnIndex] = value;
+    }
+
+    public void setNumber(int columnIndex, double value, DataFormatData dataFormatData) {
+        set(columnIndex, CellDataTypeEnum.NUMBER);
+        numberValues[columnIndex] = value;
+        this.dataFormatData[columnIndex] = dataFormatData;
+    }
+
+    public void setBoolean(int columnIndex, boolean value) {
+        set(columnIndex, CellDataTypeEnum.BOOLEAN);
+        numberValues[columnIndex] = value ? 1 : 0;
+    }
+
+    public void setEmpty(int columnIndex) {
+        ensureCapacity(columnIndex);
+        types[columnIndex] = CellDataTypeEnum.EMPTY;
+        columnCount = Math.max(columnCount, columnIndex + 1);
+    }
+
+    private void set(int columnIndex, CellDataTypeEnum type) {
+        setEmpty(columnIndex);
+        types[columnIndex] = type;
+        hasData = true;
+    }
+
+    private void ensureCapacity(int columnIndex) {
+        if (columnIndex < types.length) {
+            return;
+        }
+        int capacity = Math.max(types.length * 2, columnIndex + 1);
+        types = Arrays.copyOf(types, capacity);
+        numberValues = Arrays.copyOf(numberValues, capacity);
+        stringValues = Arrays.copyOf(stringValues, capacity);
+        dataFormatData = Arrays.copyOf(dataFormatData, capacity);
+    }
+
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    /**
+     * @return index of the last column with a cell, plus one
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * @return whether a cell of the row is not empty
+     */
+    public boolean hasData() {
+        return hasData;
+    }
+
+    /**
+     * @param columnIndex
+     * @return the type of the cell, {@link CellDataTypeEnum#STRING}, {@link CellDataTypeEnum#ERROR},
+     * {@link CellDataTypeEnum#NUMBER}, {@link CellDataTypeEnum#BOOLEAN} or {@link CellDataTypeEnum#EMPTY}. Null when
+     * the column has no cell.
+     */
+    public CellDataTypeEnum getType(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnCount) {
+            return null;
+        }
+        return types[columnIndex];
+    }
+
+    /**
+     * @param columnIndex
+     * @return whether the column has a cell that is not empty
+     */
+    public boolean hasValue(int columnIndex) {
+        CellDataTypeEnum type = getType(columnIndex);
+        return type != null && type != CellDataTypeEnum.EMPTY;
+    }
+
+    /**
+     * @param columnIndex
+     * @return the value of a string or error cell, null for the other cells
+     */
+    public String getString(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnCount) {
+            return null;
+        }
+        return stringValues[columnIndex];
+    }
+
+    /**
+     * @param columnIndex
+     * @return the value of a number cell, as stored in the file, or 1 and 0 for a boolean cell. 0 for the other cells
+     */
+    public double getNumber(int columnIndex) {
+        CellDataTypeEnum type = getType(columnIndex);
+        if (type != CellDataTypeEnum.NUMBER && type != CellDataTypeEnum.BOOLEAN) {
+            return 0;
+        }
+        return numberValues[columnIndex];
+    }
+
+    /**
+     * @param columnIndex
+     * @return the value of a boolean cell, or whether a number cell is not 0
+     */
+    public boolean getBoolean(int columnIndex) {
+        return getNumber(columnIndex) != 0;
+    }
+
+    /**
+     * @param columnIndex
+     * @return the data format of a number cell, can be used to tell dates from numbers
+     */
+    public DataFormatData getDataFormatData(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnCount) {
+            return null;
+        }
+        return dataFormatData[columnIndex];
+    }
+}
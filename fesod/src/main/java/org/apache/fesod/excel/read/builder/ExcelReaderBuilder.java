@@ -32,6 +32,7 @@ import org.apache.fesod.excel.cache.selector.SimpleReadCacheSelector;
 import org.apache.fesod.excel.context.AnalysisContext;
 import org.apache.fesod.excel.enums.CellExtraTypeEnum;
 import org.apache.fesod.excel.enums.ReadDefaultReturnEnum;
+import org.apache.fesod.excel.enums.XlsxSheetParserEnum;
 import org.apache.fesod.excel.event.AnalysisEventListener;
 import org.apache.fesod.excel.event.SyncReadListener;
 import org.apache.fesod.excel.read.listener.ModelBuildEventListener;
@@ -190,6 +191,123 @@ public class ExcelReaderBuilder extends AbstractExcelReaderParameterBuilder<Exce
         return this;
     }
 
+    /**
+     * How the sheets of a xlsx file are parsed. Default is {@link XlsxSheetParserEnum#SAX}.
+     * Only work on the xlsx file.
+     *
+     * @param xlsxSheetParser
+     * @return
+     */
+    public ExcelReaderBuilder xlsxSheetParser(XlsxSheetParserEnum xlsxSheetParser) {
+        readWorkbook.setXlsxSheetParser(xlsxSheetParser);
+        return this;
+    }
+
+    /**
+     * Only load the shared strings referenced by the sheets being read. Default is false.
+     * Only work on the xlsx file.
+     *
+     * @param onlyReferencedSharedStrings
+     * @return
+     * @see ReadWorkbook#getOnlyReferencedSharedStrings()
+     */
+    public ExcelReaderBuilder onlyReferencedSharedStrings(Boolean onlyReferencedSharedStrings) {
+        readWorkbook.setOnlyReferencedSharedStrings(onlyReferencedSharedStrings);
+        return this;
+    }
+
+    /**
+     * Xlsx streams up to this size in bytes are opened in memory instead of being copied to a temp file first. Default
+     * is 1 MB.
+     * Only work on the xlsx file.
+     *
+     * @param xlsxInMemorySize
+     * @return
+     * @see ReadWorkbook#getXlsxInMemorySize()
+     */
+    public ExcelReaderBuilder xlsxInMemorySize(Integer xlsxInMemorySize) {
+        readWorkbook.setXlsxInMemorySize(xlsxInMemorySize);
+        return this;
+    }
+
+    /**
+     * Read the xlsx file as a zip stream, without opening the package. Default is false.
+     * Only work on the xlsx file.
+     *
+     * @param xlsxStreaming
+     * @return
+     * @see ReadWorkbook#getXlsxStreaming()
+     */
+    public ExcelReaderBuilder xlsxStreaming(Boolean xlsxStreaming) {
+        readWorkbook.setXlsxStreaming(xlsxStreaming);
+        return this;
+    }
+
+    /**
+     * Read the xls file with less memory. Default is false.
+     * Only work on the xls file.
+     *
+     * @param xlsStreaming
+     * @return
+     * @see ReadWorkbook#getXlsStreaming()
+     */
+    public ExcelReaderBuilder xlsStreaming(Boolean xlsStreaming) {
+        readWorkbook.setXlsStreaming(xlsStreaming);
+        return this;
+    }
+
+    /**
+     * Read the CSV file with the built-in tokenizer. Default is true.
+     * Only work on the CSV file.
+     *
+     * @param csvBuiltinParser
+     * @return
+     * @see ReadWorkbook#getCsvBuiltinParser()
+     */
+    public ExcelReaderBuilder csvBuiltinParser(Boolean csvBuiltinParser) {
+        readWorkbook.setCsvBuiltinParser(csvBuiltinParser);
+        return this;
+    }
+
+    /**
+     * The number of threads parsing a CSV file at the same time. Default is 1.
+     * Only work on the CSV file.
+     *
+     * @param csvParallelism
+     * @return
+     * @see ReadWorkbook#getCsvParallelism()
+     */
+    public ExcelReaderBuilder csvParallelism(Integer csvParallelism) {
+        readWorkbook.setCsvParallelism(csvParallelism);
+        return this;
+    }
+
+    /**
+     * Deliver the rows of a CSV file parsed by several threads in the order of the file. Default is true.
+     * Only work on the CSV file.
+     *
+     * @param csvParallelOrdered
+     * @return
+     * @see ReadWorkbook#getCsvParallelOrdered()
+     */
+    public ExcelReaderBuilder csvParallelOrdered(Boolean csvParallelOrdered) {
+        readWorkbook.setCsvParallelOrdered(csvParallelOrdered);
+        return this;
+    }
+
+    /**
+     * Assert that no value of the CSV file contains a line break. Default is false.
+     * Only work on the CSV file.
+     *
+     * @param csvNoEmbeddedNewlines
+     * @return
+     * @see ReadWorkbook#getCsvNoEmbeddedNewlines()
+     */
+    public ExcelReaderBuilder csvNoEmbeddedNewlines(Boolean csvNoEmbeddedNewlines) {
+        readWorkbook.setCsvNoEmbeddedNewlines(csvNoEmbeddedNewlines);
+        return this;
+    }
+
     /**
      * Read some extra information, not by default
      *
@@ -233,6 +351,43 @@ public class ExcelReaderBuilder extends AbstractExcelReaderParameterBuilder<Exce
         return this;
     }
 
+    /**
+     * The number of sheets parsed at the same time. Default is 1.
+     * Only work on the xlsx file.
+     *
+     * @param parallelSheets
+     * @return
+     * @see ReadWorkbook#getParallelSheets()
+     */
+    public ExcelReaderBuilder parallelSheets(Integer parallelSheets) {
+        readWorkbook.setParallelSheets(parallelSheets);
+        return this;
+    }
+
+    /**
+     * The number of threads converting rows while the file is still being parsed. Default is 0.
+     *
+     * @param pipelineThreads
+     * @return
+     * @see ReadWorkbook#getPipelineThreads()
+     */
+    public ExcelReaderBuilder pipelineThreads(Integer pipelineThreads) {
+        readWorkbook.setPipelineThreads(pipelineThreads);
+        return this;
+    }
+
+    /**
+     * The maximum number of rows parsed but not yet dispatched. Default is 1024.
+     *
+     * @param pipelineBufferSize
+     * @return
+     * @see ReadWorkbook#getPipelineBufferSize()
+     */
+    public ExcelReaderBuilder pipelineBufferSize(Integer pipelineBufferSize) {
+        readWorkbook.setPipelineBufferSize(pipelineBufferSize);
+        return this;
+    }
+
     public ExcelReader build() {
         return new ExcelReader(readWorkbook);
     }
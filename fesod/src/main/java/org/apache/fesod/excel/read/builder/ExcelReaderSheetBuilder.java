@@ -19,13 +19,18 @@
 
 package org.apache.fesod.excel.read.builder;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 import org.apache.fesod.excel.ExcelReader;
 import org.apache.fesod.excel.event.SyncReadListener;
 import org.apache.fesod.excel.exception.ExcelAnalysisException;
 import org.apache.fesod.excel.exception.ExcelGenerateException;
+import org.apache.fesod.excel.read.index.SheetRowIndex;
+import org.apache.fesod.excel.read.iterator.ExcelReadIterator;
 import org.apache.fesod.excel.read.metadata.ReadSheet;
+import org.apache.fesod.excel.read.publisher.ExcelReadPublisher;
 
 /**
  * Build sheet
@@ -102,6 +107,70 @@ public class ExcelReaderSheetBuilder extends AbstractExcelReaderParameterBuilder
         return this;
     }
 
+    /**
+     * Index of the first row to read, start with 0. The rows before it are skipped without being decoded, the head
+     * rows are always read.
+     *
+     * @param startRow
+     * @return
+     */
+    public ExcelReaderSheetBuilder startRow(Integer startRow) {
+        readSheet.setStartRow(startRow);
+        return this;
+    }
+
+    /**
+     * Index of the last row to read, start with 0. The sheet is not parsed any further after it, so the extra
+     * information placed after the rows, such as merged cells, hyperlinks and comments, is not read.
+     *
+     * @param endRow
+     * @return
+     */
+    public ExcelReaderSheetBuilder endRow(Integer endRow) {
+        readSheet.setEndRow(endRow);
+        return this;
+    }
+
+    /**
+     * Index of the rows of the xlsx sheet, built with {@link SheetRowIndex#build(java.io.File, int)}. The sheet is read
+     * from the index, starting at the last indexed row before {@link #startRow(Integer)}.
+     *
+     * @param sheetRowIndex
+     * @return
+     */
+    public ExcelReaderSheetBuilder sheetRowIndex(SheetRowIndex sheetRowIndex) {
+        readSheet.setSheetRowIndex(sheetRowIndex);
+        return this;
+    }
+
+    /**
+     * Only read the cells of these columns, start with 0. The cells of the other columns are skipped without being
+     * decoded.
+     *
+     * @param includeColumnIndexes
+     * @return
+     */
+    public ExcelReaderSheetBuilder includeColumnIndexes(Collection<Integer> includeColumnIndexes) {
+        readSheet.setIncludeColumnIndexes(includeColumnIndexes);
+        return this;
+    }
+
+    /**
+     * When the data is read into a head class, only read the cells of the columns of the head class once the head has
+     * been parsed. Default is false.
+     * <p>
+     * The other cells are skipped without being decoded, so they are not in
+     * {@link org.apache.fesod.excel.read.metadata.holder.ReadRowHolder#getCellMap()} either. Ignored when
+     * {@link #includeColumnIndexes(Collection)} is set.
+     *
+     * @param headColumnsOnly
+     * @return
+     */
+    public ExcelReaderSheetBuilder headColumnsOnly(Boolean headColumnsOnly) {
+        readSheet.setHeadColumnsOnly(headColumnsOnly);
+        return this;
+    }
+
     public ReadSheet build() {
         return readSheet;
     }
@@ -133,6 +202,54 @@ public class ExcelReaderSheetBuilder extends AbstractExcelReaderParameterBuilder
         return (List<T>) syncReadListener.getList();
     }
 
+    /**
+     * Iterate over the rows while the sheet is read by another thread, only a few rows are held in memory.
+     * <p>
+     * The iterator must be closed when it is not read to the end.
+     *
+     * @param head class of the rows, null to read the rows as maps
+     * @return
+     */
+    public <T> ExcelReadIterator<T> iterator(Class<T> head) {
+        if (excelReader == null) {
+            throw new ExcelAnalysisException("Must use 'FastExcelFactory.read().sheet()' to call this method");
+        }
+        if (head != null) {
+            head(head);
+        }
+        return new ExcelReadIterator<>(excelReader, build(), ExcelReadIterator.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Stream the rows while the sheet is read by another thread, only a few rows are held in memory.
+     * <p>
+     * The stream must be closed when it is not consumed to the end.
+     *
+     * @param head class of the rows, null to read the rows as maps
+     * @return
+     * @see #iterator(Class)
+     */
+    public <T> Stream<T> stream(Class<T> head) {
+        return iterator(head).stream();
+    }
+
+    /**
+     * Publish the rows to a subscriber, the sheet is read by another thread only as fast as the subscriber requests
+     * the rows.
+     *
+     * @param head class of the rows, null to read the rows as maps
+     * @return
+     */
+    public <T> ExcelReadPublisher<T> publisher(Class<T> head) {
+        if (excelReader == null) {
+            throw new ExcelAnalysisException("Must use 'FastExcelFactory.read().sheet()' to call this method");
+        }
+        if (head != null) {
+            head(head);
+        }
+        return new ExcelReadPublisher<>(excelReader, build());
+    }
+
     @Override
     protected ReadSheet parameter() {
         return readSheet;
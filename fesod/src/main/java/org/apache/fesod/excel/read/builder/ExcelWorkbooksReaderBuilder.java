@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.builder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.read.metadata.WorkbookReadResult;
+import org.apache.fesod.excel.util.ThreadUtils;
+
+/**
+ * Build a read of many workbooks at the same time.
+ * <p>
+ * Each workbook is read on its own thread, a virtual thread when the running java supports them, with at most
+ * {@link #parallelism(Integer)} workbooks read at the same time. A workbook that fails does not stop the others, its
+ * exception is returned in its result. The thread local caches are removed after each workbook.
+ *
+ * @param <S> type of the sources
+ *
+ */
+public class ExcelWorkbooksReaderBuilder<S> {
+    private final List<S> sourceList;
+    /**
+     * Creates the reader of a source, with its head and listeners
+     */
+    private final Function<? super S, ExcelReaderBuilder> readerFactory;
+    /**
+     * The number of workbooks read at the same time. Default is the number of processors.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    /**
+     * Use virtual threads when supported. Default is true.
+     */
+    private boolean virtualThreads = true;
+
+    public ExcelWorkbooksReaderBuilder(
+            Collection<? extends S> sources, Function<? super S, ExcelReaderBuilder> readerFactory) {
+        if (sources == null) {
+            throw new IllegalArgumentException("Sources can not be null");
+        }
+        if (readerFactory == null) {
+            throw new IllegalArgumentException("Reader factory can not be null");
+        }
+        this.sourceList = new ArrayList<>(sources);
+        this.readerFactory = readerFactory;
+    }
+
+    /**
+     * The number of workbooks read at the same time. Default is the number of processors.
+     *
+     * @param parallelism
+     * @return
+     */
+    public ExcelWorkbooksReaderBuilder<S> parallelism(Integer parallelism) {
+        if (parallelism != null) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+            }
+            this.parallelism = parallelism;
+        }
+        return this;
+    }
+
+    /**
+     * Use virtual threads when the running java supports them. Default is true.
+     *
+     * @param virtualThreads
+     * @return
+     */
+    public ExcelWorkbooksReaderBuilder<S> virtualThreads(Boolean virtualThreads) {
+        if (virtualThreads != null) {
+            this.virtualThreads = virtualThreads;
+        }
+        return this;
+    }
+
+    /**
+     * Read all the sheets of every workbook, the rows are only passed to the listeners of each reader.
+     *
+     * @return the result of each source, in the order of the sources
+     */
+    public List<WorkbookReadResult<S, Void>> doReadAll() {
+        return read(false);
+    }
+
+    /**
+     * Read all the sheets of every workbook and return the rows.
+     *
+     * @return the result of each source, in the order of the sources
+     */
+    public <T> List<WorkbookReadResult<S, T>> doReadAllSync() {
+        return read(true);
+    }
+
+    private <T> List<WorkbookReadResult<S, T>> read(boolean sync) {
+        int size = sourceList.size();
+        // Each thread sets its own index, the latch makes the results visible
+        List<WorkbookReadResult<S, T>> results = new ArrayList<>(Collections.nCopies(size, null));
+        ThreadFactory threadFactory = threadFactory();
+        Semaphore permits = new Semaphore(parallelism);
+        CountDownLatch done = new CountDownLatch(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                permits.acquire();
+                int index = i;
+                threadFactory
+                        .newThread(() -> {
+                            try {
+                                results.set(index, readOne(sourceList.get(index), sync));
+                            } finally {
+                                permits.release();
+                                done.countDown();
+                            }
+                        })
+                        .start();
+            }
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelAnalysisException("Interrupted while reading the workbooks", e);
+        }
+        return results;
+    }
+
+    private <T> WorkbookReadResult<S, T> readOne(S source, boolean sync) {
+        try {
+            ExcelReaderBuilder excelReaderBuilder = readerFactory.apply(source);
+            if (sync) {
+                return new WorkbookReadResult<>(source, excelReaderBuilder.doReadAllSync(), null);
+            }
+            excelReaderBuilder.doReadAll();
+            return new WorkbookReadResult<>(source, null, null);
+        } catch (Throwable t) {
+            return new WorkbookReadResult<>(source, null, t);
+        } finally {
+            // A failed read may not have reached the finish of its reader
+            ThreadUtils.removeThreadLocalCache();
+        }
+    }
+
+    private ThreadFactory threadFactory() {
+        if (virtualThreads) {
+            ThreadFactory threadFactory = ThreadUtils.virtualThreadFactory("fesod-workbook-reader-");
+            if (threadFactory != null) {
+                return threadFactory;
+            }
+        }
+        return ThreadUtils.daemonThreadFactory("fesod-workbook-reader-");
+    }
+}
@@ -0,0 +1,486 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.fesod.excel.analysis.v07.XlsxPartParser;
+import org.apache.fesod.excel.analysis.v07.XlsxWorkbookInspector;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.exception.ExcelCommonException;
+import org.apache.poi.openxml4j.util.ZipSecureFile;
+
+/**
+ * Index of the rows of a xlsx sheet, so that a range of rows can be read without parsing the rows before it.
+ * <p>
+ * Built in one pass over the sheet part, the index is an uncompressed copy of the sheet and the offset of every
+ * {@code interval}th {@code <row>} in the copy, plus the offsets of the first rows for the head. Both are saved next to
+ * the workbook. A read of the sheet with {@code startRow} then parses the beginning of the copy up to the end of the
+ * head rows, and goes on from the last indexed row before {@code startRow}.
+ * <p>
+ * Only the rows with an {@code r} attribute are indexed, a sheet without them is always read from the beginning. The
+ * index keeps the name of the sheet part, a read checks it against the part of the sheet read.
+ *
+ *
+ */
+@Slf4j
+public class SheetRowIndex {
+    public static final int DEFAULT_INTERVAL = 100;
+
+    private static final int MAGIC = 0x46524958;
+    private static final int VERSION = 2;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Uncompressed copy of the sheet part
+     */
+    private final File sheetFile;
+    private final int sheetNo;
+    /**
+     * Name of the zip entry of the sheet, like {@code xl/worksheets/sheet1.xml}
+     */
+    private final String partName;
+
+    private final int interval;
+    /**
+     * Index of each indexed row, in the order of the sheet
+     */
+    private final int[] rowIndexes;
+    /**
+     * Offset of the {@code <} of each indexed row in the copy
+     */
+    private final long[] offsets;
+
+    private SheetRowIndex(
+            File sheetFile, int sheetNo, String partName, int interval, int[] rowIndexes, long[] offsets) {
+        this.sheetFile = sheetFile;
+        this.sheetNo = sheetNo;
+        this.partName = partName;
+        this.interval = interval;
+        this.rowIndexes = rowIndexes;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Build the index of a sheet with the default interval and save it next to the workbook.
+     *
+     * @param file    xlsx file
+     * @param sheetNo index of the sheet in the workbook, hidden sheets included, start with 0
+     * @return
+     */
+    public static SheetRowIndex build(File file, int sheetNo) {
+        return build(file, sheetNo, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Build the index of a sheet and save it next to the workbook.
+     *
+     * @param file     xlsx file
+     * @param sheetNo  index of the sheet in the workbook, hidden sheets included, start with 0
+     * @param interval number of rows between two indexed rows, the smaller the fewer rows are parsed before the first
+     *                 row read
+     * @return
+     */
+    public static SheetRowIndex build(File file, int sheetNo, int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("The interval must be positive: " + interval);
+        }
+        File sheetFile = sheetFile(file, sheetNo);
+        RowOffsetScanner scanner = new RowOffsetScanner(interval);
+        String partName;
+        // Bounded like the package of POI, see ZipSecureFile#setMaxEntrySize and ZipSecureFile#setMinInflateRatio
+        try (ZipSecureFile zipFile = new ZipSecureFile(file)) {
+            List<String> sheetEntryNameList = XlsxWorkbookInspector.sheetEntryNames(zipFile, new XlsxPartParser(null));
+            if (sheetNo < 0 || sheetNo >= sheetEntryNameList.size() || sheetEntryNameList.get(sheetNo) == null) {
+                throw new ExcelAnalysisException("Can not find sheet " + sheetNo);
+            }
+            partName = sheetEntryNameList.get(sheetNo);
+            ZipArchiveEntry zipEntry = zipFile.getEntry(partName);
+            if (zipEntry == null) {
+                throw new ExcelAnalysisException("Can not find sheet " + sheetNo);
+            }
+            try (InputStream inputStream = zipFile.getInputStream(zipEntry);
+                    OutputStream outputStream = new FileOutputStream(sheetFile)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int length;
+                while ((length = inputStream.read(buffer)) > 0) {
+                    outputStream.write(buffer, 0, length);
+                    scanner.scan(buffer, length);
+                }
+            }
+        } catch (ZipException e) {
+            throw new ExcelCommonException("Invalid OOXML/zip format: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+        SheetRowIndex sheetRowIndex = new SheetRowIndex(
+                sheetFile,
+                sheetNo,
+                partName,
+                interval,
+                Arrays.copyOf(scanner.rowIndexes, scanner.size),
+                Arrays.copyOf(scanner.offsets, scanner.size));
+        sheetRowIndex.save(file);
+        return sheetRowIndex;
+    }
+
+    /**
+     * Load the index of a sheet saved next to the workbook.
+     *
+     * @param file    xlsx file
+     * @param sheetNo index of the sheet in the workbook, hidden sheets included, start with 0
+     * @return null when there is no index, or the workbook has changed since it was built
+     */
+    public static SheetRowIndex load(File file, int sheetNo) {
+        File indexFile = indexFile(file, sheetNo);
+        File sheetFile = sheetFile(file, sheetNo);
+        if (!indexFile.isFile() || !sheetFile.isFile()) {
+            return null;
+        }
+        try (DataInputStream dataInputStream =
+                new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (dataInputStream.readInt() != MAGIC || dataInputStream.readInt() != VERSION) {
+                return null;
+            }
+            if (dataInputStream.readLong() != file.length()
+                    || dataInputStream.readLong() != file.lastModified()
+                    || dataInputStream.readLong() != sheetFile.length()
+                    || dataInputStream.readInt() != sheetNo) {
+                return null;
+            }
+            String partName = dataInputStream.readUTF();
+            int interval = dataInputStream.readInt();
+            int size = dataInputStream.readInt();
+            int[] rowIndexes = new int[size];
+            long[] offsets = new long[size];
+            for (int i = 0; i < size; i++) {
+                rowIndexes[i] = dataInputStream.readInt();
+                offsets[i] = dataInputStream.readLong();
+            }
+            return new SheetRowIndex(sheetFile, sheetNo, partName, interval, rowIndexes, offsets);
+        } catch (EOFException e) {
+            return null;
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+    }
+
+    /**
+     * Load the index of a sheet, or build it when there is none or the workbook has changed.
+     *
+     * @param file    xlsx file
+     * @param sheetNo index of the sheet in the workbook, hidden sheets included, start with 0
+     * @return
+     */
+    public static SheetRowIndex loadOrBuild(File file, int sheetNo) {
+        SheetRowIndex sheetRowIndex = load(file, sheetNo);
+        if (sheetRowIndex != null) {
+            return sheetRowIndex;
+        }
+        return build(file, sheetNo);
+    }
+
+    /**
+     * Delete the saved index.
+     *
+     * @param file    xlsx file
+     * @param sheetNo index of the sheet in the workbook, hidden sheets included, start with 0
+     */
+    public static void delete(File file, int sheetNo) {
+        if (!indexFile(file, sheetNo).delete() && log.isDebugEnabled()) {
+            log.debug("No index to delete for sheet {} of {}", sheetNo, file);
+        }
+        if (!sheetFile(file, sheetNo).delete() && log.isDebugEnabled()) {
+            log.debug("No sheet copy to delete for sheet {} of {}", sheetNo, file);
+        }
+    }
+
+    static File indexFile(File file, int sheetNo) {
+        return new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".sheet" + sheetNo + ".idx");
+    }
+
+    static File sheetFile(File file, int sheetNo) {
+        return new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".sheet" + sheetNo + ".xml");
+    }
+
+    private void save(File file) {
+        try (DataOutputStream dataOutputStream =
+                new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile(file, sheetNo))))) {
+            dataOutputStream.writeInt(MAGIC);
+            dataOutputStream.writeInt(VERSION);
+            dataOutputStream.writeLong(file.length());
+            dataOutputStream.writeLong(file.lastModified());
+            dataOutputStream.writeLong(sheetFile.length());
+            dataOutputStream.writeInt(sheetNo);
+            dataOutputStream.writeUTF(partName);
+            dataOutputStream.writeInt(interval);
+            dataOutputStream.writeInt(rowIndexes.length);
+            for (int i = 0; i < rowIndexes.length; i++) {
+                dataOutputStream.writeInt(rowIndexes[i]);
+                dataOutputStream.writeLong(offsets[i]);
+            }
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+    }
+
+    public int getSheetNo() {
+        return sheetNo;
+    }
+
+    public String getPartName() {
+        return partName;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Open the sheet for a read starting at a row. The head rows are kept, the rows between the head and the last
+     * indexed row before {@code startRow} are left out.
+     *
+     * @param headRowNumber number of head rows
+     * @param startRow      index of the first row to read, null to read all the rows
+     * @return
+     * @throws IOException
+     */
+    public InputStream openSheet(int headRowNumber, Integer startRow) throws IOException {
+        int headEnd = -1;
+        int checkpoint = -1;
+        if (startRow != null) {
+            for (int i = 0; i < rowIndexes.length; i++) {
+                if (headEnd < 0 && rowIndexes[i] >= headRowNumber) {
+                    headEnd = i;
+                }
+                if (rowIndexes[i] <= startRow) {
+                    checkpoint = i;
+                } else {
+                    break;
+                }
+            }
+        }
+        if (headEnd < 0 || checkpoint < 0 || offsets[checkpoint] <= offsets[headEnd]) {
+            return new FileInputStream(sheetFile);
+        }
+        byte[] head = new byte[(int) offsets[headEnd]];
+        FileInputStream rows = new FileInputStream(sheetFile);
+        try (FileInputStream headInputStream = new FileInputStream(sheetFile)) {
+            readFully(headInputStream, head);
+            skipFully(rows, offsets[checkpoint]);
+        } catch (IOException e) {
+            rows.close();
+            throw e;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Read sheet {} from row {}", sheetNo, rowIndexes[checkpoint]);
+        }
+        return new SequenceInputStream(new ByteArrayInputStream(head), rows);
+    }
+
+    private static void readFully(InputStream inputStream, byte[] bytes) throws IOException {
+        int read = 0;
+        while (read < bytes.length) {
+            int length = inputStream.read(bytes, read, bytes.length - read);
+            if (length < 0) {
+                throw new EOFException("The sheet copy has changed");
+            }
+            read += length;
+        }
+    }
+
+    private static void skipFully(InputStream inputStream, long count) throws IOException {
+        long skipped = 0;
+        while (skipped < count) {
+            long length = inputStream.skip(count - skipped);
+            if (length <= 0) {
+                throw new EOFException("The sheet copy has changed");
+            }
+            skipped += length;
+        }
+    }
+
+    /**
+     * Find the {@code <row>} start tags in the bytes of the sheet. Attribute values and text can not contain
+     * {@code <}, so every {@code <} starts a tag.
+     */
+    private static class RowOffsetScanner {
+        private static final int MAX_NAME_LENGTH = 16;
+        private static final int MAX_TAG_LENGTH = 1024;
+
+        private final int interval;
+        private int[] rowIndexes = new int[64];
+        private long[] offsets = new long[64];
+        private int size;
+
+        /**
+         * Number of rows met
+         */
+        private int rowCount;
+        /**
+         * The previous row to index had no {@code r} attribute, index the next one
+         */
+        private boolean indexNext;
+
+        private long position;
+        private long tagOffset;
+        /**
+         * 0 outside of tags, 1 in the name of a tag, 2 in a row tag to index, 3 in another tag
+         */
+        private int state;
+
+        private final StringBuilder text = new StringBuilder();
+
+        private RowOffsetScanner(int interval) {
+            this.interval = interval;
+        }
+
+        private void scan(byte[] bytes, int length) {
+            for (int i = 0; i < length; i++, position++) {
+                char c = (char) (bytes[i] & 0xFF);
+                switch (state) {
+                    case 0:
+                        if (c == '<') {
+                            tagOffset = position;
+                            text.setLength(0);
+                            state = 1;
+                        }
+                        break;
+                    case 1:
+                        if (c == '<') {
+                            tagOffset = position;
+                            text.setLength(0);
+                        } else if (c == '>' || c == '/' || Character.isWhitespace(c)) {
+                            state = isRow() ? startRow(c) : 3;
+                            if (c == '>') {
+                                state = state == 2 ? endRow() : 0;
+                            }
+                        } else if (text.length() < MAX_NAME_LENGTH) {
+                            text.append(c);
+                        } else {
+                            state = 3;
+                        }
+                        break;
+                    case 2:
+                        if (c == '>') {
+                            state = endRow();
+                        } else if (text.length() < MAX_TAG_LENGTH) {
+                            text.append(c);
+                        }
+                        break;
+                    default:
+                        if (c == '<') {
+                            tagOffset = position;
+                            text.setLength(0);
+                            state = 1;
+                        }
+                        break;
+                }
+            }
+        }
+
+        private boolean isRow() {
+            int start = text.indexOf(":") + 1;
+            return text.length() - start == 3
+                    && text.charAt(start) == 'r'
+                    && text.charAt(start + 1) == 'o'
+                    && text.charAt(start + 2) == 'w';
+        }
+
+        /**
+         * @return the state: 2 to read the attributes of a row to index, 3 to skip the row tag
+         */
+        private int startRow(char c) {
+            int rowPosition = rowCount++;
+            if (rowPosition < interval || rowPosition % interval == 0 || indexNext) {
+                text.setLength(0);
+                text.append(c);
+                return 2;
+            }
+            return 3;
+        }
+
+        private int endRow() {
+            int rowIndex = rowIndexAttribute();
+            if (rowIndex < 0) {
+                indexNext = true;
+                return 0;
+            }
+            indexNext = false;
+            if (size == rowIndexes.length) {
+                rowIndexes = Arrays.copyOf(rowIndexes, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            rowIndexes[size] = rowIndex;
+            offsets[size] = tagOffset;
+            size++;
+            return 0;
+        }
+
+        /**
+         * @return the index of the row from its {@code r} attribute, -1 when it has none
+         */
+        private int rowIndexAttribute() {
+            for (int i = 0; i + 1 < text.length(); i++) {
+                if (text.charAt(i) != 'r' || (i > 0 && !Character.isWhitespace(text.charAt(i - 1)))) {
+                    continue;
+                }
+                int j = i + 1;
+                while (j < text.length() && Character.isWhitespace(text.charAt(j))) {
+                    j++;
+                }
+                if (j >= text.length() || text.charAt(j) != '=') {
+                    continue;
+                }
+                j++;
+                while (j < text.length() && Character.isWhitespace(text.charAt(j))) {
+                    j++;
+                }
+                if (j >= text.length() || (text.charAt(j) != '"' && text.charAt(j) != '\'')) {
+                    continue;
+                }
+                int row = 0;
+                int digits = 0;
+                for (j++; j < text.length() && text.charAt(j) >= '0' && text.charAt(j) <= '9'; j++) {
+                    row = row * 10 + text.charAt(j) - '0';
+                    digits++;
+                }
+                return digits == 0 ? -1 : row - 1;
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.iterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.fesod.excel.ExcelReader;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.metadata.ReadSheet;
+import org.apache.fesod.excel.util.ThreadUtils;
+
+/**
+ * Iterate over the rows of a sheet while it is read.
+ * <p>
+ * The sheet is read by another thread, which hands the rows over through a small buffer and waits while the buffer is
+ * full, so that only a few rows are held in memory. The iterator must be closed when it is not read to the end, to
+ * stop the reading thread and release the file.
+ *
+ * @param <T> type of the rows
+ *
+ */
+public class ExcelReadIterator<T> implements Iterator<T>, AutoCloseable {
+    public static final int DEFAULT_BUFFER_SIZE = 128;
+
+    /**
+     * Wait of the reading thread before checking whether the iterator is closed
+     */
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue;
+    private final Thread thread;
+    private volatile boolean closed;
+    private Object next;
+    private boolean ended;
+
+    /**
+     * Start reading the sheet.
+     *
+     * @param excelReader reader of the workbook, finished at the end of the reading
+     * @param readSheet   sheet to read, the rows are taken from its listeners
+     * @param bufferSize  number of rows read in advance
+     */
+    public ExcelReadIterator(ExcelReader excelReader, ReadSheet readSheet, int bufferSize) {
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        readSheet.getCustomReadListenerList().add(new HandoffReadListener());
+        this.thread = ThreadUtils.daemonThreadFactory("fesod-read-iterator-").newThread(() -> {
+            Object last = END;
+            try {
+                excelReader.read(readSheet);
+            } catch (Throwable e) {
+                last = new Failure(e);
+            }
+            try {
+                excelReader.finish();
+            } catch (Throwable e) {
+                if (last == END) {
+                    last = new Failure(e);
+                }
+            }
+            offer(last);
+        });
+        thread.start();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (ended || closed) {
+            return false;
+        }
+        Object element;
+        try {
+            element = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelAnalysisException("Interrupted while waiting for the next row", e);
+        }
+        if (element == END) {
+            ended = true;
+            return false;
+        }
+        if (element instanceof Failure) {
+            ended = true;
+            Throwable cause = ((Failure) element).cause;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ExcelAnalysisException(cause);
+        }
+        next = element;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T element = (T) next;
+        next = null;
+        return element;
+    }
+
+    /**
+     * A sequential stream of the rows, closing it closes the iterator.
+     *
+     * @return
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Stop the reading thread if the sheet has not been read to the end, and wait for it to release the file.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        next = null;
+        queue.clear();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait for room in the buffer, unless the iterator is closed.
+     *
+     * @return false when the iterator is closed
+     */
+    private boolean offer(Object element) {
+        try {
+            while (!closed) {
+                if (queue.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private static class Failure {
+        private final Throwable cause;
+
+        private Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+
+    private class HandoffReadListener implements ReadListener<Object> {
+
+        @Override
+        public void invoke(Object data, AnalysisContext context) {
+            offer(data);
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {}
+
+        @Override
+        public boolean hasNext(AnalysisContext context) {
+            // Stop reading once the iterator is closed
+            return !closed;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fesod.excel.context.AnalysisContext;
+
+/**
+ * Listener receiving the data rows in batches of {@link #batchSize()} rows, the last batch of a sheet can be smaller.
+ * <p>
+ * The rows are gathered by the analysis event processor and the last batch is passed before
+ * {@link #doAfterAllAnalysed(AnalysisContext)}, {@link #invoke(Object, AnalysisContext)} is not called. Each batch is
+ * a new list, it can be kept.
+ *
+ * @param <T> type of the rows
+ *
+ */
+public interface BatchReadListener<T> extends ReadListener<T> {
+    /**
+     * Default number of rows in a batch
+     */
+    int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * @return maximum number of rows in a batch
+     */
+    default int batchSize() {
+        return DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * When a batch of data rows has been analysed.
+     *
+     * @param batch   rows in order
+     * @param context analysis context, its row holder is the one of the last row of the batch
+     */
+    void invokeBatch(List<T> batch, AnalysisContext context);
+
+    /**
+     * Not called by the analysis. When called directly, the row is passed to
+     * {@link #invokeBatch(List, AnalysisContext)} as a batch of one row.
+     *
+     * @param data    one row value
+     * @param context analysis context
+     */
+    @Override
+    default void invoke(T data, AnalysisContext context) {
+        List<T> batch = new ArrayList<>(1);
+        batch.add(data);
+        invokeBatch(batch, context);
+    }
+}
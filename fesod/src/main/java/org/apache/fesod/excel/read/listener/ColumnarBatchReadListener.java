@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.listener;
+
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.metadata.data.ColumnarBatch;
+import org.apache.fesod.excel.metadata.data.ReadRowBuffer;
+
+/**
+ * Low level listener receiving the data rows in batches of {@link #batchSize()} rows, stored column by column in a
+ * {@link ColumnarBatch}. The last batch of a sheet can be smaller.
+ * <p>
+ * The batch is reused for every batch of the sheet and must not be kept after
+ * {@link #invokeBatch(ColumnarBatch, AnalysisContext)} returns. The rows are taken from the {@link ReadRowBuffer}, so
+ * when all the listeners of a xlsx or csv sheet are row buffer listeners, no cell object is created at all.
+ *
+ *
+ */
+public interface ColumnarBatchReadListener extends RowBufferReadListener {
+
+    /**
+     * @return maximum number of rows in a batch
+     */
+    default int batchSize() {
+        return BatchReadListener.DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * When a batch of data rows has been analysed.
+     *
+     * @param batch   rows in order
+     * @param context analysis context, its row holder is the one of the last row of the batch
+     */
+    void invokeBatch(ColumnarBatch batch, AnalysisContext context);
+
+    /**
+     * Not called by the analysis. When called directly, the row is passed to
+     * {@link #invokeBatch(ColumnarBatch, AnalysisContext)} as a batch of one row.
+     *
+     * @param data    cells of the row
+     * @param context analysis context
+     */
+    @Override
+    default void invoke(ReadRowBuffer data, AnalysisContext context) {
+        ColumnarBatch batch = new ColumnarBatch(1);
+        batch.add(data);
+        invokeBatch(batch, context);
+    }
+}
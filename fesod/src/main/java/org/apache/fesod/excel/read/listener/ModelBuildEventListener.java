@@ -19,8 +19,6 @@
 
 package org.apache.fesod.excel.read.listener;
 
-import cn.idev.excel.support.cglib.beans.BeanMap;
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -29,13 +27,12 @@ import org.apache.fesod.excel.enums.CellDataTypeEnum;
 import org.apache.fesod.excel.enums.HeadKindEnum;
 import org.apache.fesod.excel.enums.ReadDefaultReturnEnum;
 import org.apache.fesod.excel.exception.ExcelDataConvertException;
-import org.apache.fesod.excel.metadata.Head;
 import org.apache.fesod.excel.metadata.data.DataFormatData;
 import org.apache.fesod.excel.metadata.data.ReadCellData;
 import org.apache.fesod.excel.read.metadata.holder.ReadSheetHolder;
 import org.apache.fesod.excel.read.metadata.property.ExcelReadHeadProperty;
-import org.apache.fesod.excel.util.BeanMapUtils;
-import org.apache.fesod.excel.util.ClassUtils;
+import org.apache.fesod.excel.read.metadata.property.ReadColumnBinding;
+import org.apache.fesod.excel.util.BeanBinder;
 import org.apache.fesod.excel.util.ConverterUtils;
 import org.apache.fesod.excel.util.DateUtils;
 import org.apache.fesod.excel.util.MapUtils;
@@ -119,8 +116,7 @@ public class ModelBuildEventListener implements IgnoreExceptionReadListener<Map<
                 break;
             case NUMBER:
                 DataFormatData dataFormatData = cellData.getDataFormatData();
-                if (dataFormatData != null
-                        && DateUtils.isADateFormat(dataFormatData.getIndex(), dataFormatData.getFormat())) {
+                if (DateUtils.isADateFormat(dataFormatData)) {
                     classGeneric = LocalDateTime.class;
                 } else {
                     classGeneric = BigDecimal.class;
@@ -156,9 +152,10 @@ public class ModelBuildEventListener implements IgnoreExceptionReadListener<Map<
     private Object buildUserModel(
             Map<Integer, ReadCellData<?>> cellDataMap, ReadSheetHolder readSheetHolder, AnalysisContext context) {
         ExcelReadHeadProperty excelReadHeadProperty = readSheetHolder.excelReadHeadProperty();
+        BeanBinder beanBinder = BeanBinder.of(excelReadHeadProperty.getHeadClazz());
         Object resultModel;
         try {
-            resultModel = excelReadHeadProperty.getHeadClazz().newInstance();
+            resultModel = beanBinder.newInstance();
         } catch (Exception e) {
             throw new ExcelDataConvertException(
                     context.readRowHolder().getRowIndex(),
@@ -169,44 +166,16 @@ public class ModelBuildEventListener implements IgnoreExceptionReadListener<Map<
                             + excelReadHeadProperty.getHeadClazz().getName(),
                     e);
         }
-        Map<Integer, Head> headMap = excelReadHeadProperty.getHeadMap();
-        BeanMap dataMap = BeanMapUtils.create(resultModel);
-        for (Map.Entry<Integer, Head> entry : headMap.entrySet()) {
-            Integer index = entry.getKey();
-            Head head = entry.getValue();
-            String fieldName = head.getFieldName();
-            if (!cellDataMap.containsKey(index)) {
+        for (ReadColumnBinding readColumnBinding : readSheetHolder.getReadColumnBindingList()) {
+            ReadCellData<?> cellData = cellDataMap.get(readColumnBinding.getColumnIndex());
+            if (cellData == null) {
                 continue;
             }
-            ReadCellData<?> cellData = cellDataMap.get(index);
             Object value = ConverterUtils.convertToJavaObject(
-                    cellData,
-                    head.getField(),
-                    ClassUtils.declaredExcelContentProperty(
-                            dataMap,
-                            readSheetHolder.excelReadHeadProperty().getHeadClazz(),
-                            fieldName,
-                            readSheetHolder),
-                    readSheetHolder.converterMap(),
-                    context,
-                    context.readRowHolder().getRowIndex(),
-                    index);
+                    cellData, readColumnBinding, context, context.readRowHolder().getRowIndex());
             if (value != null) {
-                dataMap.put(fieldName, value);
-
-                // 规避由于实体类 setter 不规范导致无法赋值的问题
-                if (dataMap.get(fieldName) == null) {
-                    Object bean = dataMap.getBean();
-                    try {
-                        Field field = bean.getClass().getDeclaredField(fieldName);
-                        field.setAccessible(true);
-                        field.set(bean, value);
-                    } catch (NoSuchFieldException ignore) {
-                        // ignore
-                    } catch (IllegalAccessException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
+                // Also sets the field when the setter of the entity is not standard
+                beanBinder.set(resultModel, readColumnBinding.getHead().getFieldName(), value);
             }
         }
         return resultModel;
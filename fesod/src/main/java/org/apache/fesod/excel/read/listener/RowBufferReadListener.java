@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.listener;
+
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.metadata.data.ReadRowBuffer;
+
+/**
+ * Low level listener receiving the data rows as a {@link ReadRowBuffer}, reused for every row of the sheet.
+ * <p>
+ * The buffer must not be kept after {@link #invoke(Object, AnalysisContext)} returns. When all the listeners of a
+ * xlsx or csv sheet are row buffer listeners (register them with {@code useDefaultListener(false)}), the data rows
+ * are written straight into the buffer without creating a cell object per cell, a map and a row holder per row.
+ * Otherwise the buffer is filled from the cells that have been read. Head rows are still passed to
+ * {@link #invokeHead(java.util.Map, AnalysisContext)} and formulas are not kept in the buffer.
+ *
+ *
+ */
+public interface RowBufferReadListener extends ReadListener<ReadRowBuffer> {}
@@ -19,7 +19,9 @@
 
 package org.apache.fesod.excel.read.metadata;
 
+import java.util.Collection;
 import lombok.EqualsAndHashCode;
+import org.apache.fesod.excel.read.index.SheetRowIndex;
 
 /**
  * Read sheet
@@ -47,6 +49,28 @@ public class ReadSheet extends ReadBasicParameter {
      * The number of rows to read, the default is all, start with 0.
      */
     public Integer numRows;
+    /**
+     * Only read the cells of these columns, start with 0. The default is all the columns.
+     */
+    private Collection<Integer> includeColumnIndexes;
+    /**
+     * Only read the cells of the columns of the head class once the head has been parsed. The default is false, so
+     * that the listeners see all the cells of the row.
+     */
+    private Boolean headColumnsOnly;
+    /**
+     * Index of the first row to read, start with 0. The rows before it are skipped without being decoded, except the
+     * head rows.
+     */
+    private Integer startRow;
+    /**
+     * Index of the last row to read, start with 0. The sheet is not parsed any further after it.
+     */
+    private Integer endRow;
+    /**
+     * Index of the rows of a xlsx sheet, so that the rows before {@link #startRow} are not parsed.
+     */
+    private SheetRowIndex sheetRowIndex;
 
     public ReadSheet() {}
 
@@ -89,6 +113,46 @@ public class ReadSheet extends ReadBasicParameter {
         this.numRows = numRows;
     }
 
+    public Collection<Integer> getIncludeColumnIndexes() {
+        return includeColumnIndexes;
+    }
+
+    public void setIncludeColumnIndexes(Collection<Integer> includeColumnIndexes) {
+        this.includeColumnIndexes = includeColumnIndexes;
+    }
+
+    public Boolean getHeadColumnsOnly() {
+        return headColumnsOnly;
+    }
+
+    public void setHeadColumnsOnly(Boolean headColumnsOnly) {
+        this.headColumnsOnly = headColumnsOnly;
+    }
+
+    public Integer getStartRow() {
+        return startRow;
+    }
+
+    public void setStartRow(Integer startRow) {
+        this.startRow = startRow;
+    }
+
+    public Integer getEndRow() {
+        return endRow;
+    }
+
+    public void setEndRow(Integer endRow) {
+        this.endRow = endRow;
+    }
+
+    public SheetRowIndex getSheetRowIndex() {
+        return sheetRowIndex;
+    }
+
+    public void setSheetRowIndex(SheetRowIndex sheetRowIndex) {
+        this.sheetRowIndex = sheetRowIndex;
+    }
+
     public boolean isHidden() {
         return sheetHidden;
     }
@@ -118,6 +182,11 @@ public class ReadSheet extends ReadBasicParameter {
         this.setAutoStrip(other.getAutoStrip());
         this.setUse1904windowing(other.getUse1904windowing());
         this.setNumRows(other.getNumRows());
+        this.setIncludeColumnIndexes(other.getIncludeColumnIndexes());
+        this.setHeadColumnsOnly(other.getHeadColumnsOnly());
+        this.setStartRow(other.getStartRow());
+        this.setEndRow(other.getEndRow());
+        this.setSheetRowIndex(other.getSheetRowIndex());
         this.setHidden(other.isHidden());
         this.setVeryHidden(other.isVeryHidden());
     }
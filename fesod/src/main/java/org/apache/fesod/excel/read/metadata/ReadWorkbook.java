@@ -34,8 +34,10 @@ import org.apache.fesod.excel.cache.selector.SimpleReadCacheSelector;
 import org.apache.fesod.excel.context.AnalysisContext;
 import org.apache.fesod.excel.enums.CellExtraTypeEnum;
 import org.apache.fesod.excel.enums.ReadDefaultReturnEnum;
+import org.apache.fesod.excel.enums.XlsxSheetParserEnum;
 import org.apache.fesod.excel.event.AnalysisEventListener;
 import org.apache.fesod.excel.read.listener.ModelBuildEventListener;
+import org.apache.fesod.excel.read.listener.ReadListener;
 import org.apache.fesod.excel.support.ExcelTypeEnum;
 
 /**
@@ -110,6 +112,44 @@ public class ReadWorkbook extends ReadBasicParameter {
      * @see SAXParserFactory#newInstance(String, ClassLoader)
      */
     private String xlsxSAXParserFactoryName;
+    /**
+     * How the sheets of a xlsx file are parsed. Default is {@link XlsxSheetParserEnum#SAX}.
+     * Only work on the xlsx file.
+     */
+    private XlsxSheetParserEnum xlsxSheetParser;
+    /**
+     * Only load the shared strings referenced by the sheets being read. Default is false.
+     * Only work on the xlsx file.
+     * <p>
+     * When true, the selected sheets are scanned once for the shared string indexes their cells use before they are
+     * read, and only those strings are kept in the cache. Useful when few sheets of a workbook with a large shared
+     * strings table are read. Sheets that cannot be scanned load the whole table.
+     */
+    private Boolean onlyReferencedSharedStrings;
+    /**
+     * Xlsx streams up to this size in bytes are opened in memory instead of being copied to a temp file first. Default
+     * is 1 MB, 0 always uses a temp file.
+     * Only work on the xlsx file read from an {@link InputStream}.
+     */
+    private Integer xlsxInMemorySize;
+    /**
+     * Read the xlsx file as a zip stream, without opening the package. Default is false.
+     * Only work on the xlsx file read from an {@link InputStream}.
+     * <p>
+     * The entries are read in the order of the stream, so rows are read before the whole file has arrived. Sheets
+     * that come before the shared strings or the styles are copied to temp files until those are read, the others
+     * are read directly from the stream. Sheets are read in the order of the stream. Comments and hyperlinks to other
+     * files are not read.
+     */
+    private Boolean xlsxStreaming;
+    /**
+     * Read the xls file with less memory. Default is false.
+     * <p>
+     * A xls file read from an {@link InputStream} is copied to a temp file and read through a memory map, instead of
+     * being buffered on the heap. Only the records that are handled are decoded, the others are skipped. Not used on
+     * an encrypted file.
+     */
+    private Boolean xlsStreaming;
     /**
      * Whether to use the default listener, which is used by default.
      * <p>
@@ -148,4 +188,66 @@ public class ReadWorkbook extends ReadBasicParameter {
      * Only work on the CSV file.
      */
     private CSVFormat csvFormat;
+    /**
+     * Read the CSV file with the built-in tokenizer. Default is true.
+     * <p>
+     * The built-in tokenizer reads the same records as commons-csv, with less garbage. Formats with a multiple
+     * character delimiter, comments, surrounding spaces to ignore or a header are always read by commons-csv.
+     */
+    private Boolean csvBuiltinParser;
+    /**
+     * The number of threads parsing a CSV file at the same time. Default is 1, the file is parsed on the reading
+     * thread.
+     * <p>
+     * When greater than 1 and the CSV file is read from a {@link java.io.File} with the built-in tokenizer, the file is
+     * memory mapped and split into chunks at line breaks, and the chunks are parsed on a pool of this size. Listeners
+     * are still called on the reading thread. A chunk that starts inside a quoted value is found by parsing the chunk
+     * before it, and is parsed again together with that chunk. Only charsets where a line break is a single byte of
+     * its own, like UTF-8 or ISO-8859-1, are split.
+     */
+    private Integer csvParallelism;
+    /**
+     * Deliver the rows of a CSV file parsed by several threads in the order of the file. Default is true.
+     * <p>
+     * When false, the rows of a chunk are delivered as soon as the chunk is parsed and known to start at a record,
+     * so the chunks may be out of order. The head rows are always delivered first, and the row index is the order of
+     * delivery.
+     */
+    private Boolean csvParallelOrdered;
+    /**
+     * Assert that no value of the CSV file contains a line break. Default is false.
+     * <p>
+     * Every chunk parsed by several threads is then known to start at a record, and is delivered without waiting for
+     * the chunk before it. A read that finds a line break in a value anyway fails.
+     */
+    private Boolean csvNoEmbeddedNewlines;
+
+    /**
+     * The number of sheets parsed at the same time. Default is 1, sheets are read one after another.
+     * Only work on the xlsx file.
+     * <p>
+     * When greater than 1, every selected sheet is parsed on its own thread with its own sheet holder. Rows of one
+     * sheet are delivered in order on that thread, and {@link ReadListener#doAfterAllAnalysed(AnalysisContext)} is
+     * called on the same thread right after the last row of the sheet. Rows of different sheets may interleave.
+     * Listeners registered on the workbook are shared by all sheets and must be thread safe, listeners registered on
+     * a {@link ReadSheet} only receive the rows of that sheet. The read returns after all sheets have ended.
+     */
+    private Integer parallelSheets;
+
+    /**
+     * The number of threads converting rows into java objects while the file is still being parsed. Default is 0,
+     * rows are converted on the parsing thread.
+     * <p>
+     * When greater than 0, the conversion done by the default {@link ReadListener} runs on a pool of this size, and
+     * the converted rows are handed to the other listeners on the parsing thread, in row order. Listeners therefore
+     * keep their single threaded contract. Head rows, cell extras and the end of the sheet wait until all pending rows
+     * have been dispatched.
+     */
+    private Integer pipelineThreads;
+
+    /**
+     * The maximum number of rows parsed but not yet dispatched when {@code pipelineThreads} is set. Default is 1024.
+     * The parser waits for the oldest row once the buffer is full, so memory stays bounded.
+     */
+    private Integer pipelineBufferSize;
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.metadata;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * What is known about a sheet without reading its rows.
+ *
+ *
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class SheetInfo {
+    /**
+     * Starting from 0
+     */
+    private Integer sheetNo;
+    /**
+     * sheet name
+     */
+    private String sheetName;
+    /**
+     * sheet hidden state
+     */
+    private boolean sheetHidden;
+    /**
+     * sheet very hidden state
+     */
+    private boolean sheetVeryHidden;
+    /**
+     * Index of the last row plus one, as recorded in the file, data may be inaccurate. Null when the file does not
+     * record it.
+     */
+    private Integer approximateRowNumber;
+    /**
+     * Index of the last column plus one, as recorded in the file, data may be inaccurate. Null when the file does not
+     * record it.
+     */
+    private Integer approximateColumnNumber;
+
+    public SheetInfo() {}
+
+    public SheetInfo(Integer sheetNo, String sheetName) {
+        this.sheetNo = sheetNo;
+        this.sheetName = sheetName;
+    }
+}
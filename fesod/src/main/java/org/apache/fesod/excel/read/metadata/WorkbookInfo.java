@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.metadata;
+
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.fesod.excel.support.ExcelTypeEnum;
+
+/**
+ * What is known about a workbook without reading its rows, see {@code FastExcelFactory.inspect}.
+ *
+ *
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class WorkbookInfo {
+    private ExcelTypeEnum excelType;
+    /**
+     * All the sheets, hidden ones included, in the order of the workbook
+     */
+    private List<SheetInfo> sheetList;
+
+    public WorkbookInfo() {}
+
+    public WorkbookInfo(ExcelTypeEnum excelType, List<SheetInfo> sheetList) {
+        this.excelType = excelType;
+        this.sheetList = sheetList;
+    }
+}
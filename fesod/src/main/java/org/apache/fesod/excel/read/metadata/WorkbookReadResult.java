@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.metadata;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Result of reading one of the workbooks of {@code FastExcelFactory.readAll}.
+ *
+ * @param <S> type of the sources
+ * @param <T> type of the rows
+ *
+ */
+@Getter
+public class WorkbookReadResult<S, T> {
+    /**
+     * Source the workbook was read from
+     */
+    private final S source;
+    /**
+     * Rows of all the sheets, null when the rows are only passed to the listeners or the read failed
+     */
+    private final List<T> data;
+    /**
+     * Why the read failed, null when it succeeded
+     */
+    private final Throwable exception;
+
+    public WorkbookReadResult(S source, List<T> data, Throwable exception) {
+        this.source = source;
+        this.data = data;
+        this.exception = exception;
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+}
@@ -19,17 +19,36 @@
 
 package org.apache.fesod.excel.read.metadata.holder;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.apache.fesod.excel.enums.HeadKindEnum;
 import org.apache.fesod.excel.enums.HolderEnum;
+import org.apache.fesod.excel.enums.RowTypeEnum;
 import org.apache.fesod.excel.metadata.Cell;
 import org.apache.fesod.excel.metadata.CellExtra;
+import org.apache.fesod.excel.metadata.Head;
+import org.apache.fesod.excel.metadata.data.ColumnarBatch;
 import org.apache.fesod.excel.metadata.data.ReadCellData;
+import org.apache.fesod.excel.metadata.data.ReadRowBuffer;
+import org.apache.fesod.excel.metadata.property.ExcelContentProperty;
+import org.apache.fesod.excel.read.listener.BatchReadListener;
+import org.apache.fesod.excel.read.listener.ColumnarBatchReadListener;
+import org.apache.fesod.excel.read.listener.ModelBuildEventListener;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.listener.RowBufferReadListener;
 import org.apache.fesod.excel.read.metadata.ReadSheet;
+import org.apache.fesod.excel.read.metadata.property.ExcelReadHeadProperty;
+import org.apache.fesod.excel.read.metadata.property.ReadColumnBinding;
+import org.apache.fesod.excel.util.ClassUtils;
 
 /**
  * sheet holder
@@ -88,6 +107,38 @@ public class ReadSheetHolder extends AbstractReadHolder {
      */
     private Boolean ended;
 
+    /**
+     * Indexes of the columns whose cells are read, null when all cells are read.
+     */
+    private BitSet projectedColumnIndexes;
+
+    /**
+     * Whether the cells of the data rows are written straight into the {@link ReadRowBuffer}, without cell objects.
+     */
+    private boolean rowBufferMode;
+    /**
+     * Cells of the current row for the {@link RowBufferReadListener}, reused for every row.
+     */
+    private ReadRowBuffer readRowBuffer;
+    /**
+     * Row holder reused for every data row in row buffer mode.
+     */
+    private ReadRowHolder bufferedReadRowHolder;
+
+    /**
+     * How each column is converted to the head class, null when the head is not a class.
+     */
+    private List<ReadColumnBinding> readColumnBindingList;
+
+    /**
+     * Rows gathered for each {@link BatchReadListener}, not passed to it yet.
+     */
+    private Map<ReadListener<?>, List<Object>> readListenerBatchMap;
+    /**
+     * Batch of each {@link ColumnarBatchReadListener}, reused for every batch.
+     */
+    private Map<ReadListener<?>, ColumnarBatch> columnarBatchMap;
+
     public ReadSheetHolder(ReadSheet readSheet, ReadWorkbookHolder readWorkbookHolder) {
         super(readSheet, readWorkbookHolder);
         this.readSheet = readSheet;
@@ -96,6 +147,174 @@ public class ReadSheetHolder extends AbstractReadHolder {
         this.sheetName = readSheet.getSheetName();
         this.cellMap = new LinkedHashMap<>();
         this.rowIndex = -1;
+        if (readSheet.getIncludeColumnIndexes() != null) {
+            this.projectedColumnIndexes = new BitSet();
+            for (Integer columnIndex : readSheet.getIncludeColumnIndexes()) {
+                if (columnIndex != null && columnIndex >= 0) {
+                    projectedColumnIndexes.set(columnIndex);
+                }
+            }
+        } else if (getHeadRowNumber() == 0) {
+            projectHeadColumns();
+        }
+        // Built again once the head row has been read
+        buildReadColumnBindings();
+    }
+
+    /**
+     * Whether the cells of the column are read.
+     *
+     * @param columnIndex
+     * @return
+     */
+    public boolean includeColumn(int columnIndex) {
+        return projectedColumnIndexes == null || projectedColumnIndexes.get(columnIndex);
+    }
+
+    /**
+     * Whether the row is before {@link ReadSheet#getStartRow()} and is skipped. Head rows are never skipped.
+     *
+     * @param rowIndex
+     * @return
+     */
+    public boolean beforeStartRow(int rowIndex) {
+        Integer startRow = readSheet.getStartRow();
+        return startRow != null && rowIndex < startRow && rowIndex >= getHeadRowNumber();
+    }
+
+    /**
+     * Whether the row is after {@link ReadSheet#getEndRow()}, so that the sheet can be stopped. Head rows are always
+     * read.
+     *
+     * @param rowIndex
+     * @return
+     */
+    public boolean afterEndRow(int rowIndex) {
+        Integer endRow = readSheet.getEndRow();
+        return endRow != null && rowIndex > endRow && rowIndex >= getHeadRowNumber();
+    }
+
+    /**
+     * Once the head is known, only read the columns of the head class when {@link ReadSheet#getHeadColumnsOnly()} is
+     * set, unless the columns have been given with {@link ReadSheet#getIncludeColumnIndexes()}.
+     * <p>
+     * Only done when the rows are converted by the {@link ModelBuildEventListener}, which ignores the other columns.
+     */
+    public void projectHeadColumns() {
+        if (!Boolean.TRUE.equals(readSheet.getHeadColumnsOnly())
+                || readSheet.getIncludeColumnIndexes() != null
+                || !HeadKindEnum.CLASS.equals(getExcelReadHeadProperty().getHeadKind())) {
+            return;
+        }
+        if (getReadListenerList().isEmpty() || !(getReadListenerList().get(0) instanceof ModelBuildEventListener)) {
+            return;
+        }
+        BitSet headColumnIndexes = new BitSet();
+        for (Integer columnIndex : getExcelReadHeadProperty().getHeadMap().keySet()) {
+            headColumnIndexes.set(columnIndex);
+        }
+        this.projectedColumnIndexes = headColumnIndexes;
+    }
+
+    /**
+     * Resolve the content property and the converters of each column of the head class, so that the cells are not
+     * converted with a lookup by key.
+     */
+    public void buildReadColumnBindings() {
+        ExcelReadHeadProperty excelReadHeadProperty = getExcelReadHeadProperty();
+        if (!HeadKindEnum.CLASS.equals(excelReadHeadProperty.getHeadKind())) {
+            this.readColumnBindingList = null;
+            return;
+        }
+        Class<?> headClazz = excelReadHeadProperty.getHeadClazz();
+        List<ReadColumnBinding> readColumnBindingList = new ArrayList<>(excelReadHeadProperty.getHeadMap().size());
+        for (Map.Entry<Integer, Head> entry : excelReadHeadProperty.getHeadMap().entrySet()) {
+            Head head = entry.getValue();
+            ExcelContentProperty contentProperty =
+                    ClassUtils.getExcelContentProperty(headClazz, headClazz, head.getFieldName(), this);
+            readColumnBindingList.add(new ReadColumnBinding(entry.getKey(), head, contentProperty, converterMap()));
+        }
+        this.readColumnBindingList = readColumnBindingList;
+    }
+
+    /**
+     * Whether every listener is a {@link RowBufferReadListener}, so that the data rows don't need any cell object.
+     *
+     * @return
+     */
+    protected boolean rowBufferListenersOnly() {
+        if (getReadListenerList().isEmpty()) {
+            return false;
+        }
+        for (ReadListener<?> readListener : getReadListenerList()) {
+            if (!(readListener instanceof RowBufferReadListener)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public ReadRowBuffer getReadRowBuffer() {
+        if (readRowBuffer == null) {
+            readRowBuffer = new ReadRowBuffer();
+        }
+        return readRowBuffer;
+    }
+
+    /**
+     * The rows gathered for a batch listener.
+     *
+     * @param batchReadListener
+     * @return
+     */
+    public List<Object> readListenerBatch(BatchReadListener<?> batchReadListener) {
+        if (readListenerBatchMap == null) {
+            readListenerBatchMap = new IdentityHashMap<>();
+        }
+        return readListenerBatchMap.computeIfAbsent(
+                batchReadListener, key -> new ArrayList<>(batchReadListener.batchSize()));
+    }
+
+    /**
+     * Start a new batch for a batch listener, the previous list has been passed to it.
+     *
+     * @param batchReadListener
+     */
+    public void resetReadListenerBatch(BatchReadListener<?> batchReadListener) {
+        readListenerBatchMap.put(batchReadListener, new ArrayList<>(batchReadListener.batchSize()));
+    }
+
+    /**
+     * The batch of a columnar batch listener.
+     *
+     * @param columnarBatchReadListener
+     * @return
+     */
+    public ColumnarBatch columnarBatch(ColumnarBatchReadListener columnarBatchReadListener) {
+        if (columnarBatchMap == null) {
+            columnarBatchMap = new IdentityHashMap<>();
+        }
+        return columnarBatchMap.computeIfAbsent(
+                columnarBatchReadListener, key -> new ColumnarBatch(columnarBatchReadListener.batchSize()));
+    }
+
+    /**
+     * The row holder of a data row read in row buffer mode, reused for every row. It has no cell.
+     *
+     * @param rowIndex
+     * @param rowType
+     * @return
+     */
+    public ReadRowHolder bufferedReadRowHolder(int rowIndex, RowTypeEnum rowType) {
+        if (bufferedReadRowHolder == null) {
+            bufferedReadRowHolder = new ReadRowHolder(
+                    rowIndex, rowType, getGlobalConfiguration(), Collections.<Integer, Cell>emptyMap());
+            return bufferedReadRowHolder;
+        }
+        bufferedReadRowHolder.setRowIndex(rowIndex);
+        bufferedReadRowHolder.setRowType(rowType);
+        bufferedReadRowHolder.setCurrentRowAnalysisResult(null);
+        return bufferedReadRowHolder;
     }
 
     /**
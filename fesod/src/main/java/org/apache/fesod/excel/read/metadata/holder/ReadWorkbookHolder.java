@@ -152,6 +152,14 @@ public class ReadWorkbookHolder extends AbstractReadHolder {
      * Ignore hidden sheet.Default is false.
      */
     private Boolean ignoreHiddenSheet;
+    /**
+     * The number of threads converting rows. Default is 0, rows are converted on the parsing thread.
+     */
+    private Integer pipelineThreads;
+    /**
+     * The maximum number of rows parsed but not yet dispatched. Default is 1024.
+     */
+    private Integer pipelineBufferSize;
 
     public ReadWorkbookHolder(ReadWorkbook readWorkbook) {
         super(readWorkbook, null);
@@ -212,6 +220,16 @@ public class ReadWorkbookHolder extends AbstractReadHolder {
         } else {
             this.ignoreHiddenSheet = readWorkbook.getIgnoreHiddenSheet();
         }
+        if (readWorkbook.getPipelineThreads() == null) {
+            this.pipelineThreads = 0;
+        } else {
+            this.pipelineThreads = readWorkbook.getPipelineThreads();
+        }
+        if (readWorkbook.getPipelineBufferSize() == null || readWorkbook.getPipelineBufferSize() < 1) {
+            this.pipelineBufferSize = 1024;
+        } else {
+            this.pipelineBufferSize = readWorkbook.getPipelineBufferSize();
+        }
         this.hasReadSheet = new HashSet<Integer>();
         this.password = readWorkbook.getPassword();
     }
@@ -38,5 +38,6 @@ public class CsvReadSheetHolder extends ReadSheetHolder {
 
     public CsvReadSheetHolder(ReadSheet readSheet, ReadWorkbookHolder readWorkbookHolder) {
         super(readSheet, readWorkbookHolder);
+        setRowBufferMode(rowBufferListenersOnly());
     }
 }
@@ -24,6 +24,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
+import org.apache.fesod.excel.analysis.csv.CsvTokenizer;
 import org.apache.fesod.excel.read.metadata.ReadWorkbook;
 import org.apache.fesod.excel.read.metadata.holder.ReadWorkbookHolder;
 import org.apache.fesod.excel.support.ExcelTypeEnum;
@@ -40,10 +41,50 @@ public class CsvReadWorkbookHolder extends ReadWorkbookHolder {
 
     private CSVFormat csvFormat;
     private CSVParser csvParser;
+    /**
+     * Read with the built-in tokenizer
+     */
+    private Boolean builtinParser;
+    /**
+     * The built-in tokenizer, used instead of {@link #csvParser}
+     */
+    private CsvTokenizer csvTokenizer;
+    /**
+     * The number of threads parsing the file
+     */
+    private Integer parallelism;
+    /**
+     * Deliver the rows parsed by several threads in the order of the file
+     */
+    private Boolean parallelOrdered;
+    /**
+     * No value contains a line break
+     */
+    private Boolean noEmbeddedNewlines;
 
     public CsvReadWorkbookHolder(ReadWorkbook readWorkbook) {
         super(readWorkbook);
         setExcelType(ExcelTypeEnum.CSV);
         this.csvFormat = readWorkbook.getCsvFormat() == null ? CSVFormat.DEFAULT : readWorkbook.getCsvFormat();
+        if (readWorkbook.getCsvBuiltinParser() == null) {
+            this.builtinParser = Boolean.TRUE;
+        } else {
+            this.builtinParser = readWorkbook.getCsvBuiltinParser();
+        }
+        if (readWorkbook.getCsvParallelism() == null) {
+            this.parallelism = 1;
+        } else {
+            this.parallelism = readWorkbook.getCsvParallelism();
+        }
+        if (readWorkbook.getCsvParallelOrdered() == null) {
+            this.parallelOrdered = Boolean.TRUE;
+        } else {
+            this.parallelOrdered = readWorkbook.getCsvParallelOrdered();
+        }
+        if (readWorkbook.getCsvNoEmbeddedNewlines() == null) {
+            this.noEmbeddedNewlines = Boolean.FALSE;
+        } else {
+            this.noEmbeddedNewlines = readWorkbook.getCsvNoEmbeddedNewlines();
+        }
     }
 }
@@ -76,6 +76,10 @@ public class XlsReadWorkbookHolder extends ReadWorkbookHolder {
      * Has the current sheet already stopped
      */
     private Boolean currentSheetStopped;
+    /**
+     * Only decode the records that are handled
+     */
+    private Boolean streaming;
 
     public XlsReadWorkbookHolder(ReadWorkbook readWorkbook) {
         super(readWorkbook);
@@ -87,5 +91,10 @@ public class XlsReadWorkbookHolder extends ReadWorkbookHolder {
         }
         ignoreRecord = Boolean.FALSE;
         currentSheetStopped = Boolean.TRUE;
+        if (readWorkbook.getXlsStreaming() == null) {
+            this.streaming = Boolean.FALSE;
+        } else {
+            this.streaming = readWorkbook.getXlsStreaming();
+        }
     }
 }
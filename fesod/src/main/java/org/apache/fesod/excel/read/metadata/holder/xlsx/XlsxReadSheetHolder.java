@@ -24,6 +24,7 @@ import java.util.LinkedList;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.fesod.excel.enums.CellDataTypeEnum;
 import org.apache.fesod.excel.read.metadata.ReadSheet;
 import org.apache.fesod.excel.read.metadata.holder.ReadSheetHolder;
 import org.apache.fesod.excel.read.metadata.holder.ReadWorkbookHolder;
@@ -54,6 +55,26 @@ public class XlsxReadSheetHolder extends ReadSheetHolder {
      * Formula for current label.
      */
     private StringBuilder tempFormula;
+    /**
+     * Whether a cell of the current row that is not read has a value.
+     */
+    private boolean skippedData;
+    /**
+     * Whether the current row is before the start row and is not read.
+     */
+    private boolean skippedRow;
+    /**
+     * Whether the cells of the current row are written into the row buffer.
+     */
+    private boolean bufferedRow;
+    /**
+     * Type of the current cell of a buffered row, null when the column is not read.
+     */
+    private CellDataTypeEnum tempCellType;
+    /**
+     * Style index of the current cell of a buffered row.
+     */
+    private int tempDataFormatIndex;
     /**
      * excel Relationship
      */
@@ -65,5 +86,6 @@ public class XlsxReadSheetHolder extends ReadSheetHolder {
         packageRelationshipCollection = ((XlsxReadWorkbookHolder) readWorkbookHolder)
                 .getPackageRelationshipCollectionMap()
                 .get(readSheet.getSheetNo());
+        setRowBufferMode(rowBufferListenersOnly());
     }
 }
@@ -24,16 +24,16 @@ import javax.xml.parsers.SAXParserFactory;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.fesod.excel.constant.BuiltinFormats;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fesod.excel.enums.XlsxSheetParserEnum;
 import org.apache.fesod.excel.metadata.data.DataFormatData;
 import org.apache.fesod.excel.read.metadata.ReadWorkbook;
 import org.apache.fesod.excel.read.metadata.holder.ReadWorkbookHolder;
 import org.apache.fesod.excel.support.ExcelTypeEnum;
-import org.apache.fesod.excel.util.MapUtils;
 import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.openxml4j.opc.PackageRelationshipCollection;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.xssf.model.StylesTable;
-import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 
 /**
  * Workbook holder
@@ -43,7 +43,13 @@ import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 @Getter
 @Setter
 @EqualsAndHashCode
+@Slf4j
 public class XlsxReadWorkbookHolder extends ReadWorkbookHolder {
+    /**
+     * Default size of the streams opened in memory
+     */
+    public static final int DEFAULT_IN_MEMORY_SIZE = 1024 * 1024;
+
     /**
      * Package
      */
@@ -59,43 +65,101 @@ public class XlsxReadWorkbookHolder extends ReadWorkbookHolder {
      * @see SAXParserFactory#newInstance(String, ClassLoader)
      */
     private String saxParserFactoryName;
+    /**
+     * How the sheets are parsed
+     */
+    private XlsxSheetParserEnum xlsxSheetParser;
+    /**
+     * Only load the shared strings referenced by the sheets being read
+     */
+    private Boolean onlyReferencedSharedStrings;
+    /**
+     * Streams up to this size in bytes are opened in memory
+     */
+    private Integer inMemorySize;
+    /**
+     * Read the file as a zip stream
+     */
+    private Boolean streaming;
     /**
      * Current style information
+     *
+     * @deprecated the styles are only loaded with POI when asked for. Use {@link #getXlsxStyles()}.
      */
+    @Deprecated
     private StylesTable stylesTable;
     /**
-     * cache data format
+     * Number formats of the cell styles
      */
-    private Map<Integer, DataFormatData> dataFormatDataCache;
+    private XlsxStyles xlsxStyles;
 
     /**
      * excel Relationship, key: sheetNo value: PackageRelationshipCollection
      */
     private Map<Integer, PackageRelationshipCollection> packageRelationshipCollectionMap;
 
+    /**
+     * The number of sheets parsed at the same time.
+     */
+    private Integer parallelSheets;
+
     public XlsxReadWorkbookHolder(ReadWorkbook readWorkbook) {
         super(readWorkbook);
         this.saxParserFactoryName = readWorkbook.getXlsxSAXParserFactoryName();
+        if (readWorkbook.getXlsxSheetParser() == null) {
+            this.xlsxSheetParser = XlsxSheetParserEnum.SAX;
+        } else {
+            this.xlsxSheetParser = readWorkbook.getXlsxSheetParser();
+        }
+        if (readWorkbook.getOnlyReferencedSharedStrings() == null) {
+            this.onlyReferencedSharedStrings = Boolean.FALSE;
+        } else {
+            this.onlyReferencedSharedStrings = readWorkbook.getOnlyReferencedSharedStrings();
+        }
+        if (readWorkbook.getXlsxInMemorySize() == null) {
+            this.inMemorySize = DEFAULT_IN_MEMORY_SIZE;
+        } else {
+            this.inMemorySize = readWorkbook.getXlsxInMemorySize();
+        }
+        if (readWorkbook.getXlsxStreaming() == null) {
+            this.streaming = Boolean.FALSE;
+        } else {
+            this.streaming = readWorkbook.getXlsxStreaming();
+        }
         setExcelType(ExcelTypeEnum.XLSX);
-        dataFormatDataCache = MapUtils.newHashMap();
+        if (readWorkbook.getParallelSheets() == null) {
+            this.parallelSheets = 1;
+        } else {
+            this.parallelSheets = readWorkbook.getParallelSheets();
+        }
     }
 
     public DataFormatData dataFormatData(int dateFormatIndexInteger) {
-        return dataFormatDataCache.computeIfAbsent(dateFormatIndexInteger, key -> {
-            DataFormatData dataFormatData = new DataFormatData();
-            if (stylesTable == null) {
-                return null;
-            }
-            XSSFCellStyle xssfCellStyle = stylesTable.getStyleAt(dateFormatIndexInteger);
-            if (xssfCellStyle == null) {
-                return null;
+        if (xlsxStyles == null) {
+            return null;
+        }
+        return xlsxStyles.dataFormatData(dateFormatIndexInteger);
+    }
+
+    /**
+     * The POI styles are no longer loaded when reading, only the number formats are read into
+     * {@link #getXlsxStyles()}. The styles table is built from the package on the first call instead.
+     *
+     * @return the styles table, or null when the file is read as a zip stream or the styles can not be read
+     * @deprecated use {@link #getXlsxStyles()} or {@link #dataFormatData(int)}
+     */
+    @Deprecated
+    public StylesTable getStylesTable() {
+        if (stylesTable == null && opcPackage != null) {
+            try {
+                stylesTable = new XSSFReader(opcPackage).getStylesTable();
+            } catch (Exception e) {
+                log.warn(
+                        "Currently excel cannot get style information, but it doesn't affect the data analysis.You can"
+                                + " try to save the file with office again or ignore the current error.",
+                        e);
             }
-            dataFormatData.setIndex(xssfCellStyle.getDataFormat());
-            dataFormatData.setFormat(BuiltinFormats.getBuiltinFormat(
-                    dataFormatData.getIndex(),
-                    xssfCellStyle.getDataFormatString(),
-                    globalConfiguration().getLocale()));
-            return dataFormatData;
-        });
+        }
+        return stylesTable;
     }
 }
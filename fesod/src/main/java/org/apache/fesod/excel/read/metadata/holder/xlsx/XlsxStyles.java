@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.metadata.holder.xlsx;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.fesod.excel.constant.BuiltinFormats;
+import org.apache.fesod.excel.metadata.data.DataFormatData;
+import org.apache.fesod.excel.util.DateUtils;
+import org.apache.fesod.excel.util.MapUtils;
+
+/**
+ * The number formats of the cell styles in 'styles.xml'.
+ * <p>
+ * Only the number format of every cell format is kept, in arrays indexed by the 's' attribute of the cells. Whether a
+ * style is a date is decided once when the styles are loaded, instead of once per cell.
+ *
+ */
+public class XlsxStyles {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Custom number formats, key: numFmtId value: formatCode
+     */
+    private final Map<Integer, String> numberFormatMap = MapUtils.newHashMap();
+    /**
+     * numFmtId of every cell format
+     */
+    private int[] numberFormatIds = new int[DEFAULT_CAPACITY];
+
+    private int size;
+    /**
+     * Data format of every cell format, the cell formats with the same number format share the same object
+     */
+    private DataFormatData[] dataFormatData;
+
+    public void addNumberFormat(int numberFormatId, String formatCode) {
+        numberFormatMap.put(numberFormatId, formatCode);
+    }
+
+    public void addCellFormat(int numberFormatId) {
+        if (size == numberFormatIds.length) {
+            numberFormatIds = Arrays.copyOf(numberFormatIds, size << 1);
+        }
+        numberFormatIds[size++] = numberFormatId;
+    }
+
+    /**
+     * Resolve the format strings after all the styles are added.
+     *
+     * @param locale locale of the built-in formats
+     */
+    public void finish(Locale locale) {
+        dataFormatData = new DataFormatData[size];
+        Map<Integer, DataFormatData> dataFormatDataMap = MapUtils.newHashMap();
+        for (int i = 0; i < size; i++) {
+            DataFormatData data = dataFormatDataMap.computeIfAbsent(
+                    numberFormatIds[i], numberFormatId -> buildDataFormatData(numberFormatId, locale));
+            dataFormatData[i] = data;
+        }
+        numberFormatIds = null;
+    }
+
+    private DataFormatData buildDataFormatData(int numberFormatId, Locale locale) {
+        short index = (short) numberFormatId;
+        String format = numberFormatMap.get(numberFormatId);
+        if (format == null) {
+            format = org.apache.poi.ss.usermodel.BuiltinFormats.getBuiltinFormat(index);
+        }
+        DataFormatData data = new DataFormatData();
+        data.setIndex(index);
+        data.setFormat(BuiltinFormats.getBuiltinFormat(index, format, locale));
+        data.setDate(DateUtils.isADateFormatUncached(data.getIndex(), data.getFormat()));
+        return data;
+    }
+
+    /**
+     * @return the number of cell formats
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param styleIndex the 's' attribute of a cell
+     * @return null if there is no such cell format
+     */
+    public DataFormatData dataFormatData(int styleIndex) {
+        if (styleIndex < 0 || styleIndex >= size) {
+            return null;
+        }
+        return dataFormatData[styleIndex];
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.metadata.property;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import lombok.Getter;
+import org.apache.fesod.excel.converters.Converter;
+import org.apache.fesod.excel.converters.ConverterKeyBuild;
+import org.apache.fesod.excel.converters.ConverterKeyBuild.ConverterKey;
+import org.apache.fesod.excel.enums.CellDataTypeEnum;
+import org.apache.fesod.excel.metadata.Head;
+import org.apache.fesod.excel.metadata.data.CellData;
+import org.apache.fesod.excel.metadata.data.ReadCellData;
+import org.apache.fesod.excel.metadata.property.ExcelContentProperty;
+import org.apache.fesod.excel.util.ConverterUtils;
+
+/**
+ * How the cells of one column are converted to a field of the head class, resolved once per sheet.
+ *
+ *
+ */
+@Getter
+public class ReadColumnBinding {
+    private static final CellDataTypeEnum[] CELL_DATA_TYPES = CellDataTypeEnum.values();
+
+    /**
+     * Index of the column
+     */
+    private final int columnIndex;
+    /**
+     * Head of the column
+     */
+    private final Head head;
+    /**
+     * Content property of the field
+     */
+    private final ExcelContentProperty contentProperty;
+    /**
+     * Whether the field is a {@link CellData}, which is filled with the converted value
+     */
+    private final boolean cellDataField;
+    /**
+     * Class the cells are converted to
+     */
+    private final Class<?> javaClass;
+    /**
+     * Converter of each {@link CellDataTypeEnum}, by ordinal
+     */
+    private final Converter<?>[] converters;
+
+    public ReadColumnBinding(
+            int columnIndex,
+            Head head,
+            ExcelContentProperty contentProperty,
+            Map<ConverterKey, Converter<?>> converterMap) {
+        this.columnIndex = columnIndex;
+        this.head = head;
+        this.contentProperty = contentProperty;
+        Field field = head.getField();
+        Class<?> fieldClass = field == null ? String.class : field.getType();
+        this.cellDataField = fieldClass == CellData.class || fieldClass == ReadCellData.class;
+        this.javaClass = cellDataField ? ConverterUtils.getClassGeneric(field, null) : fieldClass;
+        this.converters = new Converter<?>[CELL_DATA_TYPES.length];
+        for (CellDataTypeEnum cellDataType : CELL_DATA_TYPES) {
+            converters[cellDataType.ordinal()] = converterMap.get(ConverterKeyBuild.buildKey(javaClass, cellDataType));
+        }
+    }
+
+    /**
+     * @return the converter of the content property, if any
+     */
+    public Converter<?> getCustomConverter() {
+        return contentProperty == null ? null : contentProperty.getConverter();
+    }
+
+    /**
+     * The converter of a cell type, the one of the content property first.
+     *
+     * @param cellDataType
+     * @return null when there is no converter
+     */
+    public Converter<?> converter(CellDataTypeEnum cellDataType) {
+        Converter<?> customConverter = getCustomConverter();
+        if (customConverter != null) {
+            return customConverter;
+        }
+        return converters[cellDataType.ordinal()];
+    }
+}
@@ -31,8 +31,13 @@ import org.apache.fesod.excel.enums.RowTypeEnum;
 import org.apache.fesod.excel.exception.ExcelAnalysisException;
 import org.apache.fesod.excel.exception.ExcelAnalysisStopException;
 import org.apache.fesod.excel.metadata.Head;
+import org.apache.fesod.excel.metadata.data.ColumnarBatch;
 import org.apache.fesod.excel.metadata.data.ReadCellData;
+import org.apache.fesod.excel.metadata.data.ReadRowBuffer;
+import org.apache.fesod.excel.read.listener.BatchReadListener;
+import org.apache.fesod.excel.read.listener.ColumnarBatchReadListener;
 import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.listener.RowBufferReadListener;
 import org.apache.fesod.excel.read.metadata.holder.ReadRowHolder;
 import org.apache.fesod.excel.read.metadata.holder.ReadSheetHolder;
 import org.apache.fesod.excel.read.metadata.property.ExcelReadHeadProperty;
@@ -86,6 +91,11 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
         readSheetHolder.setEnded(Boolean.TRUE);
 
         for (ReadListener readListener : analysisContext.currentReadHolder().readListenerList()) {
+            try {
+                invokeLastBatch(analysisContext, readListener);
+            } catch (Exception e) {
+                onException(analysisContext, e);
+            }
             readListener.doAfterAllAnalysed(analysisContext);
         }
     }
@@ -104,7 +114,7 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
         }
     }
 
-    private void onException(AnalysisContext analysisContext, Exception e) {
+    protected void onException(AnalysisContext analysisContext, Exception e) {
         for (ReadListener readListenerException :
                 analysisContext.currentReadHolder().readListenerList()) {
             try {
@@ -127,9 +137,45 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
         boolean isData = rowIndex >= currentHeadRowNumber;
 
         // Now is data
-        for (ReadListener readListener : analysisContext.currentReadHolder().readListenerList()) {
+        invokeListeners(analysisContext, 0, isData, cellDataMap);
+
+        // Last head column
+        if (!isData && currentHeadRowNumber == rowIndex + 1) {
+            buildHead(analysisContext, cellDataMap);
+        }
+    }
+
+    /**
+     * Pass the current row to the listeners, starting with the listener at {@code fromIndex}.
+     *
+     * @param analysisContext
+     * @param fromIndex       index of the first listener to call
+     * @param isData          data row or head row
+     * @param cellDataMap     cells of the current row
+     */
+    protected void invokeListeners(
+            AnalysisContext analysisContext,
+            int fromIndex,
+            boolean isData,
+            Map<Integer, ReadCellData<?>> cellDataMap) {
+        ReadRowHolder readRowHolder = analysisContext.readRowHolder();
+        List<ReadListener<?>> readListenerList = analysisContext.currentReadHolder().readListenerList();
+        for (int i = fromIndex; i < readListenerList.size(); i++) {
+            ReadListener readListener = readListenerList.get(i);
             try {
-                if (isData) {
+                if (isData && readListener instanceof ColumnarBatchReadListener) {
+                    addToColumnarBatch(
+                            analysisContext,
+                            (ColumnarBatchReadListener) readListener,
+                            readRowBuffer(analysisContext, cellDataMap));
+                } else if (isData && readListener instanceof BatchReadListener) {
+                    addToBatch(
+                            analysisContext,
+                            (BatchReadListener) readListener,
+                            readRowHolder.getCurrentRowAnalysisResult());
+                } else if (isData && readListener instanceof RowBufferReadListener) {
+                    readListener.invoke(readRowBuffer(analysisContext, cellDataMap), analysisContext);
+                } else if (isData) {
                     // handle data row
                     readListener.invoke(readRowHolder.getCurrentRowAnalysisResult(), analysisContext);
                 } else {
@@ -144,11 +190,67 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
                 throw new ExcelAnalysisStopException();
             }
         }
+    }
 
-        // Last head column
-        if (!isData && currentHeadRowNumber == rowIndex + 1) {
-            buildHead(analysisContext, cellDataMap);
+    private void addToBatch(AnalysisContext analysisContext, BatchReadListener<Object> readListener, Object data) {
+        ReadSheetHolder readSheetHolder = analysisContext.readSheetHolder();
+        List<Object> batch = readSheetHolder.readListenerBatch(readListener);
+        batch.add(data);
+        if (batch.size() >= readListener.batchSize()) {
+            readSheetHolder.resetReadListenerBatch(readListener);
+            readListener.invokeBatch(batch, analysisContext);
+        }
+    }
+
+    private void addToColumnarBatch(
+            AnalysisContext analysisContext, ColumnarBatchReadListener readListener, ReadRowBuffer readRowBuffer) {
+        ColumnarBatch batch = analysisContext.readSheetHolder().columnarBatch(readListener);
+        batch.add(readRowBuffer);
+        if (batch.isFull()) {
+            try {
+                readListener.invokeBatch(batch, analysisContext);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Pass the rows left in the batch of a batch listener when the sheet ends.
+     */
+    private void invokeLastBatch(AnalysisContext analysisContext, ReadListener<?> readListener) {
+        ReadSheetHolder readSheetHolder = analysisContext.readSheetHolder();
+        if (readListener instanceof ColumnarBatchReadListener) {
+            Map<ReadListener<?>, ColumnarBatch> columnarBatchMap = readSheetHolder.getColumnarBatchMap();
+            ColumnarBatch batch = columnarBatchMap == null ? null : columnarBatchMap.get(readListener);
+            if (batch != null && !batch.isEmpty()) {
+                try {
+                    ((ColumnarBatchReadListener) readListener).invokeBatch(batch, analysisContext);
+                } finally {
+                    batch.clear();
+                }
+            }
+        } else if (readListener instanceof BatchReadListener) {
+            Map<ReadListener<?>, List<Object>> readListenerBatchMap = readSheetHolder.getReadListenerBatchMap();
+            List<Object> batch = readListenerBatchMap == null ? null : readListenerBatchMap.get(readListener);
+            if (batch != null && !batch.isEmpty()) {
+                BatchReadListener<Object> batchReadListener = (BatchReadListener<Object>) readListener;
+                readSheetHolder.resetReadListenerBatch(batchReadListener);
+                batchReadListener.invokeBatch(batch, analysisContext);
+            }
+        }
+    }
+
+    /**
+     * The row buffer of the sheet, filled from the cells unless the row has been read straight into it.
+     */
+    private ReadRowBuffer readRowBuffer(AnalysisContext analysisContext, Map<Integer, ReadCellData<?>> cellDataMap) {
+        ReadSheetHolder readSheetHolder = analysisContext.readSheetHolder();
+        ReadRowBuffer readRowBuffer = readSheetHolder.getReadRowBuffer();
+        if (!readSheetHolder.isRowBufferMode()) {
+            readRowBuffer.fill(analysisContext.readRowHolder().getRowIndex(), cellDataMap);
         }
+        return readRowBuffer;
     }
 
     private void buildHead(AnalysisContext analysisContext, Map<Integer, ReadCellData<?>> cellDataMap) {
@@ -202,5 +304,7 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
             }
         }
         excelHeadPropertyData.setHeadMap(tmpHeadMap);
+        analysisContext.readSheetHolder().projectHeadColumns();
+        analysisContext.readSheetHolder().buildReadColumnBindings();
     }
 }
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.processor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.enums.RowTypeEnum;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.exception.ExcelAnalysisStopException;
+import org.apache.fesod.excel.exception.ExcelAnalysisStopSheetException;
+import org.apache.fesod.excel.metadata.data.ReadCellData;
+import org.apache.fesod.excel.read.listener.ModelBuildEventListener;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.metadata.holder.ReadRowHolder;
+import org.apache.fesod.excel.util.ThreadUtils;
+
+/**
+ * Analysis event processor that splits reading into three stages: the parser produces rows, a pool converts them into
+ * java objects, and the converted rows are dispatched to the listeners on the parsing thread in row order.
+ * <p>
+ * At most {@code bufferSize} rows are in flight. Once the buffer is full the parser dispatches the oldest row before it
+ * goes on, so a slow listener slows down parsing instead of filling the memory.
+ *
+ *
+ */
+@Slf4j
+public class PipelinedAnalysisEventProcessor extends DefaultAnalysisEventProcessor {
+    /**
+     * Threads converting rows
+     */
+    private final int threads;
+    /**
+     * Maximum number of rows in flight
+     */
+    private final int bufferSize;
+    /**
+     * Rows waiting to be dispatched, oldest first
+     */
+    private final Deque<PendingRow> pendingRowDeque;
+    /**
+     * Created on the first data row of a sheet and shut down when the sheet ends
+     */
+    private ThreadPoolExecutor executorService;
+
+    public PipelinedAnalysisEventProcessor(int threads, int bufferSize) {
+        this.threads = threads;
+        this.bufferSize = bufferSize;
+        this.pendingRowDeque = new ArrayDeque<>(bufferSize);
+    }
+
+    @Override
+    public void extra(AnalysisContext analysisContext) {
+        try {
+            drain(analysisContext);
+        } catch (RuntimeException e) {
+            abort();
+            throw e;
+        }
+        super.extra(analysisContext);
+    }
+
+    @Override
+    public void endRow(AnalysisContext analysisContext) {
+        ReadRowHolder readRowHolder = analysisContext.readRowHolder();
+        if (RowTypeEnum.EMPTY.equals(readRowHolder.getRowType())
+                && analysisContext.readWorkbookHolder().getIgnoreEmptyRow()) {
+            return;
+        }
+        List<ReadListener<?>> readListenerList = analysisContext.currentReadHolder().readListenerList();
+        boolean isData = readRowHolder.getRowIndex()
+                >= analysisContext.readSheetHolder().getHeadRowNumber();
+        try {
+            // Only the conversion of the default listener is worth moving to another thread
+            if (!isData
+                    || readListenerList.isEmpty()
+                    || !(readListenerList.get(0) instanceof ModelBuildEventListener)) {
+                drain(analysisContext);
+                super.endRow(analysisContext);
+                return;
+            }
+            if (pendingRowDeque.size() >= bufferSize) {
+                dispatch(analysisContext, pendingRowDeque.poll());
+                analysisContext.readRowHolder(readRowHolder);
+            }
+            pendingRowDeque.add(submit(analysisContext, readRowHolder, readListenerList.get(0)));
+        } catch (RuntimeException e) {
+            abort();
+            throw e;
+        }
+    }
+
+    @Override
+    public void endSheet(AnalysisContext analysisContext) {
+        try {
+            drain(analysisContext);
+        } catch (ExcelAnalysisStopSheetException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Custom stop!", e);
+            }
+            abort();
+        } catch (RuntimeException e) {
+            abort();
+            throw e;
+        }
+        shutdown();
+        super.endSheet(analysisContext);
+    }
+
+    private PendingRow submit(AnalysisContext analysisContext, ReadRowHolder readRowHolder, ReadListener readListener) {
+        if (executorService == null) {
+            executorService = new ThreadPoolExecutor(
+                    threads,
+                    threads,
+                    10L,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    ThreadUtils.daemonThreadFactory("fesod-row-converter-"));
+            executorService.allowCoreThreadTimeOut(true);
+        }
+        Map<Integer, ReadCellData<?>> cellDataMap = (Map) readRowHolder.getCellMap();
+        readRowHolder.setCurrentRowAnalysisResult(cellDataMap);
+        AnalysisContext rowContext = new RowAnalysisContext(analysisContext, readRowHolder);
+        Future<Exception> future = executorService.submit(() -> {
+            try {
+                readListener.invoke(cellDataMap, rowContext);
+                return null;
+            } catch (Exception e) {
+                return e;
+            }
+        });
+        return new PendingRow(readRowHolder, future);
+    }
+
+    /**
+     * Dispatch all pending rows, then restore the row of the context.
+     */
+    private void drain(AnalysisContext analysisContext) {
+        if (pendingRowDeque.isEmpty()) {
+            return;
+        }
+        ReadRowHolder readRowHolder = analysisContext.readRowHolder();
+        while (!pendingRowDeque.isEmpty()) {
+            dispatch(analysisContext, pendingRowDeque.poll());
+        }
+        analysisContext.readRowHolder(readRowHolder);
+    }
+
+    /**
+     * Wait for the conversion of a row and hand it to the remaining listeners, the same way the default processor
+     * would have done.
+     */
+    private void dispatch(AnalysisContext analysisContext, PendingRow pendingRow) {
+        Exception exception;
+        try {
+            exception = pendingRow.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelAnalysisException("Interrupted while waiting for the row to be converted", e);
+        } catch (ExecutionException e) {
+            throw new ExcelAnalysisException(e.getCause());
+        }
+        analysisContext.readRowHolder(pendingRow.readRowHolder);
+        if (exception != null) {
+            onException(analysisContext, exception);
+            return;
+        }
+        List<ReadListener<?>> readListenerList = analysisContext.currentReadHolder().readListenerList();
+        if (!readListenerList.get(0).hasNext(analysisContext)) {
+            throw new ExcelAnalysisStopException();
+        }
+        invokeListeners(analysisContext, 1, true, (Map) pendingRow.readRowHolder.getCellMap());
+    }
+
+    private void abort() {
+        for (PendingRow pendingRow : pendingRowDeque) {
+            pendingRow.future.cancel(true);
+        }
+        pendingRowDeque.clear();
+        if (executorService != null) {
+            executorService.shutdownNow();
+            executorService = null;
+        }
+    }
+
+    private void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService = null;
+        }
+    }
+
+    private static class PendingRow {
+        private final ReadRowHolder readRowHolder;
+        private final Future<Exception> future;
+
+        private PendingRow(ReadRowHolder readRowHolder, Future<Exception> future) {
+            this.readRowHolder = readRowHolder;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.publisher;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.fesod.excel.ExcelReader;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.metadata.ReadSheet;
+import org.apache.fesod.excel.util.ThreadUtils;
+
+/**
+ * Publish the rows of a sheet to a subscriber, with the same contract as a reactive streams publisher.
+ * <p>
+ * The sheet is read by another thread once subscribed. Each row is delivered as soon as it is read, and the reading
+ * waits while the subscriber has not requested more rows, so that nothing is buffered between the parser and a slow
+ * subscriber. Cancelling the subscription stops the parser and releases the file.
+ * <p>
+ * The sheet can only be read once, so the publisher accepts a single subscriber.
+ *
+ * @param <T> type of the rows
+ *
+ */
+public class ExcelReadPublisher<T> {
+
+    private final ExcelReader excelReader;
+    private final ReadSheet readSheet;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * @param excelReader reader of the workbook, finished at the end of the reading
+     * @param readSheet   sheet to read, the rows are taken from its listeners
+     */
+    public ExcelReadPublisher(ExcelReader excelReader, ReadSheet readSheet) {
+        this.excelReader = excelReader;
+        this.readSheet = readSheet;
+    }
+
+    /**
+     * Start reading the sheet for the subscriber.
+     *
+     * @param subscriber
+     */
+    public void subscribe(ExcelReadSubscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber can not be null");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(NoopSubscription.INSTANCE);
+            subscriber.onError(new IllegalStateException("The sheet can only be subscribed once"));
+            return;
+        }
+        DemandSubscription subscription = new DemandSubscription(subscriber);
+        readSheet.getCustomReadListenerList().add(subscription);
+        ThreadUtils.daemonThreadFactory("fesod-read-publisher-").newThread(subscription::run).start();
+    }
+
+    private enum NoopSubscription implements ExcelReadSubscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {}
+
+        @Override
+        public void cancel() {}
+    }
+
+    private class DemandSubscription implements ExcelReadSubscription, ReadListener<Object> {
+        private final ExcelReadSubscriber<? super T> subscriber;
+        private final Lock lock = new ReentrantLock();
+        private final Condition demandChanged = lock.newCondition();
+        /**
+         * Rows requested and not yet delivered, guarded by the lock
+         */
+        private long demand;
+
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        private DemandSubscription(ExcelReadSubscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void run() {
+            Throwable failure = null;
+            try {
+                subscriber.onSubscribe(this);
+                if (!cancelled) {
+                    excelReader.read(readSheet);
+                }
+            } catch (Throwable e) {
+                failure = e;
+            }
+            try {
+                excelReader.finish();
+            } catch (Throwable e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+            if (invalidRequest != null) {
+                subscriber.onError(invalidRequest);
+            } else if (!cancelled) {
+                if (failure == null) {
+                    subscriber.onComplete();
+                } else {
+                    subscriber.onError(failure);
+                }
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("The number of requested rows must be positive: " + n);
+                cancel();
+                return;
+            }
+            lock.lock();
+            try {
+                demand += n;
+                if (demand < 0) {
+                    demand = Long.MAX_VALUE;
+                }
+                demandChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            lock.lock();
+            try {
+                demandChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void invoke(Object data, AnalysisContext context) {
+            lock.lock();
+            try {
+                while (demand == 0 && !cancelled) {
+                    demandChanged.await();
+                }
+                if (cancelled) {
+                    return;
+                }
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExcelAnalysisException("Interrupted while waiting for the rows to be requested", e);
+            } finally {
+                lock.unlock();
+            }
+            subscriber.onNext((T) data);
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {}
+
+        @Override
+        public boolean hasNext(AnalysisContext context) {
+            // Stop reading once cancelled
+            return !cancelled;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.publisher;
+
+/**
+ * Receives the rows of an {@link ExcelReadPublisher}, with the same contract as a reactive streams subscriber.
+ * <p>
+ * All the methods are called on the reading thread, one at a time.
+ *
+ * @param <T> type of the rows
+ *
+ */
+public interface ExcelReadSubscriber<T> {
+
+    /**
+     * Called once before any other method, no row is read until rows are requested from the subscription.
+     *
+     * @param subscription
+     */
+    void onSubscribe(ExcelReadSubscription subscription);
+
+    /**
+     * Called for each row, never more times than requested.
+     *
+     * @param data
+     */
+    void onNext(T data);
+
+    /**
+     * Called once when the read failed, nothing is called afterward.
+     *
+     * @param throwable
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Called once when all the rows have been read, nothing is called afterward.
+     */
+    void onComplete();
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.read.publisher;
+
+/**
+ * Link between an {@link ExcelReadPublisher} and its subscriber, with the same contract as a reactive streams
+ * subscription. The methods can be called from any thread.
+ *
+ *
+ */
+public interface ExcelReadSubscription {
+
+    /**
+     * Allow the publisher to read n more rows. The reading waits as long as the rows requested so far have been
+     * delivered.
+     *
+     * @param n number of rows, {@code Long.MAX_VALUE} to read without waiting
+     */
+    void request(long n);
+
+    /**
+     * Stop reading, the file is released and no more rows are delivered.
+     */
+    void cancel();
+}
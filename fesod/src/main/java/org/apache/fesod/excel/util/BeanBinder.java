@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.util;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.fesod.excel.exception.ExcelCommonException;
+
+/**
+ * Creates the instances of a class and accesses their properties with direct calls.
+ * <p>
+ * The properties are the same as the ones of a cglib {@code BeanMap}: the java bean properties with a getter or a
+ * setter. The constructor, getters and setters are bound once per class with {@link LambdaMetafactory}, and with
+ * reflection when the class cannot be reached that way.
+ *
+ *
+ */
+public class BeanBinder {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * The binder of each class
+     */
+    private static final ConcurrentHashMap<Class<?>, BeanBinder> BINDER_CACHE = new ConcurrentHashMap<>();
+
+    private final Class<?> clazz;
+    private final Supplier<Object> instantiator;
+    private final Map<String, Property> propertyMap;
+    /**
+     * Fields set directly when the setter does not store the value, created when first needed
+     */
+    private final Map<String, Optional<Field>> fieldMap = new ConcurrentHashMap<>();
+
+    private BeanBinder(Class<?> clazz) {
+        this.clazz = clazz;
+        boolean generated = isGenerated(clazz);
+        this.instantiator = generated ? instantiator(clazz) : null;
+        Map<String, Property> propertyMap = new HashMap<>();
+        for (PropertyDescriptor propertyDescriptor : propertyDescriptors(clazz)) {
+            Method readMethod = propertyDescriptor.getReadMethod();
+            Method writeMethod = propertyDescriptor.getWriteMethod();
+            if (readMethod == null && writeMethod == null) {
+                continue;
+            }
+            propertyMap.put(
+                    propertyDescriptor.getName(),
+                    new Property(
+                            propertyDescriptor.getPropertyType(),
+                            readMethod == null ? null : getter(readMethod, generated),
+                            writeMethod == null ? null : setter(writeMethod, generated)));
+        }
+        this.propertyMap = Collections.unmodifiableMap(propertyMap);
+    }
+
+    /**
+     * The binder of a class, created once.
+     *
+     * @param clazz
+     * @return
+     */
+    public static BeanBinder of(Class<?> clazz) {
+        return BINDER_CACHE.computeIfAbsent(clazz, BeanBinder::new);
+    }
+
+    /**
+     * Create an instance with the constructor without parameters.
+     *
+     * @return
+     * @throws ReflectiveOperationException
+     */
+    public Object newInstance() throws ReflectiveOperationException {
+        if (instantiator != null) {
+            return instantiator.get();
+        }
+        return clazz.newInstance();
+    }
+
+    public Set<String> propertyNames() {
+        return propertyMap.keySet();
+    }
+
+    public boolean hasProperty(String name) {
+        return propertyMap.containsKey(name);
+    }
+
+    /**
+     * @return the number of properties
+     */
+    public int size() {
+        return propertyMap.size();
+    }
+
+    /**
+     * @param name
+     * @return the type of the property, or null when there is no such property
+     */
+    public Class<?> getPropertyType(String name) {
+        Property property = propertyMap.get(name);
+        return property == null ? null : property.type;
+    }
+
+    /**
+     * Get the value of a property.
+     *
+     * @param bean
+     * @param name
+     * @return the value, or null when the property has no getter
+     */
+    public Object get(Object bean, String name) {
+        Property property = propertyMap.get(name);
+        if (property == null || property.getter == null) {
+            return null;
+        }
+        return property.getter.apply(bean);
+    }
+
+    /**
+     * Set the value of a property with its setter.
+     * <p>
+     * When the value cannot be read back, because there is no standard setter or getter, the field with the same name
+     * is set directly.
+     *
+     * @param bean
+     * @param name
+     * @param value
+     */
+    public void set(Object bean, String name, Object value) {
+        Property property = propertyMap.get(name);
+        if (property != null && property.setter != null) {
+            property.setter.accept(bean, value);
+        }
+        if (value == null || get(bean, name) != null) {
+            return;
+        }
+        Optional<Field> field = fieldMap.computeIfAbsent(name, this::declaredField);
+        if (!field.isPresent()) {
+            return;
+        }
+        try {
+            field.get().set(bean, value);
+        } catch (IllegalAccessException e) {
+            throw new ExcelCommonException("Can not set field: " + name, e);
+        }
+    }
+
+    private Optional<Field> declaredField(String name) {
+        try {
+            Field field = clazz.getDeclaredField(name);
+            field.setAccessible(true);
+            return Optional.of(field);
+        } catch (NoSuchFieldException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static PropertyDescriptor[] propertyDescriptors(Class<?> clazz) {
+        try {
+            BeanInfo beanInfo = clazz.isInterface()
+                    ? Introspector.getBeanInfo(clazz)
+                    : Introspector.getBeanInfo(clazz, Object.class);
+            return beanInfo.getPropertyDescriptors();
+        } catch (IntrospectionException e) {
+            throw new ExcelCommonException("Can not read the properties of class: " + clazz.getName(), e);
+        }
+    }
+
+    /**
+     * Lambdas can only be bound to a public class that can be loaded by the class loader of this class.
+     */
+    private static boolean isGenerated(Class<?> clazz) {
+        if (!Modifier.isPublic(clazz.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(clazz.getName(), false, BeanBinder.class.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> instantiator(Class<?> clazz) {
+        if (Modifier.isAbstract(clazz.getModifiers())) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = clazz.getConstructor();
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+            CallSite callSite = LambdaMetafactory.metafactory(
+                    LOOKUP,
+                    "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    handle,
+                    handle.type());
+            return (Supplier<Object>) callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Method method, boolean generated) {
+        if (generated && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            try {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                CallSite callSite = LambdaMetafactory.metafactory(
+                        LOOKUP,
+                        "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        handle.type().wrap());
+                return (Function<Object, Object>) callSite.getTarget().invoke();
+            } catch (Throwable e) {
+                // Use reflection
+            }
+        }
+        method.setAccessible(true);
+        return bean -> invoke(method, bean);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setter(Method method, boolean generated) {
+        if (generated && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            try {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                CallSite callSite = LambdaMetafactory.metafactory(
+                        LOOKUP,
+                        "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        handle,
+                        handle.type().wrap().changeReturnType(void.class));
+                return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+            } catch (Throwable e) {
+                // Use reflection
+            }
+        }
+        method.setAccessible(true);
+        return (bean, value) -> invoke(method, bean, value);
+    }
+
+    private static Object invoke(Method method, Object bean, Object... args) {
+        try {
+            return method.invoke(bean, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new ExcelCommonException("Can not invoke method: " + method.getName(), e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new ExcelCommonException("Can not invoke method: " + method.getName(), e);
+        }
+    }
+
+    private static class Property {
+        private final Class<?> type;
+        private final Function<Object, Object> getter;
+        private final BiConsumer<Object, Object> setter;
+
+        private Property(Class<?> type, Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+}
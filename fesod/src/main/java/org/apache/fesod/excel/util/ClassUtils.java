@@ -131,7 +131,16 @@ public class ClassUtils {
         return getExcelContentProperty(clazz, headClazz, fieldName, configurationHolder);
     }
 
-    private static ExcelContentProperty getExcelContentProperty(
+    /**
+     * Calculate the configuration information for the class
+     *
+     * @param clazz     class of the data, can be null
+     * @param headClass
+     * @param fieldName
+     * @param configurationHolder
+     * @return
+     */
+    public static ExcelContentProperty getExcelContentProperty(
             Class<?> clazz, Class<?> headClass, String fieldName, ConfigurationHolder configurationHolder) {
         switch (configurationHolder.globalConfiguration().getFiledCacheLocation()) {
             case THREAD_LOCAL:
@@ -35,6 +35,7 @@ import org.apache.fesod.excel.metadata.data.CellData;
 import org.apache.fesod.excel.metadata.data.ReadCellData;
 import org.apache.fesod.excel.metadata.property.ExcelContentProperty;
 import org.apache.fesod.excel.read.metadata.holder.ReadSheetHolder;
+import org.apache.fesod.excel.read.metadata.property.ReadColumnBinding;
 
 /**
  * Converting objects
@@ -165,7 +166,50 @@ public class ConverterUtils {
         return doConvertToJavaObject(cellData, clazz, contentProperty, converterMap, context, rowIndex, columnIndex);
     }
 
-    private static Class<?> getClassGeneric(Field field, Class<?> classGeneric) {
+    /**
+     * Convert it into a Java object with the converters resolved for the column
+     *
+     * @param cellData
+     * @param readColumnBinding
+     * @param context
+     * @param rowIndex
+     * @return
+     */
+    public static Object convertToJavaObject(
+            ReadCellData<?> cellData, ReadColumnBinding readColumnBinding, AnalysisContext context, Integer rowIndex) {
+        if (readColumnBinding.isCellDataField()) {
+            ReadCellData<Object> cellDataReturn = cellData.clone();
+            cellDataReturn.setData(doConvertToJavaObject(cellData, readColumnBinding, context, rowIndex));
+            return cellDataReturn;
+        }
+        return doConvertToJavaObject(cellData, readColumnBinding, context, rowIndex);
+    }
+
+    private static Object doConvertToJavaObject(
+            ReadCellData<?> cellData, ReadColumnBinding readColumnBinding, AnalysisContext context, Integer rowIndex) {
+        boolean canNotConverterEmpty = cellData.getType() == CellDataTypeEnum.EMPTY
+                && !(readColumnBinding.getCustomConverter() instanceof NullableObjectConverter);
+        if (canNotConverterEmpty) {
+            return null;
+        }
+        return doConvertToJavaObject(
+                cellData,
+                readColumnBinding.getJavaClass(),
+                readColumnBinding.converter(cellData.getType()),
+                readColumnBinding.getContentProperty(),
+                context,
+                rowIndex,
+                readColumnBinding.getColumnIndex());
+    }
+
+    /**
+     * The class of the data of a {@link CellData} field
+     *
+     * @param field
+     * @param classGeneric class given by the caller, used when not null
+     * @return
+     */
+    public static Class<?> getClassGeneric(Field field, Class<?> classGeneric) {
         if (classGeneric != null) {
             return classGeneric;
         }
@@ -220,6 +264,17 @@ public class ConverterUtils {
         if (converter == null) {
             converter = converterMap.get(ConverterKeyBuild.buildKey(clazz, cellData.getType()));
         }
+        return doConvertToJavaObject(cellData, clazz, converter, contentProperty, context, rowIndex, columnIndex);
+    }
+
+    private static Object doConvertToJavaObject(
+            ReadCellData<?> cellData,
+            Class<?> clazz,
+            Converter<?> converter,
+            ExcelContentProperty contentProperty,
+            AnalysisContext context,
+            Integer rowIndex,
+            Integer columnIndex) {
         if (converter == null) {
             throw new ExcelDataConvertException(
                     rowIndex,
@@ -50,6 +50,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.regex.Pattern;
+import org.apache.fesod.excel.metadata.data.DataFormatData;
 import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.util.LocaleUtil;
 
@@ -444,6 +445,22 @@ public class DateUtils {
         return localDateTime == null ? null : localDateTime.toLocalDate();
     }
 
+    /**
+     * Determine if it is a date format, the result already known when the styles were loaded is used first.
+     *
+     * @param dataFormatData
+     * @return
+     */
+    public static boolean isADateFormat(DataFormatData dataFormatData) {
+        if (dataFormatData == null) {
+            return false;
+        }
+        if (dataFormatData.getDate() != null) {
+            return dataFormatData.getDate();
+        }
+        return isADateFormat(dataFormatData.getIndex(), dataFormatData.getFormat());
+    }
+
     /**
      * Determine if it is a date format.
      *
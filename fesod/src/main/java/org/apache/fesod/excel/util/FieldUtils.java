@@ -41,6 +41,14 @@ public class FieldUtils {
         return getFieldClass(value);
     }
 
+    public static Class<?> getFieldClass(BeanBinder beanBinder, String fieldName, Object value) {
+        Class<?> fieldClass = beanBinder.getPropertyType(fieldName);
+        if (fieldClass != null) {
+            return fieldClass;
+        }
+        return getFieldClass(value);
+    }
+
     public static Class<?> getFieldClass(Object value) {
         if (value != null) {
             return value.getClass();
@@ -32,6 +32,18 @@ import org.apache.fesod.excel.metadata.property.ExcelContentProperty;
  *
  */
 public class NumberUtils {
+    /**
+     * The powers of ten that are exactly represented by a double.
+     */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+        1e20, 1e21, 1e22
+    };
+    /**
+     * The largest mantissa that is exactly represented by a double.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
     private NumberUtils() {}
 
     /**
@@ -187,6 +199,118 @@ public class NumberUtils {
         return parse(string, contentProperty).doubleValue();
     }
 
+    /**
+     * Parse a decimal number without building a String or a BigDecimal.
+     * <p>
+     * When the digits and the power of ten are both exactly represented by a double, a single multiplication or
+     * division gives the correctly rounded value. The other numbers are parsed by {@link Double#parseDouble(String)}.
+     *
+     * @param value
+     * @return
+     */
+    public static double toDouble(CharSequence value) {
+        int length = value.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean hasDigit = false;
+        boolean hasDot = false;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigit = true;
+                if (mantissa == 0 && c == '0') {
+                    // Leading zero
+                    if (hasDot) {
+                        scale--;
+                    }
+                    continue;
+                }
+                if (++digits > 18) {
+                    return Double.parseDouble(value.toString());
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (hasDot) {
+                    scale--;
+                }
+            } else if (c == '.' && !hasDot) {
+                hasDot = true;
+            } else {
+                break;
+            }
+        }
+        if (!hasDigit) {
+            return Double.parseDouble(value.toString());
+        }
+        if (i < length) {
+            char c = value.charAt(i++);
+            if (c != 'e' && c != 'E') {
+                return Double.parseDouble(value.toString());
+            }
+            boolean negativeExponent = false;
+            if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+                negativeExponent = value.charAt(i) == '-';
+                i++;
+            }
+            int exponent = 0;
+            int exponentDigits = 0;
+            for (; i < length; i++) {
+                c = value.charAt(i);
+                if (c < '0' || c > '9' || ++exponentDigits > 4) {
+                    return Double.parseDouble(value.toString());
+                }
+                exponent = exponent * 10 + (c - '0');
+            }
+            if (exponentDigits == 0) {
+                return Double.parseDouble(value.toString());
+            }
+            scale += negativeExponent ? -exponent : exponent;
+        }
+        double result;
+        if (mantissa == 0) {
+            result = 0;
+        } else if (mantissa > MAX_EXACT_MANTISSA || scale > 22 || scale < -22) {
+            return Double.parseDouble(value.toString());
+        } else if (scale >= 0) {
+            result = mantissa * POWERS_OF_TEN[scale];
+        } else {
+            result = mantissa / POWERS_OF_TEN[-scale];
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Count the significant digits of a decimal number, the leading zeros are not counted but the trailing ones are.
+     *
+     * @param value
+     * @return the number of digits, or {@link Integer#MAX_VALUE} when it is not a decimal number
+     */
+    public static int significantDigits(CharSequence value) {
+        int length = value.length();
+        int digits = 0;
+        boolean hasDigit = false;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '1' && c <= '9' || c == '0' && digits > 0) {
+                digits++;
+                hasDigit = true;
+            } else if (c == '0') {
+                hasDigit = true;
+            } else if (c == 'e' || c == 'E') {
+                break;
+            } else if (c != '.' && !(i == 0 && (c == '-' || c == '+'))) {
+                return Integer.MAX_VALUE;
+            }
+        }
+        return hasDigit ? digits : Integer.MAX_VALUE;
+    }
+
     private static boolean hasFormat(ExcelContentProperty contentProperty) {
         return contentProperty != null
                 && contentProperty.getNumberFormatProperty() != null
@@ -19,7 +19,6 @@
 
 package org.apache.fesod.excel.write.executor;
 
-import cn.idev.excel.support.cglib.beans.BeanMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -32,7 +31,7 @@ import org.apache.fesod.excel.metadata.FieldCache;
 import org.apache.fesod.excel.metadata.FieldWrapper;
 import org.apache.fesod.excel.metadata.Head;
 import org.apache.fesod.excel.metadata.property.ExcelContentProperty;
-import org.apache.fesod.excel.util.BeanMapUtils;
+import org.apache.fesod.excel.util.BeanBinder;
 import org.apache.fesod.excel.util.ClassUtils;
 import org.apache.fesod.excel.util.FieldUtils;
 import org.apache.fesod.excel.util.WorkBookUtil;
@@ -163,9 +162,7 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
 
     private void addJavaObjectToExcel(Object oneRowData, Row row, int rowIndex, int relativeRowIndex) {
         WriteHolder currentWriteHolder = writeContext.currentWriteHolder();
-        BeanMap beanMap = BeanMapUtils.create(oneRowData);
-        // Bean the contains of the Map Key method with poor performance,So to create a keySet here
-        Set<String> beanKeySet = new HashSet<>(beanMap.keySet());
+        BeanBinder beanBinder = BeanBinder.of(oneRowData.getClass());
         Set<String> beanMapHandledSet = new HashSet<>();
         int maxCellIndex = -1;
         // If it's a class it needs to be cast by type
@@ -177,12 +174,15 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
                 int columnIndex = entry.getKey();
                 Head head = entry.getValue();
                 String name = head.getFieldName();
-                if (!beanKeySet.contains(name)) {
+                if (!beanBinder.hasProperty(name)) {
                     continue;
                 }
 
-                ExcelContentProperty excelContentProperty = ClassUtils.declaredExcelContentProperty(
-                        beanMap, currentWriteHolder.excelWriteHeadProperty().getHeadClazz(), name, currentWriteHolder);
+                ExcelContentProperty excelContentProperty = ClassUtils.getExcelContentProperty(
+                        oneRowData.getClass(),
+                        currentWriteHolder.excelWriteHeadProperty().getHeadClazz(),
+                        name,
+                        currentWriteHolder);
                 CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
                         writeContext,
                         row,
@@ -199,7 +199,7 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
 
                 WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
 
-                cellWriteHandlerContext.setOriginalValue(beanMap.get(name));
+                cellWriteHandlerContext.setOriginalValue(beanBinder.get(oneRowData, name));
                 cellWriteHandlerContext.setOriginalFieldClass(head.getField().getType());
                 converterAndSet(cellWriteHandlerContext);
 
@@ -210,7 +210,7 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
             }
         }
         // Finish
-        if (beanMapHandledSet.size() == beanMap.size()) {
+        if (beanMapHandledSet.size() == beanBinder.size()) {
             return;
         }
         maxCellIndex++;
@@ -220,13 +220,16 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
                 fieldCache.getSortedFieldMap().entrySet()) {
             FieldWrapper field = entry.getValue();
             String fieldName = field.getFieldName();
-            boolean uselessData = !beanKeySet.contains(fieldName) || beanMapHandledSet.contains(fieldName);
+            boolean uselessData = !beanBinder.hasProperty(fieldName) || beanMapHandledSet.contains(fieldName);
             if (uselessData) {
                 continue;
             }
-            Object value = beanMap.get(fieldName);
-            ExcelContentProperty excelContentProperty = ClassUtils.declaredExcelContentProperty(
-                    beanMap, currentWriteHolder.excelWriteHeadProperty().getHeadClazz(), fieldName, currentWriteHolder);
+            Object value = beanBinder.get(oneRowData, fieldName);
+            ExcelContentProperty excelContentProperty = ClassUtils.getExcelContentProperty(
+                    oneRowData.getClass(),
+                    currentWriteHolder.excelWriteHeadProperty().getHeadClazz(),
+                    fieldName,
+                    currentWriteHolder);
             CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
                     writeContext,
                     row,
@@ -245,7 +248,7 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
             WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
 
             cellWriteHandlerContext.setOriginalValue(value);
-            cellWriteHandlerContext.setOriginalFieldClass(FieldUtils.getFieldClass(beanMap, fieldName, value));
+            cellWriteHandlerContext.setOriginalFieldClass(FieldUtils.getFieldClass(beanBinder, fieldName, value));
             converterAndSet(cellWriteHandlerContext);
 
             WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
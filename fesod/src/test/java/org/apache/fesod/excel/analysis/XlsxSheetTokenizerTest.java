@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.analysis;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.enums.ReadDefaultReturnEnum;
+import org.apache.fesod.excel.enums.XlsxSheetParserEnum;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tokenizer must read sheets the same way as SAX.
+ */
+class XlsxSheetTokenizerTest {
+
+    private static final String SHEET_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\r\n"
+            + "<!-- written by hand -->\r\n"
+            + "<x:worksheet xmlns:x=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">"
+            + "<x:dimension ref=\"A1:C5\"/><x:sheetData>"
+            + "<x:row r=\"1\"><x:c r=\"A1\" t=\"inlineStr\"><x:is><x:t>name</x:t></x:is></x:c>"
+            + "<x:c r=\"B1\" t=\"inlineStr\"><x:is><x:t>value</x:t></x:is></x:c></x:row>"
+            + "<x:row r=\"2\"><x:c r=\"A2\" t=\"inlineStr\"><x:is><x:t xml:space=\"preserve\">"
+            + "a &amp; b &lt;c&gt; &#20013;&#x6587; 中文 😀</x:t></x:is></x:c>"
+            + "<x:c r=\"B2\"><x:v>1.5</x:v></x:c></x:row>"
+            + "<x:row r=\"4\"><x:c r=\"A4\" t=\"str\"><x:f>CONCAT(\"x\",\"y\")</x:f><x:v><![CDATA[x<y]]]></x:v></x:c>"
+            + "<x:c r=\"C4\" t=\"b\"><x:v>1</x:v></x:c></x:row>"
+            + "<x:row r=\"5\"><x:c r=\"A5\" t=\"inlineStr\"><x:is><x:r><x:t>line1\r\nline2</x:t></x:r></x:is></x:c>"
+            + "<x:c r=\"$C$5\"><x:v>-2E-3</x:v></x:c><x:c r=\"D5\"/></x:row>"
+            + "</x:sheetData></x:worksheet>";
+
+    private static File file07;
+    private static File handWritten07;
+    private static File latin07;
+
+    @BeforeAll
+    static void init() throws IOException {
+        file07 = TestFileUtil.createNewFile("tokenizer07.xlsx");
+        handWritten07 = TestFileUtil.createNewFile("tokenizerHandWritten07.xlsx");
+        latin07 = TestFileUtil.createNewFile("tokenizerLatin07.xlsx");
+        List<List<Object>> data = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            List<Object> row = new ArrayList<>();
+            row.add("string" + i);
+            row.add(i * 1.25);
+            row.add(i % 2 == 0);
+            row.add(i % 3 == 0 ? null : "x");
+            data.add(row);
+        }
+        FastExcel.write(file07).sheet().doWrite(data);
+        replaceSheet(file07, handWritten07, SHEET_XML.getBytes(StandardCharsets.UTF_8));
+        Charset latin = StandardCharsets.ISO_8859_1;
+        replaceSheet(
+                file07,
+                latin07,
+                SHEET_XML
+                        .replace("UTF-8", "ISO-8859-1")
+                        .replace("中文 😀", "café")
+                        .getBytes(latin));
+    }
+
+    @Test
+    void readSameAsSax() {
+        for (File file : new File[] {file07, handWritten07}) {
+            for (ReadDefaultReturnEnum readDefaultReturn : ReadDefaultReturnEnum.values()) {
+                List<Map<Integer, Object>> sax = read(file, XlsxSheetParserEnum.SAX, readDefaultReturn);
+                Assertions.assertEquals(sax, read(file, XlsxSheetParserEnum.TOKENIZER, readDefaultReturn));
+                Assertions.assertEquals(sax, read(file, XlsxSheetParserEnum.AUTO, readDefaultReturn));
+            }
+        }
+    }
+
+    @Test
+    void readHandWritten() {
+        List<Map<Integer, Object>> list =
+                read(handWritten07, XlsxSheetParserEnum.TOKENIZER, ReadDefaultReturnEnum.STRING);
+        Assertions.assertEquals(4, list.size());
+        Assertions.assertEquals("a & b <c> 中文 中文 😀", list.get(1).get(0));
+        Assertions.assertEquals("1.5", list.get(1).get(1));
+        Assertions.assertEquals("x<y]", list.get(2).get(0));
+        Assertions.assertEquals("true", list.get(2).get(2));
+        Assertions.assertEquals("line1\nline2", list.get(3).get(0));
+        Assertions.assertEquals("-0.002", list.get(3).get(2));
+    }
+
+    @Test
+    void fallBackToSax() {
+        List<Map<Integer, Object>> list = read(latin07, XlsxSheetParserEnum.AUTO, ReadDefaultReturnEnum.STRING);
+        Assertions.assertEquals("a & b <c> 中文 café", list.get(1).get(0));
+        Assertions.assertEquals(read(latin07, XlsxSheetParserEnum.SAX, ReadDefaultReturnEnum.STRING), list);
+        Assertions.assertThrows(
+                ExcelAnalysisException.class,
+                () -> read(latin07, XlsxSheetParserEnum.TOKENIZER, ReadDefaultReturnEnum.STRING));
+    }
+
+    private static List<Map<Integer, Object>> read(
+            File file, XlsxSheetParserEnum xlsxSheetParser, ReadDefaultReturnEnum readDefaultReturn) {
+        return FastExcel.read(file)
+                .xlsxSheetParser(xlsxSheetParser)
+                .readDefaultReturn(readDefaultReturn)
+                .headRowNumber(0)
+                .sheet()
+                .doReadSync();
+    }
+
+    private static void replaceSheet(File source, File target, byte[] sheet) throws IOException {
+        try (ZipFile zipFile = new ZipFile(source);
+                ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(target))) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry zipEntry = entries.nextElement();
+                zipOutputStream.putNextEntry(new ZipEntry(zipEntry.getName()));
+                if ("xl/worksheets/sheet1.xml".equals(zipEntry.getName())) {
+                    zipOutputStream.write(sheet);
+                } else {
+                    try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                        copy(inputStream, zipOutputStream);
+                    }
+                }
+                zipOutputStream.closeEntry();
+            }
+        }
+    }
+
+    private static void copy(InputStream inputStream, OutputStream outputStream) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) > 0) {
+            outputStream.write(buffer, 0, read);
+        }
+    }
+}
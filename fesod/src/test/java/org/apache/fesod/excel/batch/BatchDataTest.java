@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.batch;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.enums.CellDataTypeEnum;
+import org.apache.fesod.excel.metadata.data.ColumnarBatch;
+import org.apache.fesod.excel.metadata.data.ReadCellData;
+import org.apache.fesod.excel.metadata.data.ReadRowBuffer;
+import org.apache.fesod.excel.read.listener.BatchReadListener;
+import org.apache.fesod.excel.read.listener.ColumnarBatchReadListener;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Read the rows in batches with {@link BatchReadListener} and {@link ColumnarBatchReadListener}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class BatchDataTest {
+
+    private static final int ROW_COUNT = 1050;
+    private static final int BATCH_SIZE = 100;
+
+    private static File file07;
+    private static File file03;
+    private static File fileCsv;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("batch07.xlsx");
+        file03 = TestFileUtil.createNewFile("batch03.xls");
+        fileCsv = TestFileUtil.createNewFile("batchCsv.csv");
+        FastExcel.write(file07, BatchData.class).sheet().doWrite(data());
+        FastExcel.write(file03, BatchData.class).sheet().doWrite(data());
+        FastExcel.write(fileCsv, BatchData.class).sheet().doWrite(data());
+    }
+
+    @Test
+    public void t01Batch07() {
+        batch(file07);
+    }
+
+    @Test
+    public void t02Batch03() {
+        batch(file03);
+    }
+
+    @Test
+    public void t03BatchCsv() {
+        batch(fileCsv);
+    }
+
+    @Test
+    public void t11Columnar07() {
+        columnar(file07);
+    }
+
+    @Test
+    public void t12Columnar03() {
+        columnar(file03);
+    }
+
+    @Test
+    public void t13ColumnarCsv() {
+        columnar(fileCsv);
+    }
+
+    @Test
+    public void t21ColumnarWithDefaultListener() {
+        // The batches are filled from the cells read for the default listener
+        TestColumnarListener columnarListener = new TestColumnarListener();
+        List<BatchData> list = FastExcel.read(file07, BatchData.class, columnarListener)
+                .sheet()
+                .doReadSync();
+        Assertions.assertEquals(ROW_COUNT, list.size());
+        Assertions.assertEquals(ROW_COUNT, columnarListener.names.size());
+    }
+
+    @Test
+    public void t31InvokeDirectly() {
+        // A row passed to invoke is a batch of one row
+        TestBatchListener listener = new TestBatchListener();
+        BatchData batchData = data().get(1);
+        listener.invoke(batchData, null);
+        Assertions.assertEquals(Collections.singletonList(Collections.singletonList(batchData)), listener.batchList);
+
+        Map<Integer, ReadCellData<?>> cellDataMap = new HashMap<>();
+        cellDataMap.put(0, new ReadCellData<>("name1"));
+        cellDataMap.put(1, new ReadCellData<>(new BigDecimal(1000)));
+        ReadRowBuffer readRowBuffer = new ReadRowBuffer();
+        readRowBuffer.fill(2, cellDataMap);
+        List<ColumnarBatch> batchList = new ArrayList<>();
+        ColumnarBatchReadListener columnarListener = new ColumnarBatchReadListener() {
+            @Override
+            public void invokeBatch(ColumnarBatch batch, AnalysisContext context) {
+                Assertions.assertEquals(1, batch.size());
+                Assertions.assertEquals(2, batch.getRowIndex(0));
+                Assertions.assertEquals("name1", batch.getColumn(0).getString(0));
+                Assertions.assertEquals(1000L, batch.getColumn(1).getLongs()[0]);
+                batchList.add(batch);
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {}
+        };
+        columnarListener.invoke(readRowBuffer, null);
+        Assertions.assertEquals(1, batchList.size());
+    }
+
+    private static void batch(File file) {
+        TestBatchListener listener = new TestBatchListener();
+        FastExcel.read(file, BatchData.class, listener).sheet().doRead();
+        Assertions.assertTrue(listener.ended);
+        Assertions.assertEquals(ROW_COUNT / BATCH_SIZE + 1, listener.batchList.size());
+        int index = 0;
+        for (List<BatchData> batch : listener.batchList) {
+            boolean last = index + BATCH_SIZE > ROW_COUNT;
+            Assertions.assertEquals(last ? ROW_COUNT % BATCH_SIZE : BATCH_SIZE, batch.size());
+            for (BatchData batchData : batch) {
+                Assertions.assertEquals(data().get(index), batchData);
+                index++;
+            }
+        }
+    }
+
+    private static void columnar(File file) {
+        TestColumnarListener listener = new TestColumnarListener();
+        FastExcel.read(file, listener).useDefaultListener(false).sheet().doRead();
+        Assertions.assertTrue(listener.ended);
+        Assertions.assertEquals(ROW_COUNT / BATCH_SIZE + 1, listener.batchCount);
+        List<BatchData> expected = data();
+        Assertions.assertEquals(ROW_COUNT, listener.names.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals(i + 1, listener.rowIndexes.get(i));
+            Assertions.assertEquals(expected.get(i).getName(), listener.names.get(i));
+            Assertions.assertEquals(expected.get(i).getValue(), listener.values.get(i));
+            Assertions.assertEquals(expected.get(i).getFlag(), listener.flags.get(i));
+        }
+    }
+
+    private static List<BatchData> data() {
+        List<BatchData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            BatchData data = new BatchData();
+            data.setName("name" + (i % 10));
+            data.setValue(i % 7 == 0 ? null : (long) i * 1000);
+            data.setFlag(i % 2 == 0);
+            list.add(data);
+        }
+        return list;
+    }
+
+    private static class TestBatchListener implements BatchReadListener<BatchData> {
+        private final List<List<BatchData>> batchList = new ArrayList<>();
+        private boolean ended;
+
+        @Override
+        public int batchSize() {
+            return BATCH_SIZE;
+        }
+
+        @Override
+        public void invokeBatch(List<BatchData> batch, AnalysisContext context) {
+            Assertions.assertFalse(ended);
+            batchList.add(batch);
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+            ended = true;
+        }
+    }
+
+    private static class TestColumnarListener implements ColumnarBatchReadListener {
+        private final List<Integer> rowIndexes = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<Long> values = new ArrayList<>();
+        private final List<Boolean> flags = new ArrayList<>();
+        private int batchCount;
+        private boolean ended;
+
+        @Override
+        public int batchSize() {
+            return BATCH_SIZE;
+        }
+
+        @Override
+        public void invokeBatch(ColumnarBatch batch, AnalysisContext context) {
+            Assertions.assertFalse(ended);
+            batchCount++;
+            ColumnarBatch.Column name = batch.getColumn(0);
+            ColumnarBatch.Column value = batch.getColumn(1);
+            ColumnarBatch.Column flag = batch.getColumn(2);
+            // The names are stored once per batch
+            Assertions.assertEquals(10, name.getDictionarySize());
+            for (int i = 0; i < batch.size(); i++) {
+                rowIndexes.add(batch.getRowIndex(i));
+                names.add(name.getDictionary()[name.getStringIds()[i]]);
+                // Numbers and booleans are read as strings in csv
+                if (value.isNull(i)) {
+                    values.add(null);
+                } else if (value.getType(i) == CellDataTypeEnum.NUMBER) {
+                    values.add(value.getLongs()[i]);
+                } else {
+                    values.add(Long.valueOf(value.getString(i)));
+                }
+                if (flag.getType(i) == CellDataTypeEnum.BOOLEAN) {
+                    flags.add(flag.getBooleans()[i]);
+                } else {
+                    flags.add(Boolean.valueOf(flag.getString(i)));
+                }
+            }
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+            ended = true;
+        }
+    }
+}
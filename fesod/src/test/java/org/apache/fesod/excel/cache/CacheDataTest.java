@@ -24,11 +24,15 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fesod.excel.ExcelReader;
+import org.apache.fesod.excel.ExcelWriter;
 import org.apache.fesod.excel.FastExcel;
 import org.apache.fesod.excel.annotation.ExcelProperty;
+import org.apache.fesod.excel.cache.selector.SimpleReadCacheSelector;
 import org.apache.fesod.excel.context.AnalysisContext;
 import org.apache.fesod.excel.data.DemoData;
 import org.apache.fesod.excel.enums.CacheLocationEnum;
@@ -56,6 +60,8 @@ public class CacheDataTest {
     private static File fileCacheInvoke2;
     private static File fileCacheInvokeMemory;
     private static File fileCacheInvokeMemory2;
+    private static File fileMemoryMapped;
+    private static File fileReferencedSharedStrings;
 
     @BeforeAll
     public static void init() {
@@ -64,6 +70,8 @@ public class CacheDataTest {
         fileCacheInvoke2 = TestFileUtil.createNewFile("cache/fileCacheInvoke2.xlsx");
         fileCacheInvokeMemory = TestFileUtil.createNewFile("cache/fileCacheInvokeMemory.xlsx");
         fileCacheInvokeMemory2 = TestFileUtil.createNewFile("cache/fileCacheInvokeMemory2.xlsx");
+        fileMemoryMapped = TestFileUtil.createNewFile("cache/fileMemoryMapped.xlsx");
+        fileReferencedSharedStrings = TestFileUtil.createNewFile("cache/fileReferencedSharedStrings.xlsx");
     }
 
     @Test
@@ -193,6 +201,147 @@ public class CacheDataTest {
                 .doRead();
     }
 
+    @Test
+    public void t04ReadMemoryMappedCache() {
+        // Written in memory, so that the strings go to the shared strings table
+        FastExcel.write(fileMemoryMapped, CacheData.class)
+                .inMemory(Boolean.TRUE)
+                .sheet()
+                .doWrite(data());
+        SimpleReadCacheSelector simpleReadCacheSelector = new SimpleReadCacheSelector();
+        simpleReadCacheSelector.setMaxUseMapCacheSize(0L);
+        simpleReadCacheSelector.setMinUseMemoryMappedCacheSize(0L);
+        List<CacheData> list = FastExcel.read(fileMemoryMapped, CacheData.class, null)
+                .readCacheSelector(simpleReadCacheSelector)
+                .sheet()
+                .doReadSync();
+        Assertions.assertEquals(data(), list);
+    }
+
+    @Test
+    public void t05MemoryMappedCache() {
+        MemoryMappedCache memoryMappedCache = new MemoryMappedCache();
+        memoryMappedCache.init(null);
+        try {
+            for (int i = 0; i < 10000; i++) {
+                memoryMappedCache.put(i % 100 == 0 ? null : "值" + i);
+            }
+            memoryMappedCache.put("");
+            memoryMappedCache.putFinished();
+            Assertions.assertNull(memoryMappedCache.get(null));
+            Assertions.assertNull(memoryMappedCache.get(0));
+            Assertions.assertEquals("值9999", memoryMappedCache.get(9999));
+            Assertions.assertEquals("值1", memoryMappedCache.get(1));
+            Assertions.assertEquals("", memoryMappedCache.get(10000));
+        } finally {
+            memoryMappedCache.destroy();
+        }
+    }
+
+    @Test
+    public void t06ReadOnlyReferencedSharedStrings() {
+        try (ExcelWriter excelWriter = FastExcel.write(fileReferencedSharedStrings, CacheData.class)
+                .inMemory(Boolean.TRUE)
+                .build()) {
+            excelWriter.write(data(), FastExcel.writerSheet(0).build());
+            List<CacheData> otherData = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                CacheData cacheData = new CacheData();
+                cacheData.setName("其他" + i);
+                cacheData.setAge((long) i);
+                otherData.add(cacheData);
+            }
+            excelWriter.write(otherData, FastExcel.writerSheet(1).build());
+        }
+        List<CacheData> list1 = new ArrayList<>();
+        List<CacheData> list0 = new ArrayList<>();
+        try (ExcelReader excelReader = FastExcel.read(fileReferencedSharedStrings, CacheData.class, null)
+                .onlyReferencedSharedStrings(Boolean.TRUE)
+                .build()) {
+            excelReader.read(FastExcel.readSheet(1)
+                    .registerReadListener(new PageReadListener<CacheData>(list1::addAll))
+                    .build());
+            // The strings of the first sheet are loaded on the second read
+            excelReader.read(FastExcel.readSheet(0)
+                    .registerReadListener(new PageReadListener<CacheData>(list0::addAll))
+                    .build());
+        }
+        Assertions.assertEquals(data(), list0);
+        Assertions.assertEquals(10, list1.size());
+        for (int i = 0; i < list1.size(); i++) {
+            Assertions.assertEquals("其他" + i, list1.get(i).getName());
+        }
+    }
+
+    @Test
+    public void t07SparseReadCache() {
+        BitSet keys = new BitSet();
+        keys.set(1);
+        keys.set(63);
+        keys.set(64);
+        keys.set(200);
+        SparseReadCache sparseReadCache = new SparseReadCache(new MapCache(), keys);
+        sparseReadCache.init(null);
+        for (int i = 0; i < 300; i++) {
+            sparseReadCache.put("值" + i);
+        }
+        sparseReadCache.putFinished();
+        Assertions.assertNull(sparseReadCache.get(null));
+        Assertions.assertNull(sparseReadCache.get(0));
+        Assertions.assertNull(sparseReadCache.get(299));
+        Assertions.assertNull(sparseReadCache.get(1000));
+        Assertions.assertEquals("值1", sparseReadCache.get(1));
+        Assertions.assertEquals("值63", sparseReadCache.get(63));
+        Assertions.assertEquals("值64", sparseReadCache.get(64));
+        Assertions.assertEquals("值200", sparseReadCache.get(200));
+        sparseReadCache.destroy();
+    }
+
+    @Test
+    public void t08XlsCache() {
+        XlsCache xlsCache = new XlsCache(16);
+        for (int i = 0; i < 3000; i++) {
+            xlsCache.put(i % 100 == 0 ? null : (i % 2 == 0 ? "value" + i : "值" + i));
+        }
+        xlsCache.put("");
+        xlsCache.put("caf\u00e9");
+        xlsCache.putFinished();
+        Assertions.assertEquals(3002, xlsCache.size());
+        Assertions.assertNull(xlsCache.get(null));
+        Assertions.assertNull(xlsCache.get(0));
+        Assertions.assertNull(xlsCache.get(3002));
+        Assertions.assertEquals("值1", xlsCache.get(1));
+        Assertions.assertEquals("value2998", xlsCache.get(2998));
+        Assertions.assertEquals("", xlsCache.get(3000));
+        Assertions.assertEquals("caf\u00e9", xlsCache.get(3001));
+        // A value read again is not decoded again
+        Assertions.assertSame(xlsCache.get(2999), xlsCache.get(2999));
+
+        XlsCache noInternCache = new XlsCache(0);
+        noInternCache.put("值");
+        noInternCache.putFinished();
+        Assertions.assertEquals("值", noInternCache.get(0));
+        Assertions.assertNotSame(noInternCache.get(0), noInternCache.get(0));
+    }
+
+    @Test
+    public void t09ReadXlsCache() {
+        File file03 = TestFileUtil.createNewFile("cache/fileXlsCache.xls");
+        FastExcel.write(file03, CacheData.class).sheet().doWrite(data());
+        List<CacheData> list = FastExcel.read(file03, CacheData.class, null)
+                .sheet()
+                .doReadSync();
+        Assertions.assertEquals(data(), list);
+
+        SimpleReadCacheSelector simpleReadCacheSelector = new SimpleReadCacheSelector();
+        simpleReadCacheSelector.setMinUseMemoryMappedCacheSize(0L);
+        List<CacheData> memoryMappedList = FastExcel.read(file03, CacheData.class, null)
+                .readCacheSelector(simpleReadCacheSelector)
+                .sheet()
+                .doReadSync();
+        Assertions.assertEquals(data(), memoryMappedList);
+    }
+
     private List<CacheData> data() {
         List<CacheData> list = new ArrayList<CacheData>();
         for (int i = 0; i < 10; i++) {
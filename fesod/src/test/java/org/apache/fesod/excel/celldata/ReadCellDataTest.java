@@ -0,0 +1,44 @@
+
+package org.apache.fesod.excel.celldata;
+
+import java.math.BigDecimal;
+import org.apache.fesod.excel.constant.FastExcelConstants;
+import org.apache.fesod.excel.enums.CellDataTypeEnum;
+import org.apache.fesod.excel.metadata.data.ReadCellData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The numbers of a {@link ReadCellData} built from the text of the file.
+ */
+public class ReadCellDataTest {
+
+    @Test
+    public void t01NumberText() {
+        String[] values = {
+            "0", "-0", "1", "-1", "2.5", "-2.5", "123456789", "2087.0249999999996", "2.9999999999999996", "1E20",
+            "-9.87654321E14", "4294967296", "3000000000", "44729.99998836806", "0.1", "123456789012345678"
+        };
+        for (String value : values) {
+            ReadCellData<?> cellData = new ReadCellData<>(CellDataTypeEnum.NUMBER);
+            cellData.setOriginalNumberText(value);
+            cellData.checkEmpty();
+            Assertions.assertEquals(CellDataTypeEnum.NUMBER, cellData.getType());
+
+            BigDecimal numberValue = new BigDecimal(value).round(FastExcelConstants.EXCEL_MATH_CONTEXT);
+            Assertions.assertEquals(numberValue.doubleValue(), cellData.doubleNumberValue(), value);
+            Assertions.assertEquals(numberValue.longValue(), cellData.longNumberValue(), value);
+            Assertions.assertEquals(numberValue.intValue(), cellData.intNumberValue(), value);
+            Assertions.assertEquals(new BigDecimal(value), cellData.getOriginalNumberValue());
+            Assertions.assertEquals(numberValue, cellData.getNumberValue());
+        }
+    }
+
+    @Test
+    public void t02NumberValue() {
+        ReadCellData<?> cellData = new ReadCellData<>(new BigDecimal("12.5"));
+        Assertions.assertEquals(12.5, cellData.doubleNumberValue());
+        Assertions.assertEquals(12L, cellData.longNumberValue());
+        Assertions.assertEquals(12, cellData.intNumberValue());
+    }
+}
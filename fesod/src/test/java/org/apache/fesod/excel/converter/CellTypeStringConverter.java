@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.converter;
+
+import org.apache.fesod.excel.converters.NullableObjectConverter;
+import org.apache.fesod.excel.converters.ReadConverterContext;
+import org.apache.fesod.excel.enums.CellDataTypeEnum;
+import org.apache.fesod.excel.metadata.data.ReadCellData;
+
+/**
+ * Read any cell, the empty ones too, as its type and its string value.
+ */
+public class CellTypeStringConverter implements NullableObjectConverter<String> {
+    @Override
+    public String convertToJavaData(ReadConverterContext<?> context) {
+        ReadCellData<?> readCellData = context.getReadCellData();
+        if (readCellData.getType() == CellDataTypeEnum.EMPTY) {
+            return CellDataTypeEnum.EMPTY.name();
+        }
+        return readCellData.getType() + ":" + readCellData.getStringValue();
+    }
+}
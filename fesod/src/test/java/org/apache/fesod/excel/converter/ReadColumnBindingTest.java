@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.converter;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.enums.CellDataTypeEnum;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * The cells converted with the converters resolved once per column.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class ReadColumnBindingTest {
+
+    private static File file07;
+    private static File fileCsv;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("readColumnBinding07.xlsx");
+        fileCsv = TestFileUtil.createNewFile("readColumnBindingCsv.csv");
+        FastExcel.write(file07).head(head()).sheet().doWrite(data());
+        FastExcel.write(fileCsv).head(head()).sheet().doWrite(data());
+    }
+
+    @Test
+    public void t01Read07() {
+        read(file07);
+    }
+
+    @Test
+    public void t02ReadCsv() {
+        read(fileCsv);
+    }
+
+    private void read(File file) {
+        List<ReadColumnBindingData> list =
+                FastExcel.read(file, ReadColumnBindingData.class, null).sheet().doReadSync();
+        Assertions.assertEquals(2, list.size());
+
+        ReadColumnBindingData data = list.get(0);
+        // The converter of the field is used for any type of cell
+        Assertions.assertEquals("STRING:custom", data.getCustom());
+        Assertions.assertEquals(12, data.getIntegerCellData().getData());
+        // Without a generic type the data of a cell data field is a string
+        Assertions.assertEquals("raw", data.getRawCellData().getData());
+        Assertions.assertEquals(CellDataTypeEnum.STRING, data.getRawCellData().getType());
+        Assertions.assertEquals("string", data.getString());
+        Assertions.assertEquals("STRING:nullable", data.getNullable());
+
+        ReadColumnBindingData emptyData = list.get(1);
+        // Empty cells are only converted by a nullable converter
+        Assertions.assertEquals("EMPTY", emptyData.getCustom());
+        Assertions.assertEquals(CellDataTypeEnum.EMPTY, emptyData.getIntegerCellData().getType());
+        Assertions.assertNull(emptyData.getIntegerCellData().getData());
+        Assertions.assertEquals(CellDataTypeEnum.EMPTY, emptyData.getRawCellData().getType());
+        Assertions.assertNull(emptyData.getRawCellData().getData());
+        Assertions.assertNull(emptyData.getString());
+        Assertions.assertEquals("EMPTY", emptyData.getNullable());
+    }
+
+    private static List<List<String>> head() {
+        List<List<String>> head = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            head.add(Arrays.asList("col" + i));
+        }
+        return head;
+    }
+
+    private static List<List<Object>> data() {
+        List<List<Object>> list = new ArrayList<>();
+        list.add(Arrays.asList("custom", 12, "raw", "string", "nullable", "end"));
+        // The last column keeps the empty cells before it in the row
+        list.add(Arrays.asList("", "", "", "", "", "end"));
+        return list;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.csv;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.metadata.data.ReadCellData;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Parse a CSV file on several threads with {@code csvParallelism}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class CsvParallelTest {
+
+    private static final int ROW_COUNT = 20000;
+
+    private static File multiLineFile;
+    private static File singleLineFile;
+
+    @BeforeAll
+    public static void init() throws IOException {
+        multiLineFile = TestFileUtil.createNewFile("csv" + File.separator + "csv-parallel-multi-line.csv");
+        singleLineFile = TestFileUtil.createNewFile("csv" + File.separator + "csv-parallel-single-line.csv");
+        StringBuilder multiLine = new StringBuilder("\uFEFFindex,text,other\r\n");
+        StringBuilder singleLine = new StringBuilder("index,text,other\n");
+        for (int i = 0; i < ROW_COUNT; i++) {
+            // Most of the bytes are in quoted values with line breaks, so most chunks start inside a value
+            multiLine.append(i).append(",\"");
+            for (int j = 0; j < 8; j++) {
+                multiLine.append("line ").append(j).append(" of 中文 ").append(i).append(j % 2 == 0 ? "\n" : "\r\n");
+            }
+            multiLine.append("\"\"end\"\"\", ").append(i % 3 == 0 ? "" : "x").append("\r\n");
+            if (i % 1000 == 0) {
+                multiLine.append("\r\n");
+            }
+            singleLine.append(i).append(",\"a, ").append(i).append("\",\"中文\"\n");
+        }
+        Files.write(multiLineFile.toPath(), multiLine.toString().getBytes(StandardCharsets.UTF_8));
+        Files.write(singleLineFile.toPath(), singleLine.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void t01ReadOrdered() {
+        List<Map<Integer, String>> expected = read(multiLineFile, 1, true, false);
+        Assertions.assertEquals(ROW_COUNT, expected.size());
+        Assertions.assertEquals("x", expected.get(1).get(2));
+        Assertions.assertNull(expected.get(3).get(2));
+        for (int parallelism = 2; parallelism <= 8; parallelism *= 2) {
+            Assertions.assertEquals(expected, read(multiLineFile, parallelism, true, false));
+        }
+        Assertions.assertEquals(read(singleLineFile, 1, true, false), read(singleLineFile, 4, true, false));
+    }
+
+    @Test
+    public void t02ReadUnordered() {
+        List<Map<Integer, String>> expected = read(multiLineFile, 1, true, false);
+        List<Map<Integer, String>> actual = read(multiLineFile, 4, false, false);
+        actual.sort(Comparator.comparing(data -> Integer.valueOf(data.get(0))));
+        Assertions.assertEquals(expected, actual);
+
+        expected = read(singleLineFile, 1, true, false);
+        actual = read(singleLineFile, 4, false, true);
+        actual.sort(Comparator.comparing(data -> Integer.valueOf(data.get(0))));
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void t03ReadHead() {
+        List<String> headList = new ArrayList<>();
+        List<Map<Integer, String>> list = FastExcel.read(singleLineFile)
+                .csvParallelism(4)
+                .csvParallelOrdered(Boolean.FALSE)
+                .registerReadListener(new ReadListener<Map<Integer, String>>() {
+                    @Override
+                    public void invokeHead(
+                            Map<Integer, ReadCellData<?>> headMap,
+                            AnalysisContext context) {
+                        headMap.values().forEach(cellData -> headList.add(cellData.getStringValue()));
+                    }
+
+                    @Override
+                    public void invoke(
+                            Map<Integer, String> data, AnalysisContext context) {}
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .csv()
+                .doReadSync();
+        Assertions.assertEquals(ROW_COUNT, list.size());
+        Assertions.assertEquals("index", headList.get(0));
+    }
+
+    @Test
+    public void t04NoEmbeddedNewlines() {
+        Assertions.assertThrows(ExcelAnalysisException.class, () -> read(multiLineFile, 4, true, true));
+    }
+
+    private static List<Map<Integer, String>> read(
+            File file, int parallelism, boolean ordered, boolean noEmbeddedNewlines) {
+        return FastExcel.read(file)
+                .csvParallelism(parallelism)
+                .csvParallelOrdered(ordered)
+                .csvNoEmbeddedNewlines(noEmbeddedNewlines)
+                .csv()
+                .doReadSync();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.csv;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.csv.QuoteMode;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.analysis.csv.CsvTokenizer;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * The built-in tokenizer reads the same records as commons-csv.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class CsvTokenizerTest {
+
+    private static final String[] INPUTS = {
+        "",
+        "a",
+        "a,b,c",
+        "a,b,c\n1,2,3\n",
+        "a,b,c\r\n1,2,3\r\n",
+        "a,b\r1,2\r",
+        "a,\n,b\n,\n",
+        "a,b,",
+        "\n\na,b\n\n\nc,d\n\n",
+        "\r\n\r\na\r\n\r\n",
+        " a , b \n  \n",
+        "\"a\",\"b,c\",\"d\"\"e\"\n",
+        "\"multi\nline\",\"cr\r\nlf\"\n",
+        "\"\",\"\"\n\"\"",
+        "a\"b,c\"\n",
+        "\"a\" ,\"b\"\t\n",
+        "\"a\"x,b\n",
+        "\"unclosed,2\n3,4",
+        "a\\,b,c\\\\d,e\\nf,\\x\n",
+        "\"a\\\"b\",c\n",
+        "a\\",
+        "NULL,\"NULL\",,\"\"\n",
+        "a,b,c,\n1,2,3,\n",
+        "é,ü\n中文,\"日本\"\n",
+    };
+
+    private static final CSVFormat[] FORMATS = {
+        CSVFormat.DEFAULT,
+        CSVFormat.DEFAULT.builder().setTrim(true).build(),
+        CSVFormat.DEFAULT.builder().setIgnoreEmptyLines(false).build(),
+        CSVFormat.DEFAULT.builder().setEscape('\\').build(),
+        CSVFormat.DEFAULT.builder().setTrailingDelimiter(true).build(),
+        CSVFormat.DEFAULT
+                .builder()
+                .setNullString("NULL")
+                .setQuoteMode(QuoteMode.ALL_NON_NULL)
+                .build(),
+        CSVFormat.DEFAULT.builder().setNullString("").build(),
+        CSVFormat.DEFAULT.builder().setLenientEof(true).setTrailingData(true).build(),
+        CSVFormat.DEFAULT.builder().setDelimiter('\t').setQuote(null).build(),
+        CSVFormat.DEFAULT.builder().setDelimiter(';').setQuote('\'').build(),
+    };
+
+    @Test
+    public void t01SameAsCommons() {
+        for (CSVFormat csvFormat : FORMATS) {
+            Assertions.assertTrue(CsvTokenizer.supports(csvFormat));
+            for (String input : INPUTS) {
+                Assertions.assertEquals(
+                        commons(input, csvFormat), builtin(input, csvFormat), () -> csvFormat + " " + input);
+            }
+        }
+    }
+
+    @Test
+    public void t02SameAsCommonsRandom() {
+        Random random = new Random(20251018L);
+        char[] alphabet = {'a', 'b', ' ', ',', ';', '\t', '"', '\'', '\\', '\r', '\n', 'N', 'é'};
+        for (int i = 0; i < 200; i++) {
+            // Longer than the buffer of the tokenizer
+            int length = i % 20 == 0 ? 100_000 + random.nextInt(100_000) : random.nextInt(200);
+            StringBuilder sb = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            String input = sb.toString();
+            for (CSVFormat csvFormat : FORMATS) {
+                Assertions.assertEquals(commons(input, csvFormat), builtin(input, csvFormat));
+            }
+        }
+    }
+
+    @Test
+    public void t03Supports() {
+        Assertions.assertFalse(CsvTokenizer.supports(
+                CSVFormat.DEFAULT.builder().setDelimiter("||").build()));
+        Assertions.assertFalse(CsvTokenizer.supports(
+                CSVFormat.DEFAULT.builder().setCommentMarker('#').build()));
+        Assertions.assertFalse(CsvTokenizer.supports(CSVFormat.TDF));
+        Assertions.assertFalse(
+                CsvTokenizer.supports(CSVFormat.DEFAULT.builder().setHeader().build()));
+    }
+
+    @Test
+    public void t04ReadSameAsCommons() throws IOException {
+        File file = TestFileUtil.createNewFile("csv" + File.separator + "csv-tokenizer.csv");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append(i)
+                    .append(",\" quoted ")
+                    .append(i)
+                    .append(" \",,")
+                    .append("\"multi\nline\"")
+                    .append(i % 7 == 0 ? ",   \r\n" : "\n");
+            if (i % 100 == 0) {
+                sb.append('\n');
+            }
+        }
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+        List<Map<Integer, String>> builtin = FastExcel.read(file)
+                .csvBuiltinParser(Boolean.TRUE)
+                .headRowNumber(0)
+                .csv()
+                .doReadSync();
+        List<Map<Integer, String>> commons = FastExcel.read(file)
+                .csvBuiltinParser(Boolean.FALSE)
+                .headRowNumber(0)
+                .csv()
+                .doReadSync();
+        Assertions.assertEquals(5000, builtin.size());
+        Assertions.assertEquals("quoted 7", builtin.get(7).get(1));
+        Assertions.assertEquals("multi\nline", builtin.get(7).get(3));
+        Assertions.assertEquals(commons, builtin);
+    }
+
+    private static List<Object> commons(String input, CSVFormat csvFormat) {
+        List<Object> records = new ArrayList<>();
+        try (CSVParser csvParser = csvFormat.parse(new StringReader(input))) {
+            for (CSVRecord record : csvParser) {
+                List<String> values = new ArrayList<>();
+                for (int i = 0; i < record.size(); i++) {
+                    values.add(record.get(i));
+                }
+                records.add(values);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            records.add(message(e));
+        }
+        return records;
+    }
+
+    private static List<Object> builtin(String input, CSVFormat csvFormat) {
+        List<Object> records = new ArrayList<>();
+        try (CsvTokenizer csvTokenizer = new CsvTokenizer(new StringReader(input), csvFormat)) {
+            while (csvTokenizer.nextRecord()) {
+                List<String> values = new ArrayList<>();
+                for (int i = 0; i < csvTokenizer.size(); i++) {
+                    values.add(csvTokenizer.get(i));
+                }
+                records.add(values);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            records.add(message(e));
+        }
+        return records;
+    }
+
+    private static String message(Exception e) {
+        Throwable cause = e instanceof UncheckedIOException ? e.getCause() : e;
+        return "error: " + cause.getMessage();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.dataformat;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.xml.parsers.SAXParserFactory;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.analysis.v07.handlers.sax.StylesTableHandler;
+import org.apache.fesod.excel.constant.BuiltinFormats;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.metadata.data.DataFormatData;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxReadWorkbookHolder;
+import org.apache.fesod.excel.read.metadata.holder.xlsx.XlsxStyles;
+import org.apache.fesod.excel.util.DateUtils;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+/**
+ * The number formats read with {@link StylesTableHandler} are the same as the ones of the POI {@link StylesTable}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class XlsxStylesTest {
+
+    @Test
+    public void t01Styles() throws Exception {
+        check(TestFileUtil.readFile("dataformat" + File.separator + "dataformat.xlsx"), Locale.CHINA);
+        check(TestFileUtil.readFile("dataformat" + File.separator + "dataformat.xlsx"), Locale.US);
+        check(TestFileUtil.readFile("dataformat" + File.separator + "dataformatv2.xlsx"), Locale.CHINA);
+    }
+
+    @Test
+    public void t02DateFlag() {
+        DataFormatData dataFormatData = new DataFormatData();
+        dataFormatData.setIndex((short) 14);
+        dataFormatData.setFormat("yyyy-mm-dd");
+        dataFormatData.setDate(Boolean.TRUE);
+        DataFormatData other = new DataFormatData();
+        other.setIndex((short) 14);
+        other.setFormat("yyyy-mm-dd");
+        // The flag is derived from the format, it is not part of the identity
+        Assertions.assertEquals(other, dataFormatData);
+        Assertions.assertEquals(other.hashCode(), dataFormatData.hashCode());
+
+        DataFormatData source = new DataFormatData();
+        source.setFormat("0.00");
+        DataFormatData.merge(source, dataFormatData);
+        Assertions.assertNull(dataFormatData.getDate());
+        dataFormatData.setDate(Boolean.TRUE);
+        dataFormatData.setIndex((short) 2);
+        Assertions.assertNull(dataFormatData.getDate());
+    }
+
+    @Test
+    public void t03LazyStylesTable() {
+        List<Integer> numCellStyles = new ArrayList<>();
+        FastExcel.read(
+                        TestFileUtil.readFile("dataformat" + File.separator + "dataformat.xlsx"),
+                        new ReadListener<Map<Integer, String>>() {
+                            @Override
+                            public void invoke(Map<Integer, String> data, AnalysisContext context) {}
+
+                            @Override
+                            public void doAfterAllAnalysed(AnalysisContext context) {
+                                XlsxReadWorkbookHolder xlsxReadWorkbookHolder =
+                                        (XlsxReadWorkbookHolder) context.readWorkbookHolder();
+                                StylesTable stylesTable = xlsxReadWorkbookHolder.getStylesTable();
+                                Assertions.assertSame(stylesTable, xlsxReadWorkbookHolder.getStylesTable());
+                                Assertions.assertEquals(
+                                        xlsxReadWorkbookHolder.getXlsxStyles().size(),
+                                        stylesTable.getNumCellStyles());
+                                numCellStyles.add(stylesTable.getNumCellStyles());
+                            }
+                        })
+                .sheet()
+                .doRead();
+        Assertions.assertEquals(1, numCellStyles.size());
+    }
+
+    private void check(File file, Locale locale) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            XlsxStyles xlsxStyles = new XlsxStyles();
+            XMLReader xmlReader = SAXParserFactory.newInstance().newSAXParser().getXMLReader();
+            xmlReader.setContentHandler(new StylesTableHandler(xlsxStyles));
+            try (InputStream inputStream = xssfReader.getStylesData()) {
+                xmlReader.parse(new InputSource(inputStream));
+            }
+            xlsxStyles.finish(locale);
+
+            StylesTable stylesTable = xssfReader.getStylesTable();
+            Assertions.assertEquals(stylesTable.getNumCellStyles(), xlsxStyles.size());
+            Assertions.assertTrue(xlsxStyles.size() > 1);
+            for (int i = 0; i < xlsxStyles.size(); i++) {
+                XSSFCellStyle xssfCellStyle = stylesTable.getStyleAt(i);
+                DataFormatData dataFormatData = xlsxStyles.dataFormatData(i);
+                Assertions.assertEquals(xssfCellStyle.getDataFormat(), dataFormatData.getIndex());
+                String format = BuiltinFormats.getBuiltinFormat(
+                        xssfCellStyle.getDataFormat(), xssfCellStyle.getDataFormatString(), locale);
+                Assertions.assertEquals(format, dataFormatData.getFormat());
+                Assertions.assertEquals(
+                        DateUtils.isADateFormatUncached(xssfCellStyle.getDataFormat(), format),
+                        dataFormatData.getDate());
+            }
+            Assertions.assertNull(xlsxStyles.dataFormatData(xlsxStyles.size()));
+            Assertions.assertNull(xlsxStyles.dataFormatData(-1));
+        }
+    }
+}
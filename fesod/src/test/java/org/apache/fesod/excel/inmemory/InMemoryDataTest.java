@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.inmemory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fesod.excel.ExcelReader;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.metadata.holder.ReadWorkbookHolder;
+import org.apache.fesod.excel.support.ExcelTypeEnum;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Open small xlsx streams in memory instead of through a temp file.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class InMemoryDataTest {
+
+    private static final int ROW_COUNT = 100;
+
+    private static byte[] bytes;
+
+    @BeforeAll
+    public static void init() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        FastExcel.write(outputStream, InMemoryData.class)
+                .excelType(ExcelTypeEnum.XLSX)
+                .sheet()
+                .doWrite(data());
+        bytes = outputStream.toByteArray();
+    }
+
+    @Test
+    public void t01InMemory() {
+        Assertions.assertNull(read(null).getTempFile());
+    }
+
+    @Test
+    public void t02TempFile() {
+        Assertions.assertNotNull(read(0).getTempFile());
+    }
+
+    @Test
+    public void t03LargerThanInMemorySize() {
+        Assertions.assertNotNull(read(bytes.length - 1).getTempFile());
+        Assertions.assertNull(read(bytes.length).getTempFile());
+    }
+
+    private ReadWorkbookHolder read(Integer xlsxInMemorySize) {
+        List<InMemoryData> list = new ArrayList<>();
+        ReadWorkbookHolder readWorkbookHolder;
+        try (ExcelReader excelReader = FastExcel.read(
+                        new ByteArrayInputStream(bytes), InMemoryData.class, new CollectListener(list))
+                .xlsxInMemorySize(xlsxInMemorySize)
+                .build()) {
+            excelReader.readAll();
+            readWorkbookHolder = excelReader.analysisContext().readWorkbookHolder();
+        }
+        Assertions.assertEquals(data(), list);
+        return readWorkbookHolder;
+    }
+
+    private static List<InMemoryData> data() {
+        List<InMemoryData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            InMemoryData data = new InMemoryData();
+            data.setName("name" + i);
+            data.setNumber(i);
+            list.add(data);
+        }
+        return list;
+    }
+
+    private static class CollectListener implements ReadListener<InMemoryData> {
+        private final List<InMemoryData> list;
+
+        private CollectListener(List<InMemoryData> list) {
+            this.list = list;
+        }
+
+        @Override
+        public void invoke(InMemoryData data, AnalysisContext context) {
+            list.add(data);
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {}
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.inspect;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fesod.excel.ExcelReader;
+import org.apache.fesod.excel.ExcelWriter;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.read.metadata.ReadSheet;
+import org.apache.fesod.excel.read.metadata.SheetInfo;
+import org.apache.fesod.excel.read.metadata.WorkbookInfo;
+import org.apache.fesod.excel.support.ExcelTypeEnum;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Inspect workbooks with {@code FastExcel.inspect}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class InspectDataTest {
+
+    private static final int SHEET_COUNT = 3;
+
+    private static File file07;
+    private static File file03;
+    private static File fileCsv;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("inspect07.xlsx");
+        file03 = TestFileUtil.createNewFile("inspect03.xls");
+        fileCsv = TestFileUtil.createNewFile("inspectCsv.csv");
+        write(file07);
+        write(file03);
+        FastExcel.write(fileCsv, InspectData.class).sheet().doWrite(data(10));
+    }
+
+    @Test
+    public void t01Inspect07() {
+        inspect(file07, ExcelTypeEnum.XLSX);
+    }
+
+    @Test
+    public void t02Inspect03() {
+        inspect(file03, ExcelTypeEnum.XLS);
+    }
+
+    @Test
+    public void t03InspectCsv() {
+        WorkbookInfo workbookInfo = FastExcel.inspect(fileCsv);
+        Assertions.assertEquals(ExcelTypeEnum.CSV, workbookInfo.getExcelType());
+        Assertions.assertEquals(1, workbookInfo.getSheetList().size());
+        Assertions.assertNull(workbookInfo.getSheetList().get(0).getApproximateRowNumber());
+    }
+
+    @Test
+    public void t04InspectHidden() {
+        inspectHidden(TestFileUtil.readFile("hiddensheets" + File.separator + "hiddensheets.xlsx"));
+        inspectHidden(TestFileUtil.readFile("hiddensheets" + File.separator + "hiddensheets.xls"));
+    }
+
+    private static void inspect(File file, ExcelTypeEnum excelType) {
+        WorkbookInfo workbookInfo = FastExcel.inspect(file.getPath());
+        Assertions.assertEquals(excelType, workbookInfo.getExcelType());
+        List<SheetInfo> sheetList = workbookInfo.getSheetList();
+        Assertions.assertEquals(SHEET_COUNT, sheetList.size());
+        for (int i = 0; i < SHEET_COUNT; i++) {
+            SheetInfo sheetInfo = sheetList.get(i);
+            Assertions.assertEquals(i, sheetInfo.getSheetNo());
+            Assertions.assertEquals("sheet" + i, sheetInfo.getSheetName());
+            Assertions.assertFalse(sheetInfo.isSheetHidden());
+            // The head row and the data rows
+            Assertions.assertEquals(rowCount(i) + 1, sheetInfo.getApproximateRowNumber());
+            Assertions.assertEquals(3, sheetInfo.getApproximateColumnNumber());
+        }
+    }
+
+    private static void inspectHidden(File file) {
+        List<SheetInfo> sheetList = FastExcel.inspect(file).getSheetList();
+        try (ExcelReader excelReader = FastExcel.read(file).build()) {
+            List<ReadSheet> readSheetList = excelReader.excelExecutor().sheetList();
+            Assertions.assertEquals(readSheetList.size(), sheetList.size());
+            for (int i = 0; i < sheetList.size(); i++) {
+                ReadSheet readSheet = readSheetList.get(i);
+                SheetInfo sheetInfo = sheetList.get(i);
+                Assertions.assertEquals(readSheet.getSheetNo(), sheetInfo.getSheetNo());
+                Assertions.assertEquals(readSheet.getSheetName(), sheetInfo.getSheetName());
+                Assertions.assertEquals(readSheet.isHidden(), sheetInfo.isSheetHidden());
+                Assertions.assertEquals(readSheet.isVeryHidden(), sheetInfo.isSheetVeryHidden());
+            }
+        }
+    }
+
+    private static void write(File file) {
+        try (ExcelWriter excelWriter = FastExcel.write(file, InspectData.class).build()) {
+            for (int i = 0; i < SHEET_COUNT; i++) {
+                excelWriter.write(data(rowCount(i)), FastExcel.writerSheet(i, "sheet" + i).build());
+            }
+        }
+    }
+
+    private static int rowCount(int sheetNo) {
+        return 10 + sheetNo * 100;
+    }
+
+    private static List<InspectData> data(int count) {
+        List<InspectData> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            InspectData data = new InspectData();
+            data.setString("string" + i);
+            data.setNumber(i);
+            data.setFlag(i % 2 == 0);
+            list.add(data);
+        }
+        return list;
+    }
+}
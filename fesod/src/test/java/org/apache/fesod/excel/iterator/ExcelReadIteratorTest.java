@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.iterator;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.read.iterator.ExcelReadIterator;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Pull the rows with {@link ExcelReadIterator}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class ExcelReadIteratorTest {
+
+    private static final int ROW_COUNT = 5000;
+
+    private static File file07;
+    private static File file03;
+    private static File fileCsv;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("iterator07.xlsx");
+        file03 = TestFileUtil.createNewFile("iterator03.xls");
+        fileCsv = TestFileUtil.createNewFile("iteratorCsv.csv");
+        FastExcel.write(file07, IteratorData.class).sheet().doWrite(data());
+        FastExcel.write(file03, IteratorData.class).sheet().doWrite(data());
+        FastExcel.write(fileCsv, IteratorData.class).sheet().doWrite(data());
+    }
+
+    @Test
+    public void t01Iterator07() {
+        iterator(file07);
+    }
+
+    @Test
+    public void t02Iterator03() {
+        iterator(file03);
+    }
+
+    @Test
+    public void t03IteratorCsv() {
+        iterator(fileCsv);
+    }
+
+    @Test
+    public void t04Stream() {
+        try (Stream<IteratorData> stream = FastExcel.read(file07).sheet().stream(IteratorData.class)) {
+            Assertions.assertEquals(
+                    (long) ROW_COUNT * (ROW_COUNT - 1) / 2,
+                    stream.mapToLong(IteratorData::getNumber).sum());
+        }
+    }
+
+    @Test
+    public void t05CloseEarly() {
+        List<IteratorData> list;
+        try (Stream<IteratorData> stream = FastExcel.read(file07).sheet().stream(IteratorData.class)) {
+            list = stream.limit(10).collect(Collectors.toList());
+        }
+        Assertions.assertEquals(10, list.size());
+        Assertions.assertEquals("string9", list.get(9).getString());
+        Assertions.assertFalse(readingThreadAlive());
+    }
+
+    @Test
+    public void t06Map() {
+        try (ExcelReadIterator<Map<Integer, String>> iterator =
+                FastExcel.read(fileCsv).sheet().iterator(null)) {
+            Map<Integer, String> first = iterator.next();
+            Assertions.assertEquals("string0", first.get(0));
+            Assertions.assertEquals("0", first.get(1));
+        }
+        Assertions.assertFalse(readingThreadAlive());
+    }
+
+    @Test
+    public void t07Exception() {
+        ExcelReadIterator<IteratorData> iterator = FastExcel.read(file07)
+                .sheet()
+                .registerReadListener(new ReadListener<IteratorData>() {
+                    @Override
+                    public void invoke(IteratorData data, AnalysisContext context) {
+                        if (data.getNumber() == 100) {
+                            throw new IllegalStateException("failed on 100");
+                        }
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .iterator(IteratorData.class);
+        try {
+            IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, () -> {
+                while (iterator.hasNext()) {
+                    iterator.next();
+                }
+            });
+            Assertions.assertEquals("failed on 100", exception.getMessage());
+            Assertions.assertFalse(iterator.hasNext());
+        } finally {
+            iterator.close();
+        }
+    }
+
+    private static void iterator(File file) {
+        int count = 0;
+        try (ExcelReadIterator<IteratorData> iterator =
+                FastExcel.read(file).sheet().iterator(IteratorData.class)) {
+            while (iterator.hasNext()) {
+                IteratorData data = iterator.next();
+                Assertions.assertEquals("string" + count, data.getString());
+                Assertions.assertEquals(count, data.getNumber());
+                count++;
+            }
+            Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+        }
+        Assertions.assertEquals(ROW_COUNT, count);
+    }
+
+    private static boolean readingThreadAlive() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().startsWith("fesod-read-iterator-"));
+    }
+
+    private static List<IteratorData> data() {
+        List<IteratorData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            IteratorData data = new IteratorData();
+            data.setString("string" + i);
+            data.setNumber(i);
+            list.add(data);
+        }
+        return list;
+    }
+}
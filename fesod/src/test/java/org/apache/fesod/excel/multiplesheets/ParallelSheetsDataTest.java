@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.multiplesheets;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fesod.excel.ExcelReader;
+import org.apache.fesod.excel.ExcelWriter;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.metadata.ReadSheet;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Read several sheets at the same time with {@code parallelSheets}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class ParallelSheetsDataTest {
+
+    private static final int SHEET_COUNT = 6;
+    private static final int ROW_COUNT = 2000;
+
+    private static File file07;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("parallelSheets07.xlsx");
+        try (ExcelWriter excelWriter =
+                FastExcel.write(file07, MultipleSheetsData.class).build()) {
+            for (int i = 0; i < SHEET_COUNT; i++) {
+                excelWriter.write(data(i), FastExcel.writerSheet(i, "sheet" + i).build());
+            }
+        }
+    }
+
+    @Test
+    public void t01ReadParallel() {
+        List<SheetListener> listenerList = new ArrayList<>();
+        List<ReadSheet> readSheetList = new ArrayList<>();
+        for (int i = 0; i < SHEET_COUNT; i++) {
+            SheetListener listener = new SheetListener();
+            listenerList.add(listener);
+            readSheetList.add(FastExcel.readSheet(i).registerReadListener(listener).build());
+        }
+        try (ExcelReader excelReader = FastExcel.read(file07, MultipleSheetsData.class, null)
+                .parallelSheets(3)
+                .build()) {
+            excelReader.read(readSheetList);
+        }
+        for (int i = 0; i < SHEET_COUNT; i++) {
+            SheetListener listener = listenerList.get(i);
+            Assertions.assertTrue(listener.ended);
+            Assertions.assertEquals(ROW_COUNT, listener.list.size());
+            for (int j = 0; j < ROW_COUNT; j++) {
+                Assertions.assertEquals("sheet" + i + "-" + j, listener.list.get(j).getTitle());
+            }
+        }
+    }
+
+    @Test
+    public void t02ReadParallelException() {
+        List<ReadSheet> readSheetList = new ArrayList<>();
+        for (int i = 0; i < SHEET_COUNT; i++) {
+            readSheetList.add(FastExcel.readSheet(i)
+                    .registerReadListener(new ReadListener<MultipleSheetsData>() {
+                        @Override
+                        public void invoke(MultipleSheetsData data, AnalysisContext context) {
+                            throw new IllegalStateException("failed on " + data.getTitle());
+                        }
+
+                        @Override
+                        public void doAfterAllAnalysed(AnalysisContext context) {}
+                    })
+                    .build());
+        }
+        try (ExcelReader excelReader = FastExcel.read(file07, MultipleSheetsData.class, null)
+                .parallelSheets(2)
+                .build()) {
+            Assertions.assertThrows(IllegalStateException.class, () -> excelReader.read(readSheetList));
+        }
+    }
+
+    private static List<MultipleSheetsData> data(int sheetNo) {
+        List<MultipleSheetsData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            MultipleSheetsData data = new MultipleSheetsData();
+            data.setTitle("sheet" + sheetNo + "-" + i);
+            list.add(data);
+        }
+        return list;
+    }
+
+    private static class SheetListener implements ReadListener<MultipleSheetsData> {
+        private final List<MultipleSheetsData> list = new ArrayList<>();
+        private Thread thread;
+        private boolean ended;
+
+        @Override
+        public void invoke(MultipleSheetsData data, AnalysisContext context) {
+            if (thread == null) {
+                thread = Thread.currentThread();
+            }
+            Assertions.assertSame(thread, Thread.currentThread());
+            list.add(data);
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+            Assertions.assertSame(thread, Thread.currentThread());
+            ended = true;
+        }
+    }
+}
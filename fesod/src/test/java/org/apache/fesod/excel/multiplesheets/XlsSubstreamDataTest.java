@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.multiplesheets;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fesod.excel.ExcelReader;
+import org.apache.fesod.excel.ExcelWriter;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.analysis.v03.XlsSubstreamReader;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.metadata.ReadSheet;
+import org.apache.fesod.excel.read.metadata.holder.xls.XlsReadWorkbookHolder;
+import org.apache.fesod.excel.support.ExcelTypeEnum;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.RecordInputStream;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Read the sheets of a xls file separately with {@link XlsSubstreamReader}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class XlsSubstreamDataTest {
+
+    private static final int SHEET_COUNT = 4;
+    private static final int ROW_COUNT = 300;
+
+    private static File file03;
+
+    @BeforeAll
+    public static void init() {
+        file03 = TestFileUtil.createNewFile("xlsSubstream.xls");
+        try (ExcelWriter excelWriter = FastExcel.write(file03, MultipleSheetsData.class)
+                .excelType(ExcelTypeEnum.XLS)
+                .build()) {
+            for (int i = 0; i < SHEET_COUNT; i++) {
+                excelWriter.write(data(i), FastExcel.writerSheet(i, "sheet" + i).build());
+            }
+        }
+    }
+
+    @Test
+    public void t01Substreams() throws Exception {
+        try (POIFSFileSystem poifsFileSystem = new POIFSFileSystem(file03, true)) {
+            XlsSubstreamReader xlsSubstreamReader = new XlsSubstreamReader(poifsFileSystem.getRoot());
+            Assertions.assertFalse(xlsSubstreamReader.isEncrypted());
+            Assertions.assertTrue(xlsSubstreamReader.isSeekable());
+            Assertions.assertEquals(SHEET_COUNT, xlsSubstreamReader.getBoundSheetRecordList().size());
+            try (InputStream inputStream = xlsSubstreamReader.globalsInputStream()) {
+                assertSubstream(inputStream, BOFRecord.TYPE_WORKBOOK);
+            }
+            for (int i = 0; i < SHEET_COUNT; i++) {
+                try (InputStream inputStream = xlsSubstreamReader.sheetInputStream(i)) {
+                    assertSubstream(inputStream, BOFRecord.TYPE_WORKSHEET);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void t02SheetList() {
+        try (ExcelReader excelReader = FastExcel.read(file03).build()) {
+            List<ReadSheet> sheetList = excelReader.excelExecutor().sheetList();
+            Assertions.assertEquals(SHEET_COUNT, sheetList.size());
+            for (int i = 0; i < SHEET_COUNT; i++) {
+                Assertions.assertEquals(i, sheetList.get(i).getSheetNo());
+                Assertions.assertEquals("sheet" + i, sheetList.get(i).getSheetName());
+            }
+        }
+    }
+
+    @Test
+    public void t03ReadSelected() {
+        List<MultipleSheetsData> byNo = new ArrayList<>();
+        FastExcel.read(file03, MultipleSheetsData.class, new CollectListener(byNo))
+                .sheet(2)
+                .doRead();
+        assertData(2, byNo);
+
+        List<MultipleSheetsData> byName = new ArrayList<>();
+        FastExcel.read(file03, MultipleSheetsData.class, new CollectListener(byName))
+                .sheet("sheet3")
+                .doRead();
+        assertData(3, byName);
+    }
+
+    @Test
+    public void t04ReadOutOfOrder() {
+        List<MultipleSheetsData> last = new ArrayList<>();
+        List<MultipleSheetsData> first = new ArrayList<>();
+        try (ExcelReader excelReader = FastExcel.read(file03, MultipleSheetsData.class, null)
+                .build()) {
+            excelReader.read(FastExcel.readSheet(SHEET_COUNT - 1)
+                    .registerReadListener(new CollectListener(last))
+                    .build());
+            excelReader.read(
+                    FastExcel.readSheet(0).registerReadListener(new CollectListener(first)).build());
+        }
+        assertData(SHEET_COUNT - 1, last);
+        assertData(0, first);
+    }
+
+    @Test
+    public void t05ReadAll() {
+        List<MultipleSheetsData> list = new ArrayList<>();
+        FastExcel.read(file03, MultipleSheetsData.class, new CollectListener(list))
+                .doReadAll();
+        Assertions.assertEquals(SHEET_COUNT * ROW_COUNT, list.size());
+        for (int i = 0; i < SHEET_COUNT; i++) {
+            assertData(i, list.subList(i * ROW_COUNT, (i + 1) * ROW_COUNT));
+        }
+    }
+
+    @Test
+    public void t06BoundSheetRecords() {
+        try (ExcelReader excelReader = FastExcel.read(file03, MultipleSheetsData.class, null)
+                .build()) {
+            Assertions.assertEquals(SHEET_COUNT, excelReader.excelExecutor().sheetList().size());
+            excelReader.read(FastExcel.readSheet(1)
+                    .registerReadListener(new CollectListener(new ArrayList<>()))
+                    .build());
+            XlsReadWorkbookHolder xlsReadWorkbookHolder =
+                    (XlsReadWorkbookHolder) excelReader.analysisContext().readWorkbookHolder();
+            Assertions.assertEquals(
+                    SHEET_COUNT, xlsReadWorkbookHolder.getBoundSheetRecordList().size());
+        }
+    }
+
+    private static void assertSubstream(InputStream inputStream, int type) {
+        RecordInputStream recordInputStream = new RecordInputStream(inputStream);
+        recordInputStream.nextRecord();
+        BOFRecord bofRecord = new BOFRecord(recordInputStream);
+        Assertions.assertEquals(type, bofRecord.getType());
+        short lastSid = bofRecord.getSid();
+        while (recordInputStream.hasNextRecord()) {
+            recordInputStream.nextRecord();
+            lastSid = recordInputStream.getSid();
+            recordInputStream.readRemainder();
+        }
+        Assertions.assertEquals(EOFRecord.sid, lastSid);
+    }
+
+    private static void assertData(int sheetNo, List<MultipleSheetsData> list) {
+        Assertions.assertEquals(ROW_COUNT, list.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals("sheet" + sheetNo + "-" + i, list.get(i).getTitle());
+        }
+    }
+
+    private static List<MultipleSheetsData> data(int sheetNo) {
+        List<MultipleSheetsData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            MultipleSheetsData data = new MultipleSheetsData();
+            data.setTitle("sheet" + sheetNo + "-" + i);
+            list.add(data);
+        }
+        return list;
+    }
+
+    private static class CollectListener implements ReadListener<MultipleSheetsData> {
+        private final List<MultipleSheetsData> list;
+
+        private CollectListener(List<MultipleSheetsData> list) {
+            this.list = list;
+        }
+
+        @Override
+        public void invoke(MultipleSheetsData data, AnalysisContext context) {
+            list.add(data);
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {}
+    }
+}
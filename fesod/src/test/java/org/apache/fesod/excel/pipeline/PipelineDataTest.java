@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.pipeline;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.exception.ExcelDataConvertException;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Convert rows on other threads with {@code pipelineThreads}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class PipelineDataTest {
+
+    private static final int ROW_COUNT = 5000;
+
+    private static File file07;
+    private static File file03;
+    private static File fileCsv;
+    private static File fileError07;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("pipeline07.xlsx");
+        file03 = TestFileUtil.createNewFile("pipeline03.xls");
+        fileCsv = TestFileUtil.createNewFile("pipelineCsv.csv");
+        fileError07 = TestFileUtil.createNewFile("pipelineError07.xlsx");
+        FastExcel.write(file07, PipelineData.class).sheet().doWrite(data());
+        FastExcel.write(file03, PipelineData.class).sheet().doWrite(data());
+        FastExcel.write(fileCsv, PipelineData.class).sheet().doWrite(data());
+        List<List<String>> errorList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            List<String> row = new ArrayList<>();
+            row.add("name" + i);
+            row.add(i % 10 == 0 ? "error" : Integer.toString(i));
+            row.add("1.5");
+            errorList.add(row);
+        }
+        FastExcel.write(fileError07).head(PipelineData.class).sheet().doWrite(errorList);
+    }
+
+    @Test
+    public void t01Read07() {
+        read(file07);
+    }
+
+    @Test
+    public void t02Read03() {
+        read(file03);
+    }
+
+    @Test
+    public void t03ReadCsv() {
+        read(fileCsv);
+    }
+
+    @Test
+    public void t04ReadNumRows() {
+        DataListener listener = new DataListener();
+        FastExcel.read(file07, PipelineData.class, listener)
+                .pipelineThreads(4)
+                .pipelineBufferSize(16)
+                .numRows(101)
+                .sheet()
+                .doRead();
+        Assertions.assertEquals(100, listener.list.size());
+    }
+
+    @Test
+    public void t05ReadException() {
+        List<Integer> errorRowList = new ArrayList<>();
+        List<PipelineData> list = new ArrayList<>();
+        FastExcel.read(fileError07, PipelineData.class, new ReadListener<PipelineData>() {
+                    @Override
+                    public void onException(Exception exception, AnalysisContext context) {
+                        Assertions.assertInstanceOf(ExcelDataConvertException.class, exception);
+                        errorRowList.add(((ExcelDataConvertException) exception).getRowIndex());
+                        Assertions.assertEquals(
+                                context.readRowHolder().getRowIndex(),
+                                ((ExcelDataConvertException) exception).getRowIndex());
+                    }
+
+                    @Override
+                    public void invoke(PipelineData data, AnalysisContext context) {
+                        Assertions.assertEquals(
+                                context.readRowHolder().getRowIndex(), data.getIndex() + 1);
+                        list.add(data);
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .pipelineThreads(4)
+                .pipelineBufferSize(8)
+                .sheet()
+                .doRead();
+        Assertions.assertEquals(90, list.size());
+        Assertions.assertEquals(10, errorRowList.size());
+        for (int i = 0; i < errorRowList.size(); i++) {
+            Assertions.assertEquals(i * 10 + 1, errorRowList.get(i));
+        }
+    }
+
+    private void read(File file) {
+        DataListener listener = new DataListener();
+        FastExcel.read(file, PipelineData.class, listener)
+                .pipelineThreads(4)
+                .pipelineBufferSize(64)
+                .sheet()
+                .doRead();
+        Assertions.assertTrue(listener.ended);
+        Assertions.assertEquals(ROW_COUNT, listener.list.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            PipelineData data = listener.list.get(i);
+            Assertions.assertEquals("name" + i, data.getName());
+            Assertions.assertEquals(i, data.getIndex());
+            Assertions.assertEquals(i / 2.0, data.getValue());
+        }
+    }
+
+    private static List<PipelineData> data() {
+        List<PipelineData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            PipelineData data = new PipelineData();
+            data.setName("name" + i);
+            data.setIndex(i);
+            data.setValue(i / 2.0);
+            list.add(data);
+        }
+        return list;
+    }
+
+    private static class DataListener implements ReadListener<PipelineData> {
+        private final List<PipelineData> list = new ArrayList<>();
+        private Thread thread;
+        private boolean ended;
+
+        @Override
+        public void invoke(PipelineData data, AnalysisContext context) {
+            if (thread == null) {
+                thread = Thread.currentThread();
+            }
+            Assertions.assertSame(thread, Thread.currentThread());
+            Assertions.assertEquals(list.size() + 1, context.readRowHolder().getRowIndex());
+            list.add(data);
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+            Assertions.assertSame(thread, Thread.currentThread());
+            ended = true;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.projection;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.metadata.Cell;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Only the cells of the columns needed are read.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class ProjectionDataTest {
+
+    private static final int COLUMN_COUNT = 30;
+    private static final int ROW_COUNT = 100;
+
+    private static File file07;
+    private static File file03;
+    private static File fileCsv;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("projection07.xlsx");
+        file03 = TestFileUtil.createNewFile("projection03.xls");
+        fileCsv = TestFileUtil.createNewFile("projectionCsv.csv");
+        FastExcel.write(file07).head(head()).sheet().doWrite(data());
+        FastExcel.write(file03).head(head()).sheet().doWrite(data());
+        FastExcel.write(fileCsv).head(head()).sheet().doWrite(data());
+    }
+
+    @Test
+    public void t01ReadHeadClass07() {
+        readHeadClass(file07);
+    }
+
+    @Test
+    public void t02ReadHeadClass03() {
+        readHeadClass(file03);
+    }
+
+    @Test
+    public void t03ReadHeadClassCsv() {
+        readHeadClass(fileCsv);
+    }
+
+    @Test
+    public void t04ReadIncludeColumnIndexes07() {
+        readIncludeColumnIndexes(file07);
+    }
+
+    @Test
+    public void t05ReadIncludeColumnIndexes03() {
+        readIncludeColumnIndexes(file03);
+    }
+
+    @Test
+    public void t06ReadIncludeColumnIndexesCsv() {
+        readIncludeColumnIndexes(fileCsv);
+    }
+
+    @Test
+    public void t07ReadAllColumnsByDefault07() {
+        readAllColumnsByDefault(file07);
+    }
+
+    @Test
+    public void t08ReadAllColumnsByDefault03() {
+        readAllColumnsByDefault(file03);
+    }
+
+    @Test
+    public void t09ReadAllColumnsByDefaultCsv() {
+        readAllColumnsByDefault(fileCsv);
+    }
+
+    private void readHeadClass(File file) {
+        List<ProjectionData> list = new ArrayList<>();
+        FastExcel.read(file, ProjectionData.class, new ReadListener<ProjectionData>() {
+                    @Override
+                    public void invokeHead(Map headMap, AnalysisContext context) {
+                        // The head is read entirely, the columns are matched by name
+                        Assertions.assertEquals(COLUMN_COUNT, headMap.size());
+                    }
+
+                    @Override
+                    public void invoke(ProjectionData data, AnalysisContext context) {
+                        Assertions.assertTrue(Arrays.asList(3, 20)
+                                .containsAll(context.readRowHolder().getCellMap().keySet()));
+                        list.add(data);
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .sheet()
+                .headColumnsOnly(Boolean.TRUE)
+                .doRead();
+        // The rows with values only in columns that are not read are kept
+        Assertions.assertEquals(ROW_COUNT, list.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            ProjectionData projectionData = list.get(i);
+            if (i % 10 == 9) {
+                Assertions.assertNull(projectionData.getName());
+                Assertions.assertNull(projectionData.getValue());
+                continue;
+            }
+            Assertions.assertEquals("value" + i + "-3", projectionData.getName());
+            Assertions.assertEquals(i + 0.5, projectionData.getValue());
+        }
+    }
+
+    private void readAllColumnsByDefault(File file) {
+        List<ProjectionData> list = new ArrayList<>();
+        FastExcel.read(file, ProjectionData.class, new ReadListener<ProjectionData>() {
+                    @Override
+                    public void invoke(ProjectionData data, AnalysisContext context) {
+                        // A listener after the model is built can still see the other columns
+                        Map<Integer, Cell> cellMap = context.readRowHolder().getCellMap();
+                        if (list.size() % 10 == 9) {
+                            Assertions.assertTrue(cellMap.containsKey(10));
+                        } else {
+                            Assertions.assertEquals(COLUMN_COUNT, cellMap.size());
+                        }
+                        list.add(data);
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .sheet()
+                .doRead();
+        Assertions.assertEquals(ROW_COUNT, list.size());
+        Assertions.assertEquals("value0-3", list.get(0).getName());
+    }
+
+    private void readIncludeColumnIndexes(File file) {
+        List<Map<Integer, String>> list = FastExcel.read(file)
+                .sheet()
+                .includeColumnIndexes(Arrays.asList(1, 25))
+                .doReadSync();
+        Assertions.assertEquals(ROW_COUNT, list.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Map<Integer, String> map = list.get(i);
+            Assertions.assertNull(map.get(0));
+            Assertions.assertNull(map.get(3));
+            if (i % 10 == 9) {
+                Assertions.assertNull(map.get(1));
+                continue;
+            }
+            Assertions.assertEquals("value" + i + "-1", map.get(1));
+            Assertions.assertEquals("value" + i + "-25", map.get(25));
+        }
+    }
+
+    private static List<List<String>> head() {
+        List<List<String>> head = new ArrayList<>();
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            head.add(Arrays.asList("col" + i));
+        }
+        return head;
+    }
+
+    private static List<List<Object>> data() {
+        List<List<Object>> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            List<Object> row = new ArrayList<>();
+            for (int j = 0; j < COLUMN_COUNT; j++) {
+                if (i % 10 == 9) {
+                    // Only a column that is never read has a value
+                    row.add(j == 10 ? "value" + i + "-" + j : null);
+                } else if (j == 20) {
+                    row.add(i + 0.5);
+                } else {
+                    row.add("value" + i + "-" + j);
+                }
+            }
+            list.add(row);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.publisher;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.publisher.ExcelReadPublisher;
+import org.apache.fesod.excel.read.publisher.ExcelReadSubscriber;
+import org.apache.fesod.excel.read.publisher.ExcelReadSubscription;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Subscribe to the rows with {@link ExcelReadPublisher}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class ExcelReadPublisherTest {
+
+    private static final int ROW_COUNT = 3000;
+
+    private static File file07;
+    private static File fileCsv;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("publisher07.xlsx");
+        fileCsv = TestFileUtil.createNewFile("publisherCsv.csv");
+        FastExcel.write(file07, PublisherData.class).sheet().doWrite(data());
+        FastExcel.write(fileCsv, PublisherData.class).sheet().doWrite(data());
+    }
+
+    @Test
+    public void t01RequestOneByOne07() throws Exception {
+        requestOneByOne(file07);
+    }
+
+    @Test
+    public void t02RequestOneByOneCsv() throws Exception {
+        requestOneByOne(fileCsv);
+    }
+
+    @Test
+    public void t03Demand() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber(0);
+        FastExcel.read(file07).sheet().publisher(PublisherData.class).subscribe(subscriber);
+        Assertions.assertTrue(subscriber.subscribed.await(10, TimeUnit.SECONDS));
+        subscriber.subscription.request(5);
+        Thread.sleep(200);
+        // Nothing is read beyond the demand
+        Assertions.assertEquals(5, subscriber.list.size());
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(subscriber.completed);
+        Assertions.assertEquals(ROW_COUNT, subscriber.list.size());
+    }
+
+    @Test
+    public void t04Cancel() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber(1) {
+            @Override
+            public void onNext(PublisherData data) {
+                super.onNext(data);
+                if (list.size() == 10) {
+                    subscription.cancel();
+                    done.countDown();
+                }
+            }
+        };
+        FastExcel.read(file07).sheet().publisher(PublisherData.class).subscribe(subscriber);
+        Assertions.assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        waitReadingThreads();
+        Assertions.assertEquals(10, subscriber.list.size());
+        Assertions.assertFalse(subscriber.completed);
+        Assertions.assertNull(subscriber.error);
+    }
+
+    @Test
+    public void t05Exception() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        FastExcel.read(file07)
+                .sheet()
+                .registerReadListener(new ReadListener<PublisherData>() {
+                    @Override
+                    public void invoke(PublisherData data, AnalysisContext context) {
+                        if (data.getNumber() == 100) {
+                            throw new IllegalStateException("failed on 100");
+                        }
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .publisher(PublisherData.class)
+                .subscribe(subscriber);
+        Assertions.assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IllegalStateException.class, subscriber.error);
+        Assertions.assertEquals(100, subscriber.list.size());
+    }
+
+    @Test
+    public void t06InvalidRequest() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber(0);
+        FastExcel.read(file07).sheet().publisher(PublisherData.class).subscribe(subscriber);
+        Assertions.assertTrue(subscriber.subscribed.await(10, TimeUnit.SECONDS));
+        subscriber.subscription.request(0);
+        Assertions.assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    }
+
+    @Test
+    public void t07SubscribeTwice() throws Exception {
+        ExcelReadPublisher<PublisherData> publisher =
+                FastExcel.read(file07).sheet().publisher(PublisherData.class);
+        TestSubscriber first = new TestSubscriber(Long.MAX_VALUE);
+        TestSubscriber second = new TestSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        Assertions.assertInstanceOf(IllegalStateException.class, second.error);
+        Assertions.assertTrue(first.done.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(ROW_COUNT, first.list.size());
+    }
+
+    private static void requestOneByOne(File file) throws Exception {
+        TestSubscriber subscriber = new TestSubscriber(1);
+        FastExcel.read(file).sheet().publisher(PublisherData.class).subscribe(subscriber);
+        Assertions.assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(subscriber.completed);
+        Assertions.assertNull(subscriber.error);
+        Assertions.assertEquals(ROW_COUNT, subscriber.list.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals("string" + i, subscriber.list.get(i).getString());
+        }
+    }
+
+    private static void waitReadingThreads() throws InterruptedException {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("fesod-read-publisher-")) {
+                thread.join(10000);
+                Assertions.assertFalse(thread.isAlive());
+            }
+        }
+    }
+
+    private static List<PublisherData> data() {
+        List<PublisherData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            PublisherData data = new PublisherData();
+            data.setString("string" + i);
+            data.setNumber(i);
+            list.add(data);
+        }
+        return list;
+    }
+
+    /**
+     * Requests {@code batch} rows at first and then one more row after each row, when {@code batch} is 1.
+     */
+    private static class TestSubscriber implements ExcelReadSubscriber<PublisherData> {
+        protected final List<PublisherData> list = new ArrayList<>();
+        protected final CountDownLatch subscribed = new CountDownLatch(1);
+        protected final CountDownLatch done = new CountDownLatch(1);
+        private final long batch;
+        protected volatile ExcelReadSubscription subscription;
+        protected volatile boolean completed;
+        protected volatile Throwable error;
+
+        private TestSubscriber(long batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(ExcelReadSubscription subscription) {
+            this.subscription = subscription;
+            subscribed.countDown();
+            if (batch > 0) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onNext(PublisherData data) {
+            list.add(data);
+            if (batch == 1) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+    }
+}
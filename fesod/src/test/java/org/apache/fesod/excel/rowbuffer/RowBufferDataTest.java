@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.rowbuffer;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.enums.CellDataTypeEnum;
+import org.apache.fesod.excel.enums.XlsxSheetParserEnum;
+import org.apache.fesod.excel.metadata.data.ReadCellData;
+import org.apache.fesod.excel.metadata.data.ReadRowBuffer;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.listener.RowBufferReadListener;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Read the rows into a {@link ReadRowBuffer} with a {@link RowBufferReadListener}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class RowBufferDataTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    private static File file07;
+    private static File file03;
+    private static File fileCsv;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("rowBuffer07.xlsx");
+        file03 = TestFileUtil.createNewFile("rowBuffer03.xls");
+        fileCsv = TestFileUtil.createNewFile("rowBufferCsv.csv");
+        FastExcel.write(file07, RowBufferData.class).sheet().doWrite(data());
+        FastExcel.write(file03, RowBufferData.class).sheet().doWrite(data());
+        FastExcel.write(fileCsv, RowBufferData.class).sheet().doWrite(data());
+    }
+
+    @Test
+    public void t01Read07() {
+        BufferListener listener = read(file07, XlsxSheetParserEnum.SAX);
+        Assertions.assertTrue(listener.rowBufferMode);
+        assertTyped(listener);
+    }
+
+    @Test
+    public void t02Read07Tokenizer() {
+        BufferListener listener = read(file07, XlsxSheetParserEnum.TOKENIZER);
+        Assertions.assertTrue(listener.rowBufferMode);
+        assertTyped(listener);
+    }
+
+    @Test
+    public void t03Read03() {
+        // Not supported by xls, the buffer is filled from the cells
+        BufferListener listener = read(file03, null);
+        Assertions.assertFalse(listener.rowBufferMode);
+        assertTyped(listener);
+    }
+
+    @Test
+    public void t04ReadCsv() {
+        BufferListener listener = read(fileCsv, null);
+        Assertions.assertTrue(listener.rowBufferMode);
+        Assertions.assertEquals(ROW_COUNT, listener.rowList.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Object[] row = listener.rowList.get(i);
+            Assertions.assertEquals(i + 1, row[0]);
+            Assertions.assertEquals(i % 10 == 0 ? null : "name" + i, row[1]);
+            Assertions.assertEquals(String.valueOf(i + 0.5), row[2]);
+            Assertions.assertEquals(String.valueOf(i % 2 == 0), row[3]);
+        }
+    }
+
+    @Test
+    public void t05ReadWithDefaultListener() {
+        BufferListener listener = new BufferListener();
+        List<RowBufferData> list = new ArrayList<>();
+        FastExcel.read(file07, RowBufferData.class, new ReadListener<RowBufferData>() {
+                    @Override
+                    public void invoke(RowBufferData data, AnalysisContext context) {
+                        list.add(data);
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .registerReadListener(listener)
+                .sheet()
+                .doRead();
+        Assertions.assertFalse(listener.rowBufferMode);
+        Assertions.assertEquals(ROW_COUNT, list.size());
+        Assertions.assertEquals("name1", list.get(1).getName());
+        assertTyped(listener);
+    }
+
+    private BufferListener read(File file, XlsxSheetParserEnum xlsxSheetParser) {
+        BufferListener listener = new BufferListener();
+        FastExcel.read(file)
+                .useDefaultListener(false)
+                .registerReadListener(listener)
+                .xlsxSheetParser(xlsxSheetParser)
+                .sheet()
+                .doRead();
+        Assertions.assertTrue(listener.ended);
+        Assertions.assertEquals("name", listener.headMap.get(0).getStringValue());
+        return listener;
+    }
+
+    private void assertTyped(BufferListener listener) {
+        Assertions.assertEquals(ROW_COUNT, listener.rowList.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Object[] row = listener.rowList.get(i);
+            Assertions.assertEquals(i + 1, row[0]);
+            Assertions.assertEquals(i % 10 == 0 ? null : "name" + i, row[1]);
+            Assertions.assertEquals(i + 0.5, row[2]);
+            Assertions.assertEquals(i % 2 == 0, row[3]);
+        }
+    }
+
+    private static List<RowBufferData> data() {
+        List<RowBufferData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            RowBufferData data = new RowBufferData();
+            if (i % 10 != 0) {
+                data.setName("name" + i);
+            }
+            data.setValue(i + 0.5);
+            data.setFlag(i % 2 == 0);
+            list.add(data);
+        }
+        return list;
+    }
+
+    private static class BufferListener implements RowBufferReadListener {
+        private final List<Object[]> rowList = new ArrayList<>();
+        private Map<Integer, ReadCellData<?>> headMap;
+        private boolean rowBufferMode;
+        private boolean ended;
+
+        @Override
+        public void invokeHead(Map<Integer, ReadCellData<?>> headMap, AnalysisContext context) {
+            this.headMap = headMap;
+        }
+
+        @Override
+        public void invoke(ReadRowBuffer data, AnalysisContext context) {
+            rowBufferMode = context.readSheetHolder().isRowBufferMode();
+            Assertions.assertEquals(context.readRowHolder().getRowIndex(), data.getRowIndex());
+            Object value = data.getType(1) == CellDataTypeEnum.NUMBER ? (Object) data.getNumber(1) : data.getString(1);
+            Object flag = data.getType(2) == CellDataTypeEnum.BOOLEAN ? (Object) data.getBoolean(2) : data.getString(2);
+            rowList.add(new Object[] {data.getRowIndex(), data.getString(0), value, flag});
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+            ended = true;
+        }
+    }
+}
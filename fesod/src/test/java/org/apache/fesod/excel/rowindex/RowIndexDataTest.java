@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.rowindex;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fesod.excel.ExcelWriter;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.read.index.SheetRowIndex;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.apache.poi.openxml4j.util.ZipSecureFile;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Read pages of rows with a {@link SheetRowIndex}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class RowIndexDataTest {
+
+    private static final int ROW_COUNT = 5000;
+
+    private static File file07;
+    private static File fileHidden07;
+
+    @BeforeAll
+    public static void init() throws IOException {
+        file07 = TestFileUtil.createNewFile("rowIndex07.xlsx");
+        // Columns in another order than the class, so that the head has to be read
+        List<List<String>> head = new ArrayList<>();
+        head.add(singletonList("string"));
+        head.add(singletonList("number"));
+        FastExcel.write(file07).head(head).sheet().doWrite(rows(0));
+        SheetRowIndex.delete(file07, 0);
+
+        // The first sheet is hidden, so the sheet numbers of the reader skip it
+        fileHidden07 = TestFileUtil.createNewFile("rowIndexHidden07.xlsx");
+        try (ExcelWriter excelWriter = FastExcel.write(fileHidden07).head(head).build()) {
+            excelWriter.write(rows(ROW_COUNT), FastExcel.writerSheet(0, "hidden").build());
+            excelWriter.write(rows(0), FastExcel.writerSheet(1, "visible").build());
+        }
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new FileInputStream(fileHidden07))) {
+            workbook.setActiveSheet(1);
+            workbook.setSheetHidden(0, true);
+            try (OutputStream outputStream = new FileOutputStream(fileHidden07)) {
+                workbook.write(outputStream);
+            }
+        }
+        SheetRowIndex.delete(fileHidden07, 0);
+        SheetRowIndex.delete(fileHidden07, 1);
+    }
+
+    @Test
+    public void t01Build() throws IOException {
+        Assertions.assertNull(SheetRowIndex.load(file07, 0));
+        SheetRowIndex sheetRowIndex = SheetRowIndex.build(file07, 0);
+        Assertions.assertEquals(SheetRowIndex.DEFAULT_INTERVAL, sheetRowIndex.getInterval());
+        Assertions.assertNotNull(SheetRowIndex.load(file07, 0));
+        // Only the head and the rows from the last indexed row are left
+        File sheetFile = new File(file07.getParentFile(), file07.getName() + ".sheet0.xml");
+        Assertions.assertTrue(sheetFile.isFile());
+        try (InputStream inputStream = sheetRowIndex.openSheet(1, ROW_COUNT - 10)) {
+            Assertions.assertTrue(length(inputStream) < sheetFile.length() / 10);
+        }
+    }
+
+    @Test
+    public void t02ReadPages() {
+        SheetRowIndex sheetRowIndex = SheetRowIndex.loadOrBuild(file07, 0);
+        for (int startRow : new int[] {1, 99, 100, 101, 2345, ROW_COUNT - 50}) {
+            List<RowIndexData> page = FastExcel.read(file07, RowIndexData.class, null)
+                    .sheet(0)
+                    .sheetRowIndex(sheetRowIndex)
+                    .startRow(startRow)
+                    .endRow(startRow + 99)
+                    .doReadSync();
+            Assertions.assertEquals(Math.min(100, ROW_COUNT + 1 - startRow), page.size());
+            for (int i = 0; i < page.size(); i++) {
+                int number = startRow - 1 + i;
+                Assertions.assertEquals(number, page.get(i).getNumber());
+                Assertions.assertEquals("string" + number, page.get(i).getString());
+            }
+        }
+    }
+
+    @Test
+    public void t03ReadAllRows() {
+        List<RowIndexData> list = FastExcel.read(file07, RowIndexData.class, null)
+                .sheet(0)
+                .sheetRowIndex(SheetRowIndex.loadOrBuild(file07, 0))
+                .doReadSync();
+        Assertions.assertEquals(ROW_COUNT, list.size());
+    }
+
+    @Test
+    public void t04Stale() {
+        Assertions.assertTrue(file07.setLastModified(file07.lastModified() + 2000));
+        Assertions.assertNull(SheetRowIndex.load(file07, 0));
+        SheetRowIndex.delete(file07, 0);
+    }
+
+    @Test
+    public void t05HiddenFirstSheet() {
+        SheetRowIndex sheetRowIndex = SheetRowIndex.build(fileHidden07, 1);
+        Assertions.assertEquals("xl/worksheets/sheet2.xml", sheetRowIndex.getPartName());
+        List<RowIndexData> page = FastExcel.read(fileHidden07, RowIndexData.class, null)
+                .ignoreHiddenSheet(Boolean.TRUE)
+                .sheet(0)
+                .sheetRowIndex(sheetRowIndex)
+                .startRow(2345)
+                .endRow(2444)
+                .doReadSync();
+        Assertions.assertEquals(100, page.size());
+        for (int i = 0; i < page.size(); i++) {
+            Assertions.assertEquals(2344 + i, page.get(i).getNumber());
+        }
+
+        // The index of the hidden sheet is not used for the first visible sheet
+        SheetRowIndex hiddenSheetRowIndex = SheetRowIndex.build(fileHidden07, 0);
+        Assertions.assertEquals("xl/worksheets/sheet1.xml", hiddenSheetRowIndex.getPartName());
+        ExcelAnalysisException e = Assertions.assertThrows(
+                ExcelAnalysisException.class,
+                () -> FastExcel.read(fileHidden07, RowIndexData.class, null)
+                        .ignoreHiddenSheet(Boolean.TRUE)
+                        .sheet(0)
+                        .sheetRowIndex(hiddenSheetRowIndex)
+                        .startRow(2345)
+                        .doReadSync());
+        Assertions.assertTrue(e.getMessage().contains("xl/worksheets/sheet1.xml"), e.getMessage());
+        Assertions.assertEquals("xl/worksheets/sheet2.xml", SheetRowIndex.load(fileHidden07, 1).getPartName());
+        SheetRowIndex.delete(fileHidden07, 0);
+        SheetRowIndex.delete(fileHidden07, 1);
+    }
+
+    @Test
+    public void t06ZipBomb() {
+        long maxEntrySize = ZipSecureFile.getMaxEntrySize();
+        ZipSecureFile.setMaxEntrySize(1024);
+        try {
+            ExcelAnalysisException e =
+                    Assertions.assertThrows(ExcelAnalysisException.class, () -> SheetRowIndex.build(file07, 0));
+            Assertions.assertTrue(e.getMessage().contains("Zip bomb"), e.getMessage());
+        } finally {
+            ZipSecureFile.setMaxEntrySize(maxEntrySize);
+            SheetRowIndex.delete(file07, 0);
+        }
+    }
+
+    private static List<List<Object>> rows(int first) {
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = first; i < first + ROW_COUNT; i++) {
+            List<Object> row = new ArrayList<>();
+            row.add("string" + i);
+            row.add(i);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static List<String> singletonList(String value) {
+        List<String> list = new ArrayList<>();
+        list.add(value);
+        return list;
+    }
+
+    private static long length(InputStream inputStream) throws IOException {
+        byte[] buffer = new byte[8192];
+        long length = 0;
+        int read;
+        while ((read = inputStream.read(buffer)) > 0) {
+            length += read;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.rowrange;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.enums.XlsxSheetParserEnum;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Read a range of rows with {@code startRow} and {@code endRow}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class RowRangeDataTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    private static File file07;
+    private static File file03;
+    private static File fileCsv;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("rowRange07.xlsx");
+        file03 = TestFileUtil.createNewFile("rowRange03.xls");
+        fileCsv = TestFileUtil.createNewFile("rowRangeCsv.csv");
+        FastExcel.write(file07, RowRangeData.class).sheet().doWrite(data());
+        FastExcel.write(file03, RowRangeData.class).sheet().doWrite(data());
+        FastExcel.write(fileCsv, RowRangeData.class).sheet().doWrite(data());
+    }
+
+    @Test
+    public void t01Read07() {
+        read(file07, XlsxSheetParserEnum.SAX);
+    }
+
+    @Test
+    public void t02Read07Tokenizer() {
+        read(file07, XlsxSheetParserEnum.TOKENIZER);
+    }
+
+    @Test
+    public void t03Read03() {
+        read(file03, null);
+    }
+
+    @Test
+    public void t04ReadCsv() {
+        read(fileCsv, null);
+    }
+
+    private void read(File file, XlsxSheetParserEnum xlsxSheetParser) {
+        // The head is on row 0, so row 501 holds the data with index 500
+        assertRange(read(file, xlsxSheetParser, 501, 600), 500, 600);
+        assertRange(read(file, xlsxSheetParser, null, 10), 0, 10);
+        assertRange(read(file, xlsxSheetParser, 990, null), 989, ROW_COUNT);
+        assertRange(read(file, xlsxSheetParser, 2000, null), 0, 0);
+    }
+
+    private List<RowRangeData> read(File file, XlsxSheetParserEnum xlsxSheetParser, Integer startRow, Integer endRow) {
+        DataListener listener = new DataListener();
+        FastExcel.read(file, RowRangeData.class, listener)
+                .xlsxSheetParser(xlsxSheetParser)
+                .sheet()
+                .startRow(startRow)
+                .endRow(endRow)
+                .doRead();
+        Assertions.assertTrue(listener.ended);
+        return listener.list;
+    }
+
+    private void assertRange(List<RowRangeData> list, int fromIndex, int toIndex) {
+        Assertions.assertEquals(toIndex - fromIndex, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            Assertions.assertEquals(fromIndex + i, list.get(i).getIndex());
+            Assertions.assertEquals("name" + (fromIndex + i), list.get(i).getName());
+        }
+    }
+
+    private static List<RowRangeData> data() {
+        List<RowRangeData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            RowRangeData data = new RowRangeData();
+            data.setName("name" + i);
+            data.setIndex(i);
+            list.add(data);
+        }
+        return list;
+    }
+
+    private static class DataListener implements ReadListener<RowRangeData> {
+        private final List<RowRangeData> list = new ArrayList<>();
+        private boolean ended;
+
+        @Override
+        public void invoke(RowRangeData data, AnalysisContext context) {
+            Assertions.assertEquals(data.getIndex() + 1, context.readRowHolder().getRowIndex());
+            list.add(data);
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+            ended = true;
+        }
+    }
+}
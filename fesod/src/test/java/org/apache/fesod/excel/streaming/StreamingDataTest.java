@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.streaming;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.fesod.excel.ExcelReader;
+import org.apache.fesod.excel.ExcelWriter;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.exception.ExcelAnalysisException;
+import org.apache.fesod.excel.exception.ExcelCommonException;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.metadata.ReadSheet;
+import org.apache.fesod.excel.support.ExcelTypeEnum;
+import org.apache.fesod.excel.util.IoUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Read xlsx files as a zip stream with {@code xlsxStreaming}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class StreamingDataTest {
+
+    private static final int SHEET_COUNT = 3;
+    private static final int ROW_COUNT = 3000;
+
+    private static byte[] bytes;
+
+    @BeforeAll
+    public static void init() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ExcelWriter excelWriter = FastExcel.write(outputStream, StreamingData.class)
+                .excelType(ExcelTypeEnum.XLSX)
+                .build()) {
+            for (int i = 0; i < SHEET_COUNT; i++) {
+                excelWriter.write(data(i), FastExcel.writerSheet(i, "sheet" + i).build());
+            }
+        }
+        bytes = outputStream.toByteArray();
+    }
+
+    @Test
+    public void t01Read() throws IOException {
+        assertAllSheets(bytes);
+    }
+
+    @Test
+    public void t02SheetsBeforeSharedStrings() throws IOException {
+        // Like the files saved by Excel, the sheets come before the shared strings and the styles
+        assertAllSheets(reorder(bytes, Comparator.comparingInt(name -> name.contains("worksheets/") ? 0 : 1)));
+    }
+
+    @Test
+    public void t03WorkbookLast() throws IOException {
+        // Nothing is known until the end of the stream
+        assertAllSheets(reorder(bytes, Comparator.comparingInt(name -> name.contains("rels") ? 1 : 0)));
+    }
+
+    @Test
+    public void t04RowsBeforeEnd() throws IOException {
+        byte[] sheetsLast = reorder(bytes, Comparator.comparingInt(name -> name.contains("worksheets/") ? 1 : 0));
+        CountingInputStream countingInputStream = new CountingInputStream(new ByteArrayInputStream(sheetsLast));
+        long[] readAtFirstRow = new long[] {-1};
+        List<StreamingData> list = new ArrayList<>();
+        FastExcel.read(countingInputStream, StreamingData.class, new ReadListener<StreamingData>() {
+                    @Override
+                    public void invoke(StreamingData data, AnalysisContext context) {
+                        if (readAtFirstRow[0] < 0) {
+                            readAtFirstRow[0] = countingInputStream.count;
+                        }
+                        list.add(data);
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .xlsxStreaming(Boolean.TRUE)
+                .sheet(0)
+                .doRead();
+        Assertions.assertEquals(data(0), list);
+        // The first rows are read before the other sheets have arrived
+        Assertions.assertTrue(readAtFirstRow[0] > 0);
+        Assertions.assertTrue(readAtFirstRow[0] < sheetsLast.length / 2);
+    }
+
+    @Test
+    public void t05SheetAlreadyPassed() {
+        try (ExcelReader excelReader = FastExcel.read(new ByteArrayInputStream(bytes), StreamingData.class, null)
+                .xlsxStreaming(Boolean.TRUE)
+                .build()) {
+            List<StreamingData> list = new ArrayList<>();
+            excelReader.read(readSheet(1, list));
+            Assertions.assertEquals(data(1), list);
+            Assertions.assertThrows(
+                    ExcelAnalysisException.class, () -> excelReader.read(readSheet(0, new ArrayList<>())));
+        }
+    }
+
+    @Test
+    public void t06NotZip() {
+        Assertions.assertThrows(ExcelCommonException.class, () -> FastExcel.read(
+                        new ByteArrayInputStream("not a zip".getBytes()), StreamingData.class, null)
+                .excelType(ExcelTypeEnum.XLSX)
+                .xlsxStreaming(Boolean.TRUE)
+                .sheet()
+                .doReadSync());
+    }
+
+    @Test
+    public void t07ZipBomb() throws IOException {
+        // A sheet that inflates a lot more than allowed by ZipSecureFile
+        Map<String, byte[]> entryMap = entryMap(bytes);
+        String sheet = new String(entryMap.get("xl/worksheets/sheet1.xml"), StandardCharsets.UTF_8);
+        StringBuilder padding = new StringBuilder();
+        for (int i = 0; i < 4 * 1024 * 1024; i++) {
+            padding.append(' ');
+        }
+        entryMap.put(
+                "xl/worksheets/sheet1.xml",
+                sheet.replace("<sheetData>", "<sheetData>" + padding).getBytes(StandardCharsets.UTF_8));
+        byte[] xlsx = zip(entryMap, new ArrayList<>(entryMap.keySet()));
+        ExcelAnalysisException exception =
+                Assertions.assertThrows(ExcelAnalysisException.class, () -> FastExcel.read(
+                                new ByteArrayInputStream(xlsx), StreamingData.class, null)
+                        .xlsxStreaming(Boolean.TRUE)
+                        .sheet(0)
+                        .doReadSync());
+        Assertions.assertTrue(exception.getMessage().contains("Zip bomb detected!"));
+    }
+
+    private static void assertAllSheets(byte[] xlsx) {
+        List<List<StreamingData>> expected = new ArrayList<>();
+        List<List<StreamingData>> actual = new ArrayList<>();
+        List<ReadSheet> readSheetList = new ArrayList<>();
+        for (int i = 0; i < SHEET_COUNT; i++) {
+            expected.add(data(i));
+            List<StreamingData> list = new ArrayList<>();
+            actual.add(list);
+            readSheetList.add(readSheet(i, list));
+        }
+        try (ExcelReader excelReader = FastExcel.read(new ByteArrayInputStream(xlsx), StreamingData.class, null)
+                .xlsxStreaming(Boolean.TRUE)
+                .build()) {
+            Assertions.assertEquals(SHEET_COUNT, excelReader.excelExecutor().sheetList().size());
+            excelReader.read(readSheetList);
+        }
+        Assertions.assertEquals(expected, actual);
+    }
+
+    private static ReadSheet readSheet(int sheetNo, List<StreamingData> list) {
+        return FastExcel.readSheet(sheetNo)
+                .registerReadListener(new ReadListener<StreamingData>() {
+                    @Override
+                    public void invoke(StreamingData data, AnalysisContext context) {
+                        list.add(data);
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .build();
+    }
+
+    /**
+     * Write the entries of a zip again in another order.
+     */
+    private static byte[] reorder(byte[] zip, Comparator<String> comparator) throws IOException {
+        Map<String, byte[]> entryMap = entryMap(zip);
+        List<String> nameList = new ArrayList<>(entryMap.keySet());
+        nameList.sort(comparator);
+        return zip(entryMap, nameList);
+    }
+
+    private static Map<String, byte[]> entryMap(byte[] zip) throws IOException {
+        Map<String, byte[]> entryMap = new LinkedHashMap<>();
+        try (ZipArchiveInputStream zipInputStream =
+                new ZipArchiveInputStream(new ByteArrayInputStream(zip), "UTF-8", true, true)) {
+            ZipArchiveEntry zipEntry;
+            while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+                entryMap.put(zipEntry.getName(), IoUtils.toByteArray(zipInputStream));
+            }
+        }
+        return entryMap;
+    }
+
+    private static byte[] zip(Map<String, byte[]> entryMap, List<String> nameList) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            for (String name : nameList) {
+                zipOutputStream.putNextEntry(new ZipEntry(name));
+                zipOutputStream.write(entryMap.get(name));
+                zipOutputStream.closeEntry();
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static List<StreamingData> data(int sheetNo) {
+        List<StreamingData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            StreamingData data = new StreamingData();
+            data.setString("sheet" + sheetNo + "-" + i);
+            data.setNumber(i);
+            data.setDate(new Date(1700000000000L + i * 1000L));
+            list.add(data);
+        }
+        return list;
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
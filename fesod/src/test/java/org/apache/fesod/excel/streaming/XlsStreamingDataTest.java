@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.streaming;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.apache.fesod.excel.ExcelWriter;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.support.ExcelTypeEnum;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Read xls files with {@code xlsStreaming}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class XlsStreamingDataTest {
+
+    private static final int SHEET_COUNT = 3;
+    private static final int ROW_COUNT = 2000;
+
+    private static byte[] bytes;
+
+    @BeforeAll
+    public static void init() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ExcelWriter excelWriter = FastExcel.write(outputStream, StreamingData.class)
+                .excelType(ExcelTypeEnum.XLS)
+                .build()) {
+            for (int i = 0; i < SHEET_COUNT; i++) {
+                excelWriter.write(data(i), FastExcel.writerSheet(i, "sheet" + i).build());
+            }
+        }
+        bytes = outputStream.toByteArray();
+    }
+
+    @Test
+    public void t01ReadStream() {
+        List<StreamingData> list = new ArrayList<>();
+        File[] tempFile = new File[1];
+        FastExcel.read(new ByteArrayInputStream(bytes), StreamingData.class, new ReadListener<StreamingData>() {
+                    @Override
+                    public void invoke(StreamingData data, AnalysisContext context) {
+                        tempFile[0] = context.readWorkbookHolder().getTempFile();
+                        list.add(data);
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .xlsStreaming(Boolean.TRUE)
+                .doReadAll();
+        List<StreamingData> expected = new ArrayList<>();
+        for (int i = 0; i < SHEET_COUNT; i++) {
+            expected.addAll(data(i));
+        }
+        Assertions.assertEquals(expected, list);
+        // The stream was read from a temp file, which is removed at the end
+        Assertions.assertNotNull(tempFile[0]);
+        Assertions.assertFalse(tempFile[0].exists());
+    }
+
+    @Test
+    public void t02ReadSheet() {
+        List<StreamingData> list = new ArrayList<>();
+        FastExcel.read(new ByteArrayInputStream(bytes), StreamingData.class, new ListListener<>(list))
+                .xlsStreaming(Boolean.TRUE)
+                .sheet("sheet1")
+                .doRead();
+        Assertions.assertEquals(data(1), list);
+    }
+
+    @Test
+    public void t03SameAsDefault() {
+        String[] fileNames = {
+            "converter" + File.separator + "converter03.xls",
+            "dataformat" + File.separator + "dataformat.xls",
+            "datewindowing" + File.separator + "1904DateWindowing.xls",
+            "hiddensheets" + File.separator + "hiddensheets.xls",
+            "compatibility" + File.separator + "t01.xls",
+            "multiplesheets" + File.separator + "multiplesheets.xls",
+            "comment" + File.separator + "comment.xls",
+            "style" + File.separator + "styleTest.xls"
+        };
+        for (String fileName : fileNames) {
+            File file = TestFileUtil.readFile(fileName);
+            Assertions.assertEquals(readAll(file, Boolean.FALSE), readAll(file, Boolean.TRUE), fileName);
+        }
+    }
+
+    private static List<Map<Integer, String>> readAll(File file, Boolean xlsStreaming) {
+        List<Map<Integer, String>> list = new ArrayList<>();
+        FastExcel.read(file, new ListListener<Map<Integer, String>>(list))
+                .headRowNumber(0)
+                .xlsStreaming(xlsStreaming)
+                .doReadAll();
+        return list;
+    }
+
+    private static List<StreamingData> data(int sheetNo) {
+        List<StreamingData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            StreamingData data = new StreamingData();
+            data.setString("sheet" + sheetNo + "-" + i);
+            data.setNumber(i);
+            data.setDate(new Date(1700000000000L + i * 1000L));
+            list.add(data);
+        }
+        return list;
+    }
+
+    private static class ListListener<T> implements ReadListener<T> {
+        private final List<T> list;
+
+        private ListListener(List<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public void invoke(T data, AnalysisContext context) {
+            list.add(data);
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {}
+    }
+}
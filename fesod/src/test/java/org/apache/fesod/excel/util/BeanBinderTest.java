@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BeanBinderTest {
+
+    @Test
+    void publicBeanTest() throws Exception {
+        assertBinder(BeanBinder.of(PublicBean.class));
+    }
+
+    @Test
+    void privateBeanTest() throws Exception {
+        BeanBinder beanBinder = BeanBinder.of(PrivateBean.class);
+        Assertions.assertThrows(IllegalAccessException.class, beanBinder::newInstance);
+        PrivateBean bean = new PrivateBean();
+        beanBinder.set(bean, "name", "name1");
+        beanBinder.set(bean, "count", 3);
+        Assertions.assertEquals("name1", beanBinder.get(bean, "name"));
+        Assertions.assertEquals(3, beanBinder.get(bean, "count"));
+    }
+
+    @Test
+    void chainBeanTest() throws Exception {
+        BeanBinder beanBinder = BeanBinder.of(ChainBean.class);
+        ChainBean bean = (ChainBean) beanBinder.newInstance();
+        // The chained setter is not a java bean setter, the field is set instead
+        beanBinder.set(bean, "name", "name1");
+        Assertions.assertEquals("name1", bean.getName());
+        beanBinder.set(bean, "missing", "value");
+        Assertions.assertSame(beanBinder, BeanBinder.of(ChainBean.class));
+    }
+
+    private void assertBinder(BeanBinder beanBinder) throws Exception {
+        Object bean = beanBinder.newInstance();
+        Assertions.assertEquals(2, beanBinder.size());
+        Assertions.assertTrue(beanBinder.hasProperty("name"));
+        Assertions.assertFalse(beanBinder.hasProperty("class"));
+        Assertions.assertEquals(String.class, beanBinder.getPropertyType("name"));
+        Assertions.assertEquals(int.class, beanBinder.getPropertyType("count"));
+        Assertions.assertNull(beanBinder.getPropertyType("missing"));
+        Assertions.assertNull(beanBinder.get(bean, "name"));
+        beanBinder.set(bean, "name", "name1");
+        beanBinder.set(bean, "count", 3);
+        Assertions.assertEquals("name1", beanBinder.get(bean, "name"));
+        Assertions.assertEquals(3, beanBinder.get(bean, "count"));
+        Assertions.assertNull(beanBinder.get(bean, "missing"));
+    }
+
+    @Getter
+    @Setter
+    public static class PublicBean {
+        private String name;
+        private int count;
+    }
+
+    @Getter
+    @Setter
+    private static class PrivateBean {
+        private String name;
+        private int count;
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    public static class ChainBean {
+        private String name;
+    }
+}
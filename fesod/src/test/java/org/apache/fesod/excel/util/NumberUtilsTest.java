@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NumberUtilsTest {
+
+    @Test
+    void toDoubleTest() {
+        String[] values = {
+            "0", "-0", "1", "-1", "+1", "0.5", "0.05", "100", "1.1", "123.456", "-0.000123", "1E3", "1.5e-7",
+            "2.5E+10", "9007199254740993", "12345678901234567890", "0.1234567890123456789", "1e-300", "4.9e-324",
+            "1.7976931348623157E308", "3.14159265358979", "44927.5", "1e22", "1e23"
+        };
+        for (String value : values) {
+            Assertions.assertEquals(Double.parseDouble(value), NumberUtils.toDouble(value), value);
+            Assertions.assertEquals(Double.parseDouble(value), NumberUtils.toDouble(new StringBuilder(value)), value);
+        }
+        Assertions.assertThrows(NumberFormatException.class, () -> NumberUtils.toDouble(""));
+        Assertions.assertThrows(NumberFormatException.class, () -> NumberUtils.toDouble("abc"));
+    }
+
+    @Test
+    void significantDigitsTest() {
+        Assertions.assertEquals(1, NumberUtils.significantDigits("1"));
+        Assertions.assertEquals(0, NumberUtils.significantDigits("0"));
+        Assertions.assertEquals(3, NumberUtils.significantDigits("-0.00123"));
+        Assertions.assertEquals(4, NumberUtils.significantDigits("1000"));
+        Assertions.assertEquals(5, NumberUtils.significantDigits("12.345E-7"));
+        Assertions.assertEquals(17, NumberUtils.significantDigits("2087.0249999999996"));
+        Assertions.assertEquals(Integer.MAX_VALUE, NumberUtils.significantDigits(""));
+        Assertions.assertEquals(Integer.MAX_VALUE, NumberUtils.significantDigits("1,2"));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.excel.workbooks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.fesod.excel.FastExcel;
+import org.apache.fesod.excel.context.AnalysisContext;
+import org.apache.fesod.excel.read.listener.ReadListener;
+import org.apache.fesod.excel.read.metadata.WorkbookReadResult;
+import org.apache.fesod.excel.util.TestFileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Read many workbooks at the same time with {@code FastExcel.readAll}.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class WorkbooksDataTest {
+
+    private static final int WORKBOOK_COUNT = 20;
+    private static final int ROW_COUNT = 200;
+    private static final int BROKEN_INDEX = 8;
+
+    private static final List<File> FILE_LIST = new ArrayList<>();
+
+    @BeforeAll
+    public static void init() throws IOException {
+        for (int i = 0; i < WORKBOOK_COUNT; i++) {
+            File file = TestFileUtil.createNewFile("workbooks" + i + (i % 2 == 0 ? ".xlsx" : ".csv"));
+            if (i == BROKEN_INDEX) {
+                try (OutputStream outputStream = new FileOutputStream(file)) {
+                    outputStream.write("not a workbook".getBytes(StandardCharsets.UTF_8));
+                }
+            } else {
+                FastExcel.write(file, WorkbooksData.class).sheet().doWrite(data(i));
+            }
+            FILE_LIST.add(file);
+        }
+    }
+
+    @Test
+    public void t01ReadAllSync() {
+        List<WorkbookReadResult<File, WorkbooksData>> resultList =
+                FastExcel.readAll(FILE_LIST, WorkbooksData.class).parallelism(4).doReadAllSync();
+        Assertions.assertEquals(WORKBOOK_COUNT, resultList.size());
+        for (int i = 0; i < WORKBOOK_COUNT; i++) {
+            WorkbookReadResult<File, WorkbooksData> result = resultList.get(i);
+            Assertions.assertSame(FILE_LIST.get(i), result.getSource());
+            if (i == BROKEN_INDEX) {
+                Assertions.assertFalse(result.isSuccess());
+                Assertions.assertNotNull(result.getException());
+                Assertions.assertNull(result.getData());
+                continue;
+            }
+            Assertions.assertTrue(result.isSuccess());
+            Assertions.assertEquals(data(i), result.getData());
+        }
+    }
+
+    @Test
+    public void t02ReadAllListener() {
+        AtomicInteger rowCount = new AtomicInteger();
+        AtomicInteger reading = new AtomicInteger();
+        AtomicInteger maxReading = new AtomicInteger();
+        List<WorkbookReadResult<File, Void>> resultList = FastExcel.readAll(
+                        FILE_LIST,
+                        (File file) -> FastExcel.read(
+                                file, WorkbooksData.class, new CountListener(rowCount, reading, maxReading)))
+                .parallelism(3)
+                .doReadAll();
+        Assertions.assertEquals(
+                WORKBOOK_COUNT - 1,
+                resultList.stream().filter(WorkbookReadResult::isSuccess).count());
+        Assertions.assertEquals((WORKBOOK_COUNT - 1) * ROW_COUNT, rowCount.get());
+        Assertions.assertTrue(maxReading.get() <= 3);
+    }
+
+    private static List<WorkbooksData> data(int workbookIndex) {
+        List<WorkbooksData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            WorkbooksData data = new WorkbooksData();
+            data.setName("workbook" + workbookIndex + "-" + i);
+            list.add(data);
+        }
+        return list;
+    }
+
+    private static class CountListener implements ReadListener<WorkbooksData> {
+        private final AtomicInteger rowCount;
+        private final AtomicInteger reading;
+        private final AtomicInteger maxReading;
+        private boolean started;
+
+        private CountListener(AtomicInteger rowCount, AtomicInteger reading, AtomicInteger maxReading) {
+            this.rowCount = rowCount;
+            this.reading = reading;
+            this.maxReading = maxReading;
+        }
+
+        @Override
+        public void invoke(WorkbooksData data, AnalysisContext context) {
+            if (!started) {
+                started = true;
+                maxReading.accumulateAndGet(reading.incrementAndGet(), Math::max);
+            }
+            rowCount.incrementAndGet();
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+            reading.decrementAndGet();
+        }
+    }
+}